@@ -23,6 +23,8 @@ import org.jetbrains.annotations.Nullable;
 @State(name = "GraphQLSettings", storages = {@Storage("graphql-settings.xml")})
 public class GraphQLSettings implements PersistentStateComponent<GraphQLSettings.GraphQLSettingsState> {
 
+    public static final int DEFAULT_SCHEMA_CACHE_BUDGET = 512;
+
     private final Project myProject;
 
     private final SimpleModificationTracker myModificationTracker = new SimpleModificationTracker();
@@ -123,6 +125,21 @@ public class GraphQLSettings implements PersistentStateComponent<GraphQLSettings
         settingsChanged();
     }
 
+    /* Schema cache */
+
+    /**
+     * The estimated amount of memory, in megabytes, the built schemas can retain before the least recently used are evicted.
+     * The sizes are a rough heuristic, see {@link com.intellij.lang.jsgraphql.schema.GraphQLRegistryInfo#getEstimatedSizeKb()}.
+     */
+    public int getSchemaCacheBudget() {
+        return myState.schemaCacheBudget;
+    }
+
+    public void setSchemaCacheBudget(int schemaCacheBudget) {
+        myState.schemaCacheBudget = schemaCacheBudget;
+        settingsChanged();
+    }
+
     /**
      * The state class that is persisted as XML
      * NOTE!!!: 1. Class must be static, and 2. Fields must be public for settings serialization to work
@@ -136,6 +153,8 @@ public class GraphQLSettings implements PersistentStateComponent<GraphQLSettings
         public boolean enableRelayModernFrameworkSupport;
         public boolean enableFederationSupport = false;
         public boolean enableApolloKotlinSupport = false;
+
+        public int schemaCacheBudget = DEFAULT_SCHEMA_CACHE_BUDGET;
     }
 }
 
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2021-present, Jim Kynde Meyer
+ *  All rights reserved.
+ *
+ *  This source code is licensed under the MIT license found in the
+ *  LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.endpoint.ide.indexing;
+
+import com.intellij.lang.jsgraphql.endpoint.JSGraphQLEndpointFileType;
+import com.intellij.lang.jsgraphql.endpoint.psi.JSGraphQLEndpointNamedTypeDef;
+import com.intellij.lang.jsgraphql.endpoint.psi.JSGraphQLEndpointNamedTypeDefinition;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLIndexUtil;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.BooleanDataDescriptor;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the names of the types, interfaces, enums, scalars, unions and annotations defined in Endpoint language files,
+ * so a type can be looked up without loading the PSI of every file in the import scope.
+ */
+public class JSGraphQLEndpointTypeIndex extends FileBasedIndexExtension<String, Boolean> {
+
+    public static final ID<String, Boolean> NAME = ID.create("JSGraphQLEndpointTypeIndex");
+    public static final int VERSION = 1;
+
+    private final DataIndexer<String, Boolean, FileContent> myDataIndexer = inputData -> {
+        final Map<String, Boolean> typeNames = new HashMap<>();
+        for (JSGraphQLEndpointNamedTypeDefinition definition :
+            PsiTreeUtil.findChildrenOfType(inputData.getPsiFile(), JSGraphQLEndpointNamedTypeDefinition.class)) {
+            final JSGraphQLEndpointNamedTypeDef namedTypeDef = definition.getNamedTypeDef();
+            if (namedTypeDef != null) {
+                typeNames.put(namedTypeDef.getText(), true);
+            }
+        }
+        return typeNames;
+    };
+
+    @NotNull
+    @Override
+    public ID<String, Boolean> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Boolean, FileContent> getIndexer() {
+        return myDataIndexer;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return new EnumeratorStringDescriptor();
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Boolean> getValueExternalizer() {
+        return BooleanDataDescriptor.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return GraphQLIndexUtil.INDEX_BASE_VERSION + VERSION;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JSGraphQLEndpointFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+}
@@ -10,6 +10,7 @@ package com.intellij.lang.jsgraphql.endpoint.ide.project;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.intellij.lang.jsgraphql.endpoint.ide.indexing.JSGraphQLEndpointTypeIndex;
 import com.intellij.lang.jsgraphql.endpoint.psi.*;
 import com.intellij.lang.jsgraphql.ide.project.graphqlconfig.GraphQLConfigManager;
 import com.intellij.lang.jsgraphql.ide.project.graphqlconfig.GraphQLNamedScope;
@@ -24,10 +25,17 @@ import com.intellij.lang.jsgraphql.endpoint.ide.type.JSGraphQLLegacyNamedType;
 import com.intellij.lang.jsgraphql.endpoint.ide.type.JSGraphQLLegacyPropertyType;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.FileBasedIndex;
 import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
@@ -36,14 +44,21 @@ import java.util.function.Consumer;
 
 /**
  * Registry for resolving references to PSI Elements in the Endpoint language.
+ * <p>
+ * The types of each file are converted once and cached on the file until it changes, so a schema change only re-converts
+ * the changed files and merges the cached per-file types again.
  */
 public class JSGraphQLEndpointNamedTypeRegistry implements Disposable {
 
+    private static final Key<CachedValue<Map<String, EndpointType>>> FILE_TYPES_KEY =
+        Key.create("JSGraphQLEndpointNamedTypeRegistry.fileTypes");
+
     private final JSGraphQLEndpointConfigurationProvider configurationProvider;
     private final GraphQLConfigManager graphQLConfigManager;
     private final Project project;
 
-    private final Map<GraphQLNamedScope, Map<String, JSGraphQLLegacyNamedType>> endpointTypesByName = Maps.newConcurrentMap();
+    private final Map<GraphQLNamedScope, List<PsiFile>> endpointFiles = Maps.newConcurrentMap();
+    private final Map<GraphQLNamedScope, Map<String, EndpointType>> endpointTypesByName = Maps.newConcurrentMap();
     private final Map<GraphQLNamedScope, PsiFile> endpointEntryPsiFile = Maps.newConcurrentMap();
     private final Map<GraphQLNamedScope, GraphQLRegistryInfo> projectToRegistry = Maps.newConcurrentMap();
 
@@ -56,6 +71,8 @@ public class JSGraphQLEndpointNamedTypeRegistry implements Disposable {
         this.configurationProvider = JSGraphQLEndpointConfigurationProvider.getService(project);
         graphQLConfigManager = GraphQLConfigManager.getService(project);
         project.getMessageBus().connect(this).subscribe(GraphQLSchemaChangeTracker.TOPIC, () -> {
+            // only the merged state is dropped, the types of the unchanged files stay cached on their PSI
+            endpointFiles.clear();
             endpointTypesByName.clear();
             endpointEntryPsiFile.clear();
             projectToRegistry.clear();
@@ -77,11 +94,43 @@ public class JSGraphQLEndpointNamedTypeRegistry implements Disposable {
     }
 
     public JSGraphQLLegacyNamedType getNamedType(String typeNameToGet, PsiElement scopedElement) {
-        return computeNamedTypes(scopedElement).get(typeNameToGet);
+        final GraphQLNamedScope schemaScope = getSchemaScope(scopedElement);
+        if (schemaScope == null) {
+            return null;
+        }
+        final Map<String, EndpointType> types = endpointTypesByName.get(schemaScope);
+        if (types != null) {
+            final EndpointType type = types.get(typeNameToGet);
+            return type != null ? type.namedType : null;
+        }
+
+        // only load the files that define the type instead of merging all the types in scope
+        // (also use Query for anonymous queries that are selection sets)
+        final String typeName = "SelectionSet".equals(typeNameToGet) ? "Query" : typeNameToGet;
+        final List<PsiFile> files = getEndpointFiles(schemaScope, scopedElement);
+        if (files.isEmpty()) {
+            return null;
+        }
+        final Set<VirtualFile> definingFiles;
+        try {
+            definingFiles = Sets.newHashSet(FileBasedIndex.getInstance().getContainingFiles(
+                JSGraphQLEndpointTypeIndex.NAME, typeName, GlobalSearchScope.filesScope(project, getVirtualFiles(files))));
+        } catch (IndexNotReadyException e) {
+            return null;
+        }
+        for (PsiFile file : files) {
+            if (definingFiles.contains(file.getVirtualFile())) {
+                final EndpointType type = getFileTypes(file).get(typeName);
+                if (type != null) {
+                    return type.namedType;
+                }
+            }
+        }
+        return null;
     }
 
     public void enumerateTypes(PsiElement scopedElement, Consumer<JSGraphQLLegacyNamedType> consumer) {
-        computeNamedTypes(scopedElement).forEach((key, jsGraphQLNamedType) -> consumer.accept(jsGraphQLNamedType));
+        computeNamedTypes(scopedElement).forEach((key, endpointType) -> consumer.accept(endpointType.namedType));
     }
 
     public GraphQLRegistryInfo getTypesAsRegistry(PsiElement scopedElement) {
@@ -107,9 +156,92 @@ public class JSGraphQLEndpointNamedTypeRegistry implements Disposable {
         final TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
         final List<GraphQLException> errors = Lists.newArrayList();
 
-        final Map<String, JSGraphQLLegacyNamedType> namedTypes = computeNamedTypes(scopedElement);
+        final Map<String, EndpointType> namedTypes = computeNamedTypes(scopedElement);
+
+        Sets.newLinkedHashSet(namedTypes.values()).forEach(endpointType -> {
+            errors.addAll(endpointType.errors);
+
+            SDLDefinition<?> definition = endpointType.definition;
+            if (definition instanceof ObjectTypeDefinition && !endpointType.implementedInterfaces.isEmpty()) {
+                // interfaces can be declared in other files, so they're only merged into the cached type here
+                final List<FieldDefinition> fieldDefinitions = Lists.newArrayList(((ObjectTypeDefinition) definition).getFieldDefinitions());
+                final Set<String> addedFieldNames = Sets.newHashSet();
+                fieldDefinitions.forEach(fieldDefinition -> addedFieldNames.add(fieldDefinition.getName()));
+                final List<Type> interfaces = Lists.newArrayListWithExpectedSize(endpointType.implementedInterfaces.size());
+                for (String interfaceName : endpointType.implementedInterfaces) {
+                    final EndpointType implementedType = namedTypes.get(interfaceName);
+                    if (implementedType != null) {
+                        interfaces.add(new TypeName(interfaceName));
+                        if (implementedType.definition instanceof InterfaceTypeDefinition) {
+                            for (FieldDefinition interfaceFieldDefinition : ((InterfaceTypeDefinition) implementedType.definition).getFieldDefinitions()) {
+                                if (addedFieldNames.add(interfaceFieldDefinition.getName())) {
+                                    fieldDefinitions.add(interfaceFieldDefinition);
+                                }
+                            }
+                        }
+                    } else {
+                        errors.add(new JSGraphQLEndpointSchemaError("Unable to resolve interface Type '" + interfaceName + "'", endpointType.namedType.definitionElement));
+                    }
+                }
+                definition = ((ObjectTypeDefinition) definition).transform(builder -> builder.implementz(interfaces).fieldDefinitions(fieldDefinitions));
+            }
+
+            if (definition != null) {
+                registry.add(definition);
+            }
+        });
+
+        return new GraphQLRegistryInfo(registry, errors, !namedTypes.isEmpty());
+    }
+
+    private Map<String, EndpointType> getFileTypes(PsiFile file) {
+        return CachedValuesManager.getCachedValue(file, FILE_TYPES_KEY, () -> CachedValueProvider.Result.create(computeFileTypes(file), file));
+    }
+
+    private Map<String, EndpointType> computeFileTypes(PsiFile file) {
+        final Map<String, EndpointType> result = Maps.newLinkedHashMap();
+        for (JSGraphQLEndpointNamedTypeDefinition typeDefinition : PsiTreeUtil.findChildrenOfType(file, JSGraphQLEndpointNamedTypeDefinition.class)) {
+            if (typeDefinition.getNamedTypeDef() != null) {
+                final String typeName = typeDefinition.getNamedTypeDef().getText();
+                result.putIfAbsent(typeName, createEndpointType(typeDefinition));
+            }
+        }
+        return result;
+    }
 
-        final PsiRecursiveElementVisitor errorsVisitor = new PsiRecursiveElementVisitor() {
+    private EndpointType createEndpointType(JSGraphQLEndpointNamedTypeDefinition typeDefinition) {
+        final JSGraphQLLegacyNamedType namedType = new JSGraphQLLegacyNamedType(typeDefinition, typeDefinition.getNamedTypeDef());
+        final JSGraphQLEndpointFieldDefinitionSet fieldDefinitionSet = PsiTreeUtil.findChildOfType(typeDefinition, JSGraphQLEndpointFieldDefinitionSet.class);
+        if (fieldDefinitionSet != null) {
+            final JSGraphQLEndpointFieldDefinition[] fields = PsiTreeUtil.getChildrenOfType(fieldDefinitionSet, JSGraphQLEndpointFieldDefinition.class);
+            if (fields != null) {
+                for (JSGraphQLEndpointFieldDefinition field : fields) {
+                    final JSGraphQLEndpointCompositeType propertyValueType = field.getCompositeType();
+                    if (propertyValueType != null) {
+                        String propertyValueTypeName = null;
+                        if (propertyValueType.getListType() != null) {
+                            final JSGraphQLEndpointNamedType listItemType = propertyValueType.getListType().getNamedType();
+                            if (listItemType != null) {
+                                propertyValueTypeName = listItemType.getText();
+                            }
+                        } else if (propertyValueType.getNamedType() != null) {
+                            propertyValueTypeName = propertyValueType.getNamedType().getText();
+                        }
+                        if (propertyValueTypeName != null) {
+                            namedType.properties.put(
+                                    field.getProperty().getText(),
+                                    new JSGraphQLLegacyPropertyType(field.getProperty(), namedType, propertyValueTypeName)
+                            );
+                        }
+                    }
+                }
+            }
+        }
+
+        final List<GraphQLException> errors = Lists.newArrayList();
+
+        // add syntax errors as schema errors
+        typeDefinition.accept(new PsiRecursiveElementVisitor() {
             @Override
             public void visitElement(@NotNull PsiElement element) {
                 if(element instanceof PsiErrorElement) {
@@ -117,166 +249,144 @@ public class JSGraphQLEndpointNamedTypeRegistry implements Disposable {
                 }
                 super.visitElement(element);
             }
-        };
+        });
 
-        namedTypes.forEach((name, endpointType) -> {
-            final PsiElement psiDefinition = endpointType.definitionElement;
+        final List<String> implementedInterfaces = Lists.newArrayList();
+        final SDLDefinition<?> definition = createDefinition(typeDefinition, implementedInterfaces, errors);
+        return new EndpointType(namedType, definition, implementedInterfaces, errors);
+    }
 
-            // add syntax errors as schema errors
-            if(psiDefinition != null) {
-                psiDefinition.accept(errorsVisitor);
+    private SDLDefinition<?> createDefinition(PsiElement psiDefinition, List<String> implementedInterfaces, List<GraphQLException> errors) {
+        if (psiDefinition instanceof JSGraphQLEndpointObjectTypeDefinition) {
+            final JSGraphQLEndpointObjectTypeDefinition typeDefinition = (JSGraphQLEndpointObjectTypeDefinition) psiDefinition;
+            final List<FieldDefinition> fieldDefinitions = Lists.newArrayList();
+            final Set<String> addedFieldNames = Sets.newHashSet();
+            if (typeDefinition.getFieldDefinitionSet() != null) {
+                final List<JSGraphQLEndpointFieldDefinition> fieldDefinitionList = typeDefinition.getFieldDefinitionSet().getFieldDefinitionList();
+                for (JSGraphQLEndpointFieldDefinition endpointFieldDefinition : fieldDefinitionList) {
+                    addFieldDefinition(fieldDefinitions, addedFieldNames, endpointFieldDefinition, errors);
+                }
+            }
+            final JSGraphQLEndpointImplementsInterfaces interfacesPsi = typeDefinition.getImplementsInterfaces();
+            if (interfacesPsi != null) {
+                for (JSGraphQLEndpointNamedType endpointImplementedType : interfacesPsi.getNamedTypeList()) {
+                    implementedInterfaces.add(endpointImplementedType.getName());
+                }
             }
 
-            if (psiDefinition instanceof JSGraphQLEndpointObjectTypeDefinition) {
-                final JSGraphQLEndpointObjectTypeDefinition typeDefinition = (JSGraphQLEndpointObjectTypeDefinition) psiDefinition;
+            final ObjectTypeDefinition.Builder builder = ObjectTypeDefinition.newObjectTypeDefinition();
+            final SourceLocation sourceLocation = getSourceLocation(typeDefinition);
+            final Description description = getDescription(typeDefinition, sourceLocation);
+            builder.name(typeDefinition.getNamedTypeDef().getName()).fieldDefinitions(fieldDefinitions).sourceLocation(sourceLocation).description(description);
+
+            return builder.build();
+
+        } else if (psiDefinition instanceof JSGraphQLEndpointInterfaceTypeDefinition) {
+
+            final JSGraphQLEndpointInterfaceTypeDefinition psiInterfaceDefinition = (JSGraphQLEndpointInterfaceTypeDefinition) psiDefinition;
+            if (psiInterfaceDefinition.getNamedTypeDef() != null) {
                 final List<FieldDefinition> fieldDefinitions = Lists.newArrayList();
-                final Set<String> addedFieldNames = Sets.newHashSet();
-                if (typeDefinition.getFieldDefinitionSet() != null) {
-                    final List<JSGraphQLEndpointFieldDefinition> fieldDefinitionList = typeDefinition.getFieldDefinitionSet().getFieldDefinitionList();
+                if (psiInterfaceDefinition.getFieldDefinitionSet() != null) {
+                    final List<JSGraphQLEndpointFieldDefinition> fieldDefinitionList = psiInterfaceDefinition.getFieldDefinitionSet().getFieldDefinitionList();
+                    final Set<String> addedFieldNames = Sets.newHashSet();
                     for (JSGraphQLEndpointFieldDefinition endpointFieldDefinition : fieldDefinitionList) {
                         addFieldDefinition(fieldDefinitions, addedFieldNames, endpointFieldDefinition, errors);
                     }
                 }
-                final List<Type> interfaces;
-                final JSGraphQLEndpointImplementsInterfaces interfacesPsi = typeDefinition.getImplementsInterfaces();
-                if (interfacesPsi != null) {
-                    final List<JSGraphQLEndpointNamedType> namedTypeList = interfacesPsi.getNamedTypeList();
-                    interfaces = Lists.newArrayListWithExpectedSize(namedTypeList.size());
-                    for (JSGraphQLEndpointNamedType endpointImplementedType : namedTypeList) {
-                        final JSGraphQLLegacyNamedType implementedType = namedTypes.get(endpointImplementedType.getName());
-                        if (implementedType != null) {
-                            interfaces.add(new TypeName(endpointImplementedType.getName()));
-                            if (implementedType.definitionElement instanceof JSGraphQLEndpointInterfaceTypeDefinition) {
-                                final JSGraphQLEndpointFieldDefinitionSet fieldDefinitionSet = ((JSGraphQLEndpointInterfaceTypeDefinition) implementedType.definitionElement).getFieldDefinitionSet();
-                                if (fieldDefinitionSet != null) {
-                                    for (JSGraphQLEndpointFieldDefinition interfaceFieldDefinition : fieldDefinitionSet.getFieldDefinitionList()) {
-                                        addFieldDefinition(fieldDefinitions, addedFieldNames, interfaceFieldDefinition, errors);
-                                    }
-                                }
-                            }
-                        } else {
-                            errors.add(new JSGraphQLEndpointSchemaError("Unable to resolve interface Type '" + endpointImplementedType.getName() + "'", psiDefinition));
-                        }
-                    }
-                } else {
-                    interfaces = Collections.emptyList();
-                }
-
-                final ObjectTypeDefinition.Builder builder = ObjectTypeDefinition.newObjectTypeDefinition();
-                final SourceLocation sourceLocation = getSourceLocation(typeDefinition);
-                final Description description = getDescription(typeDefinition, sourceLocation);
-                builder.name(endpointType.getName()).implementz(interfaces).fieldDefinitions(fieldDefinitions).sourceLocation(sourceLocation).description(description);
 
-                registry.add(builder.build());
-
-            } else if (psiDefinition instanceof JSGraphQLEndpointInterfaceTypeDefinition) {
+                final InterfaceTypeDefinition.Builder builder = InterfaceTypeDefinition.newInterfaceTypeDefinition();
+                final SourceLocation sourceLocation = getSourceLocation(psiDefinition);
+                final Description description = getDescription(psiInterfaceDefinition, sourceLocation);
+                builder.name(psiInterfaceDefinition.getNamedTypeDef().getName()).definitions(fieldDefinitions).sourceLocation(sourceLocation).description(description);
+                return builder.build();
+            }
 
-                final JSGraphQLEndpointInterfaceTypeDefinition psiInterfaceDefinition = (JSGraphQLEndpointInterfaceTypeDefinition) psiDefinition;
-                if (psiInterfaceDefinition.getNamedTypeDef() != null) {
-                    final List<FieldDefinition> fieldDefinitions = Lists.newArrayList();
-                    if (psiInterfaceDefinition.getFieldDefinitionSet() != null) {
-                        final List<JSGraphQLEndpointFieldDefinition> fieldDefinitionList = psiInterfaceDefinition.getFieldDefinitionSet().getFieldDefinitionList();
-                        final Set<String> addedFieldNames = Sets.newHashSet();
-                        for (JSGraphQLEndpointFieldDefinition endpointFieldDefinition : fieldDefinitionList) {
-                            addFieldDefinition(fieldDefinitions, addedFieldNames, endpointFieldDefinition, errors);
+        } else if (psiDefinition instanceof JSGraphQLEndpointInputObjectTypeDefinition) {
+
+            final JSGraphQLEndpointInputObjectTypeDefinition psiInputObjectDefinition = (JSGraphQLEndpointInputObjectTypeDefinition) psiDefinition;
+            if (psiInputObjectDefinition.getNamedTypeDef() != null) {
+                final List<InputValueDefinition> inputValueDefinitions = Lists.newArrayList();
+                if (psiInputObjectDefinition.getFieldDefinitionSet() != null) {
+                    for (JSGraphQLEndpointFieldDefinition fieldDefinition : psiInputObjectDefinition.getFieldDefinitionSet().getFieldDefinitionList()) {
+                        if (fieldDefinition.getCompositeType() != null) {
+                            final InputValueDefinition inputValueDefinition = InputValueDefinition.newInputValueDefinition()
+                                    .name(fieldDefinition.getProperty().getName())
+                                    .type(createType(fieldDefinition.getCompositeType()))
+                                    .build();
+                            inputValueDefinitions.add(inputValueDefinition);
                         }
                     }
-
-                    final InterfaceTypeDefinition.Builder builder = InterfaceTypeDefinition.newInterfaceTypeDefinition();
-                    final SourceLocation sourceLocation = getSourceLocation(psiDefinition);
-                    final Description description = getDescription(psiInterfaceDefinition, sourceLocation);
-                    builder.name(psiInterfaceDefinition.getNamedTypeDef().getName()).definitions(fieldDefinitions).sourceLocation(sourceLocation).description(description);
-                    registry.add(builder.build());
                 }
+                final InputObjectTypeDefinition.Builder builder = InputObjectTypeDefinition.newInputObjectDefinition();
+                final SourceLocation sourceLocation = getSourceLocation(psiDefinition);
+                builder.name(psiInputObjectDefinition.getNamedTypeDef().getName()).inputValueDefinitions(inputValueDefinitions).sourceLocation(sourceLocation);
+                return builder.build();
 
-            } else if (psiDefinition instanceof JSGraphQLEndpointInputObjectTypeDefinition) {
-
-                final JSGraphQLEndpointInputObjectTypeDefinition psiInputObjectDefinition = (JSGraphQLEndpointInputObjectTypeDefinition) psiDefinition;
-                if (psiInputObjectDefinition.getNamedTypeDef() != null) {
-                    final List<InputValueDefinition> inputValueDefinitions = Lists.newArrayList();
-                    if (psiInputObjectDefinition.getFieldDefinitionSet() != null) {
-                        for (JSGraphQLEndpointFieldDefinition fieldDefinition : psiInputObjectDefinition.getFieldDefinitionSet().getFieldDefinitionList()) {
-                            if (fieldDefinition.getCompositeType() != null) {
-                                final InputValueDefinition inputValueDefinition = InputValueDefinition.newInputValueDefinition()
-                                        .name(fieldDefinition.getProperty().getName())
-                                        .type(createType(fieldDefinition.getCompositeType()))
-                                        .build();
-                                inputValueDefinitions.add(inputValueDefinition);
-                            }
-                        }
-                    }
-                    final InputObjectTypeDefinition.Builder builder = InputObjectTypeDefinition.newInputObjectDefinition();
-                    final SourceLocation sourceLocation = getSourceLocation(psiDefinition);
-                    builder.name(psiInputObjectDefinition.getNamedTypeDef().getName()).inputValueDefinitions(inputValueDefinitions).sourceLocation(sourceLocation);
-                    registry.add(builder.build());
-
-                }
-            } else if (psiDefinition instanceof JSGraphQLEndpointEnumTypeDefinition) {
-
-                final JSGraphQLEndpointEnumTypeDefinition psiEnumTypeDefinition = (JSGraphQLEndpointEnumTypeDefinition) psiDefinition;
-                if (psiEnumTypeDefinition.getNamedTypeDef() != null) {
-                    final List<EnumValueDefinition> enumValueDefinitions = Lists.newArrayList();
-                    if (psiEnumTypeDefinition.getEnumValueDefinitionSet() != null) {
-                        for (JSGraphQLEndpointEnumValueDefinition psiEnumValueDefinition : psiEnumTypeDefinition.getEnumValueDefinitionSet().getEnumValueDefinitionList()) {
-                            enumValueDefinitions.add(new EnumValueDefinition(psiEnumValueDefinition.getIdentifier().getText()));
-                        }
+            }
+        } else if (psiDefinition instanceof JSGraphQLEndpointEnumTypeDefinition) {
+
+            final JSGraphQLEndpointEnumTypeDefinition psiEnumTypeDefinition = (JSGraphQLEndpointEnumTypeDefinition) psiDefinition;
+            if (psiEnumTypeDefinition.getNamedTypeDef() != null) {
+                final List<EnumValueDefinition> enumValueDefinitions = Lists.newArrayList();
+                if (psiEnumTypeDefinition.getEnumValueDefinitionSet() != null) {
+                    for (JSGraphQLEndpointEnumValueDefinition psiEnumValueDefinition : psiEnumTypeDefinition.getEnumValueDefinitionSet().getEnumValueDefinitionList()) {
+                        enumValueDefinitions.add(new EnumValueDefinition(psiEnumValueDefinition.getIdentifier().getText()));
                     }
-                    final EnumTypeDefinition.Builder enumTypeDefinition = EnumTypeDefinition.newEnumTypeDefinition()
-                            .name(psiEnumTypeDefinition.getNamedTypeDef().getName())
-                            .enumValueDefinitions(enumValueDefinitions)
-                            .sourceLocation(getSourceLocation(psiDefinition));
-                    registry.add(enumTypeDefinition.build());
                 }
+                final EnumTypeDefinition.Builder enumTypeDefinition = EnumTypeDefinition.newEnumTypeDefinition()
+                        .name(psiEnumTypeDefinition.getNamedTypeDef().getName())
+                        .enumValueDefinitions(enumValueDefinitions)
+                        .sourceLocation(getSourceLocation(psiDefinition));
+                return enumTypeDefinition.build();
+            }
 
-            } else if (psiDefinition instanceof JSGraphQLEndpointUnionTypeDefinition) {
+        } else if (psiDefinition instanceof JSGraphQLEndpointUnionTypeDefinition) {
 
-                final JSGraphQLEndpointUnionTypeDefinition psiUnionTypeDefinition = (JSGraphQLEndpointUnionTypeDefinition) psiDefinition;
-                if (psiUnionTypeDefinition.getNamedTypeDef() != null) {
+            final JSGraphQLEndpointUnionTypeDefinition psiUnionTypeDefinition = (JSGraphQLEndpointUnionTypeDefinition) psiDefinition;
+            if (psiUnionTypeDefinition.getNamedTypeDef() != null) {
 
-                    final List<Type> memberTypes = Lists.newArrayList();
-                    if (psiUnionTypeDefinition.getUnionMemberSet() != null) {
-                        for (JSGraphQLEndpointUnionMember psiUnionMember : psiUnionTypeDefinition.getUnionMemberSet().getUnionMemberList()) {
-                            memberTypes.add(new TypeName(psiUnionMember.getIdentifier().getText()));
-                        }
+                final List<Type> memberTypes = Lists.newArrayList();
+                if (psiUnionTypeDefinition.getUnionMemberSet() != null) {
+                    for (JSGraphQLEndpointUnionMember psiUnionMember : psiUnionTypeDefinition.getUnionMemberSet().getUnionMemberList()) {
+                        memberTypes.add(new TypeName(psiUnionMember.getIdentifier().getText()));
                     }
-                    final UnionTypeDefinition.Builder builder = UnionTypeDefinition.newUnionTypeDefinition()
-                            .name(psiUnionTypeDefinition.getNamedTypeDef().getName())
-                            .memberTypes(memberTypes)
-                            .sourceLocation(getSourceLocation(psiDefinition));
-                    registry.add(builder.build());
-
                 }
+                final UnionTypeDefinition.Builder builder = UnionTypeDefinition.newUnionTypeDefinition()
+                        .name(psiUnionTypeDefinition.getNamedTypeDef().getName())
+                        .memberTypes(memberTypes)
+                        .sourceLocation(getSourceLocation(psiDefinition));
+                return builder.build();
 
-            } else if (psiDefinition instanceof JSGraphQLEndpointAnnotationDefinition) {
+            }
 
-                final JSGraphQLEndpointAnnotationDefinition psiAnnotationDefinition = (JSGraphQLEndpointAnnotationDefinition) psiDefinition;
-                if (psiAnnotationDefinition.getNamedTypeDef() != null) {
-                    final List<InputValueDefinition> inputValueDefinitions = createInputValueDefinitions(psiAnnotationDefinition.getArgumentsDefinition(), errors);
-                    final List<DirectiveLocation> directiveLocations = Lists.newArrayList();
-                    // endpoint language currently doesn't have grammar support for valid locations, so allow all locations
-                    for (Introspection.DirectiveLocation directiveLocation : Introspection.DirectiveLocation.values()) {
-                        directiveLocations.add(new DirectiveLocation(directiveLocation.name()));
-                    }
-                    final DirectiveDefinition.Builder builder = DirectiveDefinition.newDirectiveDefinition()
-                            .name(psiAnnotationDefinition.getNamedTypeDef().getName())
-                            .inputValueDefinitions(inputValueDefinitions)
-                            .directiveLocations(directiveLocations)
-                            .sourceLocation(getSourceLocation(psiDefinition));
-                    registry.add(builder.build());
-                }
+        } else if (psiDefinition instanceof JSGraphQLEndpointAnnotationDefinition) {
 
-            } else if (psiDefinition instanceof JSGraphQLEndpointScalarTypeDefinition) {
-                final JSGraphQLEndpointScalarTypeDefinition scalarTypeDefinition = (JSGraphQLEndpointScalarTypeDefinition) psiDefinition;
-                final JSGraphQLEndpointNamedTypeDef scalarName = scalarTypeDefinition.getNamedTypeDef();
-                if (scalarName != null) {
-                    final SourceLocation sourceLocation = getSourceLocation(psiDefinition);
-                    final Description description = getDescription(scalarTypeDefinition, sourceLocation);
-                    registry.add(ScalarTypeDefinition.newScalarTypeDefinition().name(scalarName.getName()).description(description).sourceLocation(sourceLocation).build());
+            final JSGraphQLEndpointAnnotationDefinition psiAnnotationDefinition = (JSGraphQLEndpointAnnotationDefinition) psiDefinition;
+            if (psiAnnotationDefinition.getNamedTypeDef() != null) {
+                final List<InputValueDefinition> inputValueDefinitions = createInputValueDefinitions(psiAnnotationDefinition.getArgumentsDefinition(), errors);
+                final List<DirectiveLocation> directiveLocations = Lists.newArrayList();
+                // endpoint language currently doesn't have grammar support for valid locations, so allow all locations
+                for (Introspection.DirectiveLocation directiveLocation : Introspection.DirectiveLocation.values()) {
+                    directiveLocations.add(new DirectiveLocation(directiveLocation.name()));
                 }
+                final DirectiveDefinition.Builder builder = DirectiveDefinition.newDirectiveDefinition()
+                        .name(psiAnnotationDefinition.getNamedTypeDef().getName())
+                        .inputValueDefinitions(inputValueDefinitions)
+                        .directiveLocations(directiveLocations)
+                        .sourceLocation(getSourceLocation(psiDefinition));
+                return builder.build();
             }
-        });
 
-        return new GraphQLRegistryInfo(registry, errors, !namedTypes.isEmpty());
+        } else if (psiDefinition instanceof JSGraphQLEndpointScalarTypeDefinition) {
+            final JSGraphQLEndpointScalarTypeDefinition scalarTypeDefinition = (JSGraphQLEndpointScalarTypeDefinition) psiDefinition;
+            final JSGraphQLEndpointNamedTypeDef scalarName = scalarTypeDefinition.getNamedTypeDef();
+            if (scalarName != null) {
+                final SourceLocation sourceLocation = getSourceLocation(psiDefinition);
+                final Description description = getDescription(scalarTypeDefinition, sourceLocation);
+                return ScalarTypeDefinition.newScalarTypeDefinition().name(scalarName.getName()).description(description).sourceLocation(sourceLocation).build();
+            }
+        }
+        return null;
     }
 
     private Description getDescription(JSGraphQLEndpointNamedTypeDefinition typeDefinition, SourceLocation sourceLocation) {
@@ -372,65 +482,65 @@ public class JSGraphQLEndpointNamedTypeRegistry implements Disposable {
         return new SourceLocation(-1, -1, psiSourceElement.getContainingFile().getName());
     }
 
-    private Map<String, JSGraphQLLegacyNamedType> computeNamedTypes(PsiElement scopedPsiElement) {
+    private List<PsiFile> getEndpointFiles(GraphQLNamedScope schemaScope, PsiElement scopedPsiElement) {
+        return endpointFiles.computeIfAbsent(schemaScope, p -> {
+            final PsiFile entryPsiFile = getEndpointEntryPsiFile(scopedPsiElement);
+            if (entryPsiFile == null) {
+                return Collections.emptyList();
+            }
+            return Lists.newArrayList(JSGraphQLEndpointPsiUtil.getKnownFiles(entryPsiFile, true, null));
+        });
+    }
+
+    private static Collection<VirtualFile> getVirtualFiles(List<PsiFile> files) {
+        final List<VirtualFile> virtualFiles = Lists.newArrayListWithExpectedSize(files.size());
+        for (PsiFile file : files) {
+            if (file.getVirtualFile() != null) {
+                virtualFiles.add(file.getVirtualFile());
+            }
+        }
+        return virtualFiles;
+    }
+
+    private Map<String, EndpointType> computeNamedTypes(PsiElement scopedPsiElement) {
         final GraphQLNamedScope schemaScope = getSchemaScope(scopedPsiElement);
         if (schemaScope == null) {
             return Collections.emptyMap();
         }
         return endpointTypesByName.computeIfAbsent(schemaScope, p -> {
-            final Map<String, JSGraphQLLegacyNamedType> result = Maps.newConcurrentMap();
-            final PsiFile entryPsiFile = getEndpointEntryPsiFile(scopedPsiElement);
-            if (entryPsiFile != null) {
-                Collection<JSGraphQLEndpointNamedTypeDefinition> endpointNamedTypeDefinitions = JSGraphQLEndpointPsiUtil.getKnownDefinitions(
-                        entryPsiFile,
-                        JSGraphQLEndpointNamedTypeDefinition.class,
-                        true,
-                        null
-                );
-                for (JSGraphQLEndpointNamedTypeDefinition typeDefinition : endpointNamedTypeDefinitions) {
-                    if (typeDefinition.getNamedTypeDef() != null) {
-                        final String typeName = typeDefinition.getNamedTypeDef().getText();
-                        final JSGraphQLLegacyNamedType namedType = new JSGraphQLLegacyNamedType(typeDefinition, typeDefinition.getNamedTypeDef());
-                        final JSGraphQLEndpointFieldDefinitionSet fieldDefinitionSet = PsiTreeUtil.findChildOfType(typeDefinition, JSGraphQLEndpointFieldDefinitionSet.class);
-                        if (fieldDefinitionSet != null) {
-                            final JSGraphQLEndpointFieldDefinition[] fields = PsiTreeUtil.getChildrenOfType(fieldDefinitionSet, JSGraphQLEndpointFieldDefinition.class);
-                            if (fields != null) {
-                                for (JSGraphQLEndpointFieldDefinition field : fields) {
-                                    final JSGraphQLEndpointCompositeType propertyValueType = field.getCompositeType();
-                                    if (propertyValueType != null) {
-                                        String propertyValueTypeName = null;
-                                        if (propertyValueType.getListType() != null) {
-                                            final JSGraphQLEndpointNamedType listItemType = propertyValueType.getListType().getNamedType();
-                                            if (listItemType != null) {
-                                                propertyValueTypeName = listItemType.getText();
-                                            }
-                                        } else if (propertyValueType.getNamedType() != null) {
-                                            propertyValueTypeName = propertyValueType.getNamedType().getText();
-                                        }
-                                        if (propertyValueTypeName != null) {
-                                            namedType.properties.put(
-                                                    field.getProperty().getText(),
-                                                    new JSGraphQLLegacyPropertyType(field.getProperty(), namedType, propertyValueTypeName)
-                                            );
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                        result.put(typeName, namedType);
-                        if ("Query".equals(typeName)) {
-                            // also use Query for anonymous queries that are selection sets
-                            result.put("SelectionSet", namedType);
-                        }
-                    }
-                }
+            final Map<String, EndpointType> result = Maps.newLinkedHashMap();
+            for (PsiFile file : getEndpointFiles(schemaScope, scopedPsiElement)) {
+                getFileTypes(file).forEach(result::putIfAbsent);
             }
-
-            return result;
-
+            final EndpointType queryType = result.get("Query");
+            if (queryType != null) {
+                // also use Query for anonymous queries that are selection sets
+                result.put("SelectionSet", queryType);
+            }
+            return Collections.unmodifiableMap(result);
         });
     }
 
+    /**
+     * The converted type of a single definition, which only depends on the file it's declared in.
+     */
+    private static final class EndpointType {
+        final JSGraphQLLegacyNamedType namedType;
+        final SDLDefinition<?> definition;
+        final List<String> implementedInterfaces;
+        final List<GraphQLException> errors;
+
+        EndpointType(JSGraphQLLegacyNamedType namedType,
+                     SDLDefinition<?> definition,
+                     List<String> implementedInterfaces,
+                     List<GraphQLException> errors) {
+            this.namedType = namedType;
+            this.definition = definition;
+            this.implementedInterfaces = implementedInterfaces;
+            this.errors = errors;
+        }
+    }
+
     @Override
     public void dispose() {
     }
@@ -69,7 +69,31 @@ public class JSGraphQLEndpointPsiUtil {
 
 		final Set<T> definitions = Sets.newHashSet();
 
-		final Set<PsiFile> files = Sets.newHashSet(file);
+		for (PsiFile psiFile : getKnownFiles(file, includeAutoImportTypes, importedFiles)) {
+			final Collection<T> definitionElements = PsiTreeUtil.findChildrenOfType(psiFile, psiDefinitionClass);
+			for (T definition : definitionElements) {
+				final JSGraphQLEndpointNamedTypeDef namedTypeDef = definition.getNamedTypeDef();
+				if (namedTypeDef != null) {
+					definitions.add(definition);
+				}
+			}
+		}
+
+		return definitions;
+	}
+
+	/**
+	 * Gets the files which can contain known definitions, ie. the specified file and the files it imports, in that order.
+	 * Only the specified file is parsed to find the imports, the other files are not loaded.
+	 *
+	 * @param file               the file to use as starting point
+	 * @param includeAutoImportTypes whether to include files that are not currently imported, but can be made available using an auto-import
+     * @param importedFiles ref to add currently imported files to
+	 */
+	public static Set<PsiFile> getKnownFiles(PsiFile file, boolean includeAutoImportTypes, Ref<Collection<PsiFile>> importedFiles) {
+
+		final Set<PsiFile> files = Sets.newLinkedHashSet();
+		files.add(file);
 		final JSGraphQLEndpointImportDeclaration[] importDeclarations = PsiTreeUtil.getChildrenOfType(file, JSGraphQLEndpointImportDeclaration.class);
 		if (importDeclarations != null) {
 			for (JSGraphQLEndpointImportDeclaration importDeclaration : importDeclarations) {
@@ -103,17 +127,7 @@ public class JSGraphQLEndpointPsiUtil {
 			});
 		}
 
-		for (PsiFile psiFile : files) {
-			final Collection<T> definitionElements = PsiTreeUtil.findChildrenOfType(psiFile, psiDefinitionClass);
-			for (T definition : definitionElements) {
-				final JSGraphQLEndpointNamedTypeDef namedTypeDef = definition.getNamedTypeDef();
-				if (namedTypeDef != null) {
-					definitions.add(definition);
-				}
-			}
-		}
-
-		return definitions;
+		return files;
 	}
 
 	/**
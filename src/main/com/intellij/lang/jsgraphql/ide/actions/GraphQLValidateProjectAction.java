@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.actions;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.lang.jsgraphql.GraphQLBundle;
+import com.intellij.lang.jsgraphql.ide.validation.GraphQLProjectValidator;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Validates all the GraphQL operations and fragments of the project against their schemas, see {@link GraphQLProjectValidator}.
+ */
+public class GraphQLValidateProjectAction extends AnAction {
+
+    public GraphQLValidateProjectAction() {
+        super(GraphQLBundle.message("graphql.action.validate.project.text"),
+            GraphQLBundle.message("graphql.action.validate.project.description"),
+            AllIcons.General.InspectionsOK);
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        final Project project = e.getProject();
+        e.getPresentation().setEnabled(project != null && !DumbService.isDumb(project));
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        final Project project = e.getProject();
+        if (project != null) {
+            GraphQLProjectValidator.getInstance(project).validateProject();
+        }
+    }
+}
@@ -7,10 +7,8 @@
  */
 package com.intellij.lang.jsgraphql.ide.completion;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.intellij.codeInsight.completion.*;
-import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.lang.jsgraphql.ide.search.GraphQLPsiSearchHelper;
 import com.intellij.lang.jsgraphql.ide.resolve.GraphQLResolveUtil;
 import com.intellij.lang.jsgraphql.psi.GraphQLArgument;
@@ -21,6 +19,7 @@ import com.intellij.lang.jsgraphql.psi.GraphQLInputValueDefinition;
 import com.intellij.lang.jsgraphql.psi.*;
 import com.intellij.lang.jsgraphql.psi.impl.GraphQLObjectValueImpl;
 import com.intellij.lang.jsgraphql.schema.GraphQLKnownTypes;
+import com.intellij.lang.jsgraphql.schema.GraphQLRegistryInfo;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaInfo;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaUtil;
@@ -77,6 +76,15 @@ public class GraphQLCompletionContributor extends CompletionContributor {
             psiElement(GraphQLElementTypes.COLON)
         );
 
+    private static final Set<GraphQLCompletionTables.TypeKind> INPUT_TYPE_KINDS = EnumSet.of(
+        GraphQLCompletionTables.TypeKind.SCALAR, GraphQLCompletionTables.TypeKind.ENUM, GraphQLCompletionTables.TypeKind.INPUT_OBJECT);
+
+    private static final Set<GraphQLCompletionTables.TypeKind> OUTPUT_TYPE_KINDS = EnumSet.complementOf(
+        EnumSet.of(GraphQLCompletionTables.TypeKind.INPUT_OBJECT));
+
+    private static final Set<GraphQLCompletionTables.TypeKind> TYPE_CONDITION_KINDS = EnumSet.of(
+        GraphQLCompletionTables.TypeKind.OBJECT, GraphQLCompletionTables.TypeKind.INTERFACE, GraphQLCompletionTables.TypeKind.UNION);
+
     private static final GraphQLCompletionKeyword[] TOP_LEVEL_KEYWORDS = {
         QUERY,
         SUBSCRIPTION,
@@ -216,14 +224,13 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                 if (!(definition instanceof GraphQLSchemaDefinition) && !(definition instanceof GraphQLSchemaExtension)) {
                     return;
                 }
-                final TypeDefinitionRegistry registry = GraphQLSchemaProvider.getInstance(completionElement.getProject())
-                    .getRegistryInfo(parameters.getOriginalFile()).getTypeDefinitionRegistry();
+                final GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(
+                    GraphQLSchemaProvider.getInstance(completionElement.getProject()).getRegistryInfo(parameters.getOriginalFile()));
                 final Collection<GraphQLTypeName> referencedTypes = PsiTreeUtil.findChildrenOfType(definition, GraphQLTypeName.class);
                 final Set<String> currentTypeNames = referencedTypes.stream().map(PsiNamedElement::getName).collect(Collectors.toSet());
-                registry.types().values().forEach(type -> {
-                    if (isIgnoredType(type)) return;
-                    if (type instanceof ObjectTypeDefinition && !currentTypeNames.contains(type.getName())) {
-                        result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(type.getName()));
+                tables.processTypeNames(GraphQLCompletionTables.TypeKind.OBJECT, result.getPrefixMatcher(), name -> {
+                    if (!currentTypeNames.contains(name)) {
+                        result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(name));
                     }
                 });
             }
@@ -240,9 +247,9 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                                           @NotNull ProcessingContext context,
                                           @NotNull CompletionResultSet result) {
                 final PsiElement completionElement = parameters.getPosition();
-                final TypeDefinitionRegistry registry = GraphQLSchemaProvider.getInstance(completionElement.getProject())
-                    .getRegistryInfo(parameters.getOriginalFile()).getTypeDefinitionRegistry();
-                addInputTypeCompletions(result, registry);
+                final GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(
+                    GraphQLSchemaProvider.getInstance(completionElement.getProject()).getRegistryInfo(parameters.getOriginalFile()));
+                addInputTypeCompletions(result, tables);
             }
         };
         extend(CompletionType.BASIC,
@@ -261,14 +268,11 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                 GraphQLSchemaInfo schemaInfo = GraphQLSchemaProvider.getInstance(completionElement.getProject())
                     .getSchemaInfo(completionElement);
                 final GraphQLSchema schema = schemaInfo.getSchema();
-                final TypeDefinitionRegistry registry = schemaInfo.getRegistryInfo().getTypeDefinitionRegistry();
+                final GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(schemaInfo.getRegistryInfo());
                 final Set<String> filteredTypes = GraphQLSchemaUtil.getSchemaOperationTypeNames(schema);
-                registry.scalars().values().forEach(scalar ->
-                    result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(scalar.getName())));
-                registry.types().values().forEach(type -> {
-                    if (isIgnoredType(type)) return;
-                    if (!(type instanceof InputObjectTypeDefinition) && !filteredTypes.contains(type.getName())) {
-                        result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(type.getName()));
+                tables.processTypeNames(OUTPUT_TYPE_KINDS, result.getPrefixMatcher(), name -> {
+                    if (!filteredTypes.contains(name)) {
+                        result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(name));
                     }
                 });
             }
@@ -297,10 +301,9 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                     .getSchemaInfo(completionElement);
                 currentMembers.addAll(GraphQLSchemaUtil.getSchemaOperationTypeNames(schemaInfo.getSchema()));
                 unionMembers.getTypeNameList().forEach(t -> currentMembers.add(t.getName()));
-                final TypeDefinitionRegistry typeDefinitionRegistry = schemaInfo.getRegistryInfo().getTypeDefinitionRegistry();
-                typeDefinitionRegistry.getTypes(ObjectTypeDefinition.class).forEach(schemaType -> {
-                    String name = schemaType.getName();
-                    if (!isIgnoredType(name) && currentMembers.add(name)) {
+                final GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(schemaInfo.getRegistryInfo());
+                tables.processTypeNames(GraphQLCompletionTables.TypeKind.OBJECT, result.getPrefixMatcher(), name -> {
+                    if (currentMembers.add(name)) {
                         result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(name));
                     }
                 });
@@ -371,11 +374,11 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                 }
                 final Set<String> currentInterfaces = Sets.newHashSet();
                 implementsInterfaces.getTypeNameList().forEach(t -> currentInterfaces.add(t.getName()));
-                final TypeDefinitionRegistry typeDefinitionRegistry = GraphQLSchemaProvider.getInstance(completionElement.getProject())
-                    .getRegistryInfo(parameters.getOriginalFile()).getTypeDefinitionRegistry();
-                typeDefinitionRegistry.getTypes(InterfaceTypeDefinition.class).forEach(schemaInterface -> {
-                    if (currentInterfaces.add(schemaInterface.getName())) {
-                        result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(schemaInterface.getName()));
+                final GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(
+                    GraphQLSchemaProvider.getInstance(completionElement.getProject()).getRegistryInfo(parameters.getOriginalFile()));
+                tables.processTypeNames(GraphQLCompletionTables.TypeKind.INTERFACE, result.getPrefixMatcher(), name -> {
+                    if (currentInterfaces.add(name)) {
+                        result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(name));
                     }
                 });
             }
@@ -508,9 +511,9 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                                           @NotNull CompletionResultSet result) {
 
                 final PsiElement completionElement = Optional.ofNullable(parameters.getOriginalPosition()).orElse(parameters.getPosition());
-                final TypeDefinitionRegistry registry = GraphQLSchemaProvider.getInstance(completionElement.getProject())
-                    .getRegistryInfo(parameters.getOriginalFile()).getTypeDefinitionRegistry();
-                addInputTypeCompletions(result, registry);
+                final GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(
+                    GraphQLSchemaProvider.getInstance(completionElement.getProject()).getRegistryInfo(parameters.getOriginalFile()));
+                addInputTypeCompletions(result, tables);
             }
         };
         extend(CompletionType.BASIC,
@@ -518,17 +521,9 @@ public class GraphQLCompletionContributor extends CompletionContributor {
             provider);
     }
 
-    private void addInputTypeCompletions(@NotNull CompletionResultSet result, TypeDefinitionRegistry registry) {
-        if (registry != null) {
-            registry.scalars().values().forEach(
-                scalar -> result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(scalar.getName())));
-            registry.types().values().forEach(type -> {
-                if (isIgnoredType(type)) return;
-                if (type instanceof EnumTypeDefinition || type instanceof InputObjectTypeDefinition) {
-                    result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(type.getName()));
-                }
-            });
-        }
+    private void addInputTypeCompletions(@NotNull CompletionResultSet result, @NotNull GraphQLCompletionTables tables) {
+        tables.processTypeNames(INPUT_TYPE_KINDS, result.getPrefixMatcher(),
+            name -> result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(name)));
     }
 
     private void completeDirectiveLocation() {
@@ -598,31 +593,15 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                                           @NotNull CompletionResultSet result) {
 
                 final PsiElement completionElement = Optional.ofNullable(parameters.getOriginalPosition()).orElse(parameters.getPosition());
-                final TypeDefinitionRegistry registry = GraphQLSchemaProvider.getInstance(completionElement.getProject())
-                    .getRegistryInfo(completionElement).getTypeDefinitionRegistry();
-
-                for (DirectiveDefinition directiveDefinition : registry.getDirectiveDefinitions().values()) {
-                    final EnumSet<Introspection.DirectiveLocation> validLocations = EnumSet.noneOf(Introspection.DirectiveLocation.class);
-                    for (DirectiveLocation directiveLocation : directiveDefinition.getDirectiveLocations()) {
-                        try {
-                            validLocations.add(Introspection.DirectiveLocation.valueOf(directiveLocation.getName()));
-                        } catch (IllegalArgumentException ignored) {
-                        }
-                    }
-                    if (!isValidDirectiveLocation(validLocations, parameters.getPosition())) {
-                        continue;
-                    }
-                    boolean hasRequiredArgs = false;
-                    for (InputValueDefinition directiveArgument : directiveDefinition.getInputValueDefinitions()) {
-                        if (directiveArgument.getType() instanceof NonNullType) {
-                            hasRequiredArgs = true;
-                            break;
-                        }
-                    }
+                final GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(
+                    GraphQLSchemaProvider.getInstance(completionElement.getProject()).getRegistryInfo(completionElement));
 
-                    result.addElement(
-                        GraphQLCompletionUtil.createDirectiveNameLookupElement(directiveDefinition.getName(), hasRequiredArgs));
-                }
+                tables.processDirectives(result.getPrefixMatcher(), directive -> {
+                    if (isValidDirectiveLocation(directive.getLocations(), parameters.getPosition())) {
+                        result.addElement(
+                            GraphQLCompletionUtil.createDirectiveNameLookupElement(directive.getName(), directive.hasRequiredArgs()));
+                    }
+                });
             }
         };
         extend(CompletionType.BASIC, psiElement(GraphQLElementTypes.NAME).withSuperParent(2, GraphQLDirective.class), provider);
@@ -776,17 +755,16 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                 final TypeDefinitionRegistry typeDefinitionRegistry = GraphQLSchemaProvider.getInstance(completionElement.getProject())
                     .getRegistryInfo(parameters.getOriginalFile()).getTypeDefinitionRegistry();
 
-                final List<GraphQLFragmentDefinition> knownFragmentDefinitions = GraphQLPsiSearchHelper
-                    .getInstance(completionElement.getProject()).getKnownFragmentDefinitions(parameters.getOriginalFile());
-                for (GraphQLFragmentDefinition fragmentDefinition : knownFragmentDefinitions) {
-                    final String name = fragmentDefinition.getName();
-                    if (name != null) {
-                        // suggest compatible fragments based on type conditions
-                        if (GraphQLSchemaUtil.isFragmentApplicableInTypeScope(typeDefinitionRegistry, fragmentDefinition, typeScope)) {
+                // suggest compatible fragments based on type conditions, the index is keyed by them so the fragments PSI isn't loaded
+                final Set<String> applicableTypeNames = GraphQLSchemaUtil.getFragmentApplicableTypeNames(typeDefinitionRegistry, typeScope);
+                final Set<String> fragmentNames = new HashSet<>();
+                GraphQLPsiSearchHelper.getInstance(completionElement.getProject()).processFragmentNamesByTypeConditions(
+                    parameters.getOriginalFile(), applicableTypeNames, name -> {
+                        if (fragmentNames.add(name)) {
                             result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(name));
                         }
-                    }
-                }
+                        return true;
+                    });
             }
         };
         extend(CompletionType.BASIC, psiElement().afterLeaf(psiElement(GraphQLElementTypes.SPREAD)), provider);
@@ -809,69 +787,64 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                 }
                 final boolean fragmentDefinition = typeCondition != null && typeCondition.getParent() instanceof GraphQLFragmentDefinition;
 
-                final GraphQLSchemaProvider schemaProvider = GraphQLSchemaProvider.getInstance(completionElement.getProject());
-                final TypeDefinitionRegistry typeDefinitionRegistry = schemaProvider
-                    .getRegistryInfo(parameters.getOriginalFile()).getTypeDefinitionRegistry();
-
-                Set<TypeDefinition> fragmentTypes = new HashSet<>();
+                final GraphQLRegistryInfo registryInfo = GraphQLSchemaProvider.getInstance(completionElement.getProject())
+                    .getRegistryInfo(parameters.getOriginalFile());
 
                 if (fragmentDefinition) {
                     // completion in a top-level fragment definition, so add all known types, interfaces, unions
-                    typeDefinitionRegistry.types().forEach((key, value) -> {
-                        final boolean isTypeCondition = value instanceof ObjectTypeDefinition ||
-                            value instanceof UnionTypeDefinition ||
-                            value instanceof InterfaceTypeDefinition;
-                        if (isTypeCondition) {
-                            fragmentTypes.add(value);
-                        }
-                    });
-                } else {
-                    // inline fragment, so get type scope
-                    GraphQLTypeScopeProvider typeScopeProvider =
-                        PsiTreeUtil.getParentOfType(completionElement, GraphQLTypeScopeProvider.class);
-
-                    if (typeScopeProvider instanceof GraphQLInlineFragment &&
-                        ((GraphQLInlineFragment) typeScopeProvider).getTypeCondition() == typeCondition) {
-                        // if the type condition belongs to the type scope provider, we want the parent scope since that
-                        // is the real source of what we can fragment on
-                        typeScopeProvider = PsiTreeUtil.getParentOfType(typeScopeProvider, GraphQLTypeScopeProvider.class);
-                    }
+                    GraphQLCompletionTables.getInstance(registryInfo).processTypeNames(TYPE_CONDITION_KINDS, result.getPrefixMatcher(),
+                        name -> result.addElement(GraphQLCompletionUtil.createTypeNameLookupElement(name)));
+                    return;
+                }
+
+                final TypeDefinitionRegistry typeDefinitionRegistry = registryInfo.getTypeDefinitionRegistry();
+                Set<TypeDefinition> fragmentTypes = new HashSet<>();
+
+                // inline fragment, so get type scope
+                GraphQLTypeScopeProvider typeScopeProvider =
+                    PsiTreeUtil.getParentOfType(completionElement, GraphQLTypeScopeProvider.class);
+
+                if (typeScopeProvider instanceof GraphQLInlineFragment &&
+                    ((GraphQLInlineFragment) typeScopeProvider).getTypeCondition() == typeCondition) {
+                    // if the type condition belongs to the type scope provider, we want the parent scope since that
+                    // is the real source of what we can fragment on
+                    typeScopeProvider = PsiTreeUtil.getParentOfType(typeScopeProvider, GraphQLTypeScopeProvider.class);
+                }
 
-                    GraphQLType rawTypeScope = typeScopeProvider != null ? typeScopeProvider.getTypeScope() : null;
-                    if (rawTypeScope != null) {
-                        GraphQLUnmodifiedType typeScope = GraphQLSchemaUtil.getUnmodifiedType(
-                            rawTypeScope); // unwrap non-null and lists since fragments are about the raw type
-                        final TypeDefinition fragmentType = typeDefinitionRegistry.getType(typeScope.getName()).orElse(null);
-                        if (fragmentType != null) {
-                            final Ref<Consumer<TypeDefinition<?>>> addTypesRecursive = new Ref<>();
-                            final Consumer<TypeDefinition<?>> addTypes = (typeToFragmentOn) -> {
-                                if (typeToFragmentOn instanceof ObjectTypeDefinition) {
-                                    fragmentTypes.add(typeToFragmentOn);
-                                    final List<Type> anImplements = ((ObjectTypeDefinition) typeToFragmentOn).getImplements();
-                                    if (anImplements != null) {
-                                        anImplements.forEach(type -> {
-                                            final TypeDefinition typeDefinition = typeDefinitionRegistry.getType(type).orElse(null);
-                                            if (typeDefinition instanceof InterfaceTypeDefinition) {
-                                                fragmentTypes.add(typeDefinition);
-                                            }
-                                        });
-                                    }
-                                } else if (typeToFragmentOn instanceof InterfaceTypeDefinition) {
-                                    fragmentTypes.add(typeToFragmentOn);
-                                    final List<ObjectTypeDefinition> implementationsOf = typeDefinitionRegistry
-                                        .getImplementationsOf((InterfaceTypeDefinition) typeToFragmentOn);
-                                    fragmentTypes.addAll(implementationsOf);
-                                } else if (typeToFragmentOn instanceof UnionTypeDefinition) {
-                                    final List<Type> memberTypes = ((UnionTypeDefinition) typeToFragmentOn).getMemberTypes();
-                                    if (memberTypes != null) {
-                                        memberTypes.forEach(memberType -> typeDefinitionRegistry.getType(memberType).ifPresent(
-                                            memberTypeDefinition -> addTypesRecursive.get().consume(memberTypeDefinition)));
-                                    }
+                GraphQLType rawTypeScope = typeScopeProvider != null ? typeScopeProvider.getTypeScope() : null;
+                if (rawTypeScope != null) {
+                    GraphQLUnmodifiedType typeScope = GraphQLSchemaUtil.getUnmodifiedType(
+                        rawTypeScope); // unwrap non-null and lists since fragments are about the raw type
+                    final TypeDefinition fragmentType = typeDefinitionRegistry.getType(typeScope.getName()).orElse(null);
+                    if (fragmentType != null) {
+                        final Ref<Consumer<TypeDefinition<?>>> addTypesRecursive = new Ref<>();
+                        final Consumer<TypeDefinition<?>> addTypes = (typeToFragmentOn) -> {
+                            if (typeToFragmentOn instanceof ObjectTypeDefinition) {
+                                fragmentTypes.add(typeToFragmentOn);
+                                final List<Type> anImplements = ((ObjectTypeDefinition) typeToFragmentOn).getImplements();
+                                if (anImplements != null) {
+                                    anImplements.forEach(type -> {
+                                        final TypeDefinition typeDefinition = typeDefinitionRegistry.getType(type).orElse(null);
+                                        if (typeDefinition instanceof InterfaceTypeDefinition) {
+                                            fragmentTypes.add(typeDefinition);
+                                        }
+                                    });
                                 }
-                            };
-                            addTypesRecursive.set(addTypes);
-                            addTypes.consume(fragmentType);
-                        }
+                            } else if (typeToFragmentOn instanceof InterfaceTypeDefinition) {
+                                fragmentTypes.add(typeToFragmentOn);
+                                final List<ObjectTypeDefinition> implementationsOf = typeDefinitionRegistry
+                                    .getImplementationsOf((InterfaceTypeDefinition) typeToFragmentOn);
+                                fragmentTypes.addAll(implementationsOf);
+                            } else if (typeToFragmentOn instanceof UnionTypeDefinition) {
+                                final List<Type> memberTypes = ((UnionTypeDefinition) typeToFragmentOn).getMemberTypes();
+                                if (memberTypes != null) {
+                                    memberTypes.forEach(memberType -> typeDefinitionRegistry.getType(memberType).ifPresent(
+                                        memberTypeDefinition -> addTypesRecursive.get().consume(memberTypeDefinition)));
+                                }
+                            }
+                        };
+                        addTypesRecursive.set(addTypes);
+                        addTypes.consume(fragmentType);
                     }
                 }
 
@@ -924,16 +897,11 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                     typeScope = GraphQLSchemaUtil.getUnmodifiedType(typeScope);
                 }
                 if (typeScope instanceof GraphQLFieldsContainer) {
-                    ((GraphQLFieldsContainer) typeScope).getFieldDefinitions().forEach(field -> {
-                        String name = field.getName();
-                        if (name == null) {
-                            return;
-                        }
-                        String typeText = GraphQLSchemaUtil.typeString(field.getType());
-                        InsertHandler<LookupElement> insertHandler = getInsertHandler(field);
+                    final GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(
+                        GraphQLSchemaProvider.getInstance(completionElement.getProject()).getRegistryInfo(parameters.getOriginalFile()));
+                    tables.processFields((GraphQLFieldsContainer) typeScope, result.getPrefixMatcher(), field ->
                         result.addElement(GraphQLCompletionUtil.createFieldNameLookupElement(
-                            name, typeText, field.isDeprecated(), insertHandler));
-                    });
+                            field.getName(), field.getTypeText(), field.isDeprecated(), field.getInsertHandler())));
                 }
 
                 // and add the built-in __typename option
@@ -942,25 +910,6 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                         GraphQLKnownTypes.INTROSPECTION_TYPENAME_FIELD, null, false, null));
             }
 
-
-            private @Nullable InsertHandler<LookupElement> getInsertHandler(
-                @NotNull com.intellij.lang.jsgraphql.types.schema.GraphQLFieldDefinition field) {
-                if (GraphQLSchemaUtil.hasRequiredArgs(field)) {
-                    return GraphQLCompletionUtil.ARGUMENTS_LIST_HANDLER;
-                }
-
-                if (!field.getArguments().isEmpty()) {
-                    return null;
-                }
-
-                GraphQLUnmodifiedType type = GraphQLSchemaUtil.getUnmodifiedType(field.getType());
-                if (type instanceof GraphQLFieldsContainer || type instanceof GraphQLUnionType) {
-                    return GraphQLCompletionUtil.ADD_BRACES_HANDLER;
-                }
-
-                return null;
-
-            }
         };
         extend(CompletionType.BASIC, psiElement(GraphQLElementTypes.NAME).withSuperParent(2, GraphQLField.class), provider);
     }
@@ -976,35 +925,26 @@ public class GraphQLCompletionContributor extends CompletionContributor {
                 if (typeExtension == null) {
                     return;
                 }
-                final TypeDefinitionRegistry typeDefinitionRegistry = GraphQLSchemaProvider.getInstance(completionElement.getProject())
-                    .getRegistryInfo(parameters.getOriginalFile()).getTypeDefinitionRegistry();
-                final List<TypeDefinition<?>> types = Lists.newArrayList();
+                final GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(
+                    GraphQLSchemaProvider.getInstance(completionElement.getProject()).getRegistryInfo(parameters.getOriginalFile()));
+                GraphQLCompletionTables.TypeKind applicableKind = null;
                 if (typeExtension instanceof GraphQLScalarTypeExtensionDefinition) {
-                    // scalars aren't fully fledged types in the registry
-                    types.addAll(typeDefinitionRegistry.scalars().values());
-                } else {
-                    // "real" types
-                    Class<? extends TypeDefinition<?>> applicableTypes = null;
-                    if (typeExtension instanceof GraphQLObjectTypeExtensionDefinition) {
-                        applicableTypes = ObjectTypeDefinition.class;
-                    } else if (typeExtension instanceof GraphQLInterfaceTypeExtensionDefinition) {
-                        applicableTypes = InterfaceTypeDefinition.class;
-                    } else if (typeExtension instanceof GraphQLUnionTypeExtensionDefinition) {
-                        applicableTypes = UnionTypeDefinition.class;
-                    } else if (typeExtension instanceof GraphQLEnumTypeExtensionDefinition) {
-                        applicableTypes = EnumTypeDefinition.class;
-                    } else if (typeExtension instanceof GraphQLInputObjectTypeExtensionDefinition) {
-                        applicableTypes = InputObjectTypeDefinition.class;
-                    }
-                    if (applicableTypes != null) {
-                        types.addAll(typeDefinitionRegistry.getTypes(applicableTypes));
-                    }
+                    applicableKind = GraphQLCompletionTables.TypeKind.SCALAR;
+                } else if (typeExtension instanceof GraphQLObjectTypeExtensionDefinition) {
+                    applicableKind = GraphQLCompletionTables.TypeKind.OBJECT;
+                } else if (typeExtension instanceof GraphQLInterfaceTypeExtensionDefinition) {
+                    applicableKind = GraphQLCompletionTables.TypeKind.INTERFACE;
+                } else if (typeExtension instanceof GraphQLUnionTypeExtensionDefinition) {
+                    applicableKind = GraphQLCompletionTables.TypeKind.UNION;
+                } else if (typeExtension instanceof GraphQLEnumTypeExtensionDefinition) {
+                    applicableKind = GraphQLCompletionTables.TypeKind.ENUM;
+                } else if (typeExtension instanceof GraphQLInputObjectTypeExtensionDefinition) {
+                    applicableKind = GraphQLCompletionTables.TypeKind.INPUT_OBJECT;
+                }
+                if (applicableKind != null) {
+                    tables.processTypeNames(applicableKind, result.getPrefixMatcher(), name -> result.addElement(
+                        GraphQLCompletionUtil.createTypeNameLookupElement(name, null, AddSpaceInsertHandler.INSTANCE)));
                 }
-                types.forEach(type -> {
-                    if (isIgnoredType(type)) return;
-                    result.addElement(GraphQLCompletionUtil
-                        .createTypeNameLookupElement(type.getName(), null, AddSpaceInsertHandler.INSTANCE));
-                });
             }
         };
         final ElementPattern<PsiElement> extendKeywords = PlatformPatterns.or(
@@ -1143,7 +1083,7 @@ public class GraphQLCompletionContributor extends CompletionContributor {
     }
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    private boolean isValidDirectiveLocation(@NotNull EnumSet<Introspection.DirectiveLocation> validLocations,
+    private boolean isValidDirectiveLocation(@NotNull Set<Introspection.DirectiveLocation> validLocations,
                                              @Nullable PsiElement completionPosition) {
         final GraphQLDirectivesAware directivesAware = PsiTreeUtil.getParentOfType(completionPosition, GraphQLDirectivesAware.class);
         if (directivesAware == null) {
@@ -1217,11 +1157,6 @@ public class GraphQLCompletionContributor extends CompletionContributor {
         return false;
     }
 
-
-    private static boolean isIgnoredType(@NotNull TypeDefinition type) {
-        return isIgnoredType(type.getName());
-    }
-
     private static boolean isIgnoredType(@NotNull String type) {
         return GraphQLKnownTypes.isIntrospectionType(type);
     }
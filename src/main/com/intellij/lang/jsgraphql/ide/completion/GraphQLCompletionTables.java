@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.completion;
+
+import com.intellij.codeInsight.completion.InsertHandler;
+import com.intellij.codeInsight.completion.PrefixMatcher;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.lang.jsgraphql.schema.GraphQLKnownTypes;
+import com.intellij.lang.jsgraphql.schema.GraphQLRegistryInfo;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaUtil;
+import com.intellij.lang.jsgraphql.types.introspection.Introspection;
+import com.intellij.lang.jsgraphql.types.language.*;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLFieldDefinition;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLFieldsContainer;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLUnionType;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLUnmodifiedType;
+import com.intellij.lang.jsgraphql.types.schema.idl.TypeDefinitionRegistry;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.util.ArrayUtil;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable name tables built once per type definition registry, so completion doesn't have to walk all the types of a large schema
+ * and render the same presentation on every invocation.
+ * <p>
+ * The names are sorted ignoring case. Depending on how the prefix matcher of the completion result set matches, only the names
+ * starting with the first character of the prefix or the names having a word starting with it are visited, the remaining matching
+ * is left to the prefix matcher.
+ */
+public final class GraphQLCompletionTables {
+
+    public enum TypeKind {
+        OBJECT, INTERFACE, UNION, ENUM, INPUT_OBJECT, SCALAR
+    }
+
+    private enum MatchingMode {
+        PREFIX, WORD_START, ANYWHERE
+    }
+
+    // the registry info is recreated on each schema change, so the tables are built at most once per schema version
+    private static final Map<GraphQLRegistryInfo, GraphQLCompletionTables> ourTables = ContainerUtil.createConcurrentWeakMap();
+
+    private final Map<TypeKind, NameTable> myTypeNames = new EnumMap<>(TypeKind.class);
+    private final NameTable myDirectiveNames;
+    private final Map<String, DirectiveEntry> myDirectives;
+
+    // field tables depend on the built schema types, so they're computed on demand for the type in scope
+    private final ConcurrentMap<String, FieldTable> myFields = new ConcurrentHashMap<>();
+
+    private GraphQLCompletionTables(@NotNull TypeDefinitionRegistry registry) {
+        final Map<TypeKind, List<String>> typeNames = new EnumMap<>(TypeKind.class);
+        for (TypeKind kind : TypeKind.values()) {
+            typeNames.put(kind, new ArrayList<>());
+        }
+        for (TypeDefinition<?> type : registry.types().values()) {
+            final TypeKind kind = getKind(type);
+            if (kind != null && !GraphQLKnownTypes.isIntrospectionType(type.getName())) {
+                typeNames.get(kind).add(type.getName());
+            }
+        }
+        typeNames.get(TypeKind.SCALAR).addAll(registry.scalars().keySet());
+        typeNames.forEach((kind, names) -> myTypeNames.put(kind, new NameTable(sorted(new LinkedHashSet<>(names)))));
+
+        myDirectives = new HashMap<>();
+        for (DirectiveDefinition directiveDefinition : registry.getDirectiveDefinitions().values()) {
+            myDirectives.put(directiveDefinition.getName(), new DirectiveEntry(directiveDefinition));
+        }
+        myDirectiveNames = new NameTable(sorted(myDirectives.keySet()));
+    }
+
+    public static @NotNull GraphQLCompletionTables getInstance(@NotNull GraphQLRegistryInfo registryInfo) {
+        return ourTables.computeIfAbsent(registryInfo, info -> new GraphQLCompletionTables(info.getTypeDefinitionRegistry()));
+    }
+
+    /**
+     * Processes the names of the types of the specified kind which can be matched by the matcher, in alphabetical order.
+     */
+    public void processTypeNames(@NotNull TypeKind kind, @NotNull PrefixMatcher matcher, @NotNull Consumer<String> consumer) {
+        processNames(myTypeNames.get(kind), matcher, consumer);
+    }
+
+    public void processTypeNames(@NotNull Set<TypeKind> kinds, @NotNull PrefixMatcher matcher, @NotNull Consumer<String> consumer) {
+        for (TypeKind kind : kinds) {
+            processTypeNames(kind, matcher, consumer);
+        }
+    }
+
+    public void processDirectives(@NotNull PrefixMatcher matcher, @NotNull Consumer<DirectiveEntry> consumer) {
+        processNames(myDirectiveNames, matcher, name -> consumer.accept(myDirectives.get(name)));
+    }
+
+    public void processFields(@NotNull GraphQLFieldsContainer type, @NotNull PrefixMatcher matcher, @NotNull Consumer<FieldEntry> consumer) {
+        final FieldTable fields = myFields.computeIfAbsent(type.getName(), name -> new FieldTable(type));
+        fields.myNames.process(matcher, i -> consumer.accept(fields.myEntries[i]));
+    }
+
+    private static void processNames(@NotNull NameTable table, @NotNull PrefixMatcher matcher, @NotNull Consumer<String> consumer) {
+        table.process(matcher, i -> consumer.accept(table.myNames[i]));
+    }
+
+    /**
+     * The matcher is probed with names matching the prefix only in the middle, since whether it matches there depends
+     * on the platform version and the middle matching setting. Any unexpected match just disables the narrowing.
+     */
+    private static @NotNull MatchingMode getMatchingMode(@NotNull PrefixMatcher matcher) {
+        final String prefix = matcher.getPrefix();
+        if (prefix.isEmpty() || !Character.isLetterOrDigit(prefix.charAt(0))) {
+            return MatchingMode.ANYWHERE;
+        }
+        final char other = Character.toLowerCase(prefix.charAt(0)) == 'q' ? 'z' : 'q';
+        if (matcher.prefixMatches(other + "x" + StringUtil.toLowerCase(prefix))) {
+            return MatchingMode.ANYWHERE;
+        }
+        if (matcher.prefixMatches(Character.toUpperCase(other) + StringUtil.capitalize(prefix))) {
+            return MatchingMode.WORD_START;
+        }
+        return MatchingMode.PREFIX;
+    }
+
+    private static final class NameTable {
+        private final String[] myNames;
+
+        // maps a lower case character to the sorted indices of the names having a word starting with it, built on first middle matching
+        private volatile Map<Character, int[]> myWordStarts;
+
+        NameTable(String @NotNull [] names) {
+            myNames = names;
+        }
+
+        void process(@NotNull PrefixMatcher matcher, @NotNull IntConsumer consumer) {
+            switch (getMatchingMode(matcher)) {
+                case PREFIX:
+                    processPrefixRange(matcher.getPrefix(), consumer);
+                    break;
+                case WORD_START:
+                    final int[] indices = getWordStarts().get(Character.toLowerCase(matcher.getPrefix().charAt(0)));
+                    if (indices != null) {
+                        for (int i : indices) {
+                            consumer.accept(i);
+                        }
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < myNames.length; i++) {
+                        consumer.accept(i);
+                    }
+            }
+        }
+
+        private void processPrefixRange(@NotNull String prefix, @NotNull IntConsumer consumer) {
+            final String first = prefix.substring(0, 1);
+            final int from = lowerBound(first);
+            int to = from;
+            while (to < myNames.length && myNames[to].regionMatches(true, 0, first, 0, 1)) {
+                consumer.accept(to);
+                to++;
+            }
+            // camel hump matching treats a leading underscore as a word separator, e.g. "_service" matches "s",
+            // such names are rare enough to always be left to the prefix matcher
+            for (int i = lowerBound("_"); i < myNames.length && myNames[i].startsWith("_"); i++) {
+                if (i < from || i >= to) {
+                    consumer.accept(i);
+                }
+            }
+        }
+
+        private @NotNull Map<Character, int[]> getWordStarts() {
+            Map<Character, int[]> wordStarts = myWordStarts;
+            if (wordStarts == null) {
+                final Map<Character, List<Integer>> indices = new HashMap<>();
+                for (int i = 0; i < myNames.length; i++) {
+                    final String name = myNames[i];
+                    final Set<Character> starts = new HashSet<>();
+                    for (int j = 0; j < name.length(); j++) {
+                        if (isWordStart(name, j)) {
+                            starts.add(Character.toLowerCase(name.charAt(j)));
+                        }
+                    }
+                    for (Character start : starts) {
+                        indices.computeIfAbsent(start, c -> new ArrayList<>()).add(i);
+                    }
+                }
+                wordStarts = new HashMap<>();
+                for (Map.Entry<Character, List<Integer>> entry : indices.entrySet()) {
+                    wordStarts.put(entry.getKey(), ArrayUtil.toIntArray(entry.getValue()));
+                }
+                myWordStarts = wordStarts;
+            }
+            return wordStarts;
+        }
+
+        /**
+         * Deliberately looser than the camel hump word boundaries, e.g. every upper case letter starts a word,
+         * so a superset of the names matched by the prefix matcher is visited.
+         */
+        private static boolean isWordStart(@NotNull String name, int index) {
+            final char c = name.charAt(index);
+            if (!Character.isLetterOrDigit(c)) {
+                return false;
+            }
+            if (index == 0 || Character.isUpperCase(c)) {
+                return true;
+            }
+            final char prev = name.charAt(index - 1);
+            return !Character.isLetterOrDigit(prev) || Character.isDigit(prev) != Character.isDigit(c);
+        }
+
+        private int lowerBound(@NotNull String key) {
+            int low = 0;
+            int high = myNames.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (String.CASE_INSENSITIVE_ORDER.compare(myNames[mid], key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static String @NotNull [] sorted(@NotNull Collection<String> names) {
+        final String[] array = ArrayUtil.toStringArray(names);
+        Arrays.sort(array, String.CASE_INSENSITIVE_ORDER);
+        return array;
+    }
+
+    private static @Nullable TypeKind getKind(@NotNull TypeDefinition<?> type) {
+        if (type instanceof ObjectTypeDefinition) return TypeKind.OBJECT;
+        if (type instanceof InterfaceTypeDefinition) return TypeKind.INTERFACE;
+        if (type instanceof UnionTypeDefinition) return TypeKind.UNION;
+        if (type instanceof EnumTypeDefinition) return TypeKind.ENUM;
+        if (type instanceof InputObjectTypeDefinition) return TypeKind.INPUT_OBJECT;
+        if (type instanceof ScalarTypeDefinition) return TypeKind.SCALAR;
+        return null;
+    }
+
+    private static final class FieldTable {
+        private final NameTable myNames;
+        private final FieldEntry[] myEntries;
+
+        FieldTable(@NotNull GraphQLFieldsContainer type) {
+            final List<FieldEntry> entries = new ArrayList<>();
+            for (GraphQLFieldDefinition field : type.getFieldDefinitions()) {
+                if (field.getName() != null) {
+                    entries.add(new FieldEntry(field));
+                }
+            }
+            entries.sort(Comparator.comparing(FieldEntry::getName, String.CASE_INSENSITIVE_ORDER));
+            myEntries = entries.toArray(new FieldEntry[0]);
+            myNames = new NameTable(ContainerUtil.map2Array(myEntries, String.class, FieldEntry::getName));
+        }
+    }
+
+    public static final class DirectiveEntry {
+        private final String myName;
+        private final Set<Introspection.DirectiveLocation> myLocations;
+        private final boolean myHasRequiredArgs;
+
+        private DirectiveEntry(@NotNull DirectiveDefinition directiveDefinition) {
+            myName = directiveDefinition.getName();
+
+            final EnumSet<Introspection.DirectiveLocation> locations = EnumSet.noneOf(Introspection.DirectiveLocation.class);
+            for (DirectiveLocation directiveLocation : directiveDefinition.getDirectiveLocations()) {
+                try {
+                    locations.add(Introspection.DirectiveLocation.valueOf(directiveLocation.getName()));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+            myLocations = Collections.unmodifiableSet(locations);
+
+            boolean hasRequiredArgs = false;
+            for (InputValueDefinition directiveArgument : directiveDefinition.getInputValueDefinitions()) {
+                if (directiveArgument.getType() instanceof NonNullType) {
+                    hasRequiredArgs = true;
+                    break;
+                }
+            }
+            myHasRequiredArgs = hasRequiredArgs;
+        }
+
+        public @NotNull String getName() {
+            return myName;
+        }
+
+        public @NotNull Set<Introspection.DirectiveLocation> getLocations() {
+            return myLocations;
+        }
+
+        public boolean hasRequiredArgs() {
+            return myHasRequiredArgs;
+        }
+    }
+
+    public static final class FieldEntry {
+        private final String myName;
+        private final String myTypeText;
+        private final boolean myDeprecated;
+        private final @Nullable InsertHandler<LookupElement> myInsertHandler;
+
+        private FieldEntry(@NotNull GraphQLFieldDefinition field) {
+            myName = field.getName();
+            myTypeText = GraphQLSchemaUtil.typeString(field.getType());
+            myDeprecated = field.isDeprecated();
+            myInsertHandler = getInsertHandler(field);
+        }
+
+        public @NotNull String getName() {
+            return myName;
+        }
+
+        public @NotNull String getTypeText() {
+            return myTypeText;
+        }
+
+        public boolean isDeprecated() {
+            return myDeprecated;
+        }
+
+        public @Nullable InsertHandler<LookupElement> getInsertHandler() {
+            return myInsertHandler;
+        }
+
+        private static @Nullable InsertHandler<LookupElement> getInsertHandler(@NotNull GraphQLFieldDefinition field) {
+            if (GraphQLSchemaUtil.hasRequiredArgs(field)) {
+                return GraphQLCompletionUtil.ARGUMENTS_LIST_HANDLER;
+            }
+
+            if (!field.getArguments().isEmpty()) {
+                return null;
+            }
+
+            GraphQLUnmodifiedType type = GraphQLSchemaUtil.getUnmodifiedType(field.getType());
+            if (type instanceof GraphQLFieldsContainer || type instanceof GraphQLUnionType) {
+                return GraphQLCompletionUtil.ADD_BRACES_HANDLER;
+            }
+
+            return null;
+        }
+    }
+}
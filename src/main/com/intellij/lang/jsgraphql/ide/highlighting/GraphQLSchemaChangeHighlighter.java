@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.highlighting;
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.lang.jsgraphql.ide.findUsages.GraphQLFindUsagesUtil;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaCoordinateIndex;
+import com.intellij.lang.jsgraphql.ide.search.GraphQLOperationDependencies;
+import com.intellij.lang.jsgraphql.schema.GraphQLRegistryDiff;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
+import com.intellij.lang.jsgraphql.types.schema.idl.TypeDefinitionRegistry;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Couple;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Restarts the highlighting of the open files after a schema change, but only for the files which can be affected by it:
+ * files with operations or fragments that depend on a changed schema coordinate, see {@link GraphQLOperationDependencies},
+ * and files which declare a part of the schema, since the schema validation errors can move between them.
+ * <p>
+ * The changed coordinates are computed with {@link GraphQLRegistryDiff} from the registry each open file was last checked against.
+ */
+public class GraphQLSchemaChangeHighlighter implements Disposable {
+
+    private static final Logger LOG = Logger.getInstance(GraphQLSchemaChangeHighlighter.class);
+
+    private final Project myProject;
+    private final Set<FileType> myIncludedFileTypes;
+    private final Map<VirtualFile, TypeDefinitionRegistry> myFileRegistries = ContainerUtil.createConcurrentWeakMap();
+
+    private volatile @Nullable Consumer<List<PsiFile>> myRestartListener;
+
+    public static GraphQLSchemaChangeHighlighter getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GraphQLSchemaChangeHighlighter.class);
+    }
+
+    public GraphQLSchemaChangeHighlighter(@NotNull Project project) {
+        myProject = project;
+        myIncludedFileTypes = GraphQLFindUsagesUtil.getService().getIncludedFileTypes();
+    }
+
+    /**
+     * Collects the affected open files in the background and restarts their highlighting, called after each schema change.
+     */
+    public void restartDependentFiles() {
+        ReadAction.nonBlocking(this::collectDependentFiles)
+            .inSmartMode(myProject)
+            .coalesceBy(this)
+            .expireWith(this)
+            .finishOnUiThread(ModalityState.NON_MODAL, files -> {
+                final DaemonCodeAnalyzer daemonCodeAnalyzer = DaemonCodeAnalyzer.getInstance(myProject);
+                for (PsiFile file : files) {
+                    if (file.isValid()) {
+                        daemonCodeAnalyzer.restart(file);
+                    }
+                }
+                final Consumer<List<PsiFile>> listener = myRestartListener;
+                if (listener != null) {
+                    listener.accept(files);
+                }
+            })
+            .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    private @NotNull List<PsiFile> collectDependentFiles() {
+        final PsiManager psiManager = PsiManager.getInstance(myProject);
+        final GraphQLSchemaProvider schemaProvider = GraphQLSchemaProvider.getInstance(myProject);
+        final Map<Couple<TypeDefinitionRegistry>, Optional<Set<String>>> changes = new HashMap<>();
+
+        final List<PsiFile> dependentFiles = new ArrayList<>();
+        for (VirtualFile virtualFile : FileEditorManager.getInstance(myProject).getOpenFiles()) {
+            ProgressManager.checkCanceled();
+            if (!virtualFile.isValid() || !myIncludedFileTypes.contains(virtualFile.getFileType())) {
+                continue;
+            }
+            final PsiFile psiFile = psiManager.findFile(virtualFile);
+            if (psiFile == null) {
+                continue;
+            }
+
+            final TypeDefinitionRegistry registry = schemaProvider.getRegistryInfo(psiFile).getTypeDefinitionRegistry();
+            final TypeDefinitionRegistry previousRegistry = myFileRegistries.put(virtualFile, registry);
+            if (previousRegistry == null) {
+                // not checked against a schema before, so the changes aren't known
+                dependentFiles.add(psiFile);
+                continue;
+            }
+
+            // the files in the same schema scope share the registries, so the diff is only computed once per scope
+            final Set<String> changedCoordinates = changes.computeIfAbsent(Couple.of(previousRegistry, registry),
+                registries -> Optional.ofNullable(GraphQLRegistryDiff.getAffectedCoordinates(registries.first, registries.second)))
+                .orElse(null);
+            if (isAffected(psiFile, changedCoordinates)) {
+                dependentFiles.add(psiFile);
+            }
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Restarting highlighting of %d files after a schema change", dependentFiles.size()));
+        }
+        return dependentFiles;
+    }
+
+    private boolean isAffected(@NotNull PsiFile psiFile, @Nullable Set<String> changedCoordinates) {
+        if (changedCoordinates == null) {
+            return true;
+        }
+        if (changedCoordinates.isEmpty()) {
+            return false;
+        }
+        final VirtualFile virtualFile = psiFile.getVirtualFile();
+        if (!FileBasedIndex.getInstance().getFileData(GraphQLSchemaCoordinateIndex.NAME, virtualFile, myProject).isEmpty()) {
+            // the file declares a part of the schema
+            return true;
+        }
+        final GraphQLOperationDependencies.Dependencies dependencies =
+            GraphQLOperationDependencies.getInstance(myProject).getDependencies(psiFile);
+        return dependencies == null ||
+            dependencies.hasUnresolvedDependencies(virtualFile) ||
+            !Collections.disjoint(changedCoordinates, dependencies.getFileDependencies(virtualFile));
+    }
+
+    @TestOnly
+    public void setRestartListener(@NotNull Consumer<List<PsiFile>> listener, @NotNull Disposable parentDisposable) {
+        myRestartListener = listener;
+        Disposer.register(parentDisposable, () -> myRestartListener = null);
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
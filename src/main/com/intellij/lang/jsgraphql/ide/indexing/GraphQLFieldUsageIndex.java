@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.indexing;
+
+import com.intellij.lang.jsgraphql.ide.findUsages.GraphQLFindUsagesUtil;
+import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
+import com.intellij.lang.jsgraphql.psi.GraphQLFieldDefinition;
+import com.intellij.lang.jsgraphql.psi.*;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaUtil;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLFieldsContainer;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLType;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.*;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Indexes the fields selected in operations and fragments by field name, so the usages of a field definition
+ * only have to be resolved in the files which can actually select it.
+ * <p>
+ * The owner type of a selected field depends on the schema, which isn't available while indexing. Instead the value is the
+ * list of the distinct owner paths of the field in the file, e.g. <code>:query.user</code> for <code>query { user { id } }</code>,
+ * or <code>User.friends</code> for <code>fragment F on User { friends { id } }</code>. The paths are resolved against the schema
+ * when searching, see {@link #resolveOwnerTypeName(GraphQLSchema, String)}.
+ * <p>
+ * Field definitions are indexed with {@link #DEFINITION_PATH}, since a field definition can implement an interface field,
+ * so these files are always candidates.
+ */
+public class GraphQLFieldUsageIndex extends FileBasedIndexExtension<String, List<String>> {
+
+    public static final ID<String, List<String>> NAME = ID.create("GraphQLFieldUsageIndex");
+    public static final int VERSION = 1;
+
+    public static final String DEFINITION_PATH = "";
+
+    public static final String OPERATION_ROOT_PREFIX = ":";
+    public static final String PATH_SEPARATOR = ".";
+
+    private final @Nullable GraphQLInjectionSearchHelper graphQLInjectionSearchHelper;
+
+    private final Set<FileType> includedFileTypes;
+
+    private final DataIndexer<String, List<String>, FileContent> myDataIndexer;
+
+    public GraphQLFieldUsageIndex() {
+        myDataIndexer = inputData -> {
+            final Map<String, Set<String>> ownerPaths = new HashMap<>();
+
+            inputData.getPsiFile().accept(new PsiRecursiveElementVisitor() {
+                @Override
+                public void visitElement(@NotNull PsiElement element) {
+                    if (element instanceof GraphQLTypedOperationDefinition) {
+                        final GraphQLOperationType operationType = ((GraphQLTypedOperationDefinition) element).getOperationType();
+                        visitSelectionSet(((GraphQLTypedOperationDefinition) element).getSelectionSet(),
+                            OPERATION_ROOT_PREFIX + operationType.getText(), ownerPaths);
+                        return;
+                    } else if (element instanceof GraphQLSelectionSetOperationDefinition) {
+                        // an anonymous query
+                        visitSelectionSet(((GraphQLSelectionSetOperationDefinition) element).getSelectionSet(),
+                            OPERATION_ROOT_PREFIX + "query", ownerPaths);
+                        return;
+                    } else if (element instanceof GraphQLFragmentDefinition) {
+                        final String typeConditionName = GraphQLFragmentTypeConditionIndex.getTypeConditionName((GraphQLFragmentDefinition) element);
+                        if (typeConditionName != null) {
+                            visitSelectionSet(((GraphQLFragmentDefinition) element).getSelectionSet(), typeConditionName, ownerPaths);
+                        }
+                        return;
+                    } else if (element instanceof GraphQLFieldDefinition) {
+                        final String name = ((GraphQLFieldDefinition) element).getName();
+                        if (name != null) {
+                            ownerPaths.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(DEFINITION_PATH);
+                        }
+                        return; // no need to visit deeper
+                    } else if (element instanceof PsiLanguageInjectionHost && graphQLInjectionSearchHelper != null) {
+                        if (graphQLInjectionSearchHelper.isGraphQLLanguageInjectionTarget(element)) {
+                            final PsiFile graphqlInjectedPsiFile = GraphQLIndexUtil.createInjectedGraphQLFile(element);
+                            graphqlInjectedPsiFile.accept(this);
+                            return;
+                        }
+                    }
+                    super.visitElement(element);
+                }
+            });
+
+            final Map<String, List<String>> result = new HashMap<>();
+            ownerPaths.forEach((name, paths) -> result.put(name, new ArrayList<>(paths)));
+            return result;
+        };
+        includedFileTypes = GraphQLFindUsagesUtil.getService().getIncludedFileTypes();
+        graphQLInjectionSearchHelper = GraphQLInjectionSearchHelper.getInstance();
+    }
+
+    private static void visitSelectionSet(@Nullable GraphQLSelectionSet selectionSet,
+                                          @NotNull String ownerPath,
+                                          @NotNull Map<String, Set<String>> ownerPaths) {
+        if (selectionSet == null) {
+            return;
+        }
+        for (GraphQLSelection selection : selectionSet.getSelectionList()) {
+            final GraphQLField field = selection.getField();
+            if (field != null) {
+                final String name = field.getName();
+                if (name != null) {
+                    ownerPaths.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(ownerPath);
+                    visitSelectionSet(field.getSelectionSet(), ownerPath + PATH_SEPARATOR + name, ownerPaths);
+                }
+                continue;
+            }
+            final GraphQLFragmentSelection fragmentSelection = selection.getFragmentSelection();
+            final GraphQLInlineFragment inlineFragment = fragmentSelection != null ? fragmentSelection.getInlineFragment() : null;
+            if (inlineFragment != null) {
+                // a type condition starts a new path, otherwise the fields belong to the enclosing type
+                final GraphQLTypeCondition typeCondition = inlineFragment.getTypeCondition();
+                final GraphQLTypeName typeName = typeCondition != null ? typeCondition.getTypeName() : null;
+                final String typeConditionName = typeName != null ? typeName.getName() : null;
+                visitSelectionSet(inlineFragment.getSelectionSet(), typeConditionName != null ? typeConditionName : ownerPath, ownerPaths);
+            }
+        }
+    }
+
+    /**
+     * Resolves an indexed owner path to the name of the type the field is selected on.
+     *
+     * @return the type name, or null if the path can't be resolved in the schema, e.g. it contains an unknown field
+     */
+    public static @Nullable String resolveOwnerTypeName(@NotNull GraphQLSchema schema, @NotNull String ownerPath) {
+        final GraphQLType type = resolveOwnerType(schema, ownerPath);
+        return type != null ? GraphQLSchemaUtil.getTypeName(type) : null;
+    }
+
+    /**
+     * Resolves an owner path to the unmodified type the field is selected on.
+     *
+     * @return the type, or null if the path can't be resolved in the schema
+     * @see #resolveOwnerTypeName(GraphQLSchema, String)
+     */
+    public static @Nullable GraphQLType resolveOwnerType(@NotNull GraphQLSchema schema, @NotNull String ownerPath) {
+        final List<String> segments = StringUtil.split(ownerPath, PATH_SEPARATOR);
+        if (segments.isEmpty()) {
+            return null;
+        }
+
+        final String root = segments.get(0);
+        GraphQLType type;
+        if (root.startsWith(OPERATION_ROOT_PREFIX)) {
+            switch (root.substring(OPERATION_ROOT_PREFIX.length())) {
+                case "query":
+                    type = schema.getQueryType();
+                    break;
+                case "mutation":
+                    type = schema.getMutationType();
+                    break;
+                case "subscription":
+                    type = schema.getSubscriptionType();
+                    break;
+                default:
+                    type = null;
+            }
+        } else {
+            type = schema.getType(root);
+        }
+
+        for (int i = 1; i < segments.size() && type != null; i++) {
+            if (!(type instanceof GraphQLFieldsContainer)) {
+                return null;
+            }
+            final com.intellij.lang.jsgraphql.types.schema.GraphQLFieldDefinition fieldDefinition =
+                ((GraphQLFieldsContainer) type).getFieldDefinition(segments.get(i));
+            type = fieldDefinition != null ? GraphQLSchemaUtil.getUnmodifiedType(fieldDefinition.getType()) : null;
+        }
+        return type;
+    }
+
+    @NotNull
+    @Override
+    public ID<String, List<String>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<String>, FileContent> getIndexer() {
+        return myDataIndexer;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return new EnumeratorStringDescriptor();
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<String>> getValueExternalizer() {
+        return GraphQLIndexUtil.STRING_LIST_EXTERNALIZER;
+    }
+
+    @Override
+    public int getVersion() {
+        return GraphQLIndexUtil.INDEX_BASE_VERSION + VERSION;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> includedFileTypes.contains(file.getFileType());
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+}
@@ -7,7 +7,6 @@
  */
 package com.intellij.lang.jsgraphql.ide.indexing;
 
-import com.intellij.lang.jsgraphql.GraphQLFileType;
 import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
 import com.intellij.lang.jsgraphql.ide.findUsages.GraphQLFindUsagesUtil;
 import com.intellij.lang.jsgraphql.psi.GraphQLDefinition;
@@ -20,7 +19,6 @@ import com.intellij.util.io.BooleanDataDescriptor;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -64,9 +62,7 @@ public class GraphQLFragmentNameIndex extends FileBasedIndexExtension<String, Bo
                         return; // no need to visit deeper than definitions since fragments are top level
                     } else if (element instanceof PsiLanguageInjectionHost && graphQLInjectionSearchHelper != null) {
                         if (graphQLInjectionSearchHelper.isGraphQLLanguageInjectionTarget(element)) {
-                            final PsiFileFactory psiFileFactory = PsiFileFactory.getInstance(element.getProject());
-                            final String graphqlBuffer = StringUtils.strip(element.getText(), "` \t\n");
-                            final PsiFile graphqlInjectedPsiFile = psiFileFactory.createFileFromText("", GraphQLFileType.INSTANCE, graphqlBuffer, 0, false, false);
+                            final PsiFile graphqlInjectedPsiFile = GraphQLIndexUtil.createInjectedGraphQLFile(element);
                             graphqlInjectedPsiFile.accept(identifierVisitor.get());
                             return;
                         }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.indexing;
+
+import com.intellij.lang.jsgraphql.ide.findUsages.GraphQLFindUsagesUtil;
+import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
+import com.intellij.lang.jsgraphql.psi.GraphQLDefinition;
+import com.intellij.lang.jsgraphql.psi.GraphQLFragmentDefinition;
+import com.intellij.lang.jsgraphql.psi.GraphQLTypeCondition;
+import com.intellij.lang.jsgraphql.psi.GraphQLTypeName;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.psi.*;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Indexes the names of fragment definitions by their type condition, so fragment spreads can be completed
+ * for the types applicable in the current scope without loading the PSI of every fragment.
+ */
+public class GraphQLFragmentTypeConditionIndex extends FileBasedIndexExtension<String, List<String>> {
+
+    public static final ID<String, List<String>> NAME = ID.create("GraphQLFragmentTypeConditionIndex");
+    public static final int VERSION = 1;
+
+    private final @Nullable GraphQLInjectionSearchHelper graphQLInjectionSearchHelper;
+
+    private final Set<FileType> includedFileTypes;
+
+    private final DataIndexer<String, List<String>, FileContent> myDataIndexer;
+
+    public GraphQLFragmentTypeConditionIndex() {
+        myDataIndexer = inputData -> {
+            final Map<String, List<String>> fragmentsByTypeCondition = new HashMap<>();
+
+            inputData.getPsiFile().accept(new PsiRecursiveElementVisitor() {
+                @Override
+                public void visitElement(@NotNull PsiElement element) {
+                    if (element instanceof GraphQLDefinition) {
+                        if (element instanceof GraphQLFragmentDefinition) {
+                            final GraphQLFragmentDefinition fragmentDefinition = (GraphQLFragmentDefinition) element;
+                            final String fragmentName = fragmentDefinition.getName();
+                            final String typeConditionName = getTypeConditionName(fragmentDefinition);
+                            if (fragmentName != null && typeConditionName != null) {
+                                fragmentsByTypeCondition.computeIfAbsent(typeConditionName, k -> new ArrayList<>()).add(fragmentName);
+                            }
+                        }
+                        return; // no need to visit deeper than definitions since fragments are top level
+                    } else if (element instanceof PsiLanguageInjectionHost && graphQLInjectionSearchHelper != null) {
+                        if (graphQLInjectionSearchHelper.isGraphQLLanguageInjectionTarget(element)) {
+                            final PsiFile graphqlInjectedPsiFile = GraphQLIndexUtil.createInjectedGraphQLFile(element);
+                            graphqlInjectedPsiFile.accept(this);
+                            return;
+                        }
+                    }
+                    super.visitElement(element);
+                }
+            });
+
+            return fragmentsByTypeCondition;
+        };
+        includedFileTypes = GraphQLFindUsagesUtil.getService().getIncludedFileTypes();
+        graphQLInjectionSearchHelper = GraphQLInjectionSearchHelper.getInstance();
+    }
+
+    public static @Nullable String getTypeConditionName(@NotNull GraphQLFragmentDefinition fragmentDefinition) {
+        final GraphQLTypeCondition typeCondition = fragmentDefinition.getTypeCondition();
+        final GraphQLTypeName typeName = typeCondition != null ? typeCondition.getTypeName() : null;
+        return typeName != null ? typeName.getName() : null;
+    }
+
+    @NotNull
+    @Override
+    public ID<String, List<String>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<String>, FileContent> getIndexer() {
+        return myDataIndexer;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return new EnumeratorStringDescriptor();
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<String>> getValueExternalizer() {
+        return GraphQLIndexUtil.STRING_LIST_EXTERNALIZER;
+    }
+
+    @Override
+    public int getVersion() {
+        return GraphQLIndexUtil.INDEX_BASE_VERSION + VERSION;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> includedFileTypes.contains(file.getFileType());
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+}
@@ -3,13 +3,96 @@ package com.intellij.lang.jsgraphql.ide.indexing;
 import com.google.common.collect.ImmutableList;
 import com.intellij.json.JsonFileType;
 import com.intellij.lang.jsgraphql.GraphQLFileType;
+import com.intellij.lang.jsgraphql.psi.GraphQLDefinition;
+import com.intellij.lang.jsgraphql.psi.GraphQLFile;
+import com.intellij.lang.jsgraphql.psi.GraphQLSchemaExtension;
+import com.intellij.lang.jsgraphql.psi.GraphQLTypeExtension;
+import com.intellij.lang.jsgraphql.psi.GraphQLTypeSystemDefinition;
 import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.apache.commons.lang.StringUtils;
+import org.jetbrains.annotations.NotNull;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public final class GraphQLIndexUtil {
     public static final int INDEX_BASE_VERSION = 1;
 
     public static final Collection<FileType> FILE_TYPES_WITH_IGNORED_SIZE_LIMIT =
         ImmutableList.of(GraphQLFileType.INSTANCE, JsonFileType.INSTANCE);
+
+    public static final DataExternalizer<List<String>> STRING_LIST_EXTERNALIZER = new DataExternalizer<>() {
+        @Override
+        public void save(@NotNull DataOutput out, List<String> value) throws IOException {
+            DataInputOutputUtil.writeINT(out, value.size());
+            for (String name : value) {
+                IOUtil.writeUTF(out, name);
+            }
+        }
+
+        @Override
+        public List<String> read(@NotNull DataInput in) throws IOException {
+            final int size = DataInputOutputUtil.readINT(in);
+            final List<String> names = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                names.add(IOUtil.readUTF(in));
+            }
+            return names;
+        }
+    };
+
+    public static final DataExternalizer<List<Integer>> INT_LIST_EXTERNALIZER = new DataExternalizer<>() {
+        @Override
+        public void save(@NotNull DataOutput out, List<Integer> value) throws IOException {
+            DataInputOutputUtil.writeINT(out, value.size());
+            for (Integer offset : value) {
+                DataInputOutputUtil.writeINT(out, offset);
+            }
+        }
+
+        @Override
+        public List<Integer> read(@NotNull DataInput in) throws IOException {
+            final int size = DataInputOutputUtil.readINT(in);
+            final List<Integer> offsets = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                offsets.add(DataInputOutputUtil.readINT(in));
+            }
+            return offsets;
+        }
+    };
+
+    /**
+     * Gets whether the file contains definitions which contribute to the schema, i.e. type system definitions and extensions,
+     * as opposed to operations and fragments.
+     */
+    public static boolean containsSchemaDefinitions(@NotNull GraphQLFile file) {
+        for (GraphQLDefinition definition : file.getDefinitions()) {
+            if (definition instanceof GraphQLTypeSystemDefinition ||
+                definition instanceof GraphQLTypeExtension ||
+                definition instanceof GraphQLSchemaExtension) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a non-physical GraphQL file from the text of a GraphQL language injection host, e.g. a tagged template literal,
+     * so the injected GraphQL can be indexed along with the host file.
+     */
+    public static @NotNull PsiFile createInjectedGraphQLFile(@NotNull PsiElement injectionHost) {
+        final String graphqlBuffer = StringUtils.strip(injectionHost.getText(), "` \t\n");
+        return PsiFileFactory.getInstance(injectionHost.getProject())
+            .createFileFromText("", GraphQLFileType.INSTANCE, graphqlBuffer, 0, false, false);
+    }
 }
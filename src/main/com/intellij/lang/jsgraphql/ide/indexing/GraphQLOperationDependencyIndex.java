@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.indexing;
+
+import com.intellij.lang.jsgraphql.ide.findUsages.GraphQLFindUsagesUtil;
+import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
+import com.intellij.lang.jsgraphql.psi.*;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.*;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Indexes the schema dependencies of each operation and fragment, so the executable definitions which touch a schema member
+ * can be found without resolving every document.
+ * <p>
+ * The key is the definition, e.g. <code>query:GetUser</code> or <code>fragment:UserFields</code>, the value is the list of
+ * its distinct dependencies, collected from the names in the PSI of the definition:
+ * <ul>
+ *     <li>{@link #TYPE_PREFIX} and a type name, for type conditions and variable types</li>
+ *     <li>{@link #FIELD_PREFIX} and a field path, for selected fields, e.g. <code>:query.user.id</code></li>
+ *     <li>{@link #DIRECTIVE_PREFIX} and a directive name</li>
+ *     <li>{@link #SPREAD_PREFIX} and a fragment name, for fragment spreads</li>
+ * </ul>
+ * A field path is the owner path of {@link GraphQLFieldUsageIndex} followed by the field name, since the owner types
+ * are only known once the paths are resolved against the schema.
+ */
+public class GraphQLOperationDependencyIndex extends FileBasedIndexExtension<String, List<String>> {
+
+    public static final ID<String, List<String>> NAME = ID.create("GraphQLOperationDependencyIndex");
+    public static final int VERSION = 2;
+
+    public static final String FRAGMENT_KEY_PREFIX = "fragment:";
+
+    public static final String TYPE_PREFIX = "type:";
+    public static final String FIELD_PREFIX = "field:";
+    public static final String DIRECTIVE_PREFIX = "directive:";
+    public static final String SPREAD_PREFIX = "spread:";
+
+    private final @Nullable GraphQLInjectionSearchHelper graphQLInjectionSearchHelper;
+
+    private final Set<FileType> includedFileTypes;
+
+    private final DataIndexer<String, List<String>, FileContent> myDataIndexer;
+
+    public GraphQLOperationDependencyIndex() {
+        myDataIndexer = inputData -> {
+            final Map<String, Set<String>> dependencies = new HashMap<>();
+
+            inputData.getPsiFile().accept(new PsiRecursiveElementVisitor() {
+                @Override
+                public void visitElement(@NotNull PsiElement element) {
+                    if (element instanceof GraphQLTypedOperationDefinition) {
+                        final GraphQLTypedOperationDefinition operation = (GraphQLTypedOperationDefinition) element;
+                        final String operationKeyword = operation.getOperationType().getText();
+                        final Set<String> operationDependencies =
+                            dependencies.computeIfAbsent(getOperationKey(operationKeyword, operation.getName()), k -> new LinkedHashSet<>());
+                        final GraphQLVariableDefinitions variableDefinitions = operation.getVariableDefinitions();
+                        if (variableDefinitions != null) {
+                            for (GraphQLVariableDefinition variableDefinition : variableDefinitions.getVariableDefinitions()) {
+                                addTypeDependency(PsiTreeUtil.findChildOfType(variableDefinition.getType(), GraphQLTypeName.class, false),
+                                    operationDependencies);
+                                addDirectiveDependencies(variableDefinition, operationDependencies);
+                            }
+                        }
+                        addDirectiveDependencies(operation, operationDependencies);
+                        addSelectionDependencies(operation.getSelectionSet(),
+                            GraphQLFieldUsageIndex.OPERATION_ROOT_PREFIX + operationKeyword, operationDependencies);
+                        return;
+                    } else if (element instanceof GraphQLSelectionSetOperationDefinition) {
+                        // an anonymous query
+                        final Set<String> operationDependencies =
+                            dependencies.computeIfAbsent(getOperationKey("query", null), k -> new LinkedHashSet<>());
+                        addSelectionDependencies(((GraphQLSelectionSetOperationDefinition) element).getSelectionSet(),
+                            GraphQLFieldUsageIndex.OPERATION_ROOT_PREFIX + "query", operationDependencies);
+                        return;
+                    } else if (element instanceof GraphQLFragmentDefinition) {
+                        final GraphQLFragmentDefinition fragment = (GraphQLFragmentDefinition) element;
+                        final String typeConditionName = GraphQLFragmentTypeConditionIndex.getTypeConditionName(fragment);
+                        if (fragment.getName() != null && typeConditionName != null) {
+                            final Set<String> fragmentDependencies =
+                                dependencies.computeIfAbsent(getFragmentKey(fragment.getName()), k -> new LinkedHashSet<>());
+                            fragmentDependencies.add(TYPE_PREFIX + typeConditionName);
+                            addDirectiveDependencies(fragment, fragmentDependencies);
+                            addSelectionDependencies(fragment.getSelectionSet(), typeConditionName, fragmentDependencies);
+                        }
+                        return;
+                    } else if (element instanceof GraphQLDefinition) {
+                        return; // type system definitions don't have dependencies on the schema
+                    } else if (element instanceof PsiLanguageInjectionHost && graphQLInjectionSearchHelper != null) {
+                        if (graphQLInjectionSearchHelper.isGraphQLLanguageInjectionTarget(element)) {
+                            final PsiFile graphqlInjectedPsiFile = GraphQLIndexUtil.createInjectedGraphQLFile(element);
+                            graphqlInjectedPsiFile.accept(this);
+                            return;
+                        }
+                    }
+                    super.visitElement(element);
+                }
+            });
+
+            final Map<String, List<String>> result = new HashMap<>();
+            dependencies.forEach((key, values) -> result.put(key, new ArrayList<>(values)));
+            return result;
+        };
+        includedFileTypes = GraphQLFindUsagesUtil.getService().getIncludedFileTypes();
+        graphQLInjectionSearchHelper = GraphQLInjectionSearchHelper.getInstance();
+    }
+
+    public static @NotNull String getOperationKey(@NotNull String operationKeyword, @Nullable String operationName) {
+        return operationKeyword + ":" + StringUtil.notNullize(operationName);
+    }
+
+    public static @NotNull String getFragmentKey(@NotNull String fragmentName) {
+        return FRAGMENT_KEY_PREFIX + fragmentName;
+    }
+
+    private static void addSelectionDependencies(@Nullable GraphQLSelectionSet selectionSet,
+                                                 @NotNull String ownerPath,
+                                                 @NotNull Set<String> dependencies) {
+        if (selectionSet == null) {
+            return;
+        }
+        for (GraphQLSelection selection : selectionSet.getSelectionList()) {
+            final GraphQLField field = selection.getField();
+            if (field != null) {
+                if (field.getName() == null) continue;
+                final String fieldPath = ownerPath + GraphQLFieldUsageIndex.PATH_SEPARATOR + field.getName();
+                dependencies.add(FIELD_PREFIX + fieldPath);
+                addDirectiveDependencies(field, dependencies);
+                addSelectionDependencies(field.getSelectionSet(), fieldPath, dependencies);
+                continue;
+            }
+            final GraphQLFragmentSelection fragmentSelection = selection.getFragmentSelection();
+            if (fragmentSelection == null) continue;
+            final GraphQLInlineFragment inlineFragment = fragmentSelection.getInlineFragment();
+            if (inlineFragment != null) {
+                final GraphQLTypeCondition typeCondition = inlineFragment.getTypeCondition();
+                final GraphQLTypeName typeName = typeCondition != null ? typeCondition.getTypeName() : null;
+                addDirectiveDependencies(inlineFragment, dependencies);
+                if (typeName != null && typeName.getName() != null) {
+                    addTypeDependency(typeName, dependencies);
+                    addSelectionDependencies(inlineFragment.getSelectionSet(), typeName.getName(), dependencies);
+                } else {
+                    addSelectionDependencies(inlineFragment.getSelectionSet(), ownerPath, dependencies);
+                }
+            }
+            final GraphQLFragmentSpread fragmentSpread = fragmentSelection.getFragmentSpread();
+            if (fragmentSpread != null) {
+                addDirectiveDependencies(fragmentSpread, dependencies);
+                if (fragmentSpread.getName() != null) {
+                    dependencies.add(SPREAD_PREFIX + fragmentSpread.getName());
+                }
+            }
+        }
+    }
+
+    private static void addTypeDependency(@Nullable GraphQLTypeName typeName, @NotNull Set<String> dependencies) {
+        if (typeName != null && typeName.getName() != null) {
+            dependencies.add(TYPE_PREFIX + typeName.getName());
+        }
+    }
+
+    private static void addDirectiveDependencies(@NotNull GraphQLDirectivesAware element, @NotNull Set<String> dependencies) {
+        for (GraphQLDirective directive : element.getDirectives()) {
+            if (directive.getName() != null) {
+                dependencies.add(DIRECTIVE_PREFIX + directive.getName());
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public ID<String, List<String>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<String>, FileContent> getIndexer() {
+        return myDataIndexer;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return new EnumeratorStringDescriptor();
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<String>> getValueExternalizer() {
+        return GraphQLIndexUtil.STRING_LIST_EXTERNALIZER;
+    }
+
+    @Override
+    public int getVersion() {
+        return GraphQLIndexUtil.INDEX_BASE_VERSION + VERSION;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> includedFileTypes.contains(file.getFileType());
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.indexing;
+
+import com.intellij.json.psi.*;
+import com.intellij.lang.jsgraphql.ide.findUsages.GraphQLFindUsagesUtil;
+import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
+import com.intellij.lang.jsgraphql.psi.*;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.*;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorIntegerDescriptor;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the schema coordinates of the type system definitions and extensions, e.g. <code>User</code>, <code>User.id</code>,
+ * <code>Query.node(id:)</code>, <code>Episode.JEDI</code>, <code>@auth</code> and <code>@auth(role:)</code>.
+ * <p>
+ * The value is the offset of the defining identifier in the file, so a resolve can go straight to the declaration.
+ * It's {@link #UNKNOWN_OFFSET} for GraphQL injections, JSON introspection results and coordinates declared more than once in a file,
+ * in which case only the files themselves are known and have to be searched.
+ */
+public class GraphQLSchemaCoordinateIndex extends FileBasedIndexExtension<String, Integer> {
+
+    public static final ID<String, Integer> NAME = ID.create("GraphQLSchemaCoordinateIndex");
+    public static final int VERSION = 1;
+
+    public static final int UNKNOWN_OFFSET = -1;
+
+    private final @Nullable GraphQLInjectionSearchHelper graphQLInjectionSearchHelper;
+
+    private final Set<FileType> includedFileTypes;
+
+    private final DataIndexer<String, Integer, FileContent> myDataIndexer;
+
+    public GraphQLSchemaCoordinateIndex() {
+        myDataIndexer = inputData -> {
+            final Map<String, Integer> coordinates = new HashMap<>();
+            final PsiFile psiFile = inputData.getPsiFile();
+
+            if (psiFile instanceof JsonFile) {
+                final JsonObject schemaObject = findIntrospectionSchemaObject((JsonFile) psiFile);
+                if (schemaObject != null) {
+                    indexIntrospectionSchema(schemaObject, coordinates);
+                }
+                return coordinates;
+            }
+
+            psiFile.accept(new PsiRecursiveElementVisitor() {
+                private boolean myInjected;
+
+                @Override
+                public void visitElement(@NotNull PsiElement element) {
+                    if (element instanceof GraphQLIdentifier) {
+                        final String coordinate = getCoordinate((GraphQLIdentifier) element);
+                        if (coordinate != null) {
+                            final int offset = myInjected ? UNKNOWN_OFFSET : element.getTextRange().getStartOffset();
+                            // the same coordinate declared twice in a file can't be resolved to a single offset
+                            coordinates.merge(coordinate, offset, (prev, next) -> UNKNOWN_OFFSET);
+                        }
+                        return; // no need to visit deeper
+                    } else if (element instanceof GraphQLOperationDefinition || element instanceof GraphQLFragmentDefinition) {
+                        return; // executable definitions don't declare schema coordinates
+                    } else if (element instanceof PsiLanguageInjectionHost && graphQLInjectionSearchHelper != null) {
+                        if (graphQLInjectionSearchHelper.isGraphQLLanguageInjectionTarget(element)) {
+                            final PsiFile graphqlInjectedPsiFile = GraphQLIndexUtil.createInjectedGraphQLFile(element);
+                            myInjected = true;
+                            try {
+                                graphqlInjectedPsiFile.accept(this);
+                            } finally {
+                                myInjected = false;
+                            }
+                            return;
+                        }
+                    }
+                    super.visitElement(element);
+                }
+            });
+
+            return coordinates;
+        };
+        includedFileTypes = GraphQLFindUsagesUtil.getService().getIncludedFileTypes();
+        graphQLInjectionSearchHelper = GraphQLInjectionSearchHelper.getInstance();
+    }
+
+    /**
+     * Gets the schema coordinate declared by the specified identifier.
+     *
+     * @return the coordinate, or null if the identifier isn't the name of a type system member, e.g. it's a reference
+     */
+    public static @Nullable String getCoordinate(@NotNull GraphQLIdentifier identifier) {
+        final String name = identifier.getName();
+        if (name == null) {
+            return null;
+        }
+        final PsiElement parent = identifier.getParent();
+        if (parent instanceof GraphQLTypeNameDefinition) {
+            return name;
+        }
+        if (parent instanceof GraphQLDirectiveDefinition) {
+            return directiveCoordinate(name);
+        }
+        if (parent instanceof GraphQLFieldDefinition) {
+            final String typeName = GraphQLPsiUtil.getTypeName(parent, null);
+            return typeName != null ? memberCoordinate(typeName, name) : null;
+        }
+        if (parent instanceof GraphQLEnumValue && parent.getParent() instanceof GraphQLEnumValueDefinition) {
+            final String typeName = GraphQLPsiUtil.getTypeName(parent, null);
+            return typeName != null ? memberCoordinate(typeName, name) : null;
+        }
+        if (parent instanceof GraphQLInputValueDefinition) {
+            final PsiElement container = parent.getParent();
+            if (container instanceof GraphQLInputObjectValueDefinitions) {
+                final String typeName = GraphQLPsiUtil.getTypeName(container, null);
+                return typeName != null ? memberCoordinate(typeName, name) : null;
+            }
+            if (container instanceof GraphQLArgumentsDefinition) {
+                final PsiElement owner = container.getParent();
+                if (owner instanceof GraphQLFieldDefinition) {
+                    final String fieldName = ((GraphQLFieldDefinition) owner).getName();
+                    final String typeName = GraphQLPsiUtil.getTypeName(owner, null);
+                    return typeName != null && fieldName != null
+                        ? argumentCoordinate(memberCoordinate(typeName, fieldName), name) : null;
+                }
+                if (owner instanceof GraphQLDirectiveDefinition) {
+                    final GraphQLIdentifier directiveName = ((GraphQLDirectiveDefinition) owner).getNameIdentifier();
+                    return directiveName != null && directiveName.getName() != null
+                        ? argumentCoordinate(directiveCoordinate(directiveName.getName()), name) : null;
+                }
+            }
+        }
+        return null;
+    }
+
+    public static @NotNull String memberCoordinate(@NotNull String typeName, @NotNull String memberName) {
+        return typeName + "." + memberName;
+    }
+
+    public static @NotNull String directiveCoordinate(@NotNull String directiveName) {
+        return "@" + directiveName;
+    }
+
+    public static @NotNull String argumentCoordinate(@NotNull String ownerCoordinate, @NotNull String argumentName) {
+        return ownerCoordinate + "(" + argumentName + ":)";
+    }
+
+    /**
+     * Gets the coordinate of the type or directive which declares the coordinate, e.g. <code>User</code> for <code>User.id</code>
+     * or <code>@auth</code> for <code>@auth(role:)</code>.
+     */
+    public static @NotNull String ownerCoordinate(@NotNull String coordinate) {
+        final int end = StringUtil.indexOfAny(coordinate, ".(");
+        return end < 0 ? coordinate : coordinate.substring(0, end);
+    }
+
+    private static @Nullable JsonObject findIntrospectionSchemaObject(@NotNull JsonFile jsonFile) {
+        final JsonValue topLevelValue = jsonFile.getTopLevelValue();
+        if (!(topLevelValue instanceof JsonObject)) {
+            return null;
+        }
+        JsonObject root = (JsonObject) topLevelValue;
+        final JsonObject data = getObject(root, "data");
+        if (data != null) {
+            root = data;
+        }
+        return getObject(root, "__schema");
+    }
+
+    private static void indexIntrospectionSchema(@NotNull JsonObject schemaObject, @NotNull Map<String, Integer> coordinates) {
+        // https://spec.graphql.org/June2018/#sec-Schema-Introspection
+        for (JsonObject type : getObjects(schemaObject, "types")) {
+            final String typeName = getString(type, "name");
+            if (typeName == null) continue;
+            coordinates.put(typeName, UNKNOWN_OFFSET);
+
+            for (JsonObject field : getObjects(type, "fields")) {
+                final String fieldName = getString(field, "name");
+                if (fieldName == null) continue;
+                final String fieldCoordinate = memberCoordinate(typeName, fieldName);
+                coordinates.put(fieldCoordinate, UNKNOWN_OFFSET);
+                indexIntrospectionArguments(field, fieldCoordinate, coordinates);
+            }
+            for (JsonObject inputField : getObjects(type, "inputFields")) {
+                final String inputFieldName = getString(inputField, "name");
+                if (inputFieldName == null) continue;
+                coordinates.put(memberCoordinate(typeName, inputFieldName), UNKNOWN_OFFSET);
+            }
+            for (JsonObject enumValue : getObjects(type, "enumValues")) {
+                final String enumValueName = getString(enumValue, "name");
+                if (enumValueName == null) continue;
+                coordinates.put(memberCoordinate(typeName, enumValueName), UNKNOWN_OFFSET);
+            }
+        }
+
+        for (JsonObject directive : getObjects(schemaObject, "directives")) {
+            final String directiveName = getString(directive, "name");
+            if (directiveName == null) continue;
+            final String directiveCoordinate = directiveCoordinate(directiveName);
+            coordinates.put(directiveCoordinate, UNKNOWN_OFFSET);
+            indexIntrospectionArguments(directive, directiveCoordinate, coordinates);
+        }
+    }
+
+    private static void indexIntrospectionArguments(@NotNull JsonObject owner,
+                                                    @NotNull String ownerCoordinate,
+                                                    @NotNull Map<String, Integer> coordinates) {
+        for (JsonObject arg : getObjects(owner, "args")) {
+            final String argName = getString(arg, "name");
+            if (argName == null) continue;
+            coordinates.put(argumentCoordinate(ownerCoordinate, argName), UNKNOWN_OFFSET);
+        }
+    }
+
+    private static @Nullable JsonObject getObject(@NotNull JsonObject object, @NotNull String propertyName) {
+        final JsonProperty property = object.findProperty(propertyName);
+        return property != null && property.getValue() instanceof JsonObject ? (JsonObject) property.getValue() : null;
+    }
+
+    private static @NotNull Iterable<JsonObject> getObjects(@NotNull JsonObject object, @NotNull String propertyName) {
+        final JsonProperty property = object.findProperty(propertyName);
+        if (property == null || !(property.getValue() instanceof JsonArray)) {
+            return Collections.emptyList();
+        }
+        return PsiTreeUtil.getChildrenOfTypeAsList(property.getValue(), JsonObject.class);
+    }
+
+    private static @Nullable String getString(@NotNull JsonObject object, @NotNull String propertyName) {
+        final JsonProperty property = object.findProperty(propertyName);
+        return property != null && property.getValue() instanceof JsonStringLiteral
+            ? ((JsonStringLiteral) property.getValue()).getValue() : null;
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Integer> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Integer, FileContent> getIndexer() {
+        return myDataIndexer;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return new EnumeratorStringDescriptor();
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Integer> getValueExternalizer() {
+        return EnumeratorIntegerDescriptor.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return GraphQLIndexUtil.INDEX_BASE_VERSION + VERSION;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> includedFileTypes.contains(file.getFileType());
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public @NotNull Collection<FileType> getFileTypesWithSizeLimitNotApplicable() {
+        return GraphQLIndexUtil.FILE_TYPES_WITH_IGNORED_SIZE_LIMIT;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.indexing;
+
+import com.intellij.lang.jsgraphql.GraphQLFileType;
+import com.intellij.lang.jsgraphql.psi.GraphQLFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Indexes the GraphQL files which contain type system definitions or extensions, so schema discovery can skip the files
+ * with only operations and fragments without loading them.
+ */
+public class GraphQLSchemaFileIndex extends ScalarIndexExtension<String> {
+
+    public static final ID<String, Void> NAME = ID.create("GraphQLSchemaFileIndex");
+    public static final String DATA_KEY = "true";
+
+    private static final Map<String, Void> SCHEMA_KEY = Collections.singletonMap(DATA_KEY, null);
+    public static final int VERSION = 1;
+
+    private final DataIndexer<String, Void, FileContent> myDataIndexer = inputData -> {
+        final PsiFile psiFile = inputData.getPsiFile();
+        if (psiFile instanceof GraphQLFile && GraphQLIndexUtil.containsSchemaDefinitions((GraphQLFile) psiFile)) {
+            return SCHEMA_KEY;
+        }
+        return Collections.emptyMap();
+    };
+
+    @NotNull
+    @Override
+    public ID<String, Void> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Void, FileContent> getIndexer() {
+        return myDataIndexer;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(GraphQLFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return GraphQLIndexUtil.INDEX_BASE_VERSION + VERSION;
+    }
+}
@@ -11,57 +11,79 @@ import com.intellij.lang.jsgraphql.GraphQLFileType;
 import com.intellij.lang.jsgraphql.ide.injection.javascript.GraphQLLanguageInjectionUtil;
 import com.intellij.lang.jsgraphql.ide.indexing.GraphQLIndexUtil;
 import com.intellij.lang.jsgraphql.ide.findUsages.GraphQLFindUsagesUtil;
+import com.intellij.lang.jsgraphql.psi.GraphQLFile;
 import com.intellij.openapi.fileTypes.FileType;
-import com.intellij.openapi.util.Ref;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiRecursiveElementVisitor;
 import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 /**
  * Indexes files which contain GraphQL Injection to enable discovery of type definitions written using injected Schema IDL.
+ * <p>
+ * The value is the list of the start offsets of the injection hosts in the file. The hosts with type system definitions or extensions
+ * are also indexed with {@link #SCHEMA_KEY}, so schema discovery can go straight to them and skip the injections which only contain
+ * operations and fragments.
  */
-public class GraphQLInjectionIndex extends ScalarIndexExtension<String> {
+public class GraphQLInjectionIndex extends FileBasedIndexExtension<String, List<Integer>> {
 
-    public static final ID<String, Void> NAME = ID.create(GraphQLInjectionIndex.class.getName());
+    public static final ID<String, List<Integer>> NAME = ID.create(GraphQLInjectionIndex.class.getName());
     public static final String DATA_KEY = "true";
+    public static final String SCHEMA_KEY = "schema";
 
-    private static final Map<String, Void> INJECTED_KEY = Collections.singletonMap(DATA_KEY, null);
-    public static final int VERSION = 3;
+    public static final int VERSION = 4;
 
-    private final DataIndexer<String, Void, FileContent> myDataIndexer = inputData -> {
-        final Ref<Boolean> isInjected = new Ref<>(Boolean.FALSE);
+    private final DataIndexer<String, List<Integer>, FileContent> myDataIndexer = inputData -> {
+        final List<Integer> hostOffsets = new ArrayList<>();
+        final List<Integer> schemaHostOffsets = new ArrayList<>();
         inputData.getPsiFile().accept(new PsiRecursiveElementVisitor() {
             @Override
             public void visitElement(@NotNull PsiElement element) {
                 if (GraphQLLanguageInjectionUtil.isGraphQLLanguageInjectionTarget(element)) {
-                    isInjected.set(Boolean.TRUE);
+                    final int offset = element.getTextRange().getStartOffset();
+                    hostOffsets.add(offset);
+                    if (containsSchemaDefinitions(element)) {
+                        schemaHostOffsets.add(offset);
+                    }
                 } else {
                     // visit deeper until injection found
                     super.visitElement(element);
                 }
             }
         });
-        return isInjected.get() == Boolean.FALSE ? Collections.emptyMap() : INJECTED_KEY;
+        if (hostOffsets.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, List<Integer>> result = new HashMap<>();
+        result.put(DATA_KEY, hostOffsets);
+        if (!schemaHostOffsets.isEmpty()) {
+            result.put(SCHEMA_KEY, schemaHostOffsets);
+        }
+        return result;
     };
 
     private final Set<FileType> myIncludedFileTypes = GraphQLFindUsagesUtil.getService().getIncludedFileTypes();
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, List<Integer>> getName() {
         return NAME;
     }
 
+    private static boolean containsSchemaDefinitions(@NotNull PsiElement host) {
+        final PsiFile graphqlInjectedPsiFile = GraphQLIndexUtil.createInjectedGraphQLFile(host);
+        return graphqlInjectedPsiFile instanceof GraphQLFile && GraphQLIndexUtil.containsSchemaDefinitions((GraphQLFile) graphqlInjectedPsiFile);
+    }
+
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
+    public DataIndexer<String, List<Integer>, FileContent> getIndexer() {
         return myDataIndexer;
     }
 
@@ -71,6 +93,12 @@ public class GraphQLInjectionIndex extends ScalarIndexExtension<String> {
         return EnumeratorStringDescriptor.INSTANCE;
     }
 
+    @NotNull
+    @Override
+    public DataExternalizer<List<Integer>> getValueExternalizer() {
+        return GraphQLIndexUtil.INT_LIST_EXTERNALIZER;
+    }
+
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
@@ -7,10 +7,13 @@
  */
 package com.intellij.lang.jsgraphql.ide.indexing.javascript;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.intellij.lang.injection.InjectedLanguageManager;
 import com.intellij.lang.jsgraphql.ide.injection.javascript.GraphQLLanguageInjectionUtil;
 import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
 import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
@@ -20,8 +23,12 @@ import com.intellij.util.Processor;
 import com.intellij.util.indexing.FileBasedIndex;
 import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 public class GraphQLJavaScriptInjectionSearchHelper implements GraphQLInjectionSearchHelper {
 
@@ -31,7 +38,8 @@ public class GraphQLJavaScriptInjectionSearchHelper implements GraphQLInjectionS
     }
 
     /**
-     * Uses the {@link GraphQLInjectionIndex} to process injected GraphQL PsiFiles
+     * Uses the {@link GraphQLInjectionIndex} to process the injected GraphQL PsiFiles which contain type system definitions.
+     * Only the files with such injections are loaded, and the hosts are found by their indexed offsets instead of visiting the whole file.
      *
      * @param scopedElement the starting point of the enumeration settings the scopedElement of the processing
      * @param schemaScope   the search scope to use for limiting the schema definitions
@@ -41,20 +49,10 @@ public class GraphQLJavaScriptInjectionSearchHelper implements GraphQLInjectionS
         try {
             final PsiManager psiManager = PsiManager.getInstance(scopedElement.getProject());
             final InjectedLanguageManager injectedLanguageManager = InjectedLanguageManager.getInstance(scopedElement.getProject());
-            FileBasedIndex.getInstance().getFilesWithKey(GraphQLInjectionIndex.NAME, Collections.singleton(GraphQLInjectionIndex.DATA_KEY), virtualFile -> {
+            FileBasedIndex.getInstance().processValues(GraphQLInjectionIndex.NAME, GraphQLInjectionIndex.SCHEMA_KEY, null, (virtualFile, hostOffsets) -> {
                 final PsiFile fileWithInjection = psiManager.findFile(virtualFile);
                 if (fileWithInjection != null) {
-                    fileWithInjection.accept(new PsiRecursiveElementVisitor() {
-                        @Override
-                        public void visitElement(@NotNull PsiElement element) {
-                            if (GraphQLLanguageInjectionUtil.isGraphQLLanguageInjectionTarget(element)) {
-                                injectedLanguageManager.enumerate(element, (injectedPsi, places) -> processor.process(injectedPsi));
-                            } else {
-                                // visit deeper until injection found
-                                super.visitElement(element);
-                            }
-                        }
-                    });
+                    processInjections(fileWithInjection, hostOffsets, injectedLanguageManager, processor);
                 }
                 return true;
             }, schemaScope);
@@ -63,6 +61,79 @@ public class GraphQLJavaScriptInjectionSearchHelper implements GraphQLInjectionS
         }
     }
 
+    @Override
+    public @NotNull Collection<VirtualFile> getFilesWithInjections(@NotNull Project project, @NotNull GlobalSearchScope scope) {
+        try {
+            return FileBasedIndex.getInstance().getContainingFiles(GraphQLInjectionIndex.NAME, GraphQLInjectionIndex.DATA_KEY, scope);
+        } catch (IndexNotReadyException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public void processInjectedGraphQLPsiFiles(@NotNull PsiFile fileWithInjections, @NotNull Processor<PsiFile> processor) {
+        final Project project = fileWithInjections.getProject();
+        final InjectedLanguageManager injectedLanguageManager = InjectedLanguageManager.getInstance(project);
+        final VirtualFile virtualFile = fileWithInjections.getVirtualFile();
+        final List<Integer> hostOffsets = virtualFile != null
+            ? FileBasedIndex.getInstance().getFileData(GraphQLInjectionIndex.NAME, virtualFile, project).get(GraphQLInjectionIndex.DATA_KEY)
+            : null;
+        if (hostOffsets == null) {
+            processAllInjections(fileWithInjections, injectedLanguageManager, processor);
+        } else {
+            processInjections(fileWithInjections, hostOffsets, injectedLanguageManager, processor);
+        }
+    }
+
+    @VisibleForTesting
+    public static void processInjections(@NotNull PsiFile fileWithInjection,
+                                         @NotNull List<Integer> hostOffsets,
+                                         @NotNull InjectedLanguageManager injectedLanguageManager,
+                                         @NotNull Processor<PsiFile> processor) {
+        // all the hosts are resolved before any is processed, so a fallback doesn't process some injections twice
+        final List<PsiElement> hosts = new ArrayList<>(hostOffsets.size());
+        for (Integer hostOffset : hostOffsets) {
+            final PsiElement host = findInjectionHost(fileWithInjection, hostOffset);
+            if (host == null) {
+                // the index is behind the PSI, e.g. the file has uncommitted changes, so fall back to a full search
+                processAllInjections(fileWithInjection, injectedLanguageManager, processor);
+                return;
+            }
+            hosts.add(host);
+        }
+        for (PsiElement host : hosts) {
+            injectedLanguageManager.enumerate(host, (injectedPsi, places) -> processor.process(injectedPsi));
+        }
+    }
+
+    private static @Nullable PsiElement findInjectionHost(@NotNull PsiFile file, int offset) {
+        PsiElement element = file.findElementAt(offset);
+        while (element != null && !(element instanceof PsiFile) && element.getTextRange().getStartOffset() == offset) {
+            if (GraphQLLanguageInjectionUtil.isGraphQLLanguageInjectionTarget(element)) {
+                return element;
+            }
+            element = element.getParent();
+        }
+        return null;
+    }
+
+    @VisibleForTesting
+    public static void processAllInjections(@NotNull PsiFile fileWithInjection,
+                                            @NotNull InjectedLanguageManager injectedLanguageManager,
+                                            @NotNull Processor<PsiFile> processor) {
+        fileWithInjection.accept(new PsiRecursiveElementVisitor() {
+            @Override
+            public void visitElement(@NotNull PsiElement element) {
+                if (GraphQLLanguageInjectionUtil.isGraphQLLanguageInjectionTarget(element)) {
+                    injectedLanguageManager.enumerate(element, (injectedPsi, places) -> processor.process(injectedPsi));
+                } else {
+                    // visit deeper until injection found
+                    super.visitElement(element);
+                }
+            }
+        });
+    }
+
     @Override
     public String applyInjectionDelimitingQuotesEscape(String rawGraphQLText) {
         if (rawGraphQLText != null && rawGraphQLText.contains("\\`")) {
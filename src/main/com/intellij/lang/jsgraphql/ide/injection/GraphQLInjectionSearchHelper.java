@@ -8,13 +8,18 @@
 package com.intellij.lang.jsgraphql.ide.injection;
 
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiLanguageInjectionHost;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.Processor;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+
 public interface GraphQLInjectionSearchHelper {
 
     static @Nullable GraphQLInjectionSearchHelper getInstance() {
@@ -27,7 +32,8 @@ public interface GraphQLInjectionSearchHelper {
     boolean isGraphQLLanguageInjectionTarget(PsiElement host);
 
     /**
-     * Process injected GraphQL PsiFiles
+     * Process injected GraphQL PsiFiles which contain type system definitions or extensions,
+     * the injections with only operations and fragments can be skipped
      *
      * @param scopedElement the starting point of the enumeration settings the scopedElement of the processing
      * @param schemaScope   the search scope to use for limiting the schema definitions
@@ -35,6 +41,22 @@ public interface GraphQLInjectionSearchHelper {
      */
     void processInjectedGraphQLPsiFiles(PsiElement scopedElement, GlobalSearchScope schemaScope, Processor<PsiFile> consumer);
 
+    /**
+     * Gets the files which contain GraphQL injections of any kind
+     *
+     * @param project the project to search in
+     * @param scope   the search scope to limit the files to
+     */
+    @NotNull Collection<VirtualFile> getFilesWithInjections(@NotNull Project project, @NotNull GlobalSearchScope scope);
+
+    /**
+     * Process all injected GraphQL PsiFiles of a single file with injections
+     *
+     * @param fileWithInjections the file which contains the injection hosts
+     * @param processor          a processor that will be invoked for each injected GraphQL PsiFile
+     */
+    void processInjectedGraphQLPsiFiles(@NotNull PsiFile fileWithInjections, @NotNull Processor<PsiFile> processor);
+
     /**
      * Inline-replaces the use of escaped string quotes which delimit GraphQL injections, e.g. an escaped backtick '\`'
      * in JavaScript tagged template literals, such that the injected GraphQL text represents valid GraphQL
@@ -352,7 +352,7 @@ public class GraphQLIntrospectionService implements Disposable {
         }
 
         try {
-            return new SchemaPrinter(myProject, options).print(schemaInfo.getSchema());
+            return new SchemaPrinter(myProject, options).print(schemaInfo.getSchema(), true);
         }
         catch (ProcessCanceledException e) {
             throw e;
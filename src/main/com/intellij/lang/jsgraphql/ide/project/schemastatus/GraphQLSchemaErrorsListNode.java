@@ -17,6 +17,7 @@ import com.intellij.ui.treeStructure.CachingSimpleNode;
 import com.intellij.ui.treeStructure.SimpleNode;
 import org.jetbrains.annotations.NotNull;
 
+import javax.swing.*;
 import java.util.List;
 
 /**
@@ -40,8 +41,15 @@ public class GraphQLSchemaErrorsListNode extends CachingSimpleNode {
             return SimpleNode.NO_CHILDREN;
         }
 
+        final List<GraphQLError> errors = mySchemaInfo.getErrorsIfValidated(myProject);
+        if (errors == null) {
+            // don't hold the read action while the schema is validated, the tree is updated once the validation completes
+            mySchemaInfo.getValidationErrors().whenComplete((validationErrors, e) -> schemaValidated());
+            return new SimpleNode[]{createMessageNode("Validating schema...", AllIcons.Process.Step_passive)};
+        }
+
         final List<SimpleNode> children = Lists.newArrayList();
-        for (GraphQLError error : mySchemaInfo.getErrors(myProject)) {
+        for (GraphQLError error : errors) {
             Node<?> node = error.getNode();
             if (getProject() != null &&
                 error.getInspectionClass() != null &&
@@ -52,24 +60,38 @@ public class GraphQLSchemaErrorsListNode extends CachingSimpleNode {
             children.add(new GraphQLSchemaErrorNode(this, error));
         }
         if (children.isEmpty()) {
-            SimpleNode noErrors = new SimpleNode(this) {
-                @Override
-                public SimpleNode @NotNull [] getChildren() {
-                    return NO_CHILDREN;
-                }
-
-                @Override
-                public String getName() {
-                    return "No errors found";
-                }
-            };
-            noErrors.setIcon(AllIcons.General.InspectionsOK);
-            children.add(noErrors);
+            children.add(createMessageNode("No errors found", AllIcons.General.InspectionsOK));
         }
 
         return children.toArray(SimpleNode.NO_CHILDREN);
     }
 
+    private @NotNull SimpleNode createMessageNode(@NotNull String message, @NotNull Icon icon) {
+        SimpleNode node = new SimpleNode(this) {
+            @Override
+            public SimpleNode @NotNull [] getChildren() {
+                return NO_CHILDREN;
+            }
+
+            @Override
+            public String getName() {
+                return message;
+            }
+        };
+        node.setIcon(icon);
+        return node;
+    }
+
+    private void schemaValidated() {
+        SimpleNode root = this;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        if (root instanceof GraphQLSchemasRootNode) {
+            ((GraphQLSchemasRootNode) root).schemaValidated();
+        }
+    }
+
     @Override
     public boolean isAutoExpandNode() {
         return true;
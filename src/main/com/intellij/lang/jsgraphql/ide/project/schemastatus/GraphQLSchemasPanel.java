@@ -12,9 +12,13 @@ import com.intellij.icons.AllIcons;
 import com.intellij.ide.BrowserUtil;
 import com.intellij.ide.IdeEventQueue;
 import com.intellij.ide.util.treeView.IndexComparator;
+import com.intellij.lang.jsgraphql.GraphQLBundle;
+import com.intellij.lang.jsgraphql.ide.actions.GraphQLValidateProjectAction;
 import com.intellij.lang.jsgraphql.ide.introspection.GraphQLRerunLatestIntrospectionAction;
 import com.intellij.lang.jsgraphql.ide.project.graphqlconfig.GraphQLConfigManager;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaCacheStats;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaChangeTracker;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.actionSystem.*;
 import com.intellij.openapi.application.Application;
@@ -31,12 +35,15 @@ import com.intellij.openapi.util.Disposer;
 import com.intellij.profile.ProfileChangeAdapter;
 import com.intellij.ui.IdeBorderFactory;
 import com.intellij.ui.SideBorder;
+import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.components.JBScrollPane;
 import com.intellij.ui.treeStructure.SimpleNode;
 import com.intellij.ui.treeStructure.SimpleTree;
 import com.intellij.ui.treeStructure.SimpleTreeBuilder;
 import com.intellij.ui.treeStructure.SimpleTreeStructure;
 import com.intellij.util.messages.MessageBusConnection;
+import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.UIUtil;
 import com.intellij.util.ui.tree.TreeUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -59,6 +66,7 @@ public class GraphQLSchemasPanel extends JPanel implements Disposable {
     private final MessageBusConnection myConnection;
     private final GraphQLSchemaChangeTracker mySchemaChangeTracker;
     private SimpleTree myTree;
+    private JBLabel myCacheStatusLabel;
 
     public GraphQLSchemasPanel(@NotNull Project project) {
         myProject = project;
@@ -69,6 +77,7 @@ public class GraphQLSchemasPanel extends JPanel implements Disposable {
         setLayout(new BorderLayout());
         add(createToolPanel(), BorderLayout.WEST);
         add(createTreePanel(), BorderLayout.CENTER);
+        add(createCacheStatusLabel(), BorderLayout.SOUTH);
     }
 
     @Override
@@ -76,6 +85,20 @@ public class GraphQLSchemasPanel extends JPanel implements Disposable {
         // disposed by tool window
     }
 
+    private Component createCacheStatusLabel() {
+        myCacheStatusLabel = new JBLabel("", UIUtil.ComponentStyle.SMALL, UIUtil.FontColor.BRIGHTER);
+        myCacheStatusLabel.setBorder(JBUI.Borders.empty(2, 6));
+        return myCacheStatusLabel;
+    }
+
+    private void updateCacheStatus() {
+        final GraphQLSchemaCacheStats stats = GraphQLSchemaProvider.getInstance(myProject).getCacheStats();
+        final String status = GraphQLBundle.message("graphql.schema.cache.status",
+            Math.round(stats.getEstimatedSizeKb() / 1024.0), stats.getBudgetKb() / 1024,
+            stats.getSchemaCount(), stats.getEvictionCount());
+        ApplicationManager.getApplication().invokeLater(() -> myCacheStatusLabel.setText(status), myProject.getDisposed());
+    }
+
     enum TreeUpdate {
         NONE,
         UPDATE,
@@ -110,7 +133,13 @@ public class GraphQLSchemasPanel extends JPanel implements Disposable {
 
         final Application application = ApplicationManager.getApplication();
 
-        final SimpleTreeStructure.Impl treeStructure = new SimpleTreeStructure.Impl(new GraphQLSchemasRootNode(myProject));
+        // queue tree updates for when the user is idle to prevent perf-hit in the editor
+        final AtomicReference<TreeUpdate> shouldUpdateTree = new AtomicReference<>(TreeUpdate.NONE);
+        final AtomicBoolean isInitialized = new AtomicBoolean();
+
+        // the errors of a schema are shown once its background validation completes
+        final SimpleTreeStructure.Impl treeStructure = new SimpleTreeStructure.Impl(
+            new GraphQLSchemasRootNode(myProject, () -> shouldUpdateTree.compareAndSet(TreeUpdate.NONE, TreeUpdate.UPDATE)));
         final DefaultTreeModel treeModel = new DefaultTreeModel(new DefaultMutableTreeNode());
         final SimpleTreeBuilder myBuilder = new SimpleTreeBuilder(myTree, treeModel, treeStructure, IndexComparator.INSTANCE) {
             @Override
@@ -121,10 +150,6 @@ public class GraphQLSchemasPanel extends JPanel implements Disposable {
         };
         Disposer.register(this, myBuilder);
 
-        // queue tree updates for when the user is idle to prevent perf-hit in the editor
-        final AtomicReference<TreeUpdate> shouldUpdateTree = new AtomicReference<>(TreeUpdate.NONE);
-        final AtomicBoolean isInitialized = new AtomicBoolean();
-
         final Runnable treeUpdater = () -> {
             final TreeUpdate updateToPerform = shouldUpdateTree.getAndSet(TreeUpdate.NONE);
             if (updateToPerform != TreeUpdate.NONE) {
@@ -152,6 +177,7 @@ public class GraphQLSchemasPanel extends JPanel implements Disposable {
                                     myBuilder.updateFromRoot(updateToPerform == TreeUpdate.REBUILD);
                                 }
                             });
+                            updateCacheStatus();
                         } catch (IndexNotReadyException | ProcessCanceledException ignored) {
                             // allowed to happen here -- retry will run later
                         }
@@ -250,6 +276,11 @@ public class GraphQLSchemasPanel extends JPanel implements Disposable {
             leftActionGroup.add(reRunAction);
         }
 
+        final AnAction validateAction = ActionManager.getInstance().getAction(GraphQLValidateProjectAction.class.getName());
+        if (validateAction != null) {
+            leftActionGroup.add(validateAction);
+        }
+
         leftActionGroup.add(new AnAction("Edit Selected Schema Configuration", "Opens the .graphqlconfig file for the selected schema", AllIcons.General.Settings) {
             @Override
             public void actionPerformed(@NotNull AnActionEvent e) {
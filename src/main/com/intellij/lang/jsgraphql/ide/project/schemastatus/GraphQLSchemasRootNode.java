@@ -29,10 +29,19 @@ import java.util.Map;
 public class GraphQLSchemasRootNode extends SimpleNode {
 
     private final GraphQLConfigManager configManager;
+    private final Runnable onSchemaValidated;
 
-    public GraphQLSchemasRootNode(Project project) {
+    /**
+     * @param onSchemaValidated called on any thread when the background validation of a schema shown in the tree completes
+     */
+    public GraphQLSchemasRootNode(Project project, @NotNull Runnable onSchemaValidated) {
         super(project);
         configManager = GraphQLConfigManager.getService(myProject);
+        this.onSchemaValidated = onSchemaValidated;
+    }
+
+    void schemaValidated() {
+        onSchemaValidated.run();
     }
 
     @NotNull
@@ -41,6 +41,7 @@ public class GraphQLToolWindow implements ToolWindowFactory, DumbAware {
 
     public static final String CONTENT_QUERY_RESULT = "Query Result";
     public static final String CONTENT_SCHEMAS_AND_PROJECT_STRUCTURE = "Schemas and Project Structure";
+    public static final String CONTENT_PROJECT_VALIDATION = "Project Validation";
 
     private static final Key<TextEditor> QUERY_RESULT_EDITOR = Key.create("graphql.query.result.editor");
 
@@ -12,6 +12,7 @@ import com.intellij.lang.jsgraphql.endpoint.ide.project.JSGraphQLEndpointNamedTy
 import com.intellij.lang.jsgraphql.endpoint.ide.type.JSGraphQLLegacyNamedType;
 import com.intellij.lang.jsgraphql.endpoint.ide.type.JSGraphQLLegacyPropertyType;
 import com.intellij.lang.jsgraphql.endpoint.psi.*;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaCoordinateIndex;
 import com.intellij.lang.jsgraphql.ide.search.GraphQLPsiSearchHelper;
 import com.intellij.lang.jsgraphql.psi.*;
 import com.intellij.lang.jsgraphql.psi.impl.GraphQLDirectiveImpl;
@@ -217,7 +218,6 @@ public class GraphQLReferenceService implements Disposable {
         final String name = element.getName();
         Ref<PsiReference> reference = new Ref<>();
         if (name != null) {
-            final GraphQLPsiSearchHelper graphQLPsiSearchHelper = GraphQLPsiSearchHelper.getInstance(element.getProject());
             if (name.startsWith("__")) {
                 // __typename or introspection fields __schema and __type which implicitly extends the query root type
                 GraphQLResolveUtil.processFilesInLibrary(GraphQLLibraryTypes.SPECIFICATION, element, file -> {
@@ -243,35 +243,8 @@ public class GraphQLReferenceService implements Disposable {
             if (reference.isNull() && typeScopeProvider != null) {
                 GraphQLType typeScope = typeScopeProvider.getTypeScope();
                 if (typeScope != null) {
-                    final GraphQLType fieldType = GraphQLSchemaUtil.getUnmodifiedType(typeScope);
-                    graphQLPsiSearchHelper.processElementsWithWord(element, name, psiNamedElement -> {
-                        if (psiNamedElement.getParent() instanceof com.intellij.lang.jsgraphql.psi.GraphQLFieldDefinition) {
-                            final GraphQLFieldDefinition fieldDefinition = (GraphQLFieldDefinition) psiNamedElement.getParent();
-                            if (!Objects.equals(fieldDefinition.getName(), name)) {
-                                // field name doesn't match, keep looking
-                                return true;
-                            }
-                            boolean isTypeMatch = false;
-                            final GraphQLTypeDefinition typeDefinition = PsiTreeUtil.getParentOfType(psiNamedElement, GraphQLTypeDefinition.class);
-                            if (typeDefinition != null) {
-                                final GraphQLTypeNameDefinition typeNameDefinition = PsiTreeUtil.findChildOfType(typeDefinition, GraphQLTypeNameDefinition.class);
-                                isTypeMatch = typeNameDefinition != null && GraphQLSchemaUtil.getTypeName(fieldType).equals(typeNameDefinition.getName());
-                            }
-                            if (!isTypeMatch) {
-                                // check type extension
-                                final GraphQLTypeExtension typeExtension = PsiTreeUtil.getParentOfType(psiNamedElement, GraphQLTypeExtension.class);
-                                if (typeExtension != null) {
-                                    final GraphQLTypeName typeName = PsiTreeUtil.findChildOfType(typeExtension, GraphQLTypeName.class);
-                                    isTypeMatch = typeName != null && GraphQLSchemaUtil.getTypeName(fieldType).equals(typeName.getName());
-                                }
-                            }
-                            if (isTypeMatch) {
-                                reference.set(createReference(element, psiNamedElement));
-                                return false; // done searching
-                            }
-                        }
-                        return true;
-                    });
+                    final String typeName = GraphQLSchemaUtil.getUnmodifiedType(typeScope).getName();
+                    reference.set(resolveUsingCoordinateIndex(element, GraphQLSchemaCoordinateIndex.memberCoordinate(typeName, name)));
                     if (reference.isNull()) {
                         // Endpoint language
                         final JSGraphQLEndpointNamedTypeRegistry endpointNamedTypeRegistry = JSGraphQLEndpointNamedTypeRegistry.getService(element.getProject());
@@ -327,7 +300,8 @@ public class GraphQLReferenceService implements Disposable {
         // NOTE: concurrent hash map doesn't allow nulls, so using the NULL_REFERENCE sentinel value to avoid re-computation of unresolvable references
         PsiReference psiReference = logicalTypeNameToReference.get(logicalTypeName);
         if (psiReference == null) {
-            psiReference = resolveUsingIndex(element, psiNamedElement -> psiNamedElement instanceof GraphQLIdentifier && psiNamedElement.getParent() instanceof GraphQLTypeNameDefinition);
+            final String name = element.getName();
+            psiReference = name != null ? resolveUsingCoordinateIndex(element, name) : null;
             if (psiReference == null) {
                 // fallback to resolving to Endpoint language elements
                 final JSGraphQLEndpointNamedTypeRegistry endpointNamedTypeRegistry = JSGraphQLEndpointNamedTypeRegistry.getService(element.getProject());
@@ -355,20 +329,8 @@ public class GraphQLReferenceService implements Disposable {
                 GraphQLType typeScope = fieldTypeScopeProvider.getTypeScope();
                 if (typeScope != null) {
                     final String namedTypeScope = GraphQLSchemaUtil.getUnmodifiedType(typeScope).getName();
-                    final Ref<Boolean> resolved = Ref.create(false);
-                    final PsiReference reference = resolveUsingIndex(element, psiNamedElement -> {
-                        if (psiNamedElement.getParent() instanceof GraphQLInputValueDefinition) {
-                            final GraphQLInputObjectTypeDefinition inputTypeDefinition = PsiTreeUtil.getParentOfType(psiNamedElement, GraphQLInputObjectTypeDefinition.class);
-                            if (inputTypeDefinition != null && inputTypeDefinition.getTypeNameDefinition() != null) {
-                                if (namedTypeScope.equals(inputTypeDefinition.getTypeNameDefinition().getName())) {
-                                    resolved.set(true);
-                                    return true;
-                                }
-                            }
-                        }
-                        return false;
-                    });
-                    if (!resolved.get()) {
+                    final PsiReference reference = resolveUsingCoordinateIndex(element, GraphQLSchemaCoordinateIndex.memberCoordinate(namedTypeScope, name));
+                    if (reference == null) {
                         // Endpoint language
                         final JSGraphQLEndpointNamedTypeRegistry endpointNamedTypeRegistry = JSGraphQLEndpointNamedTypeRegistry.getService(element.getProject());
                         final JSGraphQLLegacyNamedType namedType = endpointNamedTypeRegistry.getNamedType(namedTypeScope, element);
@@ -394,20 +356,8 @@ public class GraphQLReferenceService implements Disposable {
                 GraphQLType typeScope = enumTypeScopeProvider.getTypeScope();
                 if (typeScope != null) {
                     final String namedTypeScope = GraphQLSchemaUtil.getUnmodifiedType(typeScope).getName();
-                    final Ref<Boolean> resolved = Ref.create(false);
-                    final PsiReference reference = resolveUsingIndex(element, psiNamedElement -> {
-                        if (psiNamedElement.getParent() instanceof GraphQLEnumValue) {
-                            final GraphQLEnumTypeDefinition enumTypeDefinition = PsiTreeUtil.getParentOfType(psiNamedElement, GraphQLEnumTypeDefinition.class);
-                            if (enumTypeDefinition != null && enumTypeDefinition.getTypeNameDefinition() != null) {
-                                if (namedTypeScope.equals(enumTypeDefinition.getTypeNameDefinition().getName())) {
-                                    resolved.set(true);
-                                    return true;
-                                }
-                            }
-                        }
-                        return false;
-                    });
-                    if (!resolved.get()) {
+                    final PsiReference reference = resolveUsingCoordinateIndex(element, GraphQLSchemaCoordinateIndex.memberCoordinate(namedTypeScope, name));
+                    if (reference == null) {
                         // Endpoint Language
                         final JSGraphQLEndpointNamedTypeRegistry endpointNamedTypeRegistry = JSGraphQLEndpointNamedTypeRegistry.getService(element.getProject());
                         final JSGraphQLLegacyNamedType namedType = endpointNamedTypeRegistry.getNamedType(namedTypeScope, element);
@@ -431,8 +381,30 @@ public class GraphQLReferenceService implements Disposable {
     }
 
     private PsiReference resolveDirective(GraphQLReferenceMixin element) {
-        return resolveUsingIndex(element, psiNamedElement ->
-            psiNamedElement instanceof GraphQLIdentifier && psiNamedElement.getParent() instanceof GraphQLDirectiveDefinition);
+        final String name = element.getName();
+        return name != null ? resolveUsingCoordinateIndex(element, GraphQLSchemaCoordinateIndex.directiveCoordinate(name)) : null;
+    }
+
+    /**
+     * Resolves to the declaration of the specified schema coordinate, e.g. <code>User.id</code> for a selected field.
+     *
+     * @see GraphQLSchemaCoordinateIndex
+     */
+    private PsiReference resolveUsingCoordinateIndex(GraphQLReferenceMixin element, String coordinate) {
+        final String name = element.getName();
+        Ref<PsiReference> reference = new Ref<>();
+        if (name != null) {
+            myPsiSearchHelper.processElementsWithCoordinate(element, coordinate, name, psiNamedElement -> {
+                ProgressManager.checkCanceled();
+                if (psiNamedElement instanceof GraphQLIdentifier &&
+                    coordinate.equals(GraphQLSchemaCoordinateIndex.getCoordinate((GraphQLIdentifier) psiNamedElement))) {
+                    reference.set(createReference(element, psiNamedElement));
+                    return false; // done searching
+                }
+                return true;
+            });
+        }
+        return reference.get();
     }
 
 
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.search;
+
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLFieldUsageIndex;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLOperationDependencyIndex;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaCoordinateIndex;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaChangeTracker;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaUtil;
+import com.intellij.lang.jsgraphql.types.schema.*;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.ObjectUtils;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Resolves the dependencies of the operations and fragments recorded by {@link GraphQLOperationDependencyIndex} to schema coordinates,
+ * e.g. <code>User</code>, <code>User.id</code> and <code>@include</code>, without loading any documents.
+ * <p>
+ * The dependencies of a definition include the dependencies of the fragments it spreads, and the input types
+ * of the arguments and variables it uses. Definitions with selections that can't be
+ * resolved in the schema may become valid by any schema change, so they're reported as dependent on all the coordinates.
+ * The result is cached per schema until the PSI or the schema changes.
+ */
+public class GraphQLOperationDependencies {
+
+    private static final Key<CachedValue<Map<GraphQLSchema, Dependencies>>> DEPENDENCIES_KEY =
+        Key.create("graphql.operation.dependencies");
+
+    // cached for the entries which can't be resolved in the schema, so they're only resolved once
+    private static final List<String> UNRESOLVED_ENTRY = Collections.unmodifiableList(new ArrayList<>());
+
+    private final Project myProject;
+
+    public static GraphQLOperationDependencies getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GraphQLOperationDependencies.class);
+    }
+
+    public GraphQLOperationDependencies(@NotNull Project project) {
+        myProject = project;
+    }
+
+    /**
+     * Gets the dependencies of the executable definitions in the schema scope of the specified element.
+     *
+     * @return the dependencies, or null if they can't be computed yet, e.g. during indexing
+     */
+    public @Nullable Dependencies getDependencies(@NotNull PsiElement context) {
+        final GraphQLSchema schema = GraphQLSchemaProvider.getInstance(myProject).getSchemaInfo(context).getSchema();
+        final Map<GraphQLSchema, Dependencies> dependenciesBySchema = CachedValuesManager.getManager(myProject).getCachedValue(
+            myProject, DEPENDENCIES_KEY, () -> CachedValueProvider.Result.create(
+                ContainerUtil.createConcurrentWeakMap(),
+                PsiModificationTracker.MODIFICATION_COUNT,
+                GraphQLSchemaChangeTracker.getInstance(myProject).getSchemaModificationTracker()
+            ), false);
+
+        Dependencies dependencies = dependenciesBySchema.get(schema);
+        if (dependencies == null) {
+            try {
+                dependencies = computeDependencies(schema, GraphQLPsiSearchHelper.getInstance(myProject).getResolveScope(context));
+            } catch (IndexNotReadyException e) {
+                return null;
+            }
+            // intentionally not using computeIfAbsent to avoid holding the lock while the index is read
+            dependenciesBySchema.put(schema, dependencies);
+        }
+        return dependencies;
+    }
+
+    private @NotNull Dependencies computeDependencies(@NotNull GraphQLSchema schema, @NotNull GlobalSearchScope scope) {
+        final FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        final Map<String, List<String>> resolvedEntries = new HashMap<>();
+        final List<DefinitionEntry> definitions = new ArrayList<>();
+
+        for (String definitionKey : fileBasedIndex.getAllKeys(GraphQLOperationDependencyIndex.NAME, myProject)) {
+            fileBasedIndex.processValues(GraphQLOperationDependencyIndex.NAME, definitionKey, null, (file, entries) -> {
+                final DefinitionEntry definition = new DefinitionEntry(definitionKey, file);
+                for (String entry : entries) {
+                    if (entry.startsWith(GraphQLOperationDependencyIndex.SPREAD_PREFIX)) {
+                        definition.spreads.add(entry.substring(GraphQLOperationDependencyIndex.SPREAD_PREFIX.length()));
+                        continue;
+                    }
+                    final List<String> coordinates = resolvedEntries.computeIfAbsent(
+                        entry, e -> ObjectUtils.notNull(resolveEntry(schema, e), UNRESOLVED_ENTRY));
+                    if (coordinates == UNRESOLVED_ENTRY) {
+                        definition.unresolved = true;
+                    } else {
+                        definition.coordinates.addAll(coordinates);
+                    }
+                }
+                definitions.add(definition);
+                return true;
+            }, scope);
+        }
+
+        return new Dependencies(definitions);
+    }
+
+    /**
+     * @return the coordinates of an indexed dependency entry, or null if it can't be resolved in the schema
+     */
+    private static @Nullable List<String> resolveEntry(@NotNull GraphQLSchema schema, @NotNull String entry) {
+        if (entry.startsWith(GraphQLOperationDependencyIndex.TYPE_PREFIX)) {
+            final String typeName = entry.substring(GraphQLOperationDependencyIndex.TYPE_PREFIX.length());
+            final List<String> coordinates = new ArrayList<>();
+            coordinates.add(typeName);
+            final GraphQLType type = schema.getType(typeName);
+            if (type instanceof GraphQLInputObjectType) {
+                addInputTypes((GraphQLInputObjectType) type, new HashSet<>(), coordinates);
+            }
+            return coordinates;
+        }
+        if (entry.startsWith(GraphQLOperationDependencyIndex.DIRECTIVE_PREFIX)) {
+            return Collections.singletonList(
+                GraphQLSchemaCoordinateIndex.directiveCoordinate(entry.substring(GraphQLOperationDependencyIndex.DIRECTIVE_PREFIX.length())));
+        }
+        if (entry.startsWith(GraphQLOperationDependencyIndex.FIELD_PREFIX)) {
+            final String fieldPath = entry.substring(GraphQLOperationDependencyIndex.FIELD_PREFIX.length());
+            final int separator = fieldPath.lastIndexOf(GraphQLFieldUsageIndex.PATH_SEPARATOR);
+            if (separator < 0) {
+                return null;
+            }
+            final GraphQLType ownerType = GraphQLFieldUsageIndex.resolveOwnerType(schema, fieldPath.substring(0, separator));
+            if (ownerType == null) {
+                return null;
+            }
+            final String ownerTypeName = GraphQLSchemaUtil.getTypeName(ownerType);
+            final String fieldName = fieldPath.substring(separator + 1);
+            final List<String> coordinates = new ArrayList<>(3);
+            coordinates.add(ownerTypeName);
+            coordinates.add(GraphQLSchemaCoordinateIndex.memberCoordinate(ownerTypeName, fieldName));
+            if (ownerType instanceof GraphQLFieldsContainer) {
+                final GraphQLFieldDefinition fieldDefinition = ((GraphQLFieldsContainer) ownerType).getFieldDefinition(fieldName);
+                if (fieldDefinition != null) {
+                    coordinates.add(GraphQLSchemaUtil.getTypeName(GraphQLSchemaUtil.getUnmodifiedType(fieldDefinition.getType())));
+                    // the argument values are validated against the input types
+                    final Set<GraphQLInputObjectType> visited = new HashSet<>();
+                    for (GraphQLArgument argument : fieldDefinition.getArguments()) {
+                        final GraphQLUnmodifiedType argumentType = GraphQLSchemaUtil.getUnmodifiedType(argument.getType());
+                        coordinates.add(GraphQLSchemaUtil.getTypeName(argumentType));
+                        if (argumentType instanceof GraphQLInputObjectType) {
+                            addInputTypes((GraphQLInputObjectType) argumentType, visited, coordinates);
+                        }
+                    }
+                }
+            }
+            return coordinates;
+        }
+        return Collections.emptyList();
+    }
+
+    private static void addInputTypes(@NotNull GraphQLInputObjectType type,
+                                      @NotNull Set<GraphQLInputObjectType> visited,
+                                      @NotNull List<String> coordinates) {
+        if (!visited.add(type)) {
+            return;
+        }
+        for (GraphQLInputObjectField field : type.getFieldDefinitions()) {
+            final GraphQLUnmodifiedType fieldType = GraphQLSchemaUtil.getUnmodifiedType(field.getType());
+            coordinates.add(GraphQLSchemaUtil.getTypeName(fieldType));
+            if (fieldType instanceof GraphQLInputObjectType) {
+                addInputTypes((GraphQLInputObjectType) fieldType, visited, coordinates);
+            }
+        }
+    }
+
+    private static final class DefinitionEntry {
+        final String key;
+        final VirtualFile file;
+        final Set<String> coordinates = new HashSet<>();
+        final Set<String> spreads = new HashSet<>();
+        boolean unresolved;
+
+        DefinitionEntry(@NotNull String key, @NotNull VirtualFile file) {
+            this.key = key;
+            this.file = file;
+        }
+    }
+
+    /**
+     * The schema coordinates the executable definitions depend on, in both directions.
+     */
+    public static final class Dependencies {
+        private final Map<String, Set<String>> myDefinitionsByCoordinate = new HashMap<>();
+        private final Map<String, Set<VirtualFile>> myFilesByCoordinate = new HashMap<>();
+        private final Map<VirtualFile, Set<String>> myCoordinatesByFile = new HashMap<>();
+        private final Map<String, Integer> myUsageCounts = new HashMap<>();
+        private final Set<String> myUnresolvedDefinitions = new HashSet<>();
+        private final Set<VirtualFile> myUnresolvedFiles = new HashSet<>();
+
+        private Dependencies(@NotNull List<DefinitionEntry> definitions) {
+            final Map<String, List<DefinitionEntry>> fragments = new HashMap<>();
+            for (DefinitionEntry definition : definitions) {
+                if (definition.key.startsWith(GraphQLOperationDependencyIndex.FRAGMENT_KEY_PREFIX)) {
+                    fragments.computeIfAbsent(StringUtil.trimStart(definition.key, GraphQLOperationDependencyIndex.FRAGMENT_KEY_PREFIX),
+                        k -> new ArrayList<>()).add(definition);
+                }
+                for (String coordinate : definition.coordinates) {
+                    myUsageCounts.merge(coordinate, 1, Integer::sum);
+                }
+            }
+
+            for (DefinitionEntry definition : definitions) {
+                final Set<String> coordinates = new HashSet<>();
+                final boolean unresolved = collectCoordinates(definition, fragments, coordinates, new HashSet<>());
+                if (unresolved) {
+                    myUnresolvedDefinitions.add(definition.key);
+                    myUnresolvedFiles.add(definition.file);
+                }
+                for (String coordinate : coordinates) {
+                    myDefinitionsByCoordinate.computeIfAbsent(coordinate, k -> new HashSet<>()).add(definition.key);
+                    myFilesByCoordinate.computeIfAbsent(coordinate, k -> new HashSet<>()).add(definition.file);
+                }
+                myCoordinatesByFile.computeIfAbsent(definition.file, k -> new HashSet<>()).addAll(coordinates);
+            }
+        }
+
+        /**
+         * Collects the coordinates of the definition and the fragments it spreads, transitively.
+         *
+         * @return true if the definition or any of the spread fragments has unresolved dependencies
+         */
+        private static boolean collectCoordinates(@NotNull DefinitionEntry definition,
+                                                  @NotNull Map<String, List<DefinitionEntry>> fragments,
+                                                  @NotNull Set<String> coordinates,
+                                                  @NotNull Set<DefinitionEntry> visited) {
+            if (!visited.add(definition)) {
+                return false;
+            }
+            boolean unresolved = definition.unresolved;
+            coordinates.addAll(definition.coordinates);
+            for (String spread : definition.spreads) {
+                final List<DefinitionEntry> spreadFragments = fragments.get(spread);
+                if (spreadFragments == null) {
+                    // the fragment can be defined outside of the scope or not yet, so the result isn't known
+                    unresolved = true;
+                    continue;
+                }
+                for (DefinitionEntry fragment : spreadFragments) {
+                    unresolved |= collectCoordinates(fragment, fragments, coordinates, visited);
+                }
+            }
+            return unresolved;
+        }
+
+        /**
+         * Gets the keys of the operations and fragments which depend on the coordinate, e.g. <code>query:GetUser</code>.
+         *
+         * @see GraphQLOperationDependencyIndex#getOperationKey(String, String)
+         * @see GraphQLOperationDependencyIndex#getFragmentKey(String)
+         */
+        public @NotNull Set<String> getDependentDefinitions(@NotNull String coordinate) {
+            final Set<String> definitions = new HashSet<>(myUnresolvedDefinitions);
+            definitions.addAll(myDefinitionsByCoordinate.getOrDefault(coordinate, Collections.emptySet()));
+            return definitions;
+        }
+
+        /**
+         * Gets the files with operations and fragments which depend on any of the coordinates.
+         */
+        public @NotNull Set<VirtualFile> getDependentFiles(@NotNull Collection<String> coordinates) {
+            final Set<VirtualFile> files = new HashSet<>(myUnresolvedFiles);
+            for (String coordinate : coordinates) {
+                files.addAll(myFilesByCoordinate.getOrDefault(coordinate, Collections.emptySet()));
+            }
+            return files;
+        }
+
+        /**
+         * Gets the coordinates the operations and fragments of the file depend on.
+         */
+        public @NotNull Set<String> getFileDependencies(@NotNull VirtualFile file) {
+            return Collections.unmodifiableSet(myCoordinatesByFile.getOrDefault(file, Collections.emptySet()));
+        }
+
+        /**
+         * Gets whether the operations and fragments of the file can depend on any coordinate, since some of their selections can't be resolved.
+         */
+        public boolean hasUnresolvedDependencies(@NotNull VirtualFile file) {
+            return myUnresolvedFiles.contains(file);
+        }
+
+        /**
+         * Gets the number of operations and fragments which select the coordinate directly, e.g. for a usage count of schema members.
+         */
+        public int getUsageCount(@NotNull String coordinate) {
+            return myUsageCounts.getOrDefault(coordinate, 0);
+        }
+    }
+}
@@ -17,8 +17,11 @@ import com.intellij.lang.injection.InjectedLanguageManager;
 import com.intellij.lang.jsgraphql.GraphQLFileType;
 import com.intellij.lang.jsgraphql.GraphQLLanguage;
 import com.intellij.lang.jsgraphql.ide.findUsages.GraphQLFindUsagesUtil;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLFieldUsageIndex;
 import com.intellij.lang.jsgraphql.ide.indexing.GraphQLFragmentNameIndex;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLFragmentTypeConditionIndex;
 import com.intellij.lang.jsgraphql.ide.indexing.GraphQLIdentifierIndex;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaCoordinateIndex;
 import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
 import com.intellij.lang.jsgraphql.ide.introspection.GraphQLIntrospectionFilesManager;
 import com.intellij.lang.jsgraphql.ide.project.graphqlconfig.GraphQLConfigManager;
@@ -26,9 +29,13 @@ import com.intellij.lang.jsgraphql.ide.search.scope.GraphQLMetaInfSchemaSearchSc
 import com.intellij.lang.jsgraphql.psi.GraphQLDefinition;
 import com.intellij.lang.jsgraphql.psi.GraphQLFile;
 import com.intellij.lang.jsgraphql.psi.GraphQLFragmentDefinition;
+import com.intellij.lang.jsgraphql.psi.GraphQLIdentifier;
 import com.intellij.lang.jsgraphql.psi.GraphQLPsiUtil;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaChangeTracker;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaInfo;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
 import com.intellij.lang.jsgraphql.schema.library.GraphQLLibraryRootsProvider;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.Application;
 import com.intellij.openapi.application.ApplicationManager;
@@ -37,6 +44,8 @@ import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.fileTypes.FileType;
 import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
 import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.util.registry.Registry;
 import com.intellij.openapi.util.registry.RegistryValue;
@@ -48,6 +57,10 @@ import com.intellij.psi.impl.PsiManagerImpl;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.GlobalSearchScopesCore;
 import com.intellij.psi.search.scope.packageSet.NamedScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.Processor;
 import com.intellij.util.indexing.FileBasedIndex;
@@ -63,6 +76,7 @@ import java.util.stream.Collectors;
 public class GraphQLPsiSearchHelper implements Disposable {
 
     private static final String GRAPHQL_SEARCH_SCOPE_LIBRARIES_KEY = "graphql.search.scope.libraries";
+    private static final Key<CachedValue<GlobalSearchScope>> FIELD_USAGE_SCOPE_KEY = Key.create("graphql.field.usage.scope");
 
     private final Project myProject;
     private final GlobalSearchScope myDefaultProjectFileScope;
@@ -218,6 +232,122 @@ public class GraphQLPsiSearchHelper implements Disposable {
         return Collections.emptyList();
     }
 
+    /**
+     * Processes the names of the fragments whose type condition is one of the specified types, without loading the fragments PSI
+     *
+     * @param context        the starting point for finding known fragment definitions
+     * @param typeConditions the names of the types the fragments can be declared on
+     * @param processor      processor called for each fragment name, possibly more than once for the same name
+     * @see GraphQLFragmentTypeConditionIndex
+     */
+    public void processFragmentNamesByTypeConditions(@NotNull PsiElement context,
+                                                     @NotNull Collection<String> typeConditions,
+                                                     @NotNull Processor<String> processor) {
+        try {
+            VirtualFile originalFile = GraphQLPsiUtil.getOriginalVirtualFile(context.getContainingFile());
+            if (originalFile != null && GraphQLFileType.isGraphQLScratchFile(myProject, originalFile)) {
+                // include the fragments defined in the currently edited scratch file (scratch files don't appear to be indexed)
+                for (GraphQLFragmentDefinition fragmentDefinition : PsiTreeUtil.getChildrenOfTypeAsList(
+                    context.getContainingFile().getOriginalFile(), GraphQLFragmentDefinition.class)) {
+                    String name = fragmentDefinition.getName();
+                    if (name != null && typeConditions.contains(GraphQLFragmentTypeConditionIndex.getTypeConditionName(fragmentDefinition))) {
+                        if (!processor.process(name)) {
+                            return;
+                        }
+                    }
+                }
+            }
+
+            GlobalSearchScope schemaScope = getResolveScope(context);
+            FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+            for (String typeCondition : typeConditions) {
+                boolean completed = fileBasedIndex.processValues(GraphQLFragmentTypeConditionIndex.NAME, typeCondition, null,
+                    (virtualFile, fragmentNames) -> {
+                        for (String fragmentName : fragmentNames) {
+                            if (!processor.process(fragmentName)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }, schemaScope);
+                if (!completed) {
+                    return;
+                }
+            }
+        } catch (IndexNotReadyException e) {
+            // can't search yet (e.g. during project startup)
+        }
+    }
+
+    /**
+     * Gets the files which can contain usages of a field definition, ie. the files selecting the field on the type which declares it,
+     * and the files with a definition of a field with the same name, since a field definition can implement an interface field.
+     * Selections whose owner type can't be determined in the current schema are kept as candidates, and so are the files
+     * which aren't indexed, e.g. scratch files.
+     * <p>
+     * The scope isn't worth a schema build, so it's only narrowed down once the schema is built for another reason,
+     * e.g. by the highlighting of the file.
+     *
+     * @param fieldNameIdentifier the name identifier of a field definition
+     * @return the scope of the candidate files, or null if the files can't be narrowed down, e.g. the indices aren't ready yet
+     * or the schema isn't built
+     * @see GraphQLFieldUsageIndex
+     */
+    public @Nullable GlobalSearchScope getFieldUsageScope(@NotNull GraphQLIdentifier fieldNameIdentifier) {
+        return CachedValuesManager.getCachedValue(fieldNameIdentifier, FIELD_USAGE_SCOPE_KEY, () -> {
+            final GraphQLSchemaInfo schemaInfo = GraphQLSchemaProvider.getInstance(myProject).getCachedSchemaInfo(fieldNameIdentifier);
+            if (schemaInfo == null) {
+                // computed again on the next request, since the schema can be built in the meantime
+                return CachedValueProvider.Result.create(null, ModificationTracker.EVER_CHANGED);
+            }
+            return CachedValueProvider.Result.create(
+                computeFieldUsageScope(fieldNameIdentifier, schemaInfo.getSchema()),
+                PsiModificationTracker.MODIFICATION_COUNT,
+                GraphQLSchemaChangeTracker.getInstance(myProject).getSchemaModificationTracker(),
+                schemaInfo.getModificationTracker()
+            );
+        });
+    }
+
+    private @Nullable GlobalSearchScope computeFieldUsageScope(@NotNull GraphQLIdentifier fieldNameIdentifier,
+                                                               @NotNull GraphQLSchema schema) {
+        final String name = fieldNameIdentifier.getName();
+        final String coordinate = GraphQLSchemaCoordinateIndex.getCoordinate(fieldNameIdentifier);
+        if (name == null || coordinate == null) {
+            return null;
+        }
+        // the same owner paths are repeated across many files, so each is only resolved once
+        final Map<String, Boolean> usagePaths = new HashMap<>();
+        final Set<VirtualFile> files = new HashSet<>();
+        try {
+            FileBasedIndex.getInstance().processValues(GraphQLFieldUsageIndex.NAME, name, null, (virtualFile, ownerPaths) -> {
+                for (String ownerPath : ownerPaths) {
+                    final boolean isUsage = usagePaths.computeIfAbsent(ownerPath, path -> {
+                        if (GraphQLFieldUsageIndex.DEFINITION_PATH.equals(path)) {
+                            return true;
+                        }
+                        final String ownerTypeName = GraphQLFieldUsageIndex.resolveOwnerTypeName(schema, path);
+                        return ownerTypeName == null || coordinate.equals(GraphQLSchemaCoordinateIndex.memberCoordinate(ownerTypeName, name));
+                    });
+                    if (isUsage) {
+                        files.add(virtualFile);
+                        break;
+                    }
+                }
+                return true;
+            }, GlobalSearchScope.allScope(myProject));
+        } catch (IndexNotReadyException e) {
+            return null;
+        }
+
+        final VirtualFile definitionFile = GraphQLPsiUtil.getOriginalVirtualFile(fieldNameIdentifier.getContainingFile());
+        if (definitionFile != null) {
+            files.add(definitionFile);
+        }
+        // the files outside the project and libraries, e.g. scratch files, aren't indexed, so they're still searched
+        return GlobalSearchScope.filesScope(myProject, files).union(GlobalSearchScope.notScope(GlobalSearchScope.allScope(myProject)));
+    }
+
     /**
      * Visits the potential GraphQL injection inside an injection host
      *
@@ -248,45 +378,55 @@ public class GraphQLPsiSearchHelper implements Disposable {
                                                              @NotNull Processor<PsiNamedElement> processor) {
         FileBasedIndex.getInstance().getFilesWithKey(GraphQLIdentifierIndex.NAME, Collections.singleton(word), virtualFile -> {
             final PsiFile psiFile = myPsiManager.findFile(virtualFile);
-            final Ref<Boolean> continueProcessing = Ref.create(true);
-            if (psiFile != null) {
-                final Set<GraphQLFile> introspectionFiles = Sets.newHashSetWithExpectedSize(1);
-                final Ref<PsiRecursiveElementVisitor> identifierVisitor = Ref.create();
-                identifierVisitor.set(new PsiRecursiveElementVisitor() {
-                    @Override
-                    public void visitElement(@NotNull PsiElement element) {
-                        if (!continueProcessing.get()) {
-                            return; // done visiting as the processor returned false
-                        }
-                        if (element instanceof PsiNamedElement) {
-                            final String name = ((PsiNamedElement) element).getName();
-                            if (word.equals(name)) {
-                                // found an element with a name that matches
-                                continueProcessing.set(processor.process((PsiNamedElement) element));
-                            }
-                            if (!continueProcessing.get()) {
-                                return; // no need to visit other elements
-                            }
-                        } else if (element instanceof JsonStringLiteral) {
-                            GraphQLFile introspectionSDL = GraphQLIntrospectionFilesManager.getOrCreateIntrospectionSDL(virtualFile, psiFile);
-                            if (introspectionFiles.add(introspectionSDL)) {
-                                // index the associated introspection SDL from a JSON introspection result file
-                                introspectionSDL.accept(identifierVisitor.get());
-                            }
-                            return; // no need to visit deeper
-                        } else if (element instanceof PsiLanguageInjectionHost) {
-                            if (visitLanguageInjectionHost((PsiLanguageInjectionHost) element, identifierVisitor)) {
-                                return;
-                            }
-                        }
-                        super.visitElement(element);
-                    }
-                });
+            return psiFile == null || processElementsWithWordInFile(virtualFile, psiFile, word, processor);
+        }, schemaScope);
+    }
 
-                psiFile.accept(identifierVisitor.get());
+    /**
+     * Processes GraphQL identifiers in a single file, including its injections and the SDL of a JSON introspection result.
+     *
+     * @return false if the processor stopped the processing, true otherwise
+     */
+    private boolean processElementsWithWordInFile(@NotNull VirtualFile virtualFile,
+                                                  @NotNull PsiFile psiFile,
+                                                  @NotNull String word,
+                                                  @NotNull Processor<PsiNamedElement> processor) {
+        final Ref<Boolean> continueProcessing = Ref.create(true);
+        final Set<GraphQLFile> introspectionFiles = Sets.newHashSetWithExpectedSize(1);
+        final Ref<PsiRecursiveElementVisitor> identifierVisitor = Ref.create();
+        identifierVisitor.set(new PsiRecursiveElementVisitor() {
+            @Override
+            public void visitElement(@NotNull PsiElement element) {
+                if (!continueProcessing.get()) {
+                    return; // done visiting as the processor returned false
+                }
+                if (element instanceof PsiNamedElement) {
+                    final String name = ((PsiNamedElement) element).getName();
+                    if (word.equals(name)) {
+                        // found an element with a name that matches
+                        continueProcessing.set(processor.process((PsiNamedElement) element));
+                    }
+                    if (!continueProcessing.get()) {
+                        return; // no need to visit other elements
+                    }
+                } else if (element instanceof JsonStringLiteral) {
+                    GraphQLFile introspectionSDL = GraphQLIntrospectionFilesManager.getOrCreateIntrospectionSDL(virtualFile, psiFile);
+                    if (introspectionFiles.add(introspectionSDL)) {
+                        // index the associated introspection SDL from a JSON introspection result file
+                        introspectionSDL.accept(identifierVisitor.get());
+                    }
+                    return; // no need to visit deeper
+                } else if (element instanceof PsiLanguageInjectionHost) {
+                    if (visitLanguageInjectionHost((PsiLanguageInjectionHost) element, identifierVisitor)) {
+                        return;
+                    }
+                }
+                super.visitElement(element);
             }
-            return continueProcessing.get();
-        }, schemaScope);
+        });
+
+        psiFile.accept(identifierVisitor.get());
+        return continueProcessing.get();
     }
 
     /**
@@ -300,7 +440,72 @@ public class GraphQLPsiSearchHelper implements Disposable {
 
             processElementsWithWordUsingIdentifierIndex(searchScope, word, processor);
 
-            final PsiRecursiveElementVisitor visitor = new PsiRecursiveElementVisitor() {
+            // finally, look in the current scratch file
+            processElementsWithWordInScratchFile(scopedElement, word, processor);
+        } catch (IndexNotReadyException e) {
+            // can't search yet (e.g. during project startup)
+        }
+    }
+
+    /**
+     * Processes the named elements which declare the specified schema coordinate, e.g. <code>User.id</code> or <code>@auth(role:)</code>.
+     * Unlike {@link #processElementsWithWord}, only the files declaring the coordinate are visited, and if the index knows the offset
+     * of the declaration, the file isn't walked at all.
+     *
+     * @param scopedElement the element which defines the schema scope to search in
+     * @param coordinate    the schema coordinate to find the declarations for
+     * @param name          the name of the declaring element, i.e. the last segment of the coordinate
+     * @param processor     processor called for the candidate elements named <code>name</code> in the files declaring the coordinate
+     * @see GraphQLSchemaCoordinateIndex
+     */
+    public void processElementsWithCoordinate(@NotNull PsiElement scopedElement,
+                                              @NotNull String coordinate,
+                                              @NotNull String name,
+                                              @NotNull Processor<PsiNamedElement> processor) {
+        try {
+            GlobalSearchScope searchScope = getResolveScope(scopedElement);
+
+            // the PSI is only loaded after the index lookup is done, so the index isn't locked while the files are parsed
+            final Map<VirtualFile, Integer> offsets = new LinkedHashMap<>();
+            FileBasedIndex.getInstance().processValues(GraphQLSchemaCoordinateIndex.NAME, coordinate, null, (virtualFile, offset) -> {
+                offsets.put(virtualFile, offset);
+                return true;
+            }, searchScope);
+
+            for (Map.Entry<VirtualFile, Integer> entry : offsets.entrySet()) {
+                final VirtualFile virtualFile = entry.getKey();
+                final PsiFile psiFile = myPsiManager.findFile(virtualFile);
+                if (psiFile == null) {
+                    continue;
+                }
+                final int offset = entry.getValue();
+                if (offset != GraphQLSchemaCoordinateIndex.UNKNOWN_OFFSET && psiFile instanceof GraphQLFile) {
+                    final GraphQLIdentifier identifier = PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), GraphQLIdentifier.class, false);
+                    if (identifier != null && name.equals(identifier.getName())) {
+                        if (!processor.process(identifier)) {
+                            return;
+                        }
+                        continue;
+                    }
+                }
+                if (!processElementsWithWordInFile(virtualFile, psiFile, name, processor)) {
+                    return;
+                }
+            }
+
+            processElementsWithWordInScratchFile(scopedElement, name, processor);
+        } catch (IndexNotReadyException e) {
+            // can't search yet (e.g. during project startup)
+        }
+    }
+
+    private void processElementsWithWordInScratchFile(@NotNull PsiElement scopedElement,
+                                                      @NotNull String word,
+                                                      @NotNull Processor<PsiNamedElement> processor) {
+        PsiFile containingFile = scopedElement.getContainingFile();
+        VirtualFile originalVirtualFile = GraphQLPsiUtil.getOriginalVirtualFile(containingFile);
+        if (originalVirtualFile != null && GraphQLFileType.isGraphQLScratchFile(myProject, originalVirtualFile)) {
+            containingFile.accept(new PsiRecursiveElementVisitor() {
                 @Override
                 public void visitElement(@NotNull PsiElement element) {
                     if (element instanceof PsiNamedElement && word.equals(((PsiNamedElement) element).getName())) {
@@ -310,22 +515,12 @@ public class GraphQLPsiSearchHelper implements Disposable {
                     }
                     super.visitElement(element);
                 }
-            };
-
-            // finally, look in the current scratch file
-            PsiFile containingFile = scopedElement.getContainingFile();
-            VirtualFile originalVirtualFile = GraphQLPsiUtil.getOriginalVirtualFile(containingFile);
-            if (originalVirtualFile != null && GraphQLFileType.isGraphQLScratchFile(myProject, originalVirtualFile)) {
-                containingFile.accept(visitor);
-            }
-
-        } catch (IndexNotReadyException e) {
-            // can't search yet (e.g. during project startup)
+            });
         }
     }
 
     /**
-     * Process injected GraphQL PsiFiles
+     * Process injected GraphQL PsiFiles which contain type system definitions or extensions
      *
      * @param scopedElement the starting point of the enumeration settings the scopedElement of the processing
      * @param schemaScope   the search scope to use for limiting the schema definitions
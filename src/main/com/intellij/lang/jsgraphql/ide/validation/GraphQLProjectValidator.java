@@ -0,0 +1,568 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.ide.validation;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.ide.errorTreeView.NewErrorTreeViewPanel;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.lang.injection.InjectedLanguageManager;
+import com.intellij.lang.jsgraphql.GraphQLBundle;
+import com.intellij.lang.jsgraphql.GraphQLFileType;
+import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
+import com.intellij.lang.jsgraphql.ide.project.toolwindow.GraphQLToolWindow;
+import com.intellij.lang.jsgraphql.ide.search.GraphQLOperationDependencies;
+import com.intellij.lang.jsgraphql.ide.validation.inspections.GraphQLInspection;
+import com.intellij.lang.jsgraphql.psi.GraphQLFile;
+import com.intellij.lang.jsgraphql.psi.GraphQLPsiUtil;
+import com.intellij.lang.jsgraphql.schema.GraphQLRegistryDiff;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaErrorLocation;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaInfo;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
+import com.intellij.lang.jsgraphql.types.GraphQLError;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
+import com.intellij.lang.jsgraphql.types.schema.idl.TypeDefinitionRegistry;
+import com.intellij.lang.jsgraphql.types.validation.ValidationError;
+import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
+import com.intellij.lang.jsgraphql.types.validation.Validator;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Couple;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentManager;
+import com.intellij.util.ui.MessageCategory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Validates the operations and fragments of all the GraphQL files and injections in the project against their schemas
+ * in the background, and shows the problems in the GraphQL tool window as the files are processed.
+ * <p>
+ * The files are validated in parallel, and the problems of each document are cached by the hash of its text and the schema
+ * it was validated against, so a rerun only validates the documents which changed or whose schema changed in a coordinate
+ * the operations and fragments of the file depend on.
+ * Whether a problem is reported and its severity are decided on each run, so the cache doesn't depend on the inspection profile.
+ */
+public class GraphQLProjectValidator implements Disposable {
+
+    private static final Logger LOG = Logger.getInstance(GraphQLProjectValidator.class);
+
+    private final Project myProject;
+    private final Map<VirtualFile, List<CachedDocument>> myCache = new ConcurrentHashMap<>();
+    private final AtomicReference<ProgressIndicator> myRunningIndicator = new AtomicReference<>();
+
+    public static GraphQLProjectValidator getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GraphQLProjectValidator.class);
+    }
+
+    public GraphQLProjectValidator(@NotNull Project project) {
+        myProject = project;
+    }
+
+    /**
+     * Starts the validation of the project, cancelling the validation which is already running.
+     */
+    public void validateProject() {
+        ApplicationManager.getApplication().assertIsDispatchThread();
+        cancelRunningValidation();
+
+        final ResultsView resultsView = showResultsView();
+        if (resultsView == null) {
+            return;
+        }
+
+        new Task.Backgroundable(myProject, GraphQLBundle.message("graphql.progress.project.validation"), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                myRunningIndicator.set(indicator);
+                if (resultsView.isDisposed()) {
+                    indicator.cancel();
+                }
+                try {
+                    validate(indicator, resultsView);
+                } finally {
+                    myRunningIndicator.compareAndSet(indicator, null);
+                }
+            }
+
+            @Override
+            public void onCancel() {
+                resultsView.addInfo(GraphQLBundle.message("graphql.validation.project.canceled"));
+            }
+        }.queue();
+    }
+
+    public void cancelRunningValidation() {
+        final ProgressIndicator indicator = myRunningIndicator.getAndSet(null);
+        if (indicator != null) {
+            indicator.cancel();
+        }
+    }
+
+    private void validate(@NotNull ProgressIndicator indicator, @NotNull ResultsView resultsView) {
+        indicator.setIndeterminate(true);
+        final List<VirtualFile> files = DumbService.getInstance(myProject).runReadActionInSmartMode(this::collectFiles);
+        indicator.setIndeterminate(false);
+
+        final AtomicInteger problemCount = new AtomicInteger();
+        final AtomicInteger unchangedCount = new AtomicInteger();
+        validateFiles(files, indicator, unchangedCount, messages -> {
+            problemCount.addAndGet(messages.size());
+            resultsView.addMessages(messages);
+        });
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Validated %d files, %d unchanged documents were skipped", files.size(), unchangedCount.get()));
+        }
+        resultsView.addInfo(GraphQLBundle.message("graphql.validation.project.summary", files.size(), problemCount.get()));
+    }
+
+    /**
+     * Validates the files synchronously and returns the reported messages, e.g. <code>operations.graphql:2:5: Unknown field</code>.
+     *
+     * @param unchangedCount incremented for each document whose cached problems are reused
+     */
+    @VisibleForTesting
+    public @NotNull List<String> validateFiles(@NotNull List<VirtualFile> files, @NotNull AtomicInteger unchangedCount) {
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        validateFiles(files, new EmptyProgressIndicator(), unchangedCount,
+            fileMessages -> fileMessages.forEach(message -> messages.add(message.toString())));
+        final List<String> sortedMessages = new ArrayList<>(messages);
+        Collections.sort(sortedMessages);
+        return sortedMessages;
+    }
+
+    private void validateFiles(@NotNull List<VirtualFile> files,
+                               @NotNull ProgressIndicator indicator,
+                               @NotNull AtomicInteger unchangedCount,
+                               @NotNull Consumer<List<ValidationMessage>> consumer) {
+        final AtomicInteger processedCount = new AtomicInteger();
+        final Map<Couple<TypeDefinitionRegistry>, Optional<Set<String>>> registryDiffs = new ConcurrentHashMap<>();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(files, indicator, virtualFile -> {
+            awaitSchemaValidation(virtualFile, indicator);
+            final List<ValidationMessage> messages = ReadAction
+                .nonBlocking(() -> validateFile(virtualFile, registryDiffs, unchangedCount))
+                .wrapProgress(indicator)
+                .executeSynchronously();
+
+            consumer.accept(messages);
+            indicator.setFraction((double) processedCount.incrementAndGet() / files.size());
+            return true;
+        });
+
+        // forget the files which were deleted or moved out of the project since the previous run
+        myCache.keySet().retainAll(new HashSet<>(files));
+    }
+
+    /**
+     * Waits for the validation of the schemas of the file outside of a read action, so the write actions aren't held off
+     * while the schemas are validated in the background.
+     */
+    private void awaitSchemaValidation(@NotNull VirtualFile virtualFile, @NotNull ProgressIndicator indicator) {
+        final Set<CompletableFuture<?>> validations = ReadAction
+            .nonBlocking(() -> {
+                final Set<CompletableFuture<?>> futures = new LinkedHashSet<>();
+                for (GraphQLFile graphQLFile : collectGraphQLFiles(virtualFile)) {
+                    futures.add(GraphQLSchemaProvider.getInstance(myProject).getSchemaInfo(graphQLFile).getValidationErrors());
+                }
+                return futures;
+            })
+            .wrapProgress(indicator)
+            .executeSynchronously();
+
+        for (CompletableFuture<?> validation : validations) {
+            try {
+                ProgressIndicatorUtils.awaitWithCheckCanceled(validation);
+            } catch (CancellationException e) {
+                // the schema was removed from the cache, the current one is awaited in the read action
+            }
+        }
+    }
+
+    private @NotNull List<VirtualFile> collectFiles() {
+        final GlobalSearchScope scope = GlobalSearchScope.projectScope(myProject);
+        final Set<VirtualFile> files = new LinkedHashSet<>(FileTypeIndex.getFiles(GraphQLFileType.INSTANCE, scope));
+        final GraphQLInjectionSearchHelper injectionSearchHelper = GraphQLInjectionSearchHelper.getInstance();
+        if (injectionSearchHelper != null) {
+            files.addAll(injectionSearchHelper.getFilesWithInjections(myProject, scope));
+        }
+        return new ArrayList<>(files);
+    }
+
+    private @NotNull List<GraphQLFile> collectGraphQLFiles(@NotNull VirtualFile virtualFile) {
+        if (!virtualFile.isValid()) {
+            return Collections.emptyList();
+        }
+        final PsiFile psiFile = PsiManager.getInstance(myProject).findFile(virtualFile);
+        if (psiFile == null || GraphQLInspection.isEditorInspectionHighlightingDisabled(myProject, psiFile)) {
+            return Collections.emptyList();
+        }
+
+        final List<GraphQLFile> graphQLFiles = new ArrayList<>();
+        if (psiFile instanceof GraphQLFile) {
+            graphQLFiles.add((GraphQLFile) psiFile);
+        } else {
+            final GraphQLInjectionSearchHelper injectionSearchHelper = GraphQLInjectionSearchHelper.getInstance();
+            if (injectionSearchHelper != null) {
+                injectionSearchHelper.processInjectedGraphQLPsiFiles(psiFile, injectedFile -> {
+                    if (injectedFile instanceof GraphQLFile) {
+                        graphQLFiles.add((GraphQLFile) injectedFile);
+                    }
+                    return true;
+                });
+            }
+        }
+        return graphQLFiles;
+    }
+
+    private @NotNull List<ValidationMessage> validateFile(@NotNull VirtualFile virtualFile,
+                                                         @NotNull Map<Couple<TypeDefinitionRegistry>, Optional<Set<String>>> registryDiffs,
+                                                         @NotNull AtomicInteger unchangedCount) {
+        final List<GraphQLFile> graphQLFiles = collectGraphQLFiles(virtualFile);
+        if (graphQLFiles.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<CachedDocument> previousDocuments = myCache.getOrDefault(virtualFile, Collections.emptyList());
+        final List<CachedDocument> documents = new ArrayList<>(graphQLFiles.size());
+        final List<ValidationMessage> messages = new ArrayList<>();
+        for (GraphQLFile graphQLFile : graphQLFiles) {
+            ProgressManager.checkCanceled();
+            for (Problem problem : getProblems(graphQLFile, virtualFile, previousDocuments, documents, registryDiffs, unchangedCount)) {
+                final ValidationMessage message = createMessage(graphQLFile, problem);
+                if (message != null) {
+                    messages.add(message);
+                }
+            }
+        }
+        myCache.put(virtualFile, documents);
+        return messages;
+    }
+
+    private @NotNull List<Problem> getProblems(@NotNull GraphQLFile file,
+                                               @NotNull VirtualFile virtualFile,
+                                               @NotNull List<CachedDocument> previousDocuments,
+                                               @NotNull List<CachedDocument> documents,
+                                               @NotNull Map<Couple<TypeDefinitionRegistry>, Optional<Set<String>>> registryDiffs,
+                                               @NotNull AtomicInteger unchangedCount) {
+        final GraphQLSchemaInfo schemaInfo = GraphQLSchemaProvider.getInstance(myProject).getSchemaInfo(file);
+        List<GraphQLError> schemaErrors = schemaInfo.getErrorsIfValidated(myProject);
+        if (schemaErrors == null) {
+            // the schema was rebuilt since its validation was awaited
+            schemaErrors = schemaInfo.getErrors(myProject);
+        }
+        if (!schemaErrors.isEmpty()) {
+            // the documents aren't validated against an invalid schema, and the schema errors are already cached with it
+            return getSchemaProblems(file, schemaInfo);
+        }
+
+        final GraphQLSchema schema = schemaInfo.getSchema();
+        final TypeDefinitionRegistry registry = schemaInfo.getRegistryInfo().getTypeDefinitionRegistry();
+        final long documentHash = Hashing.murmur3_128().hashUnencodedChars(file.getText()).asLong();
+        for (CachedDocument document : previousDocuments) {
+            if (document.myDocumentHash != documentHash) {
+                continue;
+            }
+            if (document.isValidFor(schema)) {
+                unchangedCount.incrementAndGet();
+                documents.add(document);
+                return document.myProblems;
+            }
+            if (isUnaffectedBySchemaChange(file, virtualFile, document, registry, registryDiffs)) {
+                unchangedCount.incrementAndGet();
+                documents.add(new CachedDocument(documentHash, schema, registry, document.myProblems));
+                return document.myProblems;
+            }
+        }
+
+        final List<Problem> problems = validateDocument(file, schema);
+        documents.add(new CachedDocument(documentHash, schema, registry, problems));
+        return problems;
+    }
+
+    /**
+     * Checks whether the schema changed since the document was validated only in the coordinates which none of the operations
+     * and fragments of the file depend on, see {@link GraphQLOperationDependencies}, so the cached problems are still valid.
+     */
+    private boolean isUnaffectedBySchemaChange(@NotNull GraphQLFile file,
+                                               @NotNull VirtualFile virtualFile,
+                                               @NotNull CachedDocument document,
+                                               @NotNull TypeDefinitionRegistry registry,
+                                               @NotNull Map<Couple<TypeDefinitionRegistry>, Optional<Set<String>>> registryDiffs) {
+        final TypeDefinitionRegistry previousRegistry = document.myRegistryRef.get();
+        if (previousRegistry == null) {
+            return false;
+        }
+        final GraphQLOperationDependencies.Dependencies dependencies = GraphQLOperationDependencies.getInstance(myProject).getDependencies(file);
+        if (dependencies == null || dependencies.hasUnresolvedDependencies(virtualFile)) {
+            return false;
+        }
+        final Set<String> fileDependencies = dependencies.getFileDependencies(virtualFile);
+        if (fileDependencies.isEmpty()) {
+            // the file isn't indexed, or its dependencies aren't known
+            return false;
+        }
+        final Set<String> changedCoordinates = registryDiffs.computeIfAbsent(Couple.of(previousRegistry, registry),
+            registries -> Optional.ofNullable(GraphQLRegistryDiff.getAffectedCoordinates(registries.first, registries.second))).orElse(null);
+        return changedCoordinates != null && Collections.disjoint(changedCoordinates, fileDependencies);
+    }
+
+    private @NotNull List<Problem> validateDocument(@NotNull GraphQLFile file, @NotNull GraphQLSchema schema) {
+        // the files are already validated in parallel, so the definitions of a single document aren't
+        final List<? extends GraphQLError> errors = new Validator().validateDocument(schema, file.getDocument(), false);
+
+        final List<Problem> problems = new ArrayList<>();
+        for (GraphQLError error : errors) {
+            ProgressManager.checkCanceled();
+            if (!(error instanceof ValidationError)) {
+                continue;
+            }
+            final ValidationError validationError = (ValidationError) error;
+            final ValidationErrorType validationErrorType = validationError.getValidationErrorType();
+            if (validationErrorType == null || !GraphQLSchemaAnnotator.isReportedErrorType(validationErrorType)) {
+                continue;
+            }
+
+            final String message = Optional.ofNullable(validationError.getDescription()).orElse(validationError.getMessage());
+            for (PsiElement element : GraphQLSchemaAnnotator.getElementsToAnnotate(file, validationError)) {
+                addProblem(problems, validationError, element, message);
+            }
+        }
+        return problems;
+    }
+
+    private @NotNull List<Problem> getSchemaProblems(@NotNull GraphQLFile file, @NotNull GraphQLSchemaInfo schemaInfo) {
+        final List<Problem> problems = new ArrayList<>();
+        for (GraphQLSchemaErrorLocation errorLocation : schemaInfo.getErrorLocations(myProject, GraphQLPsiUtil.getFileName(file))) {
+            final PsiElement element = GraphQLSchemaAnnotator.getElementToAnnotate(file, errorLocation);
+            if (element != null) {
+                addProblem(problems, errorLocation.getError(), element, errorLocation.getError().getMessage());
+            }
+        }
+        return problems;
+    }
+
+    private static void addProblem(@NotNull List<Problem> problems,
+                                   @NotNull GraphQLError error,
+                                   @NotNull PsiElement element,
+                                   @Nullable String message) {
+        if (message == null) {
+            return;
+        }
+        if (GraphQLErrorFilter.EP_NAME.extensions()
+            .anyMatch(filter -> filter.isGraphQLErrorSuppressed(element.getProject(), error, element))) {
+            return;
+        }
+        final TextRange range = GraphQLSchemaAnnotator.getAnnotationAnchor(element).getTextRange();
+        problems.add(new Problem(range, message, error.getInspectionClass()));
+    }
+
+    private @Nullable ValidationMessage createMessage(@NotNull GraphQLFile file, @NotNull Problem problem) {
+        final PsiElement element = file.findElementAt(problem.myRange.getStartOffset());
+        if (element == null) {
+            return null;
+        }
+
+        int category = MessageCategory.ERROR;
+        if (problem.myInspectionClass != null) {
+            if (!GraphQLInspection.isProblemReported(element, problem.myInspectionClass)) {
+                return null;
+            }
+            category = getMessageCategory(GraphQLInspection.getSeverity(problem.myInspectionClass, file));
+        }
+
+        // the ranges are relative to the injected documents, so the cached problems stay valid when the host text around them changes
+        final InjectedLanguageManager injectedLanguageManager = InjectedLanguageManager.getInstance(myProject);
+        final PsiFile hostFile = injectedLanguageManager.getTopLevelFile(file);
+        final VirtualFile virtualFile = hostFile.getVirtualFile();
+        final Document document = PsiDocumentManager.getInstance(myProject).getDocument(hostFile);
+        if (virtualFile == null || document == null) {
+            return null;
+        }
+        final int offset = injectedLanguageManager.injectedToHost(file, problem.myRange.getStartOffset());
+        if (offset > document.getTextLength()) {
+            return null;
+        }
+        final int line = document.getLineNumber(offset);
+        return new ValidationMessage(category, problem.myMessage, virtualFile, line, offset - document.getLineStartOffset(line));
+    }
+
+    private static int getMessageCategory(@NotNull HighlightSeverity severity) {
+        if (severity.compareTo(HighlightSeverity.ERROR) >= 0) {
+            return MessageCategory.ERROR;
+        }
+        if (severity.compareTo(HighlightSeverity.WEAK_WARNING) >= 0) {
+            return MessageCategory.WARNING;
+        }
+        return MessageCategory.INFORMATION;
+    }
+
+    private @Nullable ResultsView showResultsView() {
+        final ToolWindow toolWindow = ToolWindowManager.getInstance(myProject).getToolWindow(GraphQLToolWindow.GRAPH_QL_TOOL_WINDOW);
+        if (toolWindow == null) {
+            return null;
+        }
+
+        final ContentManager contentManager = toolWindow.getContentManager();
+        final Content previousContent = contentManager.findContent(GraphQLToolWindow.CONTENT_PROJECT_VALIDATION);
+        if (previousContent != null) {
+            contentManager.removeContent(previousContent, true);
+        }
+
+        final NewErrorTreeViewPanel panel = new NewErrorTreeViewPanel(myProject, null);
+        final ResultsView resultsView = new ResultsView(panel);
+        Disposer.register(panel, resultsView);
+
+        final Content content = contentManager.getFactory().createContent(panel, GraphQLToolWindow.CONTENT_PROJECT_VALIDATION, false);
+        content.setDisposer(panel);
+        contentManager.addContent(content);
+        toolWindow.show(() -> contentManager.setSelectedContent(content));
+        return resultsView;
+    }
+
+    @Override
+    public void dispose() {
+        cancelRunningValidation();
+        myCache.clear();
+    }
+
+    /**
+     * A problem found in a document, with the range relative to the document.
+     */
+    private static final class Problem {
+        private final TextRange myRange;
+        private final String myMessage;
+        private final Class<? extends GraphQLInspection> myInspectionClass;
+
+        private Problem(@NotNull TextRange range,
+                        @NotNull String message,
+                        @Nullable Class<? extends GraphQLInspection> inspectionClass) {
+            myRange = range;
+            myMessage = message;
+            myInspectionClass = inspectionClass;
+        }
+    }
+
+    private static final class CachedDocument {
+        private final long myDocumentHash;
+        private final Reference<GraphQLSchema> mySchemaRef;
+        private final Reference<TypeDefinitionRegistry> myRegistryRef;
+        private final List<Problem> myProblems;
+
+        private CachedDocument(long documentHash,
+                               @NotNull GraphQLSchema schema,
+                               @NotNull TypeDefinitionRegistry registry,
+                               @NotNull List<Problem> problems) {
+            myDocumentHash = documentHash;
+            mySchemaRef = new WeakReference<>(schema);
+            myRegistryRef = new WeakReference<>(registry);
+            myProblems = problems;
+        }
+
+        private boolean isValidFor(@NotNull GraphQLSchema schema) {
+            return mySchemaRef.get() == schema;
+        }
+    }
+
+    private static final class ValidationMessage {
+        private final int myCategory;
+        private final String myText;
+        private final VirtualFile myFile;
+        private final int myLine;
+        private final int myColumn;
+
+        private ValidationMessage(int category, @NotNull String text, @NotNull VirtualFile file, int line, int column) {
+            myCategory = category;
+            myText = text;
+            myFile = file;
+            myLine = line;
+            myColumn = column;
+        }
+
+        @Override
+        public String toString() {
+            return myFile.getName() + ":" + (myLine + 1) + ":" + (myColumn + 1) + ": " + myText;
+        }
+    }
+
+    /**
+     * Adds the messages to the panel on the UI thread, until the panel is closed.
+     */
+    private final class ResultsView implements Disposable {
+        private final NewErrorTreeViewPanel myPanel;
+        private final AtomicBoolean myDisposed = new AtomicBoolean();
+
+        private ResultsView(@NotNull NewErrorTreeViewPanel panel) {
+            myPanel = panel;
+        }
+
+        void addMessages(@NotNull List<ValidationMessage> messages) {
+            if (messages.isEmpty()) {
+                return;
+            }
+            invokeLater(() -> {
+                for (ValidationMessage message : messages) {
+                    myPanel.addMessage(message.myCategory, new String[]{message.myText}, message.myFile, message.myLine, message.myColumn, null);
+                }
+            });
+        }
+
+        void addInfo(@NotNull String text) {
+            invokeLater(() -> myPanel.addMessage(MessageCategory.INFORMATION, new String[]{text}, null, -1, -1, null));
+        }
+
+        private void invokeLater(@NotNull Runnable runnable) {
+            ApplicationManager.getApplication().invokeLater(runnable, ModalityState.NON_MODAL, o -> isDisposed() || myProject.isDisposed());
+        }
+
+        boolean isDisposed() {
+            return myDisposed.get();
+        }
+
+        @Override
+        public void dispose() {
+            myDisposed.set(true);
+            cancelRunningValidation();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.intellij.lang.jsgraphql.ide.validation.inspections.GraphQLInspection;
 import com.intellij.lang.jsgraphql.psi.*;
 import com.intellij.lang.jsgraphql.psi.GraphQLNamedTypeDefinition;
 import com.intellij.lang.jsgraphql.psi.GraphQLNamedTypeExtension;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaErrorLocation;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaInfo;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
 import com.intellij.lang.jsgraphql.types.GraphQLError;
@@ -55,9 +56,10 @@ public class GraphQLSchemaAnnotator implements Annotator {
 
         try {
             GraphQLSchemaInfo schemaInfo = GraphQLSchemaProvider.getInstance(project).getSchemaInfo(psiElement);
-            List<GraphQLError> schemaErrors = schemaInfo.getErrors(project);
-            if (!schemaErrors.isEmpty()) {
-                showSchemaErrors(annotationHolder, schemaErrors, file);
+            if (!schemaInfo.getErrors(project).isEmpty()) {
+                List<GraphQLSchemaErrorLocation> errorLocations =
+                    schemaInfo.getErrorLocations(project, GraphQLPsiUtil.getFileName(file));
+                showSchemaErrors(annotationHolder, errorLocations, file);
             } else {
                 showDocumentErrors(annotationHolder, schemaInfo, file);
             }
@@ -89,63 +91,83 @@ public class GraphQLSchemaAnnotator implements Annotator {
                 continue;
             }
 
-            switch (validationErrorType) {
-                case DefaultForNonNullArgument:
-                case WrongType:
-                case SubSelectionRequired:
-                case SubSelectionNotAllowed:
-                case BadValueForDefaultArg:
-                case InlineFragmentTypeConditionInvalid:
-                case FragmentTypeConditionInvalid:
-                case UnknownArgument:
-                case NonInputTypeOnVariable:
-                case MissingFieldArgument:
-                case MissingDirectiveArgument:
-                case VariableTypeMismatch:
-                case MisplacedDirective:
-                case UndefinedVariable:
-                case UnusedVariable:
-                case FragmentCycle:
-                case FieldsConflict:
-                case InvalidFragmentType:
-                case LoneAnonymousOperationViolation:
-                case DuplicateFragmentName:
-                case DuplicateDirectiveName:
-                case DuplicateArgumentNames:
-                case DuplicateVariableName:
-                    processValidationError(annotationHolder, file, validationError);
-                    break;
-                case NonExecutableDefinition:
-                case UnknownType:
-                case UnusedFragment:
-                case DuplicateOperationName:
-                case NullValueForNonNullArgument:
-                case InvalidSyntax:
-                case FieldUndefined:
-                case UndefinedFragment:
-                case UnknownDirective:
-                    // ignore explicitly
-                    break;
+            if (isReportedErrorType(validationErrorType)) {
+                processValidationError(annotationHolder, file, validationError);
             }
         }
     }
 
+    /**
+     * @return true if the errors of the given type are reported, the other errors are either ignored or reported by the
+     * dedicated inspections
+     */
+    static boolean isReportedErrorType(@NotNull ValidationErrorType validationErrorType) {
+        switch (validationErrorType) {
+            case DefaultForNonNullArgument:
+            case WrongType:
+            case SubSelectionRequired:
+            case SubSelectionNotAllowed:
+            case BadValueForDefaultArg:
+            case InlineFragmentTypeConditionInvalid:
+            case FragmentTypeConditionInvalid:
+            case UnknownArgument:
+            case NonInputTypeOnVariable:
+            case MissingFieldArgument:
+            case MissingDirectiveArgument:
+            case VariableTypeMismatch:
+            case MisplacedDirective:
+            case UndefinedVariable:
+            case UnusedVariable:
+            case FragmentCycle:
+            case FieldsConflict:
+            case InvalidFragmentType:
+            case LoneAnonymousOperationViolation:
+            case DuplicateFragmentName:
+            case DuplicateDirectiveName:
+            case DuplicateArgumentNames:
+            case DuplicateVariableName:
+                return true;
+            case NonExecutableDefinition:
+            case UnknownType:
+            case UnusedFragment:
+            case DuplicateOperationName:
+            case NullValueForNonNullArgument:
+            case InvalidSyntax:
+            case FieldUndefined:
+            case UndefinedFragment:
+            case UnknownDirective:
+                // ignore explicitly
+                return false;
+        }
+        return false;
+    }
+
     private @NotNull List<? extends GraphQLError> validateQueryDocument(@NotNull GraphQLSchemaInfo schemaInfo, @NotNull GraphQLFile file) {
-        return new Validator().validateDocument(schemaInfo.getSchema(), file.getDocument());
+        return new Validator().validateDocument(schemaInfo.getSchema(), file.getDocument(), true);
     }
 
     private void showSchemaErrors(@NotNull AnnotationHolder annotationHolder,
-                                  @NotNull List<GraphQLError> schemaErrors,
+                                  @NotNull List<GraphQLSchemaErrorLocation> errorLocations,
                                   @NotNull GraphQLFile file) {
-        for (GraphQLError error : schemaErrors) {
-            Collection<? extends PsiElement> elements = getElementsToAnnotate(file, error);
-            for (PsiElement element : elements) {
+        for (GraphQLSchemaErrorLocation errorLocation : errorLocations) {
+            PsiElement element = getElementToAnnotate(file, errorLocation);
+            if (element != null) {
+                GraphQLError error = errorLocation.getError();
                 createErrorAnnotation(annotationHolder, error, element, error.getMessage());
             }
         }
     }
 
-    private @NotNull Collection<PsiElement> getElementsToAnnotate(@NotNull PsiFile containingFile, @NotNull GraphQLError error) {
+    static @Nullable PsiElement getElementToAnnotate(@NotNull PsiFile containingFile,
+                                                      @NotNull GraphQLSchemaErrorLocation errorLocation) {
+        PsiElement element = errorLocation.getElement();
+        if (element != null) {
+            return element.isValid() && element.getContainingFile() == containingFile ? element : null;
+        }
+        return findElementAtOffset(containingFile, errorLocation.getOffset());
+    }
+
+    static @NotNull Collection<PsiElement> getElementsToAnnotate(@NotNull PsiFile containingFile, @NotNull GraphQLError error) {
         Node<?> node = error.getNode();
         if (node != null) {
             PsiElement element = node.getElement();
@@ -172,20 +194,23 @@ public class GraphQLSchemaAnnotator implements Annotator {
                 return element.isValid() && element.getContainingFile() == containingFile ? element : null;
             }
 
-            int positionToOffset = location.getOffset();
-            if (positionToOffset == -1) {
-                return null;
-            }
-
-            PsiElement context = containingFile.getContext();
-            if (context != null) {
-                // injected file, so adjust the position
-                positionToOffset = positionToOffset - context.getTextOffset();
-            }
-            return containingFile.findElementAt(positionToOffset);
+            return findElementAtOffset(containingFile, location.getOffset());
         });
     }
 
+    private static @Nullable PsiElement findElementAtOffset(@NotNull PsiFile containingFile, int offset) {
+        if (offset == -1) {
+            return null;
+        }
+
+        PsiElement context = containingFile.getContext();
+        if (context != null) {
+            // injected file, so adjust the position
+            offset = offset - context.getTextOffset();
+        }
+        return containingFile.findElementAt(offset);
+    }
+
     private void processValidationError(@NotNull AnnotationHolder annotationHolder,
                                         @NotNull PsiFile containingFile,
                                         @NotNull ValidationError validationError) {
@@ -266,7 +291,7 @@ public class GraphQLSchemaAnnotator implements Annotator {
         return sb.toString();
     }
 
-    private @NotNull PsiElement getAnnotationAnchor(@NotNull PsiElement element) {
+    static @NotNull PsiElement getAnnotationAnchor(@NotNull PsiElement element) {
         if (element instanceof PsiWhiteSpace) {
             PsiElement next = PsiTreeUtil.skipWhitespacesForward(element);
             if (next != null) {
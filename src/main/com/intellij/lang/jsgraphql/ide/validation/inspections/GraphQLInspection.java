@@ -93,6 +93,24 @@ public abstract class GraphQLInspection extends LocalInspectionTool {
         return false;
     }
 
+    /**
+     * @return false if the inspection is disabled for the file of the element, or its problems are suppressed for the element
+     */
+    public static boolean isProblemReported(@NotNull PsiElement element, @NotNull Class<? extends GraphQLInspection> inspectionClass) {
+        String toolId = getInspectionShortName(inspectionClass);
+        PsiFile file = element.getContainingFile();
+        Project project = element.getProject();
+
+        InspectionProfileImpl profile = InspectionProjectProfileManager.getInstance(project).getCurrentProfile();
+        LocalInspectionToolWrapper inspectionToolWrapper = getInspectionToolWrapper(element, toolId, profile);
+        if (inspectionToolWrapper == null || !isToolEnabled(project, inspectionClass, file)) {
+            return false;
+        }
+
+        final LocalInspectionTool tool = inspectionToolWrapper.getTool();
+        return !SuppressionUtil.inspectionResultSuppressed(element, tool) && !isSuppressedInHostLanguage(project, file, toolId);
+    }
+
     public static void createAnnotation(@NotNull AnnotationHolder annotationHolder,
                                         @NotNull PsiElement element,
                                         @NotNull String message) {
@@ -131,22 +149,12 @@ public abstract class GraphQLInspection extends LocalInspectionTool {
         ProblemGroup problemGroup = null;
 
         if (inspectionClass != null) {
-            HighlightDisplayKey key = getHighlightDisplayKeyByClass(inspectionClass);
-            String toolId = key.toString();
-            PsiFile file = element.getContainingFile();
-            Project project = element.getProject();
-
-            InspectionProfileImpl profile = InspectionProjectProfileManager.getInstance(project).getCurrentProfile();
-            LocalInspectionToolWrapper inspectionToolWrapper = getInspectionToolWrapper(element, toolId, profile);
-            if (inspectionToolWrapper == null || !isToolEnabled(project, inspectionClass, file)) {
-                return null;
-            }
-
-            final LocalInspectionTool tool = inspectionToolWrapper.getTool();
-            if (SuppressionUtil.inspectionResultSuppressed(element, tool) || isSuppressedInHostLanguage(project, file, toolId)) {
+            if (!isProblemReported(element, inspectionClass)) {
                 return null;
             }
 
+            HighlightDisplayKey key = getHighlightDisplayKeyByClass(inspectionClass);
+            String toolId = key.toString();
             severity = GraphQLInspection.getSeverity(inspectionClass, element.getContainingFile());
             problemGroup = new GraphQLProblemGroup(toolId);
 
@@ -8,12 +8,22 @@
 package com.intellij.lang.jsgraphql.psi;
 
 import com.intellij.injected.editor.VirtualFileWindow;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaChangeTracker;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaInfo;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiComment;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.testFramework.LightVirtualFile;
 import com.intellij.util.SmartList;
@@ -21,9 +31,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 public class GraphQLPsiUtil {
 
+    private static final Key<CachedValue<GraphQLType>> TYPE_SCOPE_KEY = Key.create("graphql.type.scope");
+
     public static @Nullable String getTypeName(@Nullable PsiElement psiElement, @Nullable Ref<GraphQLIdentifier> typeNameRef) {
 
         if (psiElement != null) {
@@ -56,6 +69,24 @@ public class GraphQLPsiUtil {
         return null;
     }
 
+    /**
+     * Caches the type scope of the selection set owner, so nested fields don't have to recompute the types of all their parents.
+     * The cached type is dropped on any PSI change, and when its schema is changed or removed from the cache.
+     */
+    public static @Nullable GraphQLType getCachedTypeScope(@NotNull GraphQLTypeScopeProvider typeScopeProvider,
+                                                           @NotNull Supplier<GraphQLType> typeScopeComputable) {
+        return CachedValuesManager.getCachedValue(typeScopeProvider, TYPE_SCOPE_KEY, () -> {
+            final Project project = typeScopeProvider.getProject();
+            final GraphQLSchemaInfo schemaInfo = GraphQLSchemaProvider.getInstance(project).getSchemaInfo(typeScopeProvider);
+            return CachedValueProvider.Result.create(
+                typeScopeComputable.get(),
+                PsiModificationTracker.MODIFICATION_COUNT,
+                GraphQLSchemaChangeTracker.getInstance(project).getSchemaModificationTracker(),
+                schemaInfo.getModificationTracker()
+            );
+        });
+    }
+
     @Nullable
     public static VirtualFile getOriginalVirtualFile(@Nullable PsiFile containingFile) {
         if (containingFile == null || !containingFile.isValid()) return null;
@@ -10,6 +10,7 @@ package com.intellij.lang.jsgraphql.psi.impl;
 import com.intellij.lang.ASTNode;
 import com.intellij.lang.jsgraphql.GraphQLConstants;
 import com.intellij.lang.jsgraphql.psi.GraphQLField;
+import com.intellij.lang.jsgraphql.psi.GraphQLPsiUtil;
 import com.intellij.lang.jsgraphql.psi.GraphQLTypeScopeProvider;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaUtil;
 import com.intellij.lang.jsgraphql.types.introspection.Introspection;
@@ -25,6 +26,10 @@ public abstract class GraphQLFieldMixin extends GraphQLNamedElementImpl implemen
 
     @Override
     public GraphQLType getTypeScope() {
+        return GraphQLPsiUtil.getCachedTypeScope(this, this::computeTypeScope);
+    }
+
+    private GraphQLType computeTypeScope() {
         final String fieldName = this.getName();
         if (fieldName != null) {
             // the type scope for a field is the output type of the field, given the name of the field and its parent
@@ -9,6 +9,7 @@ package com.intellij.lang.jsgraphql.psi.impl;
 
 import com.intellij.lang.ASTNode;
 import com.intellij.lang.jsgraphql.psi.GraphQLInlineFragment;
+import com.intellij.lang.jsgraphql.psi.GraphQLPsiUtil;
 import com.intellij.lang.jsgraphql.psi.GraphQLTypeName;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
 import com.intellij.lang.jsgraphql.psi.GraphQLTypeScopeProvider;
@@ -24,6 +25,10 @@ public abstract class GraphQLInlineFragmentMixin extends GraphQLElementImpl impl
 
     @Override
     public GraphQLType getTypeScope() {
+        return GraphQLPsiUtil.getCachedTypeScope(this, this::computeTypeScope);
+    }
+
+    private GraphQLType computeTypeScope() {
         final GraphQLSchema schema = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(this).getSchema();
         if (getTypeCondition() != null) {
             final GraphQLTypeName typeName = getTypeCondition().getTypeName();
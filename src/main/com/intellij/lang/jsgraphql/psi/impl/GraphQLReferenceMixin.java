@@ -17,6 +17,7 @@ import com.intellij.lang.jsgraphql.psi.GraphQLIdentifier;
 import com.intellij.lang.jsgraphql.psi.GraphQLReferenceElement;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.SearchScope;
 import com.intellij.util.ObjectUtils;
 import org.jetbrains.annotations.NotNull;
@@ -57,6 +58,13 @@ public abstract class GraphQLReferenceMixin extends GraphQLNamedElementImpl impl
             // this PSI element is part of injected GraphQL, so we have to expand the use scope which defaults to the current file only
             useScope = useScope.union(GraphQLPsiSearchHelper.getInstance(getProject()).getResolveScope(this));
         }
+        if (this instanceof GraphQLIdentifier && getParent() instanceof GraphQLFieldDefinition) {
+            // only the files which select the field on its declaring type can contain usages, e.g. for rename of a common name like "id"
+            final GlobalSearchScope fieldUsageScope = GraphQLPsiSearchHelper.getInstance(getProject()).getFieldUsageScope((GraphQLIdentifier) this);
+            if (fieldUsageScope != null) {
+                useScope = useScope.intersectWith(fieldUsageScope);
+            }
+        }
         return useScope;
     }
 
@@ -9,6 +9,7 @@ package com.intellij.lang.jsgraphql.psi.impl;
 
 import com.intellij.lang.ASTNode;
 import com.intellij.lang.jsgraphql.psi.GraphQLIdentifier;
+import com.intellij.lang.jsgraphql.psi.GraphQLPsiUtil;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
 import com.intellij.lang.jsgraphql.psi.GraphQLTypeScopeProvider;
 import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
@@ -30,6 +31,10 @@ public abstract class GraphQLSelectionSetOperationDefinitionMixin extends GraphQ
 
     @Override
     public GraphQLType getTypeScope() {
+        return GraphQLPsiUtil.getCachedTypeScope(this, this::computeTypeScope);
+    }
+
+    private GraphQLType computeTypeScope() {
         final GraphQLSchema schema = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(this).getSchema();
         // selection set operation definition is an anonymous query
         return schema.getQueryType();
@@ -9,6 +9,7 @@ package com.intellij.lang.jsgraphql.psi.impl;
 
 import com.intellij.lang.ASTNode;
 import com.intellij.lang.jsgraphql.psi.GraphQLElementTypes;
+import com.intellij.lang.jsgraphql.psi.GraphQLPsiUtil;
 import com.intellij.lang.jsgraphql.psi.GraphQLTypedOperationDefinition;
 import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
 import com.intellij.lang.jsgraphql.psi.GraphQLTypeScopeProvider;
@@ -24,6 +25,10 @@ public abstract class GraphQLTypedOperationDefinitionMixin extends GraphQLNamedE
 
     @Override
     public GraphQLType getTypeScope() {
+        return GraphQLPsiUtil.getCachedTypeScope(this, this::computeTypeScope);
+    }
+
+    private GraphQLType computeTypeScope() {
         final GraphQLSchema schema = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(this).getSchema();
         final IElementType operationType = getOperationType().getNode().getFirstChildNode().getElementType();
         if (operationType == GraphQLElementTypes.QUERY_KEYWORD) {
@@ -1,6 +1,8 @@
 package com.intellij.lang.jsgraphql.schema;
 
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
 import com.intellij.lang.jsgraphql.psi.*;
 import com.intellij.lang.jsgraphql.types.language.*;
@@ -25,6 +27,10 @@ import static com.intellij.lang.jsgraphql.types.parser.StringValueParsing.parseT
 public final class GraphQLPsiToLanguage {
     public static final GraphQLPsiToLanguage INSTANCE = new GraphQLPsiToLanguage();
 
+    // the same names are repeated all over a schema, so all the documents share a single instance of them,
+    // while the nodes are still created per use, since each keeps the source location and the element of its use
+    private static final Interner<String> NAMES = Interners.newWeakInterner();
+
     public @NotNull Document createDocument(@NotNull GraphQLFile file) {
         Document.Builder document = Document.newDocument();
         addCommonData(document, file);
@@ -62,7 +68,7 @@ public final class GraphQLPsiToLanguage {
         } else if (definition instanceof GraphQLTypedOperationDefinition) {
             GraphQLTypedOperationDefinition typedOperation = (GraphQLTypedOperationDefinition) definition;
             operationDefinition.operation(parseOperation(typedOperation));
-            operationDefinition.name(typedOperation.getName());
+            operationDefinition.name(intern(typedOperation.getName()));
 
             operationDefinition.variableDefinitions(createVariableDefinitions(typedOperation.getVariableDefinitions()));
             operationDefinition.directives(createDirectives(typedOperation.getDirectives()));
@@ -90,7 +96,7 @@ public final class GraphQLPsiToLanguage {
 
     @Nullable
     private FragmentSpread createFragmentSpread(@NotNull GraphQLFragmentSpread fragment) {
-        FragmentSpread.Builder fragmentSpread = FragmentSpread.newFragmentSpread().name(fragment.getName());
+        FragmentSpread.Builder fragmentSpread = FragmentSpread.newFragmentSpread().name(intern(fragment.getName()));
         addCommonData(fragmentSpread, fragment);
         fragmentSpread.directives(createDirectives(fragment.getDirectives()));
         return checkNode(fragmentSpread.build());
@@ -108,7 +114,7 @@ public final class GraphQLPsiToLanguage {
     private VariableDefinition createVariableDefinition(@NotNull GraphQLVariableDefinition definition) {
         VariableDefinition.Builder variableDefinition = VariableDefinition.newVariableDefinition();
         addCommonData(variableDefinition, definition);
-        variableDefinition.name(definition.getVariable().getName());
+        variableDefinition.name(intern(definition.getVariable().getName()));
         GraphQLDefaultValue defaultValue = definition.getDefaultValue();
         if (defaultValue != null) {
             variableDefinition.defaultValue(createValue(defaultValue.getValue()));
@@ -123,14 +129,14 @@ public final class GraphQLPsiToLanguage {
     private FragmentDefinition createFragmentDefinition(@NotNull GraphQLFragmentDefinition definition) {
         FragmentDefinition.Builder fragmentDefinition = FragmentDefinition.newFragmentDefinition();
         addCommonData(fragmentDefinition, definition);
-        fragmentDefinition.name(definition.getName());
+        fragmentDefinition.name(intern(definition.getName()));
 
         GraphQLTypeCondition typeCondition = definition.getTypeCondition();
         if (typeCondition != null) {
             GraphQLTypeName typeName = typeCondition.getTypeName();
             if (typeName != null) {
                 fragmentDefinition.typeCondition(checkNode(
-                    TypeName.newTypeName().name(typeName.getName()).build()));
+                    TypeName.newTypeName().name(intern(typeName.getName())).build()));
             }
         }
 
@@ -181,10 +187,10 @@ public final class GraphQLPsiToLanguage {
     private Field createField(@NotNull GraphQLField field) {
         Field.Builder builder = Field.newField();
         addCommonData(builder, field);
-        builder.name(field.getName());
+        builder.name(intern(field.getName()));
         GraphQLAlias alias = field.getAlias();
         if (alias != null) {
-            builder.alias(alias.getIdentifier().getText());
+            builder.alias(intern(alias.getIdentifier().getText()));
         }
 
         builder.directives(createDirectives(field.getDirectives()));
@@ -286,7 +292,7 @@ public final class GraphQLPsiToLanguage {
     private TypeName createTypeName(@Nullable GraphQLTypeName typeName) {
         if (typeName == null) return null;
         TypeName.Builder builder = TypeName.newTypeName();
-        builder.name(typeName.getName());
+        builder.name(intern(typeName.getName()));
         addCommonData(builder, typeName);
         return checkNode(builder.build());
     }
@@ -318,7 +324,7 @@ public final class GraphQLPsiToLanguage {
     private Argument createArgument(@NotNull GraphQLArgument argument) {
         Argument.Builder builder = Argument.newArgument();
         addCommonData(builder, argument);
-        builder.name(argument.getName());
+        builder.name(intern(argument.getName()));
         builder.value(createValue(argument.getValue()));
         return checkNode(builder.build());
     }
@@ -340,7 +346,7 @@ public final class GraphQLPsiToLanguage {
     @Nullable
     private Directive createDirective(@NotNull GraphQLDirective directive) {
         Directive.Builder builder = Directive.newDirective();
-        builder.name(directive.getName());
+        builder.name(intern(directive.getName()));
         addCommonData(builder, directive);
         builder.arguments(createArguments(directive.getArguments()));
         return checkNode(builder.build());
@@ -379,7 +385,7 @@ public final class GraphQLPsiToLanguage {
         OperationTypeDefinition.Builder def = OperationTypeDefinition.newOperationTypeDefinition();
         GraphQLOperationType operationType = definition.getOperationType();
         if (operationType != null) {
-            def.name(operationType.getText());
+            def.name(intern(operationType.getText()));
         }
         def.typeName(createTypeName(definition.getTypeName()));
         addCommonData(def, definition);
@@ -391,7 +397,7 @@ public final class GraphQLPsiToLanguage {
         ScalarTypeDefinition.Builder def = ScalarTypeDefinition.newScalarTypeDefinition();
         GraphQLTypeNameDefinition typeNameDefinition = typeDefinition.getTypeNameDefinition();
         if (typeNameDefinition != null) {
-            def.name(typeNameDefinition.getName());
+            def.name(intern(typeNameDefinition.getName()));
         }
         addCommonData(def, typeDefinition);
         def.description(newDescription(typeDefinition.getDescription()));
@@ -404,7 +410,7 @@ public final class GraphQLPsiToLanguage {
         ScalarTypeExtensionDefinition.Builder def = ScalarTypeExtensionDefinition.newScalarTypeExtensionDefinition();
         GraphQLTypeName typeName = extensionDefinition.getTypeName();
         if (typeName != null) {
-            def.name(typeName.getName());
+            def.name(intern(typeName.getName()));
         }
         addCommonData(def, extensionDefinition);
         def.directives(createDirectives(extensionDefinition.getDirectives()));
@@ -416,7 +422,7 @@ public final class GraphQLPsiToLanguage {
         ObjectTypeDefinition.Builder def = ObjectTypeDefinition.newObjectTypeDefinition();
         GraphQLTypeNameDefinition typeNameDefinition = typeDefinition.getTypeNameDefinition();
         if (typeNameDefinition != null) {
-            def.name(typeNameDefinition.getName());
+            def.name(intern(typeNameDefinition.getName()));
         }
         addCommonData(def, typeDefinition);
         def.description(newDescription(typeDefinition.getDescription()));
@@ -431,7 +437,7 @@ public final class GraphQLPsiToLanguage {
         ObjectTypeExtensionDefinition.Builder def = ObjectTypeExtensionDefinition.newObjectTypeExtensionDefinition();
         GraphQLTypeName typeName = extensionDefinition.getTypeName();
         if (typeName != null) {
-            def.name(typeName.getName());
+            def.name(intern(typeName.getName()));
         }
         addCommonData(def, extensionDefinition);
         def.directives(createDirectives(extensionDefinition.getDirectives()));
@@ -455,7 +461,7 @@ public final class GraphQLPsiToLanguage {
     @Nullable
     private FieldDefinition createFieldDefinition(@NotNull GraphQLFieldDefinition fieldDefinition) {
         FieldDefinition.Builder def = FieldDefinition.newFieldDefinition();
-        def.name(fieldDefinition.getName());
+        def.name(intern(fieldDefinition.getName()));
         def.type(createType(fieldDefinition.getType()));
         addCommonData(def, fieldDefinition);
         def.description(newDescription(fieldDefinition.getDescription()));
@@ -475,7 +481,7 @@ public final class GraphQLPsiToLanguage {
     @Nullable
     private InputValueDefinition createInputValueDefinition(@NotNull GraphQLInputValueDefinition valueDefinition) {
         InputValueDefinition.Builder def = InputValueDefinition.newInputValueDefinition();
-        def.name(valueDefinition.getName());
+        def.name(intern(valueDefinition.getName()));
         def.type(createType(valueDefinition.getType()));
         addCommonData(def, valueDefinition);
         def.description(newDescription(valueDefinition.getDescription()));
@@ -492,7 +498,7 @@ public final class GraphQLPsiToLanguage {
         InterfaceTypeDefinition.Builder def = InterfaceTypeDefinition.newInterfaceTypeDefinition();
         GraphQLTypeNameDefinition typeNameDefinition = typeDefinition.getTypeNameDefinition();
         if (typeNameDefinition != null) {
-            def.name(typeNameDefinition.getName());
+            def.name(intern(typeNameDefinition.getName()));
         }
         addCommonData(def, typeDefinition);
         def.description(newDescription(typeDefinition.getDescription()));
@@ -508,7 +514,7 @@ public final class GraphQLPsiToLanguage {
         InterfaceTypeExtensionDefinition.Builder def = InterfaceTypeExtensionDefinition.newInterfaceTypeExtensionDefinition();
         GraphQLTypeName typeName = extensionDefinition.getTypeName();
         if (typeName != null) {
-            def.name(typeName.getName());
+            def.name(intern(typeName.getName()));
         }
         addCommonData(def, extensionDefinition);
         def.directives(createDirectives(extensionDefinition.getDirectives()));
@@ -523,7 +529,7 @@ public final class GraphQLPsiToLanguage {
         UnionTypeDefinition.Builder def = UnionTypeDefinition.newUnionTypeDefinition();
         GraphQLTypeNameDefinition typeNameDefinition = typeDefinition.getTypeNameDefinition();
         if (typeNameDefinition != null) {
-            def.name(typeNameDefinition.getName());
+            def.name(intern(typeNameDefinition.getName()));
         }
         addCommonData(def, typeDefinition);
         def.description(newDescription(typeDefinition.getDescription()));
@@ -550,7 +556,7 @@ public final class GraphQLPsiToLanguage {
         UnionTypeExtensionDefinition.Builder def = UnionTypeExtensionDefinition.newUnionTypeExtensionDefinition();
         GraphQLTypeName typeName = extensionDefinition.getTypeName();
         if (typeName != null) {
-            def.name(typeName.getName());
+            def.name(intern(typeName.getName()));
         }
         addCommonData(def, extensionDefinition);
         def.directives(createDirectives(extensionDefinition.getDirectives()));
@@ -576,7 +582,7 @@ public final class GraphQLPsiToLanguage {
         EnumTypeDefinition.Builder def = EnumTypeDefinition.newEnumTypeDefinition();
         GraphQLTypeNameDefinition typeNameDefinition = enumTypeDefinition.getTypeNameDefinition();
         if (typeNameDefinition != null) {
-            def.name(typeNameDefinition.getName());
+            def.name(intern(typeNameDefinition.getName()));
         }
         addCommonData(def, enumTypeDefinition);
         def.description(newDescription(enumTypeDefinition.getDescription()));
@@ -594,7 +600,7 @@ public final class GraphQLPsiToLanguage {
         EnumTypeExtensionDefinition.Builder def = EnumTypeExtensionDefinition.newEnumTypeExtensionDefinition();
         GraphQLTypeName typeName = extensionDefinition.getTypeName();
         if (typeName != null) {
-            def.name(typeName.getName());
+            def.name(intern(typeName.getName()));
         }
         addCommonData(def, extensionDefinition);
         def.directives(createDirectives(extensionDefinition.getDirectives()));
@@ -609,7 +615,7 @@ public final class GraphQLPsiToLanguage {
     @Nullable
     private EnumValueDefinition createEnumValueDefinition(@NotNull GraphQLEnumValueDefinition valueDefinition) {
         EnumValueDefinition.Builder def = EnumValueDefinition.newEnumValueDefinition();
-        def.name(valueDefinition.getEnumValue().getName());
+        def.name(intern(valueDefinition.getEnumValue().getName()));
         addCommonData(def, valueDefinition);
         def.description(newDescription(valueDefinition.getDescription()));
         def.directives(createDirectives(valueDefinition.getDirectives()));
@@ -621,7 +627,7 @@ public final class GraphQLPsiToLanguage {
         InputObjectTypeDefinition.Builder def = InputObjectTypeDefinition.newInputObjectDefinition();
         GraphQLTypeNameDefinition typeNameDefinition = typeDefinition.getTypeNameDefinition();
         if (typeNameDefinition != null) {
-            def.name(typeNameDefinition.getName());
+            def.name(intern(typeNameDefinition.getName()));
         }
         addCommonData(def, typeDefinition);
         def.description(newDescription(typeDefinition.getDescription()));
@@ -638,7 +644,7 @@ public final class GraphQLPsiToLanguage {
         InputObjectTypeExtensionDefinition.Builder def = InputObjectTypeExtensionDefinition.newInputObjectTypeExtensionDefinition();
         GraphQLTypeName typeName = extensionDefinition.getTypeName();
         if (typeName != null) {
-            def.name(typeName.getName());
+            def.name(intern(typeName.getName()));
         }
         addCommonData(def, extensionDefinition);
         def.directives(createDirectives(extensionDefinition.getDirectives()));
@@ -654,7 +660,7 @@ public final class GraphQLPsiToLanguage {
         DirectiveDefinition.Builder def = DirectiveDefinition.newDirectiveDefinition();
         GraphQLIdentifier nameIdentifier = directiveDefinition.getNameIdentifier();
         if (nameIdentifier != null) {
-            def.name(nameIdentifier.getText());
+            def.name(intern(nameIdentifier.getText()));
         }
         addCommonData(def, directiveDefinition);
         def.description(newDescription(directiveDefinition.getDescription()));
@@ -683,7 +689,7 @@ public final class GraphQLPsiToLanguage {
     @Nullable
     private DirectiveLocation createDirectiveLocation(@NotNull GraphQLDirectiveLocation directiveLocation) {
         DirectiveLocation.Builder def = DirectiveLocation.newDirectiveLocation();
-        def.name(directiveLocation.getText());
+        def.name(intern(directiveLocation.getText()));
         addCommonData(def, directiveLocation);
         return checkNode(def.build());
     }
@@ -723,7 +729,7 @@ public final class GraphQLPsiToLanguage {
             addCommonData(stringValue, value);
             return stringValue.build();
         } else if (value instanceof GraphQLEnumValue) {
-            EnumValue.Builder enumValue = EnumValue.newEnumValue().name(((GraphQLEnumValue) value).getName());
+            EnumValue.Builder enumValue = EnumValue.newEnumValue().name(intern(((GraphQLEnumValue) value).getName()));
             addCommonData(enumValue, value);
             return checkNode(enumValue.build());
         } else if (value instanceof GraphQLArrayValue) {
@@ -743,7 +749,7 @@ public final class GraphQLPsiToLanguage {
             List<ObjectField> objectFields = new ArrayList<>();
             for (GraphQLObjectField field : ((GraphQLObjectValue) value).getObjectFieldList()) {
                 ObjectField objectField = checkNode(ObjectField.newObjectField()
-                    .name(field.getName())
+                    .name(intern(field.getName()))
                     .value(createValue(field.getValue()))
                     .build());
                 if (objectField != null) {
@@ -753,7 +759,7 @@ public final class GraphQLPsiToLanguage {
             return objectValue.objectFields(objectFields).build();
         } else if (value instanceof GraphQLVariable) {
             VariableReference.Builder variableReference = VariableReference.newVariableReference()
-                .name(((GraphQLVariable) value).getName());
+                .name(intern(((GraphQLVariable) value).getName()));
             addCommonData(variableReference, value);
             return checkNode(variableReference.build());
         } else if (value instanceof GraphQLTemplateVariable) {
@@ -772,6 +778,11 @@ public final class GraphQLPsiToLanguage {
         }
     }
 
+    @Nullable
+    private static String intern(@Nullable String name) {
+        return name != null ? NAMES.intern(name) : null;
+    }
+
     private void addCommonData(NodeBuilder nodeBuilder, @NotNull PsiElement element) {
         nodeBuilder.sourceLocation(getSourceLocation(element));
         nodeBuilder.element(element);
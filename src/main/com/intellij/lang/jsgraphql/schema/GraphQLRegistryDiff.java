@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.schema;
+
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaCoordinateIndex;
+import com.intellij.lang.jsgraphql.types.language.*;
+import com.intellij.lang.jsgraphql.types.schema.idl.TypeDefinitionRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Computes the schema coordinates which differ between two type definition registries, e.g. <code>User</code> if the type
+ * itself changed, or <code>User.name</code> if only the field changed.
+ * <p>
+ * This is a lot cheaper than a schema diff, since the registries are compared structurally and no schema has to be built.
+ * Source locations and descriptions aren't compared, so moving a definition or editing its documentation isn't a change.
+ */
+public final class GraphQLRegistryDiff {
+
+    private static final AstComparator COMPARATOR = new AstComparator();
+
+    private GraphQLRegistryDiff() {
+    }
+
+    /**
+     * @return the changed coordinates, or null if the change affects the whole schema, e.g. the root operation types changed
+     */
+    public static @Nullable Set<String> getChangedCoordinates(@NotNull TypeDefinitionRegistry oldRegistry,
+                                                              @NotNull TypeDefinitionRegistry newRegistry) {
+        if (oldRegistry == newRegistry) {
+            return Collections.emptySet();
+        }
+        if (!isEqual(oldRegistry.schemaDefinition().orElse(null), newRegistry.schemaDefinition().orElse(null)) ||
+            !isEqualNodes(oldRegistry.getSchemaExtensionDefinitions(), newRegistry.getSchemaExtensionDefinitions())) {
+            return null;
+        }
+
+        final Set<String> changed = new HashSet<>();
+
+        final Map<String, List<Node>> oldTypes = collectTypeNodes(oldRegistry);
+        final Map<String, List<Node>> newTypes = collectTypeNodes(newRegistry);
+        for (String typeName : union(oldTypes.keySet(), newTypes.keySet())) {
+            final List<Node> oldNodes = oldTypes.getOrDefault(typeName, Collections.emptyList());
+            final List<Node> newNodes = newTypes.getOrDefault(typeName, Collections.emptyList());
+            if (!isEqualIgnoringMembers(oldNodes, newNodes)) {
+                changed.add(typeName);
+            }
+            final Map<String, List<Node>> oldMembers = collectMembers(oldNodes);
+            final Map<String, List<Node>> newMembers = collectMembers(newNodes);
+            for (String memberName : union(oldMembers.keySet(), newMembers.keySet())) {
+                if (!isEqualNodes(oldMembers.getOrDefault(memberName, Collections.emptyList()),
+                    newMembers.getOrDefault(memberName, Collections.emptyList()))) {
+                    changed.add(GraphQLSchemaCoordinateIndex.memberCoordinate(typeName, memberName));
+                }
+            }
+        }
+
+        final Map<String, DirectiveDefinition> oldDirectives = oldRegistry.getDirectiveDefinitions();
+        final Map<String, DirectiveDefinition> newDirectives = newRegistry.getDirectiveDefinitions();
+        for (String directiveName : union(oldDirectives.keySet(), newDirectives.keySet())) {
+            if (!isEqual(oldDirectives.get(directiveName), newDirectives.get(directiveName))) {
+                changed.add(GraphQLSchemaCoordinateIndex.directiveCoordinate(directiveName));
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Same as {@link #getChangedCoordinates}, but also includes the types and directives declaring the changed members,
+     * e.g. a removed enum value changes the validation of every document which uses the enum.
+     *
+     * @return the affected coordinates, or null if the change affects the whole schema
+     */
+    public static @Nullable Set<String> getAffectedCoordinates(@NotNull TypeDefinitionRegistry oldRegistry,
+                                                               @NotNull TypeDefinitionRegistry newRegistry) {
+        final Set<String> changedCoordinates = getChangedCoordinates(oldRegistry, newRegistry);
+        if (changedCoordinates == null) {
+            return null;
+        }
+        final Set<String> coordinates = new HashSet<>(changedCoordinates);
+        for (String coordinate : changedCoordinates) {
+            coordinates.add(GraphQLSchemaCoordinateIndex.ownerCoordinate(coordinate));
+        }
+        return coordinates;
+    }
+
+    private static @NotNull Map<String, List<Node>> collectTypeNodes(@NotNull TypeDefinitionRegistry registry) {
+        final Map<String, List<Node>> nodes = new HashMap<>();
+        registry.types().forEach((name, definition) -> nodes.computeIfAbsent(name, k -> new ArrayList<>()).add(definition));
+        registry.scalars().forEach((name, definition) -> nodes.computeIfAbsent(name, k -> new ArrayList<>()).add(definition));
+        final List<Map<String, ? extends List<? extends Node>>> extensions = Arrays.asList(
+            registry.objectTypeExtensions(),
+            registry.interfaceTypeExtensions(),
+            registry.unionTypeExtensions(),
+            registry.enumTypeExtensions(),
+            registry.scalarTypeExtensions(),
+            registry.inputObjectTypeExtensions()
+        );
+        for (Map<String, ? extends List<? extends Node>> extensionsByName : extensions) {
+            extensionsByName.forEach((name, definitions) -> nodes.computeIfAbsent(name, k -> new ArrayList<>()).addAll(definitions));
+        }
+        return nodes;
+    }
+
+    /**
+     * Collects the fields, input fields and enum values of a type and its extensions by name.
+     */
+    private static @NotNull Map<String, List<Node>> collectMembers(@NotNull List<Node> typeNodes) {
+        final Map<String, List<Node>> members = new HashMap<>();
+        for (Node<?> typeNode : typeNodes) {
+            for (Node<?> child : typeNode.getChildren()) {
+                if (isMember(child)) {
+                    members.computeIfAbsent(((NamedNode<?>) child).getName(), k -> new ArrayList<>()).add(child);
+                }
+            }
+        }
+        return members;
+    }
+
+    private static boolean isMember(@NotNull Node<?> node) {
+        return node instanceof FieldDefinition || node instanceof InputValueDefinition || node instanceof EnumValueDefinition;
+    }
+
+    private static boolean isEqualIgnoringMembers(@NotNull List<Node> oldNodes, @NotNull List<Node> newNodes) {
+        if (oldNodes.size() != newNodes.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldNodes.size(); i++) {
+            final Node<?> oldNode = oldNodes.get(i);
+            final Node<?> newNode = newNodes.get(i);
+            if (!oldNode.isEqualTo(newNode)) {
+                return false;
+            }
+            if (!isEqualNodes(withoutMembers(oldNode.getChildren()), withoutMembers(newNode.getChildren()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @NotNull List<Node> withoutMembers(@NotNull List<Node> nodes) {
+        final List<Node> result = new ArrayList<>(nodes.size());
+        for (Node<?> node : nodes) {
+            if (!isMember(node)) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isEqual(@Nullable Node<?> oldNode, @Nullable Node<?> newNode) {
+        return COMPARATOR.isEqual(oldNode, newNode);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean isEqualNodes(@NotNull List<? extends Node> oldNodes, @NotNull List<? extends Node> newNodes) {
+        return COMPARATOR.isEqual((List<Node>) oldNodes, (List<Node>) newNodes);
+    }
+
+    private static @NotNull Set<String> union(@NotNull Set<String> first, @NotNull Set<String> second) {
+        final Set<String> result = new HashSet<>(first);
+        result.addAll(second);
+        return result;
+    }
+}
@@ -8,11 +8,14 @@
 package com.intellij.lang.jsgraphql.schema;
 
 import com.intellij.lang.jsgraphql.types.GraphQLException;
+import com.intellij.lang.jsgraphql.types.language.TypeDefinition;
 import com.intellij.lang.jsgraphql.types.schema.idl.TypeDefinitionRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 public class GraphQLRegistryInfo {
 
@@ -20,6 +23,13 @@ public class GraphQLRegistryInfo {
     private final List<GraphQLException> myErrors;
     private final boolean myProcessedGraphQL;
 
+    // rough upper bounds of the retained sizes of the registry nodes and the schema objects built from them, rounded up to whole KB,
+    // which aren't measured and only used to weigh the cached schemas against each other and the budget
+    private static final int ESTIMATED_TYPE_SIZE_KB = 2;
+    private static final int ESTIMATED_MEMBER_SIZE_KB = 1;
+
+    private volatile int myEstimatedSizeKb = -1;
+
     public GraphQLRegistryInfo(@NotNull TypeDefinitionRegistry registry,
                                @NotNull List<GraphQLException> errors,
                                boolean processedGraphQL) {
@@ -42,4 +52,33 @@ public class GraphQLRegistryInfo {
     public boolean isProcessedGraphQL() {
         return myProcessedGraphQL;
     }
+
+    /**
+     * Estimates the memory retained by the registry and a schema built from it, based on the number of types and their members.
+     * This is a rough heuristic rather than a measurement, so the schema cache budget is only approximately respected.
+     */
+    public int getEstimatedSizeKb() {
+        int size = myEstimatedSizeKb;
+        if (size < 0) {
+            size = 0;
+            for (TypeDefinition<?> definition : myRegistry.types().values()) {
+                size += ESTIMATED_TYPE_SIZE_KB + definition.getChildren().size() * ESTIMATED_MEMBER_SIZE_KB;
+            }
+            for (Map<String, ? extends List<? extends TypeDefinition<?>>> extensions : Arrays.<Map<String, ? extends List<? extends TypeDefinition<?>>>>asList(
+                myRegistry.objectTypeExtensions(),
+                myRegistry.interfaceTypeExtensions(),
+                myRegistry.inputObjectTypeExtensions(),
+                myRegistry.enumTypeExtensions(),
+                myRegistry.unionTypeExtensions())) {
+                for (List<? extends TypeDefinition<?>> definitions : extensions.values()) {
+                    for (TypeDefinition<?> definition : definitions) {
+                        size += definition.getChildren().size() * ESTIMATED_MEMBER_SIZE_KB;
+                    }
+                }
+            }
+            size = Math.max(size, 1);
+            myEstimatedSizeKb = size;
+        }
+        return size;
+    }
 }
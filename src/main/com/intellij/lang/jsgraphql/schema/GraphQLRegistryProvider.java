@@ -7,10 +7,12 @@
  */
 package com.intellij.lang.jsgraphql.schema;
 
-import com.google.common.collect.Maps;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.intellij.json.JsonFileType;
 import com.intellij.lang.jsgraphql.GraphQLFileType;
 import com.intellij.lang.jsgraphql.endpoint.ide.project.JSGraphQLEndpointNamedTypeRegistry;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaFileIndex;
 import com.intellij.lang.jsgraphql.ide.introspection.GraphQLIntrospectionFilesManager;
 import com.intellij.lang.jsgraphql.ide.project.graphqlconfig.GraphQLConfigManager;
 import com.intellij.lang.jsgraphql.ide.search.GraphQLPsiSearchHelper;
@@ -24,6 +26,7 @@ import com.intellij.openapi.Disposable;
 import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
@@ -32,12 +35,16 @@ import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.FileTypeIndex;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.TimeoutUtil;
+import com.intellij.util.indexing.FileBasedIndex;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class GraphQLRegistryProvider implements Disposable {
 
@@ -51,7 +58,10 @@ public class GraphQLRegistryProvider implements Disposable {
     private final JSGraphQLEndpointNamedTypeRegistry graphQLEndpointNamedTypeRegistry;
     private final GraphQLConfigManager graphQLConfigManager;
 
-    private final Map<GlobalSearchScope, GraphQLRegistryInfo> scopeToRegistry = Maps.newConcurrentMap();
+    // softly referenced, since the registries of the cached schemas are kept by the schema cache, and the rest can be rebuilt
+    private final Cache<GlobalSearchScope, GraphQLRegistryInfo> scopeToRegistry = CacheBuilder.newBuilder().softValues().build();
+    private final AtomicLong myInvalidationCount = new AtomicLong();
+    private final ConcurrentMap<GlobalSearchScope, CompletableFuture<GraphQLRegistryInfo>> myPendingRegistries = new ConcurrentHashMap<>();
 
     public static GraphQLRegistryProvider getInstance(@NotNull Project project) {
         return ServiceManager.getService(project, GraphQLRegistryProvider.class);
@@ -67,7 +77,10 @@ public class GraphQLRegistryProvider implements Disposable {
         graphQLPsiSearchHelper = GraphQLPsiSearchHelper.getInstance(project);
         graphQLConfigManager = GraphQLConfigManager.getService(project);
 
-        project.getMessageBus().connect(this).subscribe(GraphQLSchemaChangeTracker.TOPIC, scopeToRegistry::clear);
+        project.getMessageBus().connect(this).subscribe(GraphQLSchemaChangeTracker.TOPIC, () -> {
+            myInvalidationCount.incrementAndGet();
+            scopeToRegistry.invalidateAll();
+        });
     }
 
     @NotNull
@@ -75,58 +88,94 @@ public class GraphQLRegistryProvider implements Disposable {
         // Get the search scope that limits schema definition for the scoped element
         GlobalSearchScope schemaScope = graphQLPsiSearchHelper.getResolveScope(scopedElement);
 
-        return scopeToRegistry.computeIfAbsent(schemaScope, s -> {
-            long start = System.nanoTime();
-
-            List<GraphQLException> errors = new ArrayList<>();
-            GraphQLSchemaDocumentProcessor processor = new GraphQLSchemaDocumentProcessor();
+        // same as the schema cache, the registry is built by the first requester outside of the cache, so the others wait for it
+        // cancellably, and if the build is canceled they retry instead of receiving the cancellation of another thread
+        while (true) {
+            GraphQLRegistryInfo registryInfo = scopeToRegistry.getIfPresent(schemaScope);
+            if (registryInfo != null) {
+                return registryInfo;
+            }
 
-            // GraphQL files
-            FileTypeIndex.processFiles(GraphQLFileType.INSTANCE, file -> {
-                PsiFile psiFile = psiManager.findFile(file);
-                if (psiFile != null) {
-                    processor.process(psiFile);
+            CompletableFuture<GraphQLRegistryInfo> future = new CompletableFuture<>();
+            CompletableFuture<GraphQLRegistryInfo> pending = myPendingRegistries.putIfAbsent(schemaScope, future);
+            if (pending != null) {
+                registryInfo = ProgressIndicatorUtils.awaitWithCheckCanceled(pending);
+                if (registryInfo != null) {
+                    return registryInfo;
                 }
-                return true;
-            }, graphQLFilesScope.intersectWith(schemaScope));
-
-            // JSON GraphQL introspection result files
-            if (!graphQLConfigManager.getConfigurationsByPath().isEmpty()) {
-                // need one or more configurations to be able to point "schemaPath" to relevant JSON files
-                // otherwise all JSON files would be in scope
-                FileTypeIndex.processFiles(
-                    JsonFileType.INSTANCE,
-                    file -> processJsonFile(processor, file, errors),
-                    jsonIntrospectionScope.intersectWith(schemaScope)
-                );
+                continue;
             }
 
-            // Injected GraphQL
-            graphQLPsiSearchHelper.processInjectedGraphQLPsiFiles(scopedElement, schemaScope, processor);
-
-            // Types defined using GraphQL Endpoint Language
-            VirtualFile virtualFile = GraphQLPsiUtil.getPhysicalVirtualFile(scopedElement.getContainingFile());
-            if (virtualFile != null && graphQLConfigManager.getEndpointLanguageConfiguration(virtualFile, null) != null) {
-                final GraphQLRegistryInfo endpointTypesAsRegistry = graphQLEndpointNamedTypeRegistry.getTypesAsRegistry(scopedElement);
-                try {
-                    processor.getCompositeRegistry().merge(endpointTypesAsRegistry.getTypeDefinitionRegistry());
-                    errors.addAll(endpointTypesAsRegistry.getErrors());
-                } catch (GraphQLException e) {
-                    errors.add(e);
+            long invalidationCount = myInvalidationCount.get();
+            try {
+                registryInfo = buildRegistryInfo(scopedElement, schemaScope);
+                if (invalidationCount == myInvalidationCount.get()) {
+                    scopeToRegistry.put(schemaScope, registryInfo);
                 }
+                future.complete(registryInfo);
+                return registryInfo;
+            } finally {
+                myPendingRegistries.remove(schemaScope, future);
+                // the waiting threads retry on their own if the build failed or was canceled
+                future.complete(null);
             }
+        }
+    }
 
-            TypeDefinitionRegistry registry = processor.getCompositeRegistry().buildTypeDefinitionRegistry();
+    @NotNull
+    private GraphQLRegistryInfo buildRegistryInfo(@NotNull PsiElement scopedElement, @NotNull GlobalSearchScope schemaScope) {
+        long start = System.nanoTime();
+
+        List<GraphQLException> errors = new ArrayList<>();
+        GraphQLSchemaDocumentProcessor processor = new GraphQLSchemaDocumentProcessor();
+
+        // GraphQL files, only the ones with type system definitions or extensions need to be loaded
+        GlobalSearchScope graphQLSchemaScope = graphQLFilesScope.intersectWith(schemaScope);
+        FileBasedIndex.getInstance().getFilesWithKey(GraphQLSchemaFileIndex.NAME, Collections.singleton(GraphQLSchemaFileIndex.DATA_KEY), file -> {
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile != null) {
+                processor.process(psiFile);
+            }
+            return true;
+        }, graphQLSchemaScope);
+
+        // JSON GraphQL introspection result files
+        if (!graphQLConfigManager.getConfigurationsByPath().isEmpty()) {
+            // need one or more configurations to be able to point "schemaPath" to relevant JSON files
+            // otherwise all JSON files would be in scope
+            FileTypeIndex.processFiles(
+                JsonFileType.INSTANCE,
+                file -> processJsonFile(processor, file, errors),
+                jsonIntrospectionScope.intersectWith(schemaScope)
+            );
+        }
 
-            if (LOG.isDebugEnabled()) {
-                long durationMillis = TimeoutUtil.getDurationMillis(start);
-                VirtualFile file = GraphQLPsiUtil.getPhysicalVirtualFile(scopedElement.getContainingFile());
-                String requester = file != null ? file.getPath() : "<unknown>";
-                LOG.debug(String.format("Registry build completed in %d ms, requester: %s", durationMillis, requester));
+        // Injected GraphQL
+        graphQLPsiSearchHelper.processInjectedGraphQLPsiFiles(scopedElement, schemaScope, processor);
+
+        // Types defined using GraphQL Endpoint Language
+        VirtualFile virtualFile = GraphQLPsiUtil.getPhysicalVirtualFile(scopedElement.getContainingFile());
+        if (virtualFile != null && graphQLConfigManager.getEndpointLanguageConfiguration(virtualFile, null) != null) {
+            final GraphQLRegistryInfo endpointTypesAsRegistry = graphQLEndpointNamedTypeRegistry.getTypesAsRegistry(scopedElement);
+            try {
+                processor.getCompositeRegistry().merge(endpointTypesAsRegistry.getTypeDefinitionRegistry());
+                errors.addAll(endpointTypesAsRegistry.getErrors());
+            } catch (GraphQLException e) {
+                errors.add(e);
             }
-            return new GraphQLRegistryInfo(registry, errors, processor.isProcessed());
-        });
+        }
+
+        TypeDefinitionRegistry registry = processor.getCompositeRegistry().buildTypeDefinitionRegistry();
 
+        if (LOG.isDebugEnabled()) {
+            long durationMillis = TimeoutUtil.getDurationMillis(start);
+            VirtualFile file = GraphQLPsiUtil.getPhysicalVirtualFile(scopedElement.getContainingFile());
+            String requester = file != null ? file.getPath() : "<unknown>";
+            LOG.debug(String.format("Registry build completed in %d ms, requester: %s", durationMillis, requester));
+        }
+        // files with only operations and fragments still count as processed GraphQL for the schema status
+        boolean processedGraphQL = processor.isProcessed() || FileTypeIndex.containsFileOfType(GraphQLFileType.INSTANCE, graphQLSchemaScope);
+        return new GraphQLRegistryInfo(registry, errors, processedGraphQL);
     }
 
     private boolean processJsonFile(@NotNull GraphQLSchemaDocumentProcessor processor,
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.schema;
+
+/**
+ * A snapshot of the schema cache usage, see {@link GraphQLSchemaProvider#getCacheStats()}.
+ */
+public final class GraphQLSchemaCacheStats {
+
+    private final int mySchemaCount;
+    private final long myEstimatedSizeKb;
+    private final long myBudgetKb;
+    private final long myEvictionCount;
+
+    public GraphQLSchemaCacheStats(int schemaCount, long estimatedSizeKb, long budgetKb, long evictionCount) {
+        mySchemaCount = schemaCount;
+        myEstimatedSizeKb = estimatedSizeKb;
+        myBudgetKb = budgetKb;
+        myEvictionCount = evictionCount;
+    }
+
+    public int getSchemaCount() {
+        return mySchemaCount;
+    }
+
+    public long getEstimatedSizeKb() {
+        return myEstimatedSizeKb;
+    }
+
+    public long getBudgetKb() {
+        return myBudgetKb;
+    }
+
+    /**
+     * The number of schemas evicted to stay within the budget or collected under memory pressure since the project was opened.
+     */
+    public long getEvictionCount() {
+        return myEvictionCount;
+    }
+}
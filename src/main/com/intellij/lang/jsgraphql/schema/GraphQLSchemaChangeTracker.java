@@ -10,6 +10,7 @@ package com.intellij.lang.jsgraphql.schema;
 import com.google.common.collect.Lists;
 import com.intellij.json.psi.JsonFile;
 import com.intellij.lang.jsgraphql.endpoint.psi.JSGraphQLEndpointFile;
+import com.intellij.lang.jsgraphql.ide.highlighting.GraphQLSchemaChangeHighlighter;
 import com.intellij.lang.jsgraphql.ide.injection.GraphQLInjectionSearchHelper;
 import com.intellij.lang.jsgraphql.ide.project.graphqlconfig.GraphQLConfigManager;
 import com.intellij.lang.jsgraphql.psi.GraphQLFile;
@@ -71,6 +72,8 @@ public class GraphQLSchemaChangeTracker implements Disposable {
         ApplicationManager.getApplication().invokeLater(() -> {
             myModificationTracker.incModificationCount();
             myProject.getMessageBus().syncPublisher(GraphQLSchemaChangeTracker.TOPIC).onSchemaChanged();
+            // only the open files which depend on the changed parts of the schema are highlighted again
+            GraphQLSchemaChangeHighlighter.getInstance(myProject).restartDependentFiles();
         }, ModalityState.NON_MODAL, myProject.getDisposed());
     }
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2018-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.schema;
+
+import com.intellij.lang.jsgraphql.types.GraphQLError;
+import com.intellij.lang.jsgraphql.types.language.Node;
+import com.intellij.lang.jsgraphql.types.language.SourceLocation;
+import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A schema error pre-resolved to a single file: either the node of the error or one of its locations in the file.
+ * The element is resolved on demand, so the cached errors don't keep the PSI of the file in memory.
+ */
+public final class GraphQLSchemaErrorLocation {
+
+    private final GraphQLError myError;
+    private final @Nullable SourceLocation myLocation;
+
+    /**
+     * @param location the location of the error in the file, or null if the error is reported on its node
+     */
+    GraphQLSchemaErrorLocation(@NotNull GraphQLError error, @Nullable SourceLocation location) {
+        myError = error;
+        myLocation = location;
+    }
+
+    public @NotNull GraphQLError getError() {
+        return myError;
+    }
+
+    /**
+     * @return the element the error is reported on, or null if it can't be resolved and the error location is only known as an offset
+     */
+    public @Nullable PsiElement getElement() {
+        if (myLocation != null) {
+            return myLocation.getElement();
+        }
+        Node<?> node = myError.getNode();
+        return node != null ? node.getElement() : null;
+    }
+
+    /**
+     * @return the offset in the top-level file, or -1 if the error is reported on its node or the offset is unknown
+     */
+    public int getOffset() {
+        return myLocation != null ? myLocation.getOffset() : -1;
+    }
+}
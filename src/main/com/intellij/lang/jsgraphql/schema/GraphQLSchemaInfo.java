@@ -8,30 +8,55 @@
 package com.intellij.lang.jsgraphql.schema;
 
 import com.google.common.collect.Lists;
+import com.intellij.lang.jsgraphql.GraphQLSettings;
 import com.intellij.lang.jsgraphql.ide.validation.GraphQLErrorFilter;
+import com.intellij.lang.jsgraphql.psi.GraphQLPsiUtil;
 import com.intellij.lang.jsgraphql.types.GraphQLError;
 import com.intellij.lang.jsgraphql.types.GraphQLException;
+import com.intellij.lang.jsgraphql.types.language.Node;
+import com.intellij.lang.jsgraphql.types.language.SourceLocation;
 import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
 import com.intellij.lang.jsgraphql.types.schema.idl.errors.SchemaProblem;
 import com.intellij.lang.jsgraphql.types.schema.validation.InvalidSchemaException;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 public class GraphQLSchemaInfo {
 
     private final GraphQLSchema mySchema;
     private final List<GraphQLException> myErrors;
     private final GraphQLRegistryInfo myRegistry;
+    private final CompletableFuture<List<GraphQLException>> myValidationErrors;
+    private final SimpleModificationTracker myModificationTracker = new SimpleModificationTracker();
+
+    private volatile ErrorsCache myErrorsCache;
 
     public GraphQLSchemaInfo(@NotNull GraphQLSchema schema,
                              @NotNull List<GraphQLException> errors,
                              @NotNull GraphQLRegistryInfo registry) {
+        this(schema, errors, registry, CompletableFuture.completedFuture(Collections.emptyList()));
+    }
+
+    public GraphQLSchemaInfo(@NotNull GraphQLSchema schema,
+                             @NotNull List<GraphQLException> errors,
+                             @NotNull GraphQLRegistryInfo registry,
+                             @NotNull CompletableFuture<List<GraphQLException>> validationErrors) {
         mySchema = schema;
         myErrors = errors;
         myRegistry = registry;
+        myValidationErrors = validationErrors;
     }
 
     public @NotNull GraphQLSchema getSchema() {
@@ -42,10 +67,76 @@ public class GraphQLSchemaInfo {
         return myRegistry;
     }
 
+    /**
+     * Schema validation runs in the background after the schema is built,
+     * so consumers which only need the types don't have to wait for it.
+     */
+    public @NotNull CompletableFuture<List<GraphQLException>> getValidationErrors() {
+        return myValidationErrors;
+    }
+
+    /**
+     * Cancels the schema validation if it's still running, e.g. when the schema is removed from the cache.
+     */
+    public void cancelValidation() {
+        myValidationErrors.cancel(false);
+    }
+
+    /**
+     * Changes when the schema is removed from the cache, so the values computed from this schema are recomputed with the rebuilt one,
+     * while the values computed from the other cached schemas stay valid.
+     */
+    public @NotNull ModificationTracker getModificationTracker() {
+        return myModificationTracker;
+    }
+
+    /**
+     * Cancels the schema validation and invalidates the values computed from this schema, see {@link #getModificationTracker()}.
+     */
+    public void invalidate() {
+        cancelValidation();
+        myModificationTracker.incModificationCount();
+    }
+
+    /**
+     * Returns all schema errors which aren't suppressed by any {@link GraphQLErrorFilter}.
+     * The result is computed once and reused until the framework settings are changed.
+     * Waits for the schema validation to complete.
+     */
     public @NotNull List<GraphQLError> getErrors(@NotNull Project project) {
+        return getErrorsCache(project).myErrors;
+    }
+
+    /**
+     * Returns the same errors as {@link #getErrors(Project)}, or null without waiting if the schema validation hasn't completed yet.
+     */
+    public @Nullable List<GraphQLError> getErrorsIfValidated(@NotNull Project project) {
+        return myValidationErrors.isDone() ? getErrors(project) : null;
+    }
+
+    /**
+     * Returns the locations of the schema errors in the file with the given name, see {@link GraphQLPsiUtil#getFileName(PsiFile)}.
+     * An error with several locations in the same file is returned once per location.
+     */
+    public @NotNull List<GraphQLSchemaErrorLocation> getErrorLocations(@NotNull Project project, @NotNull String fileName) {
+        return getErrorsCache(project).myErrorsByFileName.getOrDefault(fileName, Collections.emptyList());
+    }
+
+    private @NotNull ErrorsCache getErrorsCache(@NotNull Project project) {
+        long settingsModificationCount = GraphQLSettings.getSettings(project).getModificationTracker().getModificationCount();
+        ErrorsCache cache = myErrorsCache;
+        if (cache == null || cache.mySettingsModificationCount != settingsModificationCount) {
+            cache = new ErrorsCache(computeErrors(project), settingsModificationCount);
+            myErrorsCache = cache;
+        }
+        return cache;
+    }
+
+    private @NotNull List<GraphQLError> computeErrors(@NotNull Project project) {
         final List<GraphQLException> rawErrors = Lists.newArrayList(myErrors);
         rawErrors.addAll(myRegistry.getErrors());
         rawErrors.addAll(mySchema.getErrors());
+        rawErrors.addAll(awaitValidationErrors());
 
         final List<GraphQLError> errors = Lists.newArrayList();
         for (GraphQLException exception : rawErrors) {
@@ -60,8 +151,65 @@ public class GraphQLSchemaInfo {
             }
         }
 
-        return ContainerUtil.filter(errors, error ->
-            GraphQLErrorFilter.EP_NAME.extensions().noneMatch(filter -> filter.isGraphQLErrorSuppressed(project, error, null))
-        );
+        List<GraphQLErrorFilter> filters = GraphQLErrorFilter.EP_NAME.getExtensionList();
+        return Collections.unmodifiableList(ContainerUtil.filter(errors, error ->
+            ContainerUtil.and(filters, filter -> !filter.isGraphQLErrorSuppressed(project, error, null))
+        ));
+    }
+
+    /**
+     * The validation is only canceled when the schema is removed from the cache, so the callers should restart with the current schema.
+     */
+    private @NotNull List<GraphQLException> awaitValidationErrors() {
+        if (myValidationErrors.isCancelled()) {
+            throw new ProcessCanceledException();
+        }
+        try {
+            return ProgressIndicatorUtils.awaitWithCheckCanceled(myValidationErrors);
+        } catch (CancellationException e) {
+            throw new ProcessCanceledException(e);
+        }
+    }
+
+    private static @NotNull Map<String, List<GraphQLSchemaErrorLocation>> groupByFileName(@NotNull List<GraphQLError> errors) {
+        Map<String, List<GraphQLSchemaErrorLocation>> errorsByFileName = new HashMap<>();
+        for (GraphQLError error : errors) {
+            Node<?> node = error.getNode();
+            PsiElement nodeElement = node != null ? node.getElement() : null;
+            if (nodeElement != null) {
+                PsiFile file = nodeElement.isValid() ? nodeElement.getContainingFile() : null;
+                if (file != null) {
+                    errorsByFileName.computeIfAbsent(GraphQLPsiUtil.getFileName(file), f -> new ArrayList<>())
+                        .add(new GraphQLSchemaErrorLocation(error, null));
+                }
+                continue;
+            }
+
+            List<SourceLocation> locations = error.getLocations();
+            if (locations == null) continue;
+
+            for (SourceLocation location : locations) {
+                String sourceName = location.getSourceName();
+                if (sourceName == null) continue;
+
+                if (location.getElement() == null && location.getOffset() == -1) continue;
+
+                errorsByFileName.computeIfAbsent(sourceName, f -> new ArrayList<>())
+                    .add(new GraphQLSchemaErrorLocation(error, location));
+            }
+        }
+        return errorsByFileName;
+    }
+
+    private static final class ErrorsCache {
+        private final List<GraphQLError> myErrors;
+        private final Map<String, List<GraphQLSchemaErrorLocation>> myErrorsByFileName;
+        private final long mySettingsModificationCount;
+
+        ErrorsCache(@NotNull List<GraphQLError> errors, long settingsModificationCount) {
+            myErrors = errors;
+            myErrorsByFileName = groupByFileName(errors);
+            mySettingsModificationCount = settingsModificationCount;
+        }
     }
 }
@@ -11,6 +11,7 @@ import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public interface GraphQLSchemaProvider {
 
@@ -28,6 +29,21 @@ public interface GraphQLSchemaProvider {
     @NotNull
     GraphQLSchemaInfo getSchemaInfo(@NotNull PsiElement psiElement);
 
+    /**
+     * Gets the schema for the element only if it's already built, for the callers which aren't worth a schema build.
+     *
+     * @param psiElement the element from which the schema is needed, serving as a scope restriction
+     * @return the cached schema, or null if it isn't built yet or was evicted from the cache
+     */
+    @Nullable
+    GraphQLSchemaInfo getCachedSchemaInfo(@NotNull PsiElement psiElement);
+
+    /**
+     * Gets the current usage of the schema cache, which keeps the least recently used schemas within the budget set in the settings.
+     */
+    @NotNull
+    GraphQLSchemaCacheStats getCacheStats();
+
     @NotNull
     static GraphQLSchemaProvider getInstance(@NotNull Project project) {
         return ServiceManager.getService(project, GraphQLSchemaProvider.class);
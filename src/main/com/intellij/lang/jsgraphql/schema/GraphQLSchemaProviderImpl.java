@@ -7,28 +7,46 @@
  */
 package com.intellij.lang.jsgraphql.schema;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import com.intellij.lang.jsgraphql.GraphQLSettings;
+import com.intellij.lang.jsgraphql.ide.search.GraphQLPsiSearchHelper;
 import com.intellij.lang.jsgraphql.psi.GraphQLPsiUtil;
 import com.intellij.lang.jsgraphql.types.GraphQLException;
 import com.intellij.lang.jsgraphql.types.schema.GraphQLObjectType;
 import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
+import com.intellij.lang.jsgraphql.types.schema.idl.SchemaGenerator;
 import com.intellij.lang.jsgraphql.types.schema.idl.UnExecutableSchemaGenerator;
 import com.intellij.lang.jsgraphql.types.schema.validation.InvalidSchemaException;
 import com.intellij.lang.jsgraphql.types.schema.validation.SchemaValidationError;
 import com.intellij.lang.jsgraphql.types.schema.validation.SchemaValidator;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
 import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.TimeoutUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class GraphQLSchemaProviderImpl implements GraphQLSchemaProvider, Disposable {
 
@@ -37,62 +55,208 @@ public class GraphQLSchemaProviderImpl implements GraphQLSchemaProvider, Disposa
     public static final GraphQLSchema EMPTY_SCHEMA = GraphQLSchema.newSchema()
         .query(GraphQLObjectType.newObject().name("Query").build()).build();
 
-    private final Map<String, GraphQLRegistryInfo> fileNameToRegistry = Maps.newConcurrentMap();
-    private final Map<String, GraphQLSchemaInfo> fileNameToSchema = Maps.newConcurrentMap();
+    private final Project myProject;
     private final GraphQLRegistryProvider myRegistryProvider;
+    private final GraphQLPsiSearchHelper myPsiSearchHelper;
+
+    // schemas are shared by all the files in the same schema scope, and the least recently used are evicted to stay within the budget
+    private volatile Cache<GlobalSearchScope, GraphQLSchemaInfo> mySchemaCache;
+    private volatile long mySchemaCacheBudgetKb;
+    private final AtomicLong myEvictionCount = new AtomicLong();
+    private final AtomicLong myInvalidationCount = new AtomicLong();
+    private final ConcurrentMap<GlobalSearchScope, CompletableFuture<GraphQLSchemaInfo>> myPendingSchemas = new ConcurrentHashMap<>();
+    // the indicators of the running validations, canceled when the provider is disposed
+    private final Set<ProgressIndicator> myValidationIndicators = ContainerUtil.newConcurrentSet();
+    private volatile boolean myDisposed;
 
     public GraphQLSchemaProviderImpl(@NotNull Project project) {
+        myProject = project;
         myRegistryProvider = GraphQLRegistryProvider.getInstance(project);
+        myPsiSearchHelper = GraphQLPsiSearchHelper.getInstance(project);
+        mySchemaCache = createSchemaCache();
 
         project.getMessageBus().connect(this).subscribe(GraphQLSchemaChangeTracker.TOPIC, () -> {
             // clear the cache on each PSI change
-            fileNameToRegistry.clear();
-            fileNameToSchema.clear();
+            myInvalidationCount.incrementAndGet();
+            mySchemaCache.invalidateAll();
         });
     }
 
+    private @NotNull Cache<GlobalSearchScope, GraphQLSchemaInfo> createSchemaCache() {
+        mySchemaCacheBudgetKb = GraphQLSettings.getSettings(myProject).getSchemaCacheBudget() * 1024L;
+        long budgetKb = mySchemaCacheBudgetKb;
+        return CacheBuilder.newBuilder()
+            // a single segment, so the budget and the recency apply to all the schemas and not to a part of them
+            .concurrencyLevel(1)
+            .maximumWeight(budgetKb)
+            // a schema larger than the budget is still kept alone, otherwise it would be rebuilt on each request
+            .weigher((GlobalSearchScope scope, GraphQLSchemaInfo schemaInfo) ->
+                (int) Math.min(schemaInfo.getRegistryInfo().getEstimatedSizeKb(), budgetKb))
+            // the values aren't soft, so the garbage collector never removes a schema which then would have to be rebuilt
+            .removalListener((RemovalNotification<GlobalSearchScope, GraphQLSchemaInfo> notification) -> {
+                GraphQLSchemaInfo schemaInfo = notification.getValue();
+                if (schemaInfo != null) {
+                    // only the values computed from this schema are invalidated, the other cached schemas stay valid
+                    schemaInfo.invalidate();
+                }
+                if (notification.wasEvicted()) {
+                    myEvictionCount.incrementAndGet();
+                }
+            })
+            .build();
+    }
+
+    private @NotNull Cache<GlobalSearchScope, GraphQLSchemaInfo> getSchemaCache() {
+        Cache<GlobalSearchScope, GraphQLSchemaInfo> cache = mySchemaCache;
+        if (GraphQLSettings.getSettings(myProject).getSchemaCacheBudget() * 1024L != mySchemaCacheBudgetKb) {
+            synchronized (this) {
+                cache = mySchemaCache;
+                if (GraphQLSettings.getSettings(myProject).getSchemaCacheBudget() * 1024L != mySchemaCacheBudgetKb) {
+                    // the budget changed in the settings, so the schemas are rebuilt on demand
+                    myInvalidationCount.incrementAndGet();
+                    cache.invalidateAll();
+                    cache = createSchemaCache();
+                    mySchemaCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     @NotNull
     @Override
     public GraphQLSchemaInfo getSchemaInfo(@NotNull PsiElement psiElement) {
-        String containingFileName = GraphQLPsiUtil.getFileName(psiElement.getContainingFile());
+        GlobalSearchScope schemaScope = myPsiSearchHelper.getResolveScope(psiElement);
+
+        // the schema is built by the first requester outside of the cache, so the others wait for it cancellably,
+        // and if the build is canceled they retry instead of receiving the cancellation of another thread
+        while (true) {
+            Cache<GlobalSearchScope, GraphQLSchemaInfo> cache = getSchemaCache();
+            GraphQLSchemaInfo schemaInfo = cache.getIfPresent(schemaScope);
+            if (schemaInfo != null) {
+                return schemaInfo;
+            }
 
-        return fileNameToSchema.computeIfAbsent(containingFileName, fileName -> {
-            final GraphQLRegistryInfo registryWithErrors = fileNameToRegistry.computeIfAbsent(
-                containingFileName, f -> myRegistryProvider.getRegistryInfo(psiElement));
+            CompletableFuture<GraphQLSchemaInfo> future = new CompletableFuture<>();
+            CompletableFuture<GraphQLSchemaInfo> pending = myPendingSchemas.putIfAbsent(schemaScope, future);
+            if (pending != null) {
+                schemaInfo = ProgressIndicatorUtils.awaitWithCheckCanceled(pending);
+                if (schemaInfo != null) {
+                    return schemaInfo;
+                }
+                continue;
+            }
 
+            long invalidationCount = myInvalidationCount.get();
             try {
-                long start = System.nanoTime();
-                GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registryWithErrors.getTypeDefinitionRegistry());
-                Collection<SchemaValidationError> validationErrors = new SchemaValidator().validateSchema(schema);
-                List<GraphQLException> errors = validationErrors.isEmpty()
-                    ? Collections.emptyList() : Collections.singletonList(new InvalidSchemaException(validationErrors));
-
-                if (LOG.isDebugEnabled()) {
-                    long durationMillis = TimeoutUtil.getDurationMillis(start);
-                    LOG.debug(String.format("Schema build completed in %d ms, requester: %s", durationMillis, containingFileName));
+                schemaInfo = createSchemaInfo(psiElement);
+                if (invalidationCount == myInvalidationCount.get()) {
+                    cache.put(schemaScope, schemaInfo);
                 }
-                return new GraphQLSchemaInfo(schema, errors, registryWithErrors);
-            } catch (ProcessCanceledException e) {
-                throw e;
-            } catch (Exception e) {
-                LOG.error("Schema build error: ", e); // should never happen
-                return new GraphQLSchemaInfo(
-                    EMPTY_SCHEMA,
-                    Lists.newArrayList(e instanceof GraphQLException ? ((GraphQLException) e) : new GraphQLException(e)),
-                    registryWithErrors
-                );
+                future.complete(schemaInfo);
+                return schemaInfo;
+            } finally {
+                myPendingSchemas.remove(schemaScope, future);
+                // the waiting threads retry on their own if the build failed or was canceled
+                future.complete(null);
             }
-        });
+        }
+    }
+
+    private @NotNull GraphQLSchemaInfo createSchemaInfo(@NotNull PsiElement psiElement) {
+        String containingFileName = GraphQLPsiUtil.getFileName(psiElement.getContainingFile());
+        final GraphQLRegistryInfo registryWithErrors = myRegistryProvider.getRegistryInfo(psiElement);
+
+        try {
+            long start = System.nanoTime();
+            GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(
+                registryWithErrors.getTypeDefinitionRegistry(), SchemaGenerator.Options.defaultOptions().parallel(true));
+
+            if (LOG.isDebugEnabled()) {
+                long durationMillis = TimeoutUtil.getDurationMillis(start);
+                LOG.debug(String.format("Schema build completed in %d ms, requester: %s", durationMillis, containingFileName));
+            }
+
+            ProgressIndicator validationIndicator = new EmptyProgressIndicator();
+            myValidationIndicators.add(validationIndicator);
+            if (myDisposed) {
+                validationIndicator.cancel();
+            }
+            CompletableFuture<List<GraphQLException>> validationErrors = CompletableFuture.supplyAsync(
+                () -> ProgressManager.getInstance().runProcess(() -> validateSchema(schema, containingFileName), validationIndicator),
+                AppExecutorUtil.getAppExecutorService());
+            validationErrors.whenComplete((errors, e) -> {
+                myValidationIndicators.remove(validationIndicator);
+                if (e instanceof CancellationException) {
+                    validationIndicator.cancel();
+                }
+            });
+            return new GraphQLSchemaInfo(schema, Collections.emptyList(), registryWithErrors, validationErrors);
+        } catch (ProcessCanceledException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error("Schema build error: ", e); // should never happen
+            return new GraphQLSchemaInfo(
+                EMPTY_SCHEMA,
+                Lists.newArrayList(e instanceof GraphQLException ? ((GraphQLException) e) : new GraphQLException(e)),
+                registryWithErrors
+            );
+        }
+    }
+
+    private static @NotNull List<GraphQLException> validateSchema(@NotNull GraphQLSchema schema, @NotNull String requester) {
+        try {
+            long start = System.nanoTime();
+            Collection<SchemaValidationError> validationErrors = new SchemaValidator(true).validateSchema(schema);
+
+            if (LOG.isDebugEnabled()) {
+                long durationMillis = TimeoutUtil.getDurationMillis(start);
+                LOG.debug(String.format("Schema validation completed in %d ms, requester: %s", durationMillis, requester));
+            }
+            return validationErrors.isEmpty()
+                ? Collections.emptyList() : Collections.singletonList(new InvalidSchemaException(validationErrors));
+        } catch (ProcessCanceledException | CancellationException e) {
+            // the schema was removed from the cache, and the canceled future doesn't report the result
+            throw e;
+        } catch (Exception e) {
+            LOG.error("Schema validation error: ", e); // should never happen
+            return Collections.singletonList(e instanceof GraphQLException ? ((GraphQLException) e) : new GraphQLException(e));
+        }
+    }
+
+    @Nullable
+    @Override
+    public GraphQLSchemaInfo getCachedSchemaInfo(@NotNull PsiElement psiElement) {
+        return getSchemaCache().getIfPresent(myPsiSearchHelper.getResolveScope(psiElement));
     }
 
     @NotNull
     @Override
     public GraphQLRegistryInfo getRegistryInfo(@NotNull PsiElement psiElement) {
-        String fileName = GraphQLPsiUtil.getFileName(psiElement.getContainingFile());
-        return fileNameToRegistry.computeIfAbsent(fileName, f -> myRegistryProvider.getRegistryInfo(psiElement));
+        GraphQLSchemaInfo schemaInfo = getCachedSchemaInfo(psiElement);
+        return schemaInfo != null ? schemaInfo.getRegistryInfo() : myRegistryProvider.getRegistryInfo(psiElement);
+    }
+
+    @NotNull
+    @Override
+    public GraphQLSchemaCacheStats getCacheStats() {
+        Cache<GlobalSearchScope, GraphQLSchemaInfo> cache = getSchemaCache();
+        long estimatedSizeKb = 0;
+        int schemaCount = 0;
+        for (GraphQLSchemaInfo schemaInfo : cache.asMap().values()) {
+            estimatedSizeKb += schemaInfo.getRegistryInfo().getEstimatedSizeKb();
+            schemaCount++;
+        }
+        return new GraphQLSchemaCacheStats(schemaCount, estimatedSizeKb, mySchemaCacheBudgetKb, myEvictionCount.get());
     }
 
     @Override
     public void dispose() {
+        myDisposed = true;
+        // the validations run on the application pool, so they would outlive the project otherwise
+        for (ProgressIndicator indicator : myValidationIndicators) {
+            indicator.cancel();
+        }
+        mySchemaCache.invalidateAll();
     }
 }
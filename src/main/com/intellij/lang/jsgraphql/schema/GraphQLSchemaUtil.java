@@ -197,6 +197,46 @@ public class GraphQLSchemaUtil {
 
     }
 
+    /**
+     * Gets the names of the types a fragment can be declared on to be applicable in the required type scope.
+     * This is the inverse of {@link #isFragmentApplicableInTypeScope}, so the candidates can be looked up by their type condition.
+     *
+     * @param typeDefinitionRegistry registry with available schema types, used to resolve interface implementations
+     * @param requiredTypeScope      the type scope in which the fragment is a candidate to spread
+     * @return the type condition names of the applicable fragments
+     */
+    public static @NotNull Set<String> getFragmentApplicableTypeNames(@NotNull TypeDefinitionRegistry typeDefinitionRegistry,
+                                                                      @NotNull GraphQLType requiredTypeScope) {
+        final Set<String> typeNames = new LinkedHashSet<>();
+        final GraphQLUnmodifiedType typeScope = getUnmodifiedType(requiredTypeScope);
+        typeNames.add(typeScope.getName());
+        collectCompatibleTypeNames(typeDefinitionRegistry, typeScope, typeNames);
+        return typeNames;
+    }
+
+    private static void collectCompatibleTypeNames(@NotNull TypeDefinitionRegistry typeDefinitionRegistry,
+                                                   @NotNull GraphQLType type,
+                                                   @NotNull Set<String> typeNames) {
+        if (type instanceof GraphQLInterfaceType) {
+            final TypeDefinition typeScopeDefinition = typeDefinitionRegistry.types().get(((GraphQLInterfaceType) type).getName());
+            if (typeScopeDefinition instanceof InterfaceTypeDefinition) {
+                for (ObjectTypeDefinition implementation : typeDefinitionRegistry.getImplementationsOf(
+                    (InterfaceTypeDefinition) typeScopeDefinition)) {
+                    typeNames.add(implementation.getName());
+                }
+            }
+        } else if (type instanceof GraphQLObjectType) {
+            for (GraphQLNamedOutputType graphQLOutputType : ((GraphQLObjectType) type).getInterfaces()) {
+                typeNames.add(graphQLOutputType.getName());
+            }
+        } else if (type instanceof GraphQLUnionType) {
+            for (GraphQLNamedOutputType graphQLOutputType : ((GraphQLUnionType) type).getTypes()) {
+                typeNames.add(graphQLOutputType.getName());
+                collectCompatibleTypeNames(typeDefinitionRegistry, graphQLOutputType, typeNames);
+            }
+        }
+    }
+
     /**
      * Gets whether a fragment type condition name is compatible with the required type scope
      *
@@ -33,6 +33,9 @@ import static java.lang.String.format;
 /**
  * As a graphql query is executed, each field forms a hierarchical path from parent field to child field and this
  * class represents that path as a series of segments.
+ * <p>
+ * Each path only keeps its own segment, either a name or an unboxed list index, and a link to its parent path, so adding
+ * a segment is cheap. The length, level and hash of the path are computed once when it's created.
  */
 @PublicApi
 public class ResultPath {
@@ -48,43 +51,50 @@ public class ResultPath {
     }
 
     private final ResultPath parent;
-    private final Object segment;
+    // the segment is a list index if the name is null, except for the root path which has no segment
+    private final String name;
+    private final int index;
 
-    // hash is effective immutable but lazily initialized similar to the hash code of java.lang.String
-    private int hash;
+    private final int length;
+    private final int level;
+    private final int hash;
 
     private ResultPath() {
         parent = null;
-        segment = null;
+        name = null;
+        index = 0;
+        length = 0;
+        level = 0;
+        hash = 1;
     }
 
     private ResultPath(ResultPath parent, String segment) {
         this.parent = assertNotNull(parent, () -> "Must provide a parent path");
-        this.segment = assertNotNull(segment, () -> "Must provide a sub path");
+        this.name = assertNotNull(segment, () -> "Must provide a sub path");
+        this.index = 0;
+        this.length = parent.length + 1;
+        this.level = parent.level + 1;
+        this.hash = 31 * parent.hash + segment.hashCode();
     }
 
     private ResultPath(ResultPath parent, int segment) {
         this.parent = assertNotNull(parent, () -> "Must provide a parent path");
-        this.segment = segment;
+        this.name = null;
+        this.index = segment;
+        this.length = parent.length + 1;
+        this.level = parent.level;
+        this.hash = 31 * parent.hash + segment;
     }
 
     public int getLevel() {
-        int counter = 0;
-        ResultPath currentPath = this;
-        while (currentPath != null) {
-            if (currentPath.segment instanceof String) {
-                counter++;
-            }
-            currentPath = currentPath.parent;
-        }
-        return counter;
+        return level;
     }
 
     public ResultPath getPathWithoutListEnd() {
-        if (ROOT_PATH.equals(this)) {
+        if (isRootPath()) {
             return ROOT_PATH;
         }
-        if (segment instanceof String) {
+        if (name != null) {
             return this;
         }
         return parent;
@@ -94,27 +104,31 @@ public class ResultPath {
      * @return true if the end of the path has a list style segment eg 'a/b[2]'
      */
     public boolean isListSegment() {
-        return segment instanceof Integer;
+        return parent != null && name == null;
     }
 
     /**
      * @return true if the end of the path has a named style segment eg 'a/b[2]/c'
      */
     public boolean isNamedSegment() {
-        return segment instanceof String;
+        return name != null;
     }
 
 
     public String getSegmentName() {
-        return (String) segment;
+        return name;
     }
 
     public int getSegmentIndex() {
-        return (int) segment;
+        assertTrue(isListSegment(), () -> format("The path '%s' doesn't end with a list index", this));
+        return index;
     }
 
     public Object getSegmentValue() {
-        return segment;
+        if (name != null) {
+            return name;
+        }
+        return parent == null ? null : Integer.valueOf(index);
     }
 
     public ResultPath getParent() {
@@ -212,8 +226,8 @@ public class ResultPath {
      * @return a new path with the last segment replaced
      */
     public ResultPath replaceSegment(int segment) {
-        Assert.assertTrue(!ROOT_PATH.equals(this), () -> "You MUST not call this with the root path");
-        return new ResultPath(parent, segment);
+        Assert.assertTrue(!isRootPath(), () -> "You MUST not call this with the root path");
+        return parent.segment(segment);
     }
 
     /**
@@ -224,8 +238,8 @@ public class ResultPath {
      * @return a new path with the last segment replaced
      */
     public ResultPath replaceSegment(String segment) {
-        Assert.assertTrue(!ROOT_PATH.equals(this), () -> "You MUST not call this with the root path");
-        return new ResultPath(parent, segment);
+        Assert.assertTrue(!isRootPath(), () -> "You MUST not call this with the root path");
+        return parent.segment(segment);
     }
 
 
@@ -250,13 +264,13 @@ public class ResultPath {
 
 
     public ResultPath sibling(String siblingField) {
-        Assert.assertTrue(!ROOT_PATH.equals(this), () -> "You MUST not call this with the root path");
-        return new ResultPath(this.parent, siblingField);
+        Assert.assertTrue(!isRootPath(), () -> "You MUST not call this with the root path");
+        return parent.segment(siblingField);
     }
 
     public ResultPath sibling(int siblingField) {
-        Assert.assertTrue(!ROOT_PATH.equals(this), () -> "You MUST not call this with the root path");
-        return new ResultPath(this.parent, siblingField);
+        Assert.assertTrue(!isRootPath(), () -> "You MUST not call this with the root path");
+        return parent.segment(siblingField);
     }
 
     /**
@@ -266,30 +280,26 @@ public class ResultPath {
         if (parent == null) {
             return ImmutableKit.emptyList();
         }
-        LinkedList<Object> list = new LinkedList<>();
+        Object[] segments = new Object[length];
         ResultPath p = this;
-        while (p.segment != null) {
-            list.addFirst(p.segment);
+        for (int i = length - 1; i >= 0; i--) {
+            segments[i] = p.getSegmentValue();
             p = p.parent;
         }
-        return ImmutableList.copyOf(list);
+        return ImmutableList.copyOf(segments);
     }
 
     /**
      * @return this path as a list of result keys, without any indices
      */
     public List<String> getKeysOnly() {
-        if (parent == null) {
-            return new LinkedList<>();
-        }
-        LinkedList<String> list = new LinkedList<>();
-        ResultPath p = this;
-        while (p.segment != null) {
-            if (p.segment instanceof String) {
-                list.addFirst((String) p.segment);
+        List<String> list = new ArrayList<>(level);
+        for (ResultPath p = this; p.parent != null; p = p.parent) {
+            if (p.name != null) {
+                list.add(p.name);
             }
-            p = p.parent;
         }
+        Collections.reverse(list);
         return list;
     }
 
@@ -303,18 +313,28 @@ public class ResultPath {
             return "";
         }
 
-        if (ROOT_PATH.equals(parent)) {
-            return segmentToString();
+        ResultPath[] paths = new ResultPath[length];
+        ResultPath p = this;
+        for (int i = length - 1; i >= 0; i--) {
+            paths[i] = p;
+            p = p.parent;
         }
-
-        return parent.toString() + segmentToString();
+        StringBuilder sb = new StringBuilder();
+        for (ResultPath path : paths) {
+            path.appendSegment(sb);
+        }
+        return sb.toString();
     }
 
     public String segmentToString() {
-        if (segment instanceof String) {
-            return "/" + segment;
+        return appendSegment(new StringBuilder()).toString();
+    }
+
+    private StringBuilder appendSegment(StringBuilder sb) {
+        if (name != null) {
+            return sb.append('/').append(name);
         } else {
-            return "[" + segment + "]";
+            return sb.append('[').append(getSegmentValue()).append(']');
         }
     }
 
@@ -329,31 +349,23 @@ public class ResultPath {
 
         ResultPath self = this;
         ResultPath that = (ResultPath) o;
-        while (self.segment != null && that.segment != null) {
-            if (!Objects.equals(self.segment, that.segment)) {
+        if (self.hash != that.hash || self.length != that.length) {
+            return false;
+        }
+        // the paths have the same length, so they reach a common parent or the root at the same time
+        while (self != that) {
+            if (self.index != that.index || !Objects.equals(self.name, that.name)) {
                 return false;
             }
             self = self.parent;
             that = that.parent;
         }
-
-        return self.isRootPath() && that.isRootPath();
+        return true;
     }
 
     @Override
     public int hashCode() {
-        int h = hash;
-        if (h == 0) {
-            h = 1;
-            ResultPath self = this;
-            while (self != null) {
-                Object value = self.segment;
-                h = 31 * h + (value == null ? 0 : value.hashCode());
-                self = self.parent;
-            }
-            hash = h;
-        }
-        return h;
+        return hash;
     }
 
 
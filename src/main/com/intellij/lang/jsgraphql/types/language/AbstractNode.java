@@ -44,7 +44,7 @@ public abstract class AbstractNode<T extends Node> implements Node<T> {
     private final IgnoredChars ignoredChars;
     private final ImmutableMap<String, String> additionalData;
 
-    private final @Nullable PsiElement myElement;
+    private final @Nullable PsiSourcePointer myElementPointer;
     private final @NotNull List<Node> mySourceNodes;
 
     public AbstractNode(SourceLocation sourceLocation, List<Comment> comments, IgnoredChars ignoredChars) {
@@ -66,7 +66,7 @@ public abstract class AbstractNode<T extends Node> implements Node<T> {
         this.comments = ImmutableList.copyOf(comments);
         this.ignoredChars = ignoredChars;
 
-        myElement = element;
+        myElementPointer = createElementPointer(sourceLocation, element);
         mySourceNodes = sourceNodes == null ? Collections.emptyList() : ImmutableList.copyOf(sourceNodes);
     }
 
@@ -106,10 +106,21 @@ public abstract class AbstractNode<T extends Node> implements Node<T> {
         return map(list, n -> (V) n.deepCopy());
     }
 
+    /**
+     * Nodes created from PSI usually have a location based on the same element, so the pointer is shared.
+     */
+    private static @Nullable PsiSourcePointer createElementPointer(@Nullable SourceLocation sourceLocation, @Nullable PsiElement element) {
+        if (element == null) {
+            return null;
+        }
+        PsiSourcePointer locationPointer = sourceLocation != null ? sourceLocation.getPointer() : null;
+        return locationPointer != null && locationPointer.isPointerTo(element) ? locationPointer : new PsiSourcePointer(element);
+    }
+
     @Override
     public @Nullable PsiElement getElement() {
-        if (myElement != null) {
-            return myElement;
+        if (myElementPointer != null) {
+            return myElementPointer.getElement();
         }
 
         Node node = ContainerUtil.getFirstItem(getSourceNodes());
@@ -119,7 +130,7 @@ public abstract class AbstractNode<T extends Node> implements Node<T> {
     @Override
     public @NotNull List<PsiElement> getElements() {
         Stream<PsiElement> nodesStream = getSourceNodes().stream().map(Node::getElement);
-        return Stream.concat(nodesStream, Stream.of(myElement))
+        return Stream.concat(nodesStream, Stream.of(myElementPointer != null ? myElementPointer.getElement() : null))
             .filter(Objects::nonNull).distinct().collect(Collectors.toList());
     }
 
@@ -28,7 +28,7 @@ public class Description implements Serializable {
     public final String content;
     public final SourceLocation sourceLocation;
     public final boolean multiLine;
-    private @Nullable final PsiElement element;
+    private @Nullable final PsiSourcePointer elementPointer;
 
     public Description(String content, SourceLocation sourceLocation, boolean multiLine) {
         this(content, sourceLocation, multiLine, null);
@@ -38,7 +38,9 @@ public class Description implements Serializable {
         this.content = content;
         this.sourceLocation = sourceLocation;
         this.multiLine = multiLine;
-        this.element = element;
+        PsiSourcePointer locationPointer = sourceLocation != null ? sourceLocation.getPointer() : null;
+        this.elementPointer = element == null ? null :
+            locationPointer != null && locationPointer.isPointerTo(element) ? locationPointer : new PsiSourcePointer(element);
     }
 
     public String getContent() {
@@ -54,6 +56,6 @@ public class Description implements Serializable {
     }
 
     public @Nullable PsiElement getElement() {
-        return element;
+        return elementPointer != null ? elementPointer.getElement() : null;
     }
 }
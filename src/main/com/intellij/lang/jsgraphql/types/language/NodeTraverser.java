@@ -157,7 +157,7 @@ public class NodeTraverser {
     }
 
     private Object doTraverse(Collection<? extends Node> roots, TraverserVisitor traverserVisitor) {
-        Traverser<Node> nodeTraverser = Traverser.depthFirst(this.getChildren);
+        Traverser<Node> nodeTraverser = Traverser.depthFirstLightweight(this.getChildren, null, null);
         nodeTraverser.rootVars(rootVars);
         return nodeTraverser.traverse(roots, traverserVisitor).getAccumulatedResult();
     }
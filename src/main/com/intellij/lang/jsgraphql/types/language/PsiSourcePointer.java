@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.types.language;
+
+import com.intellij.injected.editor.VirtualFileWindow;
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.jsgraphql.types.Internal;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compact pointer to the PSI element an AST node was created from, which doesn't keep the PSI tree of the file in memory.
+ * <p>
+ * Only the element class and its start offset are kept, and the element is found again by the offset on each request,
+ * as long as the file hasn't changed since. The file is shared by all the pointers into it, with its source name computed once,
+ * so the source name stays known after the file is edited. Physical files are referenced by their {@link VirtualFile},
+ * only injected and in-memory files, which can't be found again, are referenced directly.
+ */
+@Internal
+public final class PsiSourcePointer {
+
+    private static final Key<SourceFile> SOURCE_FILE_KEY = Key.create("graphql.source.pointer.file");
+
+    private final @NotNull SourceFile mySourceFile;
+    private final @NotNull Class<? extends PsiElement> myElementClass;
+    private final int myStartOffset;
+
+    public PsiSourcePointer(@NotNull PsiElement element) {
+        mySourceFile = SourceFile.of(element);
+        myElementClass = element.getClass();
+        myStartOffset = getStartOffset(element);
+    }
+
+    /**
+     * @return the element, or null if it can't be found again since the file has changed
+     */
+    public @Nullable PsiElement getElement() {
+        final PsiFile file = getFile();
+        if (file == null || file.getModificationStamp() != mySourceFile.myModificationStamp) {
+            return null;
+        }
+        if (file.getClass() == myElementClass) {
+            return myStartOffset == 0 ? file : null;
+        }
+        PsiElement candidate = file.findElementAt(myStartOffset);
+        while (candidate != null && !(candidate instanceof PsiFile) && candidate.getTextRange().getStartOffset() == myStartOffset) {
+            if (candidate.getClass() == myElementClass) {
+                return candidate;
+            }
+            candidate = candidate.getParent();
+        }
+        return null;
+    }
+
+    /**
+     * @return the containing file, without resolving the element
+     */
+    public @Nullable PsiFile getFile() {
+        return mySourceFile.getFile();
+    }
+
+    /**
+     * @return the path of the top-level file, known even if the element can't be found anymore
+     */
+    @Nullable String getSourceName() {
+        return mySourceFile.mySourceName;
+    }
+
+    /**
+     * @return the start offset of the element in the top-level file when it was created, or -1 for an injected element,
+     * whose offset in the host file isn't known without resolving it
+     */
+    int getHostOffset() {
+        return mySourceFile.myInjected ? -1 : myStartOffset;
+    }
+
+    /**
+     * @return true if the pointer points to the element, without resolving it
+     */
+    boolean isPointerTo(@Nullable PsiElement element) {
+        return element != null &&
+            element.getClass() == myElementClass &&
+            mySourceFile.isFileOf(element.getContainingFile()) &&
+            getStartOffset(element) == myStartOffset;
+    }
+
+    @NotNull Project getProject() {
+        return mySourceFile.myProject;
+    }
+
+    private static int getStartOffset(@NotNull PsiElement element) {
+        // avoids allocating a text range for each element
+        final ASTNode node = element.getNode();
+        return node != null ? node.getStartOffset() : element.getTextRange().getStartOffset();
+    }
+
+    /**
+     * The file shared by the pointers created for the same version of the file.
+     */
+    private static final class SourceFile {
+        private final @NotNull Project myProject;
+        private final @Nullable VirtualFile myVirtualFile;
+        private final @Nullable PsiFile myFile;
+        private final @Nullable String mySourceName;
+        private final boolean myInjected;
+        private final long myModificationStamp;
+
+        private SourceFile(@NotNull Project project, @Nullable PsiFile file) {
+            final VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+            final VirtualFile topLevelFile = virtualFile instanceof VirtualFileWindow
+                ? ((VirtualFileWindow) virtualFile).getDelegate() : virtualFile;
+            final boolean findable = virtualFile != null && !(virtualFile instanceof VirtualFileWindow) &&
+                file.getViewProvider().isPhysical();
+
+            myProject = project;
+            myVirtualFile = findable ? virtualFile : null;
+            myFile = findable ? null : file;
+            mySourceName = topLevelFile != null ? FileUtil.toSystemIndependentName(topLevelFile.getPath()) : null;
+            myInjected = virtualFile instanceof VirtualFileWindow;
+            myModificationStamp = file != null ? file.getModificationStamp() : -1;
+        }
+
+        static @NotNull SourceFile of(@NotNull PsiElement element) {
+            final PsiFile file = element.getContainingFile();
+            if (file == null) {
+                return new SourceFile(element.getProject(), null);
+            }
+            SourceFile sourceFile = file.getUserData(SOURCE_FILE_KEY);
+            if (sourceFile == null || sourceFile.myModificationStamp != file.getModificationStamp()) {
+                sourceFile = new SourceFile(element.getProject(), file);
+                file.putUserData(SOURCE_FILE_KEY, sourceFile);
+            }
+            return sourceFile;
+        }
+
+        @Nullable PsiFile getFile() {
+            if (myFile != null) {
+                return myFile.isValid() ? myFile : null;
+            }
+            if (myVirtualFile == null || !myVirtualFile.isValid() || myProject.isDisposed()) {
+                return null;
+            }
+            return PsiManager.getInstance(myProject).findFile(myVirtualFile);
+        }
+
+        boolean isFileOf(@Nullable PsiFile file) {
+            if (file == null) {
+                return false;
+            }
+            return myFile != null ? myFile == file : myVirtualFile != null && myVirtualFile.equals(file.getVirtualFile());
+        }
+    }
+}
@@ -20,29 +20,32 @@ package com.intellij.lang.jsgraphql.types.language;
 
 import com.intellij.lang.injection.InjectedLanguageManager;
 import com.intellij.lang.jsgraphql.types.PublicApi;
-import com.intellij.openapi.util.ModificationTracker;
 import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.CachedValue;
-import com.intellij.psi.util.CachedValueProvider;
-import com.intellij.psi.util.CachedValuesManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.Serializable;
 import java.util.Objects;
 
+/**
+ * A location in a source. PSI based locations only keep a {@link PsiSourcePointer} to the element,
+ * the line, column and offset are resolved lazily from the document of the file when requested,
+ * and approximated from the original offset of the element if its file has changed since.
+ */
 @PublicApi
 public final class SourceLocation implements Serializable {
 
+    private static final Location UNKNOWN_LOCATION = new Location(-1, -1, null, -1, -1);
+
     private final int line;
     private final int column;
     private final String sourceName;
-    private final @Nullable PsiElement myElement;
-    private final @Nullable CachedValue<Location> myPsiBasedLocation;
+    private final @Nullable PsiSourcePointer myPointer;
+    private transient volatile @Nullable Location myPsiBasedLocation;
 
     public SourceLocation(int line, int column) {
         this(line, column, null);
@@ -53,65 +56,105 @@ public final class SourceLocation implements Serializable {
     }
 
     public SourceLocation(@NotNull PsiElement element) {
-        this(-1, -1, null, element);
+        this(-1, -1, null, new PsiSourcePointer(element));
     }
 
-    private SourceLocation(int line, int column, String sourceName, @Nullable PsiElement element) {
+    private SourceLocation(int line, int column, String sourceName, @Nullable PsiSourcePointer pointer) {
         this.line = line;
         this.column = column;
         this.sourceName = sourceName;
 
-        myElement = element;
-        myPsiBasedLocation = myElement != null ?
-            CachedValuesManager.getManager(myElement.getProject()).createCachedValue(this::computeLocation) : null;
+        myPointer = pointer;
     }
 
     public int getLine() {
-        return isPsiBased() ? Objects.requireNonNull(myPsiBasedLocation).getValue().line : line;
+        return isPsiBased() ? getPsiBasedLocation().line : line;
     }
 
     public int getColumn() {
-        return isPsiBased() ? Objects.requireNonNull(myPsiBasedLocation).getValue().column : column;
+        return isPsiBased() ? getPsiBasedLocation().column : column;
     }
 
     public String getSourceName() {
-        return isPsiBased() ? Objects.requireNonNull(myPsiBasedLocation).getValue().sourceName : sourceName;
+        return isPsiBased() ? getPsiBasedLocation().sourceName : sourceName;
     }
 
     public int getOffset() {
-        return isPsiBased() ? Objects.requireNonNull(myPsiBasedLocation).getValue().offset : -1;
+        return isPsiBased() ? getPsiBasedLocation().offset : -1;
     }
 
     public boolean isPsiBased() {
-        return myElement != null;
+        return myPointer != null;
     }
 
     public @Nullable PsiElement getElement() {
-        return myElement;
+        return myPointer != null ? myPointer.getElement() : null;
+    }
+
+    @Nullable PsiSourcePointer getPointer() {
+        return myPointer;
+    }
+
+    private @NotNull Location getPsiBasedLocation() {
+        Objects.requireNonNull(myPointer);
+
+        PsiFile file = myPointer.getFile();
+        PsiFile topLevelFile = file != null ? InjectedLanguageManager.getInstance(myPointer.getProject()).getTopLevelFile(file) : null;
+        if (topLevelFile == null) return UNKNOWN_LOCATION;
+        // the offsets of injected elements change with the edits of the host file
+        long modificationStamp = topLevelFile.getModificationStamp();
+        Location location = myPsiBasedLocation;
+        if (location == null || location.modificationStamp != modificationStamp) {
+            location = computeLocation(modificationStamp);
+            myPsiBasedLocation = location;
+        }
+        return location;
     }
 
-    private @NotNull CachedValueProvider.Result<Location> computeLocation() {
-        Objects.requireNonNull(myElement);
+    private @NotNull Location computeLocation(long modificationStamp) {
+        Objects.requireNonNull(myPointer);
 
-        Location defaultLocation = new Location(-1, -1, null, -1);
-        PsiFile containingFile = myElement.getContainingFile();
-        InjectedLanguageManager injectedLanguageManager = InjectedLanguageManager.getInstance(myElement.getProject());
-        PsiFile topLevelFile = injectedLanguageManager.getTopLevelFile(myElement);
-        if (topLevelFile == null) return CachedValueProvider.Result.create(defaultLocation, ModificationTracker.NEVER_CHANGED);
-        com.intellij.openapi.editor.Document document = PsiDocumentManager.getInstance(myElement.getProject()).getDocument(topLevelFile);
-        if (document == null) return CachedValueProvider.Result.create(defaultLocation, ModificationTracker.NEVER_CHANGED);
+        PsiElement element = myPointer.getElement();
+        if (element == null) return computeChangedFileLocation(modificationStamp);
+        InjectedLanguageManager injectedLanguageManager = InjectedLanguageManager.getInstance(myPointer.getProject());
+        PsiFile topLevelFile = injectedLanguageManager.getTopLevelFile(element);
+        if (topLevelFile == null) return UNKNOWN_LOCATION;
+        com.intellij.openapi.editor.Document document = PsiDocumentManager.getInstance(myPointer.getProject()).getDocument(topLevelFile);
+        if (document == null) return UNKNOWN_LOCATION;
 
         VirtualFile virtualFile = topLevelFile.getVirtualFile();
-        int offset = injectedLanguageManager.injectedToHost(myElement, myElement.getNavigationElement().getTextOffset());
+        int offset = injectedLanguageManager.injectedToHost(element, element.getNavigationElement().getTextOffset());
         int lineNumber = document.getLineNumber(offset);
         int column = offset - document.getLineStartOffset(lineNumber);
-        Location location = new Location(
+        return new Location(
             lineNumber + 1,
             column + 1,
             virtualFile != null ? FileUtil.toSystemIndependentName(virtualFile.getPath()) : null,
-            offset
+            offset,
+            modificationStamp
         );
-        return CachedValueProvider.Result.create(location, containingFile, topLevelFile, document);
+    }
+
+    /**
+     * The element can't be found after its file has changed, so the location is based on the offset it had when it was created.
+     * It's only approximate, but still in the right file, so the errors reported at it aren't lost until the schema is rebuilt.
+     */
+    private @NotNull Location computeChangedFileLocation(long modificationStamp) {
+        Objects.requireNonNull(myPointer);
+
+        String sourceName = myPointer.getSourceName();
+        int offset = myPointer.getHostOffset();
+        PsiFile file = myPointer.getFile();
+        com.intellij.openapi.editor.Document document =
+            file != null && offset >= 0 ? PsiDocumentManager.getInstance(myPointer.getProject()).getDocument(file) : null;
+        if (document == null) {
+            return new Location(-1, -1, sourceName, offset, modificationStamp);
+        }
+
+        offset = Math.min(offset, document.getTextLength());
+        int lineNumber = document.getLineNumber(offset);
+        int column = offset - document.getLineStartOffset(lineNumber);
+        return new Location(lineNumber + 1, column + 1, sourceName, offset, modificationStamp);
     }
 
     public @NotNull String getNavigationLocation() {
@@ -153,12 +196,14 @@ public final class SourceLocation implements Serializable {
         private final int column;
         private final String sourceName;
         private final int offset;
+        private final long modificationStamp;
 
-        Location(int line, int column, @Nullable String sourceName, int offset) {
+        Location(int line, int column, @Nullable String sourceName, int offset, long modificationStamp) {
             this.line = line;
             this.column = column;
             this.sourceName = sourceName;
             this.offset = offset;
+            this.modificationStamp = modificationStamp;
         }
     }
 }
@@ -33,6 +33,8 @@ import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 
 import static com.intellij.lang.jsgraphql.types.Assert.*;
@@ -65,6 +67,10 @@ public class GraphQLSchema {
     private final ImmutableMap<String, ImmutableList<GraphQLObjectType>> interfaceNameToObjectTypes;
     private final ImmutableMap<String, ImmutableList<String>> interfaceNameToObjectTypeNames;
 
+    // the sorted views of the type map, computed on the first request since the schema is immutable
+    private volatile ImmutableList<GraphQLNamedType> allTypesAsList;
+    private final ConcurrentMap<Class<?>, ImmutableList<?>> allTypesByKind;
+
     private final String description;
 
     private final List<GraphQLException> errors = new ArrayList<>();
@@ -126,6 +132,7 @@ public class GraphQLSchema {
         // sorted by type name
         SchemaUtil schemaUtil = new SchemaUtil();
         this.typeMap = ImmutableMap.copyOf(schemaUtil.allTypes(this, additionalTypes, afterTransform));
+        this.allTypesByKind = new ConcurrentHashMap<>();
         this.interfaceNameToObjectTypes = buildInterfacesToObjectTypes(schemaUtil.groupImplementations(this));
         this.interfaceNameToObjectTypeNames = buildInterfacesToObjectName(interfaceNameToObjectTypes);
         this.description = builder.description;
@@ -147,6 +154,8 @@ public class GraphQLSchema {
         this.codeRegistry = codeRegistry;
 
         this.typeMap = otherSchema.typeMap;
+        this.allTypesAsList = otherSchema.allTypesAsList;
+        this.allTypesByKind = otherSchema.allTypesByKind;
         this.interfaceNameToObjectTypes = otherSchema.interfaceNameToObjectTypes;
         this.interfaceNameToObjectTypeNames = otherSchema.interfaceNameToObjectTypeNames;
         this.description = otherSchema.description;
@@ -210,9 +219,64 @@ public class GraphQLSchema {
         return typeMap;
     }
 
+    /**
+     * @return all the types of the schema sorted by name, the list is computed once and shared by all the callers
+     */
     public List<GraphQLNamedType> getAllTypesAsList() {
         ProgressManager.checkCanceled();
-        return sortTypes(byNameAsc(), typeMap.values());
+        ImmutableList<GraphQLNamedType> types = allTypesAsList;
+        if (types == null) {
+            types = ImmutableList.copyOf(sortTypes(byNameAsc(), typeMap.values()));
+            allTypesAsList = types;
+        }
+        return types;
+    }
+
+    /**
+     * Returns the types of the given kind sorted by name, e.g. {@code getAllTypesAsList(GraphQLImplementingType.class)}.
+     * The list is computed once and shared by all the callers, so there is no need to filter {@link #getAllTypesAsList()}.
+     *
+     * @param kind the class or the interface of the types
+     * @param <T>  the kind of the types
+     *
+     * @return the types of the given kind
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends GraphQLNamedType> List<T> getAllTypesAsList(@NotNull Class<T> kind) {
+        ProgressManager.checkCanceled();
+        return (List<T>) allTypesByKind.computeIfAbsent(kind, k -> {
+            ImmutableList.Builder<T> types = ImmutableList.builder();
+            for (GraphQLNamedType type : getAllTypesAsList()) {
+                if (kind.isInstance(type)) {
+                    types.add(kind.cast(type));
+                }
+            }
+            return types.build();
+        });
+    }
+
+    public List<GraphQLObjectType> getAllObjectTypes() {
+        return getAllTypesAsList(GraphQLObjectType.class);
+    }
+
+    public List<GraphQLInterfaceType> getAllInterfaceTypes() {
+        return getAllTypesAsList(GraphQLInterfaceType.class);
+    }
+
+    public List<GraphQLUnionType> getAllUnionTypes() {
+        return getAllTypesAsList(GraphQLUnionType.class);
+    }
+
+    public List<GraphQLInputObjectType> getAllInputObjectTypes() {
+        return getAllTypesAsList(GraphQLInputObjectType.class);
+    }
+
+    public List<GraphQLEnumType> getAllEnumTypes() {
+        return getAllTypesAsList(GraphQLEnumType.class);
+    }
+
+    public List<GraphQLScalarType> getAllScalarTypes() {
+        return getAllTypesAsList(GraphQLScalarType.class);
     }
 
     /**
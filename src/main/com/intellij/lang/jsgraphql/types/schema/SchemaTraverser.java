@@ -65,7 +65,7 @@ public class SchemaTraverser {
     }
 
     private Traverser<GraphQLSchemaElement> initTraverser() {
-        return Traverser.depthFirst(getChildren);
+        return Traverser.depthFirstLightweight(getChildren, null, null);
     }
 
     private TraverserResult doTraverse(Traverser<GraphQLSchemaElement> traverser, Collection<? extends GraphQLSchemaElement> roots, TraverserDelegateVisitor traverserDelegateVisitor) {
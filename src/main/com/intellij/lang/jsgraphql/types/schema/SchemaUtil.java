@@ -80,13 +80,11 @@ public class SchemaUtil {
      */
     Map<String, List<GraphQLObjectType>> groupImplementations(GraphQLSchema schema) {
         Map<String, List<GraphQLObjectType>> result = new LinkedHashMap<>();
-        for (GraphQLType type : schema.getAllTypesAsList()) {
-            if (type instanceof GraphQLObjectType) {
-                List<GraphQLNamedOutputType> interfaces = ((GraphQLObjectType) type).getInterfaces();
-                for (GraphQLNamedOutputType interfaceType : interfaces) {
-                    List<GraphQLObjectType> myGroup = result.computeIfAbsent(interfaceType.getName(), k -> new ArrayList<>());
-                    myGroup.add((GraphQLObjectType) type);
-                }
+        for (GraphQLObjectType type : schema.getAllObjectTypes()) {
+            List<GraphQLNamedOutputType> interfaces = type.getInterfaces();
+            for (GraphQLNamedOutputType interfaceType : interfaces) {
+                List<GraphQLObjectType> myGroup = result.computeIfAbsent(interfaceType.getName(), k -> new ArrayList<>());
+                myGroup.add(type);
             }
         }
         return ImmutableMap.copyOf(new TreeMap<>(result));
@@ -94,13 +92,11 @@ public class SchemaUtil {
 
     public Map<String, List<GraphQLImplementingType>> groupImplementationsForInterfacesAndObjects(GraphQLSchema schema) {
         Map<String, List<GraphQLImplementingType>> result = new LinkedHashMap<>();
-        for (GraphQLType type : schema.getAllTypesAsList()) {
-            if (type instanceof GraphQLImplementingType) {
-                List<GraphQLNamedOutputType> interfaces = ((GraphQLImplementingType) type).getInterfaces();
-                for (GraphQLNamedOutputType interfaceType : interfaces) {
-                    List<GraphQLImplementingType> myGroup = result.computeIfAbsent(interfaceType.getName(), k -> new ArrayList<>());
-                    myGroup.add((GraphQLImplementingType) type);
-                }
+        for (GraphQLImplementingType type : schema.getAllTypesAsList(GraphQLImplementingType.class)) {
+            List<GraphQLNamedOutputType> interfaces = type.getInterfaces();
+            for (GraphQLNamedOutputType interfaceType : interfaces) {
+                List<GraphQLImplementingType> myGroup = result.computeIfAbsent(interfaceType.getName(), k -> new ArrayList<>());
+                myGroup.add(type);
             }
         }
         return ImmutableMap.copyOf(new TreeMap<>(result));
@@ -127,11 +123,7 @@ public class SchemaUtil {
     @Deprecated
     public List<GraphQLObjectType> findImplementations(GraphQLSchema schema, GraphQLInterfaceType interfaceType) {
         List<GraphQLObjectType> result = new ArrayList<>();
-        for (GraphQLType type : schema.getAllTypesAsList()) {
-            if (!(type instanceof GraphQLObjectType)) {
-                continue;
-            }
-            GraphQLObjectType objectType = (GraphQLObjectType) type;
+        for (GraphQLObjectType objectType : schema.getAllObjectTypes()) {
             if ((objectType).getInterfaces().contains(interfaceType)) {
                 result.add(objectType);
             }
@@ -43,12 +43,29 @@ public class SchemaGenerator {
      * These options control how the schema generation works
      */
     public static class Options {
+        private final boolean parallel;
 
-        Options() {
+        Options(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        public boolean isParallel() {
+            return parallel;
+        }
+
+        /**
+         * Named types can be built independently of each other on the common fork-join pool,
+         * which is much faster for large registries. The resulting schema is the same as with the sequential build.
+         *
+         * @param parallel the flag on whether to build the types in parallel
+         * @return new options
+         */
+        public Options parallel(boolean parallel) {
+            return new Options(parallel);
         }
 
         public static Options defaultOptions() {
-            return new Options();
+            return new Options(false);
         }
     }
 
@@ -96,7 +113,7 @@ public class SchemaGenerator {
 
         GraphQLSchema schema;
         try {
-            schema = makeExecutableSchemaImpl(typeRegistryCopy, wiring, operationTypeDefinitions);
+            schema = makeExecutableSchemaImpl(options, typeRegistryCopy, wiring, operationTypeDefinitions);
         } catch (ProcessCanceledException e) {
             throw e;
         } catch (Exception e) {
@@ -111,7 +128,8 @@ public class SchemaGenerator {
         return schema;
     }
 
-    private GraphQLSchema makeExecutableSchemaImpl(TypeDefinitionRegistry typeRegistry,
+    private GraphQLSchema makeExecutableSchemaImpl(Options options,
+                                                   TypeDefinitionRegistry typeRegistry,
                                                    RuntimeWiring wiring,
                                                    Map<String, OperationTypeDefinition> operationTypeDefinitions) {
         SchemaGeneratorHelper.BuildContext buildCtx = new SchemaGeneratorHelper.BuildContext(typeRegistry, wiring,
@@ -122,11 +140,14 @@ public class SchemaGenerator {
         Set<GraphQLDirective> additionalDirectives = schemaGeneratorHelper.buildAdditionalDirectives(buildCtx);
         schemaBuilder.additionalDirectives(additionalDirectives);
 
+        // in the parallel mode all the types are built upfront, so the operations only look them up
+        Set<GraphQLType> allTypes = options.isParallel() ? schemaGeneratorHelper.buildAllTypesInParallel(buildCtx) : null;
+
         schemaGeneratorHelper.buildSchemaDirectivesAndExtensions(buildCtx, schemaBuilder);
 
         schemaGeneratorHelper.buildOperations(buildCtx, schemaBuilder);
 
-        Set<GraphQLType> additionalTypes = schemaGeneratorHelper.buildAdditionalTypes(buildCtx);
+        Set<GraphQLType> additionalTypes = allTypes != null ? allTypes : schemaGeneratorHelper.buildAdditionalTypes(buildCtx);
         schemaBuilder.additionalTypes(additionalTypes);
 
         buildCtx.getCodeRegistry().fieldVisibility(buildCtx.getWiring().getFieldVisibility());
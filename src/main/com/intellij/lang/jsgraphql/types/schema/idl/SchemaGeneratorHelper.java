@@ -17,6 +17,7 @@
  */
 package com.intellij.lang.jsgraphql.types.schema.idl;
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.lang.jsgraphql.types.Directives;
 import com.intellij.lang.jsgraphql.types.GraphQLError;
 import com.intellij.lang.jsgraphql.types.Internal;
@@ -28,6 +29,9 @@ import com.intellij.lang.jsgraphql.types.schema.idl.errors.NotAnInputTypeError;
 import com.intellij.lang.jsgraphql.types.schema.idl.errors.NotAnOutputTypeError;
 import com.intellij.lang.jsgraphql.types.util.FpKit;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.util.ObjectUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,6 +39,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.intellij.lang.jsgraphql.types.Assert.assertNotNull;
@@ -54,6 +59,8 @@ public class SchemaGeneratorHelper {
 
     private static final Logger LOG = Logger.getInstance(SchemaGeneratorHelper.class);
 
+    private static final int PARALLEL_BUILD_CHUNK_SIZE = 128;
+
     /**
      * We pass this around so we know what we have defined in a stack like manner plus
      * it gives us helper functions
@@ -70,11 +77,68 @@ public class SchemaGeneratorHelper {
         public final Map<String, OperationTypeDefinition> operationTypeDefs;
         private final List<GraphQLError> myErrors = new ArrayList<>();
 
+        // the registry returns a copy of these maps on each call, so they are fetched only once per build
+        private final Map<String, List<ObjectTypeExtensionDefinition>> objectTypeExtensions;
+        private final Map<String, List<InterfaceTypeExtensionDefinition>> interfaceTypeExtensions;
+        private final Map<String, List<UnionTypeExtensionDefinition>> unionTypeExtensions;
+        private final Map<String, List<EnumTypeExtensionDefinition>> enumTypeExtensions;
+        private final Map<String, List<ScalarTypeExtensionDefinition>> scalarTypeExtensions;
+        private final Map<String, List<InputObjectTypeExtensionDefinition>> inputObjectTypeExtensions;
+
+        /**
+         * A forked context only builds the named type it is asked for and refers to other object, interface and union types
+         * by {@link GraphQLTypeReference}. All the other types are looked up in the parent context, which must be complete
+         * for them and must not be modified while forked contexts are in use.
+         */
+        private final @Nullable BuildContext parent;
+
         BuildContext(TypeDefinitionRegistry typeRegistry, RuntimeWiring wiring, Map<String, OperationTypeDefinition> operationTypeDefinitions) {
             this.typeRegistry = typeRegistry;
             this.wiring = wiring;
             this.codeRegistry = GraphQLCodeRegistry.newCodeRegistry(wiring.getCodeRegistry());
             this.operationTypeDefs = operationTypeDefinitions;
+            this.objectTypeExtensions = typeRegistry.objectTypeExtensions();
+            this.interfaceTypeExtensions = typeRegistry.interfaceTypeExtensions();
+            this.unionTypeExtensions = typeRegistry.unionTypeExtensions();
+            this.enumTypeExtensions = typeRegistry.enumTypeExtensions();
+            this.scalarTypeExtensions = typeRegistry.scalarTypeExtensions();
+            this.inputObjectTypeExtensions = typeRegistry.inputObjectTypeExtensions();
+            this.parent = null;
+        }
+
+        private BuildContext(BuildContext parent) {
+            this.typeRegistry = parent.typeRegistry;
+            this.wiring = parent.wiring;
+            this.codeRegistry = GraphQLCodeRegistry.newCodeRegistry(wiring.getCodeRegistry());
+            this.operationTypeDefs = parent.operationTypeDefs;
+            this.objectTypeExtensions = parent.objectTypeExtensions;
+            this.interfaceTypeExtensions = parent.interfaceTypeExtensions;
+            this.unionTypeExtensions = parent.unionTypeExtensions;
+            this.enumTypeExtensions = parent.enumTypeExtensions;
+            this.scalarTypeExtensions = parent.scalarTypeExtensions;
+            this.inputObjectTypeExtensions = parent.inputObjectTypeExtensions;
+            this.parent = parent;
+        }
+
+        BuildContext fork() {
+            return new BuildContext(this);
+        }
+
+        void mergeFork(BuildContext fork) {
+            outputGTypes.putAll(fork.outputGTypes);
+            inputGTypes.putAll(fork.inputGTypes);
+            myErrors.addAll(fork.myErrors);
+
+            GraphQLCodeRegistry forkCodeRegistry = fork.codeRegistry.build();
+            codeRegistry.dataFetchers(forkCodeRegistry);
+            codeRegistry.typeResolvers(forkCodeRegistry);
+        }
+
+        boolean isReferencedOnly(TypeDefinition typeDefinition) {
+            return parent != null && !typeStack.isEmpty() &&
+                (typeDefinition instanceof ObjectTypeDefinition ||
+                    typeDefinition instanceof InterfaceTypeDefinition ||
+                    typeDefinition instanceof UnionTypeDefinition);
         }
 
         public TypeDefinitionRegistry getTypeRegistry() {
@@ -98,11 +162,13 @@ public class SchemaGeneratorHelper {
         }
 
         GraphQLOutputType hasOutputType(TypeDefinition typeDefinition) {
-            return outputGTypes.get(typeDefinition.getName());
+            GraphQLOutputType outputType = outputGTypes.get(typeDefinition.getName());
+            return outputType == null && parent != null ? parent.hasOutputType(typeDefinition) : outputType;
         }
 
         GraphQLInputType hasInputType(TypeDefinition typeDefinition) {
-            return inputGTypes.get(typeDefinition.getName());
+            GraphQLInputType inputType = inputGTypes.get(typeDefinition.getName());
+            return inputType == null && parent != null ? parent.hasInputType(typeDefinition) : inputType;
         }
 
         void putOutputType(GraphQLNamedOutputType outputType) {
@@ -143,7 +209,7 @@ public class SchemaGeneratorHelper {
         }
 
         public Set<GraphQLDirective> getDirectives() {
-            return directives;
+            return parent != null ? parent.getDirectives() : directives;
         }
 
         public List<GraphQLError> getErrors() {
@@ -914,6 +980,11 @@ public class SchemaGeneratorHelper {
             return Optional.ofNullable(typeInfo.decorate(typeRef(typeInfo.getName())));
         }
 
+        if (buildCtx.isReferencedOnly(typeDefinition)) {
+            // the type is built by another forked context, the reference is replaced when the schema is built
+            return Optional.ofNullable(typeInfo.decorate(typeRef(typeInfo.getName())));
+        }
+
         buildCtx.push(typeInfo);
 
         if (typeDefinition instanceof ObjectTypeDefinition) {
@@ -1102,27 +1173,27 @@ public class SchemaGeneratorHelper {
     }
 
     @NotNull List<InputObjectTypeExtensionDefinition> inputObjectTypeExtensions(InputObjectTypeDefinition typeDefinition, BuildContext buildCtx) {
-        return buildCtx.getTypeRegistry().inputObjectTypeExtensions().getOrDefault(typeDefinition.getName(), emptyList());
+        return buildCtx.inputObjectTypeExtensions.getOrDefault(typeDefinition.getName(), emptyList());
     }
 
     @NotNull List<EnumTypeExtensionDefinition> enumTypeExtensions(EnumTypeDefinition typeDefinition, BuildContext buildCtx) {
-        return buildCtx.getTypeRegistry().enumTypeExtensions().getOrDefault(typeDefinition.getName(), emptyList());
+        return buildCtx.enumTypeExtensions.getOrDefault(typeDefinition.getName(), emptyList());
     }
 
     @NotNull List<ScalarTypeExtensionDefinition> scalarTypeExtensions(ScalarTypeDefinition typeDefinition, BuildContext buildCtx) {
-        return buildCtx.getTypeRegistry().scalarTypeExtensions().getOrDefault(typeDefinition.getName(), emptyList());
+        return buildCtx.scalarTypeExtensions.getOrDefault(typeDefinition.getName(), emptyList());
     }
 
     @NotNull List<InterfaceTypeExtensionDefinition> interfaceTypeExtensions(InterfaceTypeDefinition typeDefinition, BuildContext buildCtx) {
-        return buildCtx.getTypeRegistry().interfaceTypeExtensions().getOrDefault(typeDefinition.getName(), emptyList());
+        return buildCtx.interfaceTypeExtensions.getOrDefault(typeDefinition.getName(), emptyList());
     }
 
     @NotNull List<ObjectTypeExtensionDefinition> objectTypeExtensions(ObjectTypeDefinition typeDefinition, BuildContext buildCtx) {
-        return buildCtx.getTypeRegistry().objectTypeExtensions().getOrDefault(typeDefinition.getName(), emptyList());
+        return buildCtx.objectTypeExtensions.getOrDefault(typeDefinition.getName(), emptyList());
     }
 
     @NotNull List<UnionTypeExtensionDefinition> unionTypeExtensions(UnionTypeDefinition typeDefinition, BuildContext buildCtx) {
-        return buildCtx.getTypeRegistry().unionTypeExtensions().getOrDefault(typeDefinition.getName(), emptyList());
+        return buildCtx.unionTypeExtensions.getOrDefault(typeDefinition.getName(), emptyList());
     }
 
     /**
@@ -1179,6 +1250,80 @@ public class SchemaGeneratorHelper {
         return additionalTypes;
     }
 
+    /**
+     * Builds all the named types of the registry, an alternative to building them from the operation types
+     * and then adding the detached ones with {@link #buildAdditionalTypes(BuildContext)}.
+     * <p>
+     * Input types are needed to build default values, so scalars, enums and input objects are built first in the given context.
+     * Object, interface and union types are then built in chunks on the common fork-join pool, each chunk in a forked context
+     * which refers to the other output types by {@link GraphQLTypeReference}. The forked contexts are merged in chunk order,
+     * so the result doesn't depend on the scheduling, and the references are replaced when the schema is built.
+     *
+     * @param buildCtx the context we need to work out what we are doing
+     * @return all the built types except the unused specification scalars
+     */
+    Set<GraphQLType> buildAllTypesInParallel(BuildContext buildCtx) {
+        TypeDefinitionRegistry typeRegistry = buildCtx.getTypeRegistry();
+        Collection<TypeDefinition> typeDefinitions = typeRegistry.types().values();
+        Collection<ScalarTypeDefinition> scalarTypeDefinitions = typeRegistry.scalars().values();
+
+        for (ScalarTypeDefinition scalarTypeDefinition : scalarTypeDefinitions) {
+            if (buildCtx.hasInputType(scalarTypeDefinition) == null && buildCtx.hasOutputType(scalarTypeDefinition) == null) {
+                buildCtx.putOutputType(buildScalar(buildCtx, scalarTypeDefinition));
+            }
+        }
+
+        List<TypeDefinition> outputTypeDefinitions = new ArrayList<>();
+        for (TypeDefinition typeDefinition : typeDefinitions) {
+            if (typeDefinition instanceof InputObjectTypeDefinition || typeDefinition instanceof EnumTypeDefinition) {
+                buildInputType(buildCtx, TypeName.newTypeName().name(typeDefinition.getName()).build());
+            } else {
+                outputTypeDefinitions.add(typeDefinition);
+            }
+        }
+
+        int chunkCount = (outputTypeDefinitions.size() + PARALLEL_BUILD_CHUNK_SIZE - 1) / PARALLEL_BUILD_CHUNK_SIZE;
+        BuildContext[] forks = new BuildContext[chunkCount];
+        ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+            IntStream.range(0, chunkCount).boxed().collect(Collectors.toList()),
+            indicator != null ? indicator : new EmptyProgressIndicator(), chunk -> {
+                BuildContext fork = buildCtx.fork();
+                int end = Math.min(outputTypeDefinitions.size(), (chunk + 1) * PARALLEL_BUILD_CHUNK_SIZE);
+                for (int i = chunk * PARALLEL_BUILD_CHUNK_SIZE; i < end; i++) {
+                    ProgressManager.checkCanceled();
+                    TypeDefinition typeDefinition = outputTypeDefinitions.get(i);
+                    buildOutputType(fork, TypeName.newTypeName().name(typeDefinition.getName()).build());
+                }
+                forks[chunk] = fork;
+                return true;
+            });
+        ProgressManager.checkCanceled();
+
+        for (BuildContext fork : forks) {
+            buildCtx.mergeFork(fork);
+        }
+
+        Set<GraphQLType> types = new LinkedHashSet<>();
+        for (TypeDefinition typeDefinition : typeDefinitions) {
+            GraphQLType type = typeDefinition instanceof InputObjectTypeDefinition
+                ? buildCtx.hasInputType(typeDefinition) : buildCtx.hasOutputType(typeDefinition);
+            if (type != null) {
+                types.add(type);
+            }
+        }
+        for (ScalarTypeDefinition scalarTypeDefinition : scalarTypeDefinitions) {
+            if (ScalarInfo.isGraphqlSpecifiedScalar(scalarTypeDefinition.getName())) {
+                continue;
+            }
+            GraphQLType type = buildCtx.hasOutputType(scalarTypeDefinition);
+            if (type != null) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
     /**
      * Detached types (or additional types) are all types that
      * are not connected to the root operations types.
@@ -18,6 +18,7 @@
 package com.intellij.lang.jsgraphql.types.schema.idl;
 
 import com.intellij.application.options.CodeStyle;
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.lang.jsgraphql.GraphQLLanguage;
 import com.intellij.lang.jsgraphql.ide.introspection.GraphQLIntrospectionResultToSchema;
 import com.intellij.lang.jsgraphql.types.Assert;
@@ -25,16 +26,21 @@ import com.intellij.lang.jsgraphql.types.PublicApi;
 import com.intellij.lang.jsgraphql.types.language.*;
 import com.intellij.lang.jsgraphql.types.schema.*;
 import com.intellij.lang.jsgraphql.types.schema.visibility.GraphqlFieldVisibility;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.codeStyle.CommonCodeStyleSettings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.intellij.lang.jsgraphql.types.Directives.DeprecatedDirective;
@@ -281,10 +287,14 @@ public class SchemaPrinter {
         }
     }
 
-    private final Map<Class<?>, TypePrinter<?>> printers = new LinkedHashMap<>();
+    // the printers of the subclasses are added lazily, possibly from several threads when printing in parallel
+    private final Map<Class<?>, TypePrinter<?>> printers = new ConcurrentHashMap<>();
 
     private static final String DEFAULT_INDENT = "  ";
 
+    private static final int PARALLEL_TYPES_THRESHOLD = 256;
+    private static final int PARALLEL_BATCH_SIZE = 4096;
+
 
     private final @Nullable Project project;
     private final @Nullable CommonCodeStyleSettings.IndentOptions indentOptions;
@@ -356,30 +366,184 @@ public class SchemaPrinter {
      * @return the logical schema definition
      */
     public String print(GraphQLSchema schema) {
+        return print(schema, false);
+    }
+
+    /**
+     * This can print an in memory GraphQL schema back to a logical schema definition, see {@link #print(GraphQLSchema, Writer, boolean)}
+     *
+     * @param schema   the schema in play
+     * @param parallel whether the types of a large schema should be printed in parallel
+     * @return the logical schema definition
+     */
+    public String print(GraphQLSchema schema, boolean parallel) {
         StringWriter sw = new StringWriter();
-        PrintWriter out = new PrintWriter(sw);
+        try {
+            print(schema, sw, parallel);
+        } catch (IOException e) {
+            // a string writer doesn't throw
+            throw new UncheckedIOException(e);
+        }
+        return sw.toString();
+    }
+
+    /**
+     * This prints an in memory GraphQL schema straight into the writer, without building the whole schema definition in memory.
+     * <p>
+     * In the parallel mode the named types of a large schema are printed into separate buffers on the fork-join pool, and
+     * the buffers are written in the same order as in the sequential mode, so the result is the same. The types are printed
+     * in batches, so only the definitions of one batch are kept in memory at a time. The types are always printed sequentially
+     * on the EDT, which must not be blocked by the fork-join pool.
+     *
+     * @param schema   the schema in play
+     * @param writer   the writer to print to, which isn't closed
+     * @param parallel whether the types of a large schema should be printed in parallel
+     * @throws IOException if the writer fails
+     */
+    public void print(GraphQLSchema schema, Writer writer, boolean parallel) throws IOException {
+        TrailingLineBreakWriter trailingLineBreakWriter = new TrailingLineBreakWriter(writer);
+        PrintWriter out = new PrintWriter(trailingLineBreakWriter);
 
         GraphqlFieldVisibility visibility = schema.getCodeRegistry().getFieldVisibility();
 
         printer(schema.getClass()).print(out, schema, visibility);
 
-        List<GraphQLType> typesAsList = schema.getAllTypesAsList()
-            .stream()
-            .sorted(Comparator.comparing(GraphQLNamedType::getName))
-            .collect(toList());
+        List<GraphQLNamedType> types = getTypesToPrint(schema);
+        if (!parallel || types.size() < PARALLEL_TYPES_THRESHOLD || ApplicationManager.getApplication().isDispatchThread()) {
+            for (GraphQLNamedType type : types) {
+                printType(out, type, visibility);
+            }
+        } else {
+            ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+            if (indicator == null) {
+                indicator = new EmptyProgressIndicator();
+            }
+            for (int start = 0; start < types.size(); start += PARALLEL_BATCH_SIZE) {
+                List<GraphQLNamedType> batch = types.subList(start, Math.min(types.size(), start + PARALLEL_BATCH_SIZE));
+                String[] printedTypes = new String[batch.size()];
+                JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+                    IntStream.range(0, batch.size()).boxed().collect(toList()), indicator, index -> {
+                        StringWriter sw = new StringWriter();
+                        PrintWriter typeOut = new PrintWriter(sw);
+                        printType(typeOut, batch.get(index), visibility);
+                        typeOut.flush();
+                        printedTypes[index] = sw.toString();
+                        return true;
+                    });
+                for (String printedType : printedTypes) {
+                    out.write(printedType);
+                }
+            }
+        }
+
+        out.flush();
+        trailingLineBreakWriter.finish();
+    }
+
+    private List<GraphQLNamedType> getTypesToPrint(GraphQLSchema schema) {
+        List<GraphQLNamedType> types = new ArrayList<>();
+        // the schema keeps the types of each kind sorted by name
+        addTypesToPrint(types, schema.getAllInterfaceTypes());
+        addTypesToPrint(types, schema.getAllUnionTypes());
+        addTypesToPrint(types, schema.getAllObjectTypes());
+        addTypesToPrint(types, schema.getAllEnumTypes());
+        addTypesToPrint(types, schema.getAllScalarTypes());
+        addTypesToPrint(types, schema.getAllInputObjectTypes());
+        return types;
+    }
+
+    private void addTypesToPrint(List<GraphQLNamedType> result, List<? extends GraphQLNamedType> types) {
+        for (GraphQLNamedType type : types) {
+            if (options.getIncludeSchemaElement().test(type)) {
+                result.add(type);
+            }
+        }
+    }
+
+    /**
+     * Holds back the line breaks at the end of the text, so the blank line after the last definition can be dropped
+     * and the printed schema ends with a single line break.
+     */
+    private static final class TrailingLineBreakWriter extends Writer {
+        private final Writer delegate;
+        private int pendingLineBreaks;
+        private IOException error;
+
+        private TrailingLineBreakWriter(Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            int trailing = 0;
+            while (trailing < len && cbuf[off + len - 1 - trailing] == '\n') {
+                trailing++;
+            }
+            int length = len - trailing;
+            if (length > 0) {
+                writePendingLineBreaks(pendingLineBreaks);
+                doWrite(() -> delegate.write(cbuf, off, length));
+            }
+            pendingLineBreaks += trailing;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            int trailing = 0;
+            while (trailing < len && str.charAt(off + len - 1 - trailing) == '\n') {
+                trailing++;
+            }
+            int length = len - trailing;
+            if (length > 0) {
+                writePendingLineBreaks(pendingLineBreaks);
+                doWrite(() -> delegate.write(str, off, length));
+            }
+            pendingLineBreaks += trailing;
+        }
+
+        private void writePendingLineBreaks(int count) throws IOException {
+            for (int i = 0; i < count; i++) {
+                doWrite(() -> delegate.write('\n'));
+            }
+            pendingLineBreaks = 0;
+        }
 
-        printType(out, typesAsList, GraphQLInterfaceType.class, visibility);
-        printType(out, typesAsList, GraphQLUnionType.class, visibility);
-        printType(out, typesAsList, GraphQLObjectType.class, visibility);
-        printType(out, typesAsList, GraphQLEnumType.class, visibility);
-        printType(out, typesAsList, GraphQLScalarType.class, visibility);
-        printType(out, typesAsList, GraphQLInputObjectType.class, visibility);
+        private void doWrite(IORunnable runnable) throws IOException {
+            try {
+                runnable.run();
+            } catch (IOException e) {
+                // the print writer swallows the exceptions, so the first one is rethrown when finished
+                if (error == null) {
+                    error = e;
+                }
+                throw e;
+            }
+        }
 
-        String result = sw.toString();
-        if (result.endsWith("\n\n")) {
-            result = result.substring(0, result.length() - 1);
+        void finish() throws IOException {
+            if (error == null) {
+                writePendingLineBreaks(pendingLineBreaks >= 2 ? pendingLineBreaks - 1 : pendingLineBreaks);
+                doWrite(delegate::flush);
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            doWrite(delegate::flush);
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the writer belongs to the caller
+            flush();
+        }
+
+        private interface IORunnable {
+            void run() throws IOException;
         }
-        return result;
     }
 
     private interface TypePrinter<T> {
@@ -968,14 +1132,6 @@ public class SchemaPrinter {
         return sw.toString();
     }
 
-    private void printType(PrintWriter out, List<GraphQLType> typesAsList, Class<?>
-        typeClazz, GraphqlFieldVisibility visibility) {
-        typesAsList.stream()
-            .filter(type -> typeClazz.isAssignableFrom(type.getClass()))
-            .filter(type -> options.getIncludeSchemaElement().test(type))
-            .forEach(type -> printType(out, type, visibility));
-    }
-
     private void printType(PrintWriter out, GraphQLType type, GraphqlFieldVisibility visibility) {
         TypePrinter<Object> printer = printer(type.getClass());
         printer.print(out, type, visibility);
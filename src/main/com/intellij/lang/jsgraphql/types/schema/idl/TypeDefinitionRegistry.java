@@ -344,11 +344,12 @@ public class TypeDefinitionRegistry {
         if (typeDefinition != null) {
             return Optional.of(typeDefinition);
         }
-        typeDefinition = scalars().get(typeName);
-        if (typeDefinition != null) {
-            return Optional.of(typeDefinition);
+        // avoid copying the scalars map on every lookup, the registry scalars override the specification ones
+        typeDefinition = scalarTypes.get(typeName);
+        if (typeDefinition == null) {
+            typeDefinition = ScalarInfo.GRAPHQL_SPECIFICATION_SCALARS_DEFINITIONS.get(typeName);
         }
-        return Optional.empty();
+        return Optional.ofNullable(typeDefinition);
     }
 
     public <T extends TypeDefinition> @NotNull Optional<T> getType(@Nullable String typeName, Class<T> ofType) {
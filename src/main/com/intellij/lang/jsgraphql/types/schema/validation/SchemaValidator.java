@@ -17,47 +17,82 @@
  */
 package com.intellij.lang.jsgraphql.types.schema.validation;
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.lang.jsgraphql.types.Internal;
 import com.intellij.lang.jsgraphql.types.schema.*;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Validates a schema by walking it once and dispatching every type and reachable field definition to all rules.
+ * <p>
+ * In the parallel mode the types and field definitions are split into chunks which are checked concurrently under
+ * the current progress indicator, so the validation is cancelled with it, each chunk into its own collector.
+ * The collectors are merged in chunk order, which is the order of the types and field definitions, so the reported
+ * errors are the same and in the same order as in the sequential mode. Rules must be stateless to be used this way.
+ */
 @Internal
 public class SchemaValidator {
 
+    private static final int CHUNK_SIZE = 256;
+
     private final Set<GraphQLOutputType> processed = new LinkedHashSet<>();
 
     private List<SchemaValidationRule> rules = new ArrayList<>();
 
+    private final boolean parallel;
+
     public SchemaValidator() {
+        this(false);
+    }
+
+    public SchemaValidator(boolean parallel) {
         rules.add(new NoUnbrokenInputCycles());
         rules.add(new TypeAndFieldRule());
+        this.parallel = parallel;
     }
 
     SchemaValidator(List<SchemaValidationRule> rules) {
         this.rules = rules;
+        this.parallel = false;
     }
 
     public List<SchemaValidationRule> getRules() {
         return rules;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
     public Set<SchemaValidationError> validateSchema(GraphQLSchema schema) {
         SchemaValidationErrorCollector validationErrorCollector = new SchemaValidationErrorCollector();
 
         checkTypes(schema, validationErrorCollector);
         checkSchema(schema, validationErrorCollector);
 
-        traverse(schema.getQueryType(), rules, validationErrorCollector);
+        List<GraphQLFieldDefinition> fieldDefinitions = new ArrayList<>();
+        traverse(schema.getQueryType(), fieldDefinitions);
         if (schema.isSupportingMutations()) {
-            traverse(schema.getMutationType(), rules, validationErrorCollector);
+            traverse(schema.getMutationType(), fieldDefinitions);
         }
         if (schema.isSupportingSubscriptions()) {
-            traverse(schema.getSubscriptionType(), rules, validationErrorCollector);
+            traverse(schema.getSubscriptionType(), fieldDefinitions);
         }
+        check(fieldDefinitions, (fieldDefinition, collector) -> {
+            for (SchemaValidationRule rule : rules) {
+                rule.check(fieldDefinition, collector);
+            }
+        }, validationErrorCollector);
         return validationErrorCollector.getErrors();
     }
 
@@ -69,16 +104,50 @@ public class SchemaValidator {
 
     private void checkTypes(GraphQLSchema schema, SchemaValidationErrorCollector validationErrorCollector) {
         List<GraphQLNamedType> types = schema.getAllTypesAsList();
-        types.forEach(type -> {
+        check(types, (type, collector) -> {
             for (SchemaValidationRule rule : rules) {
-                rule.check(type, validationErrorCollector);
+                rule.check(type, collector);
             }
-        });
+        }, validationErrorCollector);
     }
 
-    private void traverse(GraphQLOutputType root,
-                          List<SchemaValidationRule> rules,
-                          SchemaValidationErrorCollector validationErrorCollector) {
+    private <T> void check(List<T> elements,
+                           BiConsumer<T, SchemaValidationErrorCollector> checker,
+                           SchemaValidationErrorCollector validationErrorCollector) {
+        if (!parallel || elements.size() <= CHUNK_SIZE) {
+            for (T element : elements) {
+                ProgressManager.checkCanceled();
+                checker.accept(element, validationErrorCollector);
+            }
+            return;
+        }
+
+        int chunkCount = (elements.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SchemaValidationErrorCollector[] chunkCollectors = new SchemaValidationErrorCollector[chunkCount];
+        ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+            IntStream.range(0, chunkCount).boxed().collect(Collectors.toList()),
+            indicator != null ? indicator : new EmptyProgressIndicator(), chunk -> {
+                SchemaValidationErrorCollector chunkCollector = new SchemaValidationErrorCollector();
+                int end = Math.min(elements.size(), (chunk + 1) * CHUNK_SIZE);
+                for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                    ProgressManager.checkCanceled();
+                    checker.accept(elements.get(i), chunkCollector);
+                }
+                chunkCollectors[chunk] = chunkCollector;
+                return true;
+            });
+        ProgressManager.checkCanceled();
+
+        // merged in the order of the elements, a duplicate error is kept at its first position as in the sequential mode
+        for (SchemaValidationErrorCollector chunkCollector : chunkCollectors) {
+            for (SchemaValidationError error : chunkCollector.getErrors()) {
+                validationErrorCollector.addError(error);
+            }
+        }
+    }
+
+    private void traverse(GraphQLOutputType root, List<GraphQLFieldDefinition> fieldDefinitions) {
         if (processed.contains(root)) {
             return;
         }
@@ -87,10 +156,8 @@ public class SchemaValidator {
             // this deliberately has open field visibility here since its validating the schema
             // when completely open
             for (GraphQLFieldDefinition fieldDefinition : ((GraphQLFieldsContainer) root).getFieldDefinitions()) {
-                for (SchemaValidationRule rule : rules) {
-                    rule.check(fieldDefinition, validationErrorCollector);
-                }
-                traverse(fieldDefinition.getType(), rules, validationErrorCollector);
+                fieldDefinitions.add(fieldDefinition);
+                traverse(fieldDefinition.getType(), fieldDefinitions);
             }
         }
     }
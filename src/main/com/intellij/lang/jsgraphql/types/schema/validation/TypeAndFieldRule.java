@@ -19,10 +19,8 @@ package com.intellij.lang.jsgraphql.types.schema.validation;
 
 import com.intellij.lang.jsgraphql.types.language.Node;
 import com.intellij.lang.jsgraphql.types.schema.*;
-import com.intellij.lang.jsgraphql.types.util.FpKit;
 
 import java.util.*;
-import java.util.function.Predicate;
 
 import static com.intellij.lang.jsgraphql.types.introspection.Introspection.isIntrospectionTypes;
 import static com.intellij.lang.jsgraphql.types.schema.idl.ScalarInfo.isGraphqlSpecifiedScalar;
@@ -40,29 +38,20 @@ import static com.intellij.lang.jsgraphql.types.schema.idl.ScalarInfo.isGraphqlS
  */
 public class TypeAndFieldRule implements SchemaValidationRule {
 
-    private Map<String, GraphQLNamedType> schemaTypeHolder;
-
     @Override
     public void check(GraphQLSchema graphQLSchema, SchemaValidationErrorCollector validationErrorCollector) {
-
-        List<GraphQLNamedType> allTypesAsList = graphQLSchema.getAllTypesAsList();
-
-        List<GraphQLNamedType> filteredType = filterBuiltInTypes(allTypesAsList);
-
-        schemaTypeHolder = graphQLSchema.getTypeMap();
-
-        checkTypes(filteredType, validationErrorCollector);
     }
 
-
-    private void checkTypes(List<GraphQLNamedType> customizedType, SchemaValidationErrorCollector errorCollector) {
-        if (customizedType == null || customizedType.isEmpty()) {
+    /**
+     * The rule is stateless and checks each type on its own, so {@link SchemaValidator} can run it for several types concurrently.
+     */
+    @Override
+    public void check(GraphQLType type, SchemaValidationErrorCollector validationErrorCollector) {
+        if (type instanceof GraphQLNamedType && isBuiltInType((GraphQLNamedType) type)) {
             return;
         }
 
-        for (GraphQLType type : customizedType) {
-            checkType(type, errorCollector);
-        }
+        checkType(type, validationErrorCollector);
     }
 
     private void checkType(GraphQLType type, SchemaValidationErrorCollector errorCollector) {
@@ -223,30 +212,15 @@ public class TypeAndFieldRule implements SchemaValidationRule {
         }
     }
 
-    private List<GraphQLNamedType> filterBuiltInTypes(List<GraphQLNamedType> graphQLNamedTypes) {
-        if (graphQLNamedTypes == null || graphQLNamedTypes.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        Predicate<GraphQLNamedType> filterFunction = namedType -> {
-            if (isIntrospectionTypes(namedType)) {
-                return false;
-            }
-            if (namedType instanceof GraphQLScalarType && isGraphqlSpecifiedScalar((GraphQLScalarType) namedType)) {
-                return false;
-            }
+    private static boolean isBuiltInType(GraphQLNamedType namedType) {
+        if (isIntrospectionTypes(namedType)) {
             return true;
-        };
-
-        return FpKit.filterList(graphQLNamedTypes, filterFunction);
+        }
+        return namedType instanceof GraphQLScalarType && isGraphqlSpecifiedScalar((GraphQLScalarType) namedType);
     }
 
 
     @Override
     public void check(GraphQLFieldDefinition fieldDef, SchemaValidationErrorCollector validationErrorCollector) {
     }
-
-    @Override
-    public void check(GraphQLType type, SchemaValidationErrorCollector validationErrorCollector) {
-    }
 }
@@ -22,6 +22,7 @@ import com.intellij.lang.jsgraphql.types.Internal;
 import com.intellij.lang.jsgraphql.types.collect.ImmutableKit;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,18 +38,20 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
 
     private final TraverserContext<T> parent;
     private final Set<T> visited;
-    private final Map<Class<?>, Object> vars;
+    private Map<Class<?>, Object> vars;
     private final Object sharedContextData;
 
     private Object newAccValue;
     private boolean hasNewAccValue;
     private Object curAccValue;
-    private final NodeLocation location;
+    private NodeLocation location;
+    private final int index;
     private final boolean isRootContext;
     private boolean parallel;
     private Map<String, List<TraverserContext<T>>> children;
     private Phase phase;
-    private final List<Breadcrumb<T>> breadcrumbs;
+    private List<Breadcrumb<T>> breadcrumbs;
+    private boolean entered;
 
     public DefaultTraverserContext(T curNode,
                                    TraverserContext<T> parent,
@@ -64,6 +67,7 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
         this.vars = vars;
         this.sharedContextData = sharedContextData;
         this.location = location;
+        this.index = location != null ? location.getIndex() : -1;
         this.isRootContext = isRootContext;
         this.parallel = parallel;
 
@@ -77,6 +81,19 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
         }
     }
 
+    /**
+     * A lightweight context used by {@link Traverser#depthFirstLightweight}: the vars map, the location and the breadcrumbs
+     * are only created when asked for, and the breadcrumbs reflect the parent nodes at that time.
+     */
+    DefaultTraverserContext(T curNode, TraverserContext<T> parent, Set<T> visited, Object sharedContextData, int index) {
+        this.curNode = curNode;
+        this.parent = parent;
+        this.visited = visited;
+        this.sharedContextData = sharedContextData;
+        this.index = index;
+        this.isRootContext = false;
+    }
+
     public static <T> DefaultTraverserContext<T> dummy() {
         return new DefaultTraverserContext<>(null, null, null, null, null, null, true, false);
     }
@@ -143,6 +160,16 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
 
     @Override
     public List<Breadcrumb<T>> getBreadcrumbs() {
+        if (breadcrumbs == null) {
+            if (parent == null || parent.isRootContext()) {
+                breadcrumbs = ImmutableKit.emptyList();
+            } else {
+                breadcrumbs = ImmutableList.<Breadcrumb<T>>builder()
+                    .add(new Breadcrumb<>(parent.thisNode(), getLocation()))
+                    .addAll(parent.getBreadcrumbs())
+                    .build();
+            }
+        }
         return breadcrumbs;
     }
 
@@ -166,11 +193,14 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
 
     @Override
     public <S> S getVar(Class<? super S> key) {
-        return (S) key.cast(vars.get(key));
+        return vars != null ? (S) key.cast(vars.get(key)) : null;
     }
 
     @Override
     public <S> TraverserContext<T> setVar(Class<? super S> key, S value) {
+        if (vars == null) {
+            vars = new HashMap<>();
+        }
         vars.put(key, value);
         return this;
     }
@@ -211,6 +241,9 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
 
     @Override
     public NodeLocation getLocation() {
+        if (location == null && index >= 0) {
+            location = new NodeLocation(null, index);
+        }
         return location;
     }
 
@@ -254,6 +287,17 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
         this.phase = phase;
     }
 
+    /*
+     * PRIVATE: Used by {@link Traverser}, marks a context which children were pushed, so it's left when popped again
+     */
+    void setEntered() {
+        this.entered = true;
+    }
+
+    boolean isEntered() {
+        return entered;
+    }
+
     @Override
     public Phase getPhase() {
         return phase;
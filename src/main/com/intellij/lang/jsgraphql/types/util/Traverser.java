@@ -33,7 +33,12 @@ public class Traverser<T> {
     private final TraverserState<T> traverserState;
     private final Function<? super T, Map<String, ? extends List<T>>> getChildren;
     private final Object initialAccumulate;
-    private final Map<Class<?>, Object> rootVars = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> rootVars;
+
+    // the lightweight depth-first traversal, see depthFirstLightweight
+    private final Function<? super T, ? extends List<T>> getChildrenList;
+    private final Object sharedContextData;
+    private final Set<T> visited;
 
     private static final List<TraversalControl> CONTINUE_OR_QUIT = Arrays.asList(CONTINUE, QUIT);
 
@@ -41,6 +46,20 @@ public class Traverser<T> {
         this.traverserState = assertNotNull(traverserState);
         this.getChildren = assertNotNull(getChildren);
         this.initialAccumulate = initialAccumulate;
+        this.rootVars = new ConcurrentHashMap<>();
+        this.getChildrenList = null;
+        this.sharedContextData = null;
+        this.visited = null;
+    }
+
+    private Traverser(Function<? super T, ? extends List<T>> getChildrenList, Object sharedContextData, Object initialAccumulate) {
+        this.traverserState = null;
+        this.getChildren = null;
+        this.initialAccumulate = initialAccumulate;
+        this.rootVars = new HashMap<>();
+        this.getChildrenList = assertNotNull(getChildrenList);
+        this.sharedContextData = sharedContextData;
+        this.visited = new HashSet<>();
     }
 
     private static <T> Function<? super T, Map<String, ? extends List<T>>> wrapListFunction(Function<? super T, ? extends List<T>> listFn) {
@@ -73,6 +92,18 @@ public class Traverser<T> {
         return new Traverser<>(TraverserState.newStackState(sharedContextData), mapFunction, initialAccumulate);
     }
 
+    /**
+     * A depth-first traverser for the visitors which don't need the children contexts in the leave phase,
+     * see {@link TraverserContext#getChildrenContexts()}.
+     * <p>
+     * It's a lot cheaper on large trees: the contexts don't create their vars, locations and breadcrumbs unless asked for,
+     * the children aren't wrapped into a named children map, and no end-of-list markers are pushed. The contexts aren't
+     * thread-safe, so the traverser must not be shared between threads.
+     */
+    public static <T> Traverser<T> depthFirstLightweight(Function<? super T, ? extends List<T>> getChildren, Object sharedContextData, Object initialAccumulate) {
+        return new Traverser<>(getChildren, sharedContextData, initialAccumulate);
+    }
+
     public static <T> Traverser<T> depthFirstWithNamedChildren(Function<? super T, Map<String, ? extends List<T>>> getNamedChildren, Object sharedContextData, Object initialAccumulate) {
         return new Traverser<>(TraverserState.newStackState(sharedContextData), getNamedChildren, initialAccumulate);
     }
@@ -101,7 +132,9 @@ public class Traverser<T> {
     public TraverserResult traverse(Collection<? extends T> roots, TraverserVisitor<? super T> visitor) {
         assertNotNull(roots);
         assertNotNull(visitor);
-
+        if (getChildrenList != null) {
+            return traverseLightweight(roots, visitor);
+        }
 
         // "artificial" parent context for all roots with rootVars
         DefaultTraverserContext<T> rootContext = traverserState.newRootContext(rootVars);
@@ -174,5 +207,79 @@ public class Traverser<T> {
         return traverserResult;
     }
 
+    private TraverserResult traverseLightweight(Collection<? extends T> roots, TraverserVisitor<? super T> visitor) {
+        // "artificial" parent context for all roots with rootVars
+        DefaultTraverserContext<T> rootContext =
+            new DefaultTraverserContext<>(null, null, visited, rootVars, sharedContextData, null, true, false);
+
+        // a context is pushed back on top of its children when entered, and left when it's popped again
+        Deque<DefaultTraverserContext<T>> stack = new ArrayDeque<>(64);
+        List<? extends T> rootList = roots instanceof List ? (List<? extends T>) roots : new ArrayList<>(roots);
+        for (int i = rootList.size() - 1; i >= 0; i--) {
+            stack.push(new DefaultTraverserContext<>(rootList.get(i), rootContext, visited, sharedContextData, -1));
+        }
+
+        Object currentAccValue = initialAccumulate;
+        traverseLoop:
+        while (!stack.isEmpty()) {
+            DefaultTraverserContext<T> currentContext = stack.pop();
+
+            if (currentContext.isEntered()) {
+                currentContext.setCurAccValue(currentAccValue);
+                currentContext.setPhase(TraverserContext.Phase.LEAVE);
+                TraversalControl traversalControl = visitor.leave(currentContext);
+                currentAccValue = currentContext.getNewAccumulate();
+                assertNotNull(traversalControl, () -> "result of leave must not be null");
+                assertTrue(CONTINUE_OR_QUIT.contains(traversalControl), () -> "result can only return CONTINUE or QUIT");
+                if (traversalControl == QUIT) {
+                    break;
+                }
+                continue;
+            }
+
+            if (currentContext.isVisited()) {
+                currentContext.setCurAccValue(currentAccValue);
+                currentContext.setPhase(TraverserContext.Phase.BACKREF);
+                TraversalControl traversalControl = visitor.backRef(currentContext);
+                currentAccValue = currentContext.getNewAccumulate();
+                assertNotNull(traversalControl, () -> "result of backRef must not be null");
+                assertTrue(CONTINUE_OR_QUIT.contains(traversalControl), () -> "backRef can only return CONTINUE or QUIT");
+                if (traversalControl == QUIT) {
+                    break;
+                }
+                continue;
+            }
+
+            currentContext.setCurAccValue(currentAccValue);
+            T nodeBeforeEnter = currentContext.thisNode();
+            currentContext.setPhase(TraverserContext.Phase.ENTER);
+            TraversalControl traversalControl = visitor.enter(currentContext);
+            currentAccValue = currentContext.getNewAccumulate();
+            assertNotNull(traversalControl, () -> "result of enter must not be null");
+            visited.add(nodeBeforeEnter);
+            switch (traversalControl) {
+                case QUIT:
+                    break traverseLoop;
+                case ABORT:
+                    continue;
+                case CONTINUE:
+                    currentContext.setEntered();
+                    stack.push(currentContext);
+                    if (!currentContext.isDeleted()) {
+                        List<T> children = getChildrenList.apply(currentContext.thisNode());
+                        for (int i = children.size() - 1; i >= 0; i--) {
+                            T child = assertNotNull(children.get(i), () -> "null child");
+                            stack.push(new DefaultTraverserContext<>(child, currentContext, visited, sharedContextData, i));
+                        }
+                    }
+                    continue;
+                default:
+                    assertShouldNeverHappen();
+            }
+        }
+
+        return new TraverserResult(currentAccValue);
+    }
+
 
 }
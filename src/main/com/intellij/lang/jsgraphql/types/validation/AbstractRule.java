@@ -22,13 +22,39 @@ import com.intellij.lang.jsgraphql.types.Internal;
 import com.intellij.lang.jsgraphql.types.language.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.intellij.lang.jsgraphql.types.validation.ValidationError.newValidationError;
 
 @Internal
 public class AbstractRule {
 
+    /**
+     * The checks a rule can implement, one per node callback, see {@link #getChecks()}.
+     */
+    public enum Check {
+        DOCUMENT,
+        ARGUMENT,
+        TYPE_NAME,
+        VARIABLE_DEFINITION,
+        FIELD,
+        INLINE_FRAGMENT,
+        DIRECTIVE,
+        FRAGMENT_SPREAD,
+        FRAGMENT_DEFINITION,
+        OPERATION_DEFINITION,
+        VARIABLE,
+        SELECTION_SET,
+        LEAVE_OPERATION_DEFINITION,
+        LEAVE_SELECTION_SET,
+        DOCUMENT_FINISHED
+    }
+
+    private static final Set<Check> ALL_CHECKS = Collections.unmodifiableSet(EnumSet.allOf(Check.class));
+
     private final ValidationContext validationContext;
     private final ValidationErrorCollector validationErrorCollector;
 
@@ -51,6 +77,14 @@ public class AbstractRule {
     }
 
 
+    /**
+     * The checks this rule implements, {@link RulesVisitor} only dispatches the nodes of these checks to the rule.
+     * A rule should declare exactly the callbacks it overrides, otherwise all the nodes are dispatched to it.
+     */
+    public Set<Check> getChecks() {
+        return ALL_CHECKS;
+    }
+
     public ValidationUtil getValidationUtil() {
         return validationUtil;
     }
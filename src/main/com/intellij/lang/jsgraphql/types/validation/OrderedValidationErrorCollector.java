@@ -0,0 +1,125 @@
+/*
+    The MIT License (MIT)
+
+    Copyright (c) 2015 Andreas Marek and Contributors
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files
+    (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge,
+    publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do
+    so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+    OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+    LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+    CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.intellij.lang.jsgraphql.types.validation;
+
+
+import com.intellij.lang.jsgraphql.types.Internal;
+import com.intellij.lang.jsgraphql.types.language.Document;
+import com.intellij.lang.jsgraphql.types.language.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the errors of a part of a parallel validation together with the position they would be reported at
+ * in a sequential traversal of the whole document: the top level definition, the traversal event inside it and the rule.
+ * <p>
+ * The position is updated by the {@link RulesVisitor} before each rule is called, so the errors of all the parts
+ * can be merged in the same order as a sequential validation reports them.
+ */
+@Internal
+class OrderedValidationErrorCollector extends ValidationErrorCollector {
+
+    // the errors reported by the rules visiting a fragment spread are reported after all the checks of the spread
+    private static final int FRAGMENT_SPREAD_TRAVERSAL = Integer.MAX_VALUE;
+
+    private static final Comparator<int[]> POSITION_ORDER = Comparator
+        .<int[]>comparingInt(position -> position[0])
+        .thenComparingInt(position -> position[1])
+        .thenComparingInt(position -> position[2]);
+
+    private final Map<Node<?>, Integer> definitionIndices;
+    private final Map<Class<?>, Integer> ruleOrder;
+    private final List<int[]> positions = new ArrayList<>();
+
+    private int definition = -1;
+    private int event;
+    private int rule;
+
+    /**
+     * @param definitionIndices the indices of the top level definitions of the document, by identity
+     * @param ruleOrder         the order the rules are created in by {@link Validator#createRules}
+     */
+    OrderedValidationErrorCollector(Map<Node<?>, Integer> definitionIndices, Map<Class<?>, Integer> ruleOrder) {
+        this.definitionIndices = definitionIndices;
+        this.ruleOrder = ruleOrder;
+    }
+
+    @Override
+    public void addError(ValidationError validationError) {
+        super.addError(validationError);
+        positions.add(new int[]{definition, event, rule});
+    }
+
+    void enter(Node<?> node, List<Node> ancestors) {
+        if (node instanceof Document) {
+            definition = -1;
+            event = 0;
+        } else if (ancestors.size() == 1 && ancestors.get(0) instanceof Document) {
+            definition = definitionIndices.getOrDefault(node, -1);
+            event = 0;
+        } else {
+            event++;
+        }
+    }
+
+    void leave(Node<?> node) {
+        if (node instanceof Document) {
+            definition = Integer.MAX_VALUE;
+            event = 0;
+        } else {
+            event++;
+        }
+    }
+
+    void setRule(AbstractRule abstractRule) {
+        rule = ruleOrder.getOrDefault(abstractRule.getClass(), 0);
+    }
+
+    void startFragmentSpreadTraversal() {
+        rule = FRAGMENT_SPREAD_TRAVERSAL;
+    }
+
+    /**
+     * Merges the errors of the collectors in the order of their positions, the errors at the same position keep their order.
+     */
+    static List<ValidationError> merge(List<OrderedValidationErrorCollector> collectors) {
+        List<int[]> positions = new ArrayList<>();
+        List<ValidationError> errors = new ArrayList<>();
+        for (OrderedValidationErrorCollector collector : collectors) {
+            positions.addAll(collector.positions);
+            errors.addAll(collector.getErrors());
+        }
+
+        Integer[] order = new Integer[errors.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // the sort is stable, so the errors with the same position stay in the order they were reported
+        Arrays.sort(order, Comparator.comparing(i -> positions.get(i), POSITION_ORDER));
+
+        List<ValidationError> mergedErrors = new ArrayList<>(order.length);
+        for (Integer index : order) {
+            mergedErrors.add(errors.get(index));
+        }
+        return mergedErrors;
+    }
+}
@@ -21,29 +21,52 @@ package com.intellij.lang.jsgraphql.types.validation;
 import com.google.common.collect.ImmutableList;
 import com.intellij.lang.jsgraphql.types.Internal;
 import com.intellij.lang.jsgraphql.types.language.*;
+import com.intellij.lang.jsgraphql.types.validation.AbstractRule.Check;
 
 import java.util.*;
 
+/**
+ * Dispatches the nodes of a document to the validation rules in a single traversal.
+ * <p>
+ * A node is only dispatched to the rules which declare the corresponding check, see {@link AbstractRule#getChecks()},
+ * and a fragment is visited at each of its spreads for the rules which visit fragment spreads.
+ */
 @Internal
 public class RulesVisitor implements DocumentVisitor {
 
     private final ImmutableList<AbstractRule> rules;
     private final ValidationContext validationContext;
-    private boolean subVisitor;
+    private final boolean subVisitor;
     private final List<AbstractRule> rulesVisitingFragmentSpreads = new ArrayList<>();
-    private final Map<Node, List<AbstractRule>> rulesToSkipByUntilNode = new IdentityHashMap<>();
-    private final Set<AbstractRule> rulesToSkip = new LinkedHashSet<>();
+    // the rules to dispatch to, and the ones inside fragment definitions, where the rules visiting fragment spreads are skipped
+    private final Map<Check, List<AbstractRule>> rulesByCheck = new EnumMap<>(Check.class);
+    private final Map<Check, List<AbstractRule>> fragmentDefinitionRulesByCheck = new EnumMap<>(Check.class);
+    // tracks the positions of the reported errors in a parallel validation, null otherwise
+    private final OrderedValidationErrorCollector positions;
+    private FragmentDefinition currentFragmentDefinition;
 
     public RulesVisitor(ValidationContext validationContext, List<AbstractRule> rules) {
         this(validationContext, rules, false);
     }
 
     public RulesVisitor(ValidationContext validationContext, List<AbstractRule> rules, boolean subVisitor) {
+        this(validationContext, rules, subVisitor, null);
+    }
+
+    RulesVisitor(ValidationContext validationContext, List<AbstractRule> rules, OrderedValidationErrorCollector positions) {
+        this(validationContext, rules, false, positions);
+    }
+
+    private RulesVisitor(ValidationContext validationContext,
+                         List<AbstractRule> rules,
+                         boolean subVisitor,
+                         OrderedValidationErrorCollector positions) {
         this.validationContext = validationContext;
         this.subVisitor = subVisitor;
         this.rules = ImmutableList.copyOf(rules);
-        this.subVisitor = subVisitor;
+        this.positions = positions;
         findRulesVisitingFragmentSpreads();
+        groupRulesByCheck();
     }
 
     private void findRulesVisitingFragmentSpreads() {
@@ -54,133 +77,161 @@ public class RulesVisitor implements DocumentVisitor {
         }
     }
 
+    private void groupRulesByCheck() {
+        for (Check check : Check.values()) {
+            rulesByCheck.put(check, new ArrayList<>());
+            fragmentDefinitionRulesByCheck.put(check, new ArrayList<>());
+        }
+        for (AbstractRule rule : rules) {
+            for (Check check : rule.getChecks()) {
+                rulesByCheck.get(check).add(rule);
+                if (subVisitor || !rule.isVisitFragmentSpreads()) {
+                    fragmentDefinitionRulesByCheck.get(check).add(rule);
+                }
+            }
+        }
+    }
+
+    private List<AbstractRule> getRules(Check check) {
+        return currentFragmentDefinition != null ? fragmentDefinitionRulesByCheck.get(check) : rulesByCheck.get(check);
+    }
+
     @Override
     public void enter(Node node, List<Node> ancestors) {
         validationContext.getTraversalContext().enter(node, ancestors);
-        Set<AbstractRule> tmpRulesSet = new LinkedHashSet<>(this.rules);
-        tmpRulesSet.removeAll(rulesToSkip);
-        List<AbstractRule> rulesToConsider = new ArrayList<>(tmpRulesSet);
+        if (positions != null) {
+            positions.enter(node, ancestors);
+        }
         if (node instanceof Document){
-            checkDocument((Document) node, rulesToConsider);
+            checkDocument((Document) node);
         } else if (node instanceof Argument) {
-            checkArgument((Argument) node, rulesToConsider);
+            checkArgument((Argument) node);
         } else if (node instanceof TypeName) {
-            checkTypeName((TypeName) node, rulesToConsider);
+            checkTypeName((TypeName) node);
         } else if (node instanceof VariableDefinition) {
-            checkVariableDefinition((VariableDefinition) node, rulesToConsider);
+            checkVariableDefinition((VariableDefinition) node);
         } else if (node instanceof Field) {
-            checkField((Field) node, rulesToConsider);
+            checkField((Field) node);
         } else if (node instanceof InlineFragment) {
-            checkInlineFragment((InlineFragment) node, rulesToConsider);
+            checkInlineFragment((InlineFragment) node);
         } else if (node instanceof Directive) {
-            checkDirective((Directive) node, ancestors, rulesToConsider);
+            checkDirective((Directive) node, ancestors);
         } else if (node instanceof FragmentSpread) {
-            checkFragmentSpread((FragmentSpread) node, rulesToConsider, ancestors);
+            checkFragmentSpread((FragmentSpread) node, ancestors);
         } else if (node instanceof FragmentDefinition) {
-            checkFragmentDefinition((FragmentDefinition) node, rulesToConsider);
+            checkFragmentDefinition((FragmentDefinition) node);
         } else if (node instanceof OperationDefinition) {
-            checkOperationDefinition((OperationDefinition) node, rulesToConsider);
+            checkOperationDefinition((OperationDefinition) node);
         } else if (node instanceof VariableReference) {
-            checkVariable((VariableReference) node, rulesToConsider);
+            checkVariable((VariableReference) node);
         } else if (node instanceof SelectionSet) {
-            checkSelectionSet((SelectionSet) node, rulesToConsider);
+            checkSelectionSet((SelectionSet) node);
         }
     }
 
-    private void checkDocument(Document node, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void track(AbstractRule rule) {
+        if (positions != null) {
+            positions.setRule(rule);
+        }
+    }
+
+    private void checkDocument(Document node) {
+        for (AbstractRule rule : getRules(Check.DOCUMENT)) {
+            track(rule);
             rule.checkDocument(node);
         }
     }
 
 
-    private void checkArgument(Argument node, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void checkArgument(Argument node) {
+        for (AbstractRule rule : getRules(Check.ARGUMENT)) {
+            track(rule);
             rule.checkArgument(node);
         }
     }
 
-    private void checkTypeName(TypeName node, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void checkTypeName(TypeName node) {
+        for (AbstractRule rule : getRules(Check.TYPE_NAME)) {
+            track(rule);
             rule.checkTypeName(node);
         }
     }
 
 
-    private void checkVariableDefinition(VariableDefinition variableDefinition, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void checkVariableDefinition(VariableDefinition variableDefinition) {
+        for (AbstractRule rule : getRules(Check.VARIABLE_DEFINITION)) {
+            track(rule);
             rule.checkVariableDefinition(variableDefinition);
         }
     }
 
-    private void checkField(Field field, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void checkField(Field field) {
+        for (AbstractRule rule : getRules(Check.FIELD)) {
+            track(rule);
             rule.checkField(field);
         }
     }
 
-    private void checkInlineFragment(InlineFragment inlineFragment, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void checkInlineFragment(InlineFragment inlineFragment) {
+        for (AbstractRule rule : getRules(Check.INLINE_FRAGMENT)) {
+            track(rule);
             rule.checkInlineFragment(inlineFragment);
         }
     }
 
-    private void checkDirective(Directive directive, List<Node> ancestors, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void checkDirective(Directive directive, List<Node> ancestors) {
+        for (AbstractRule rule : getRules(Check.DIRECTIVE)) {
+            track(rule);
             rule.checkDirective(directive, ancestors);
         }
     }
 
-    private void checkFragmentSpread(FragmentSpread fragmentSpread, List<AbstractRule> rules, List<Node> ancestors) {
-        for (AbstractRule rule : rules) {
+    private void checkFragmentSpread(FragmentSpread fragmentSpread, List<Node> ancestors) {
+        for (AbstractRule rule : getRules(Check.FRAGMENT_SPREAD)) {
+            track(rule);
             rule.checkFragmentSpread(fragmentSpread);
         }
-        List<AbstractRule> rulesVisitingFragmentSpreads = getRulesVisitingFragmentSpreads(rules);
-        if (rulesVisitingFragmentSpreads.size() > 0) {
+        // the rules visiting fragment spreads are skipped inside fragment definitions
+        if (currentFragmentDefinition == null && !rulesVisitingFragmentSpreads.isEmpty()) {
             FragmentDefinition fragment = validationContext.getFragment(fragmentSpread.getName());
             if (fragment != null && !ancestors.contains(fragment)) {
-                new LanguageTraversal(ancestors).traverse(fragment, new RulesVisitor(validationContext, rulesVisitingFragmentSpreads, true));
+                if (positions != null) {
+                    positions.startFragmentSpreadTraversal();
+                }
+                new LanguageTraversal(ancestors).traverse(fragment,
+                    new RulesVisitor(validationContext, rulesVisitingFragmentSpreads, true));
             }
         }
     }
 
-    private List<AbstractRule> getRulesVisitingFragmentSpreads(List<AbstractRule> rules) {
-        List<AbstractRule> result = new ArrayList<>();
-        for (AbstractRule rule : rules) {
-            if (rule.isVisitFragmentSpreads()) result.add(rule);
-        }
-        return result;
-    }
-
-
-    private void checkFragmentDefinition(FragmentDefinition fragmentDefinition, List<AbstractRule> rules) {
+    private void checkFragmentDefinition(FragmentDefinition fragmentDefinition) {
         if (!subVisitor) {
-            rulesToSkipByUntilNode.put(fragmentDefinition, new ArrayList<>(rulesVisitingFragmentSpreads));
-            rulesToSkip.addAll(rulesVisitingFragmentSpreads);
+            currentFragmentDefinition = fragmentDefinition;
         }
 
-
-        for (AbstractRule rule : rules) {
-            if (!subVisitor && (rule.isVisitFragmentSpreads())) continue;
+        for (AbstractRule rule : getRules(Check.FRAGMENT_DEFINITION)) {
+            track(rule);
             rule.checkFragmentDefinition(fragmentDefinition);
         }
-
     }
 
-    private void checkOperationDefinition(OperationDefinition operationDefinition, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void checkOperationDefinition(OperationDefinition operationDefinition) {
+        for (AbstractRule rule : getRules(Check.OPERATION_DEFINITION)) {
+            track(rule);
             rule.checkOperationDefinition(operationDefinition);
         }
     }
 
-    private void checkSelectionSet(SelectionSet selectionSet, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void checkSelectionSet(SelectionSet selectionSet) {
+        for (AbstractRule rule : getRules(Check.SELECTION_SET)) {
+            track(rule);
             rule.checkSelectionSet(selectionSet);
         }
     }
 
-    private void checkVariable(VariableReference variableReference, List<AbstractRule> rules) {
-        for (AbstractRule rule : rules) {
+    private void checkVariable(VariableReference variableReference) {
+        for (AbstractRule rule : getRules(Check.VARIABLE)) {
+            track(rule);
             rule.checkVariable(variableReference);
         }
     }
@@ -189,6 +240,9 @@ public class RulesVisitor implements DocumentVisitor {
     @Override
     public void leave(Node node, List<Node> ancestors) {
         validationContext.getTraversalContext().leave(node, ancestors);
+        if (positions != null) {
+            positions.leave(node);
+        }
 
         if (node instanceof Document) {
             documentFinished((Document) node);
@@ -198,28 +252,30 @@ public class RulesVisitor implements DocumentVisitor {
             leaveSelectionSet((SelectionSet) node);
         }
 
-        if (rulesToSkipByUntilNode.containsKey(node)) {
-            rulesToSkip.removeAll(rulesToSkipByUntilNode.get(node));
-            rulesToSkipByUntilNode.remove(node);
+        if (node == currentFragmentDefinition) {
+            currentFragmentDefinition = null;
         }
-
-
     }
 
+    // the leave checks are dispatched to all the interested rules, including the ones skipped inside fragment definitions
+
     private void leaveSelectionSet(SelectionSet selectionSet) {
-        for (AbstractRule rule : rules) {
+        for (AbstractRule rule : rulesByCheck.get(Check.LEAVE_SELECTION_SET)) {
+            track(rule);
             rule.leaveSelectionSet(selectionSet);
         }
     }
 
     private void leaveOperationDefinition(OperationDefinition operationDefinition) {
-        for (AbstractRule rule : rules) {
+        for (AbstractRule rule : rulesByCheck.get(Check.LEAVE_OPERATION_DEFINITION)) {
+            track(rule);
             rule.leaveOperationDefinition(operationDefinition);
         }
     }
 
     private void documentFinished(Document document) {
-        for (AbstractRule rule : rules) {
+        for (AbstractRule rule : rulesByCheck.get(Check.DOCUMENT_FINISHED)) {
+            track(rule);
             rule.documentFinished(document);
         }
     }
@@ -35,22 +35,39 @@ public class ValidationContext {
     private final Document document;
 
     private final TraversalContext traversalContext;
-    private final Map<String, FragmentDefinition> fragmentDefinitionMap = new LinkedHashMap<>();
+    private final Map<String, FragmentDefinition> fragmentDefinitionMap;
 
 
     public ValidationContext(GraphQLSchema schema, Document document) {
         this.schema = schema;
         this.document = document;
         this.traversalContext = new TraversalContext(schema);
-        buildFragmentMap();
+        this.fragmentDefinitionMap = buildFragmentMap();
     }
 
-    private void buildFragmentMap() {
+    private ValidationContext(ValidationContext validationContext) {
+        this.schema = validationContext.schema;
+        this.document = validationContext.document;
+        this.traversalContext = new TraversalContext(schema);
+        // the fragment map isn't modified after it's built, so it's shared
+        this.fragmentDefinitionMap = validationContext.fragmentDefinitionMap;
+    }
+
+    /**
+     * @return a context for the same document with its own traversal state, so a part of the document can be validated in another thread
+     */
+    public ValidationContext copyForTraversal() {
+        return new ValidationContext(this);
+    }
+
+    private Map<String, FragmentDefinition> buildFragmentMap() {
+        Map<String, FragmentDefinition> fragmentDefinitionMap = new LinkedHashMap<>();
         for (Definition definition : document.getDefinitions()) {
             if (!(definition instanceof FragmentDefinition)) continue;
             FragmentDefinition fragmentDefinition = (FragmentDefinition) definition;
             fragmentDefinitionMap.put(fragmentDefinition.getName(), fragmentDefinition);
         }
+        return fragmentDefinitionMap;
     }
 
     public TraversalContext getTraversalContext() {
@@ -18,17 +18,37 @@
 package com.intellij.lang.jsgraphql.types.validation;
 
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.lang.jsgraphql.types.Internal;
+import com.intellij.lang.jsgraphql.types.language.Definition;
 import com.intellij.lang.jsgraphql.types.language.Document;
+import com.intellij.lang.jsgraphql.types.language.Node;
 import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
 import com.intellij.lang.jsgraphql.types.validation.rules.*;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.util.containers.ContainerUtil;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Internal
 public class Validator {
 
+    private static final int PARALLEL_DEFINITIONS_THRESHOLD = 16;
+
+    // the rules which collect data from the whole document, the others only need the definition being validated
+    private static final Set<Class<? extends AbstractRule>> DOCUMENT_RULES = Set.of(
+        ExecutableDefinitions.class,
+        LoneAnonymousOperation.class,
+        NoFragmentCycles.class,
+        NoUnusedFragments.class,
+        UniqueFragmentNames.class,
+        UniqueOperationNames.class
+    );
+
     public List<ValidationError> validateDocument(GraphQLSchema schema, Document document) {
         ValidationContext validationContext = new ValidationContext(schema, document);
 
@@ -41,6 +61,57 @@ public class Validator {
         return validationErrorCollector.getErrors();
     }
 
+    /**
+     * Validates the document, in parallel if requested and the document has enough definitions to make it worth it.
+     * <p>
+     * In parallel mode the rules which need the whole document, like the unique names and the unused fragments, are checked
+     * in a single pass, and the other rules are checked for each definition separately on the fork-join pool, with the document
+     * checks called once for each rule instance. The errors are reported in the same order as in a sequential validation.
+     */
+    public List<ValidationError> validateDocument(GraphQLSchema schema, Document document, boolean parallel) {
+        List<Definition> definitions = document.getDefinitions();
+        if (!parallel || definitions.size() < PARALLEL_DEFINITIONS_THRESHOLD) {
+            return validateDocument(schema, document);
+        }
+
+        ValidationContext validationContext = new ValidationContext(schema, document);
+
+        Map<Node<?>, Integer> definitionIndices = new IdentityHashMap<>();
+        for (int i = 0; i < definitions.size(); i++) {
+            definitionIndices.put(definitions.get(i), i);
+        }
+        Map<Class<?>, Integer> ruleOrder = new HashMap<>();
+        for (AbstractRule rule : createRules(validationContext, new ValidationErrorCollector())) {
+            ruleOrder.putIfAbsent(rule.getClass(), ruleOrder.size());
+        }
+
+        OrderedValidationErrorCollector documentErrorCollector = new OrderedValidationErrorCollector(definitionIndices, ruleOrder);
+        List<AbstractRule> documentRules = ContainerUtil.filter(
+            createRules(validationContext, documentErrorCollector), rule -> DOCUMENT_RULES.contains(rule.getClass()));
+        new LanguageTraversal().traverse(document, new RulesVisitor(validationContext, documentRules, documentErrorCollector));
+
+        List<OrderedValidationErrorCollector> errorCollectors = new ArrayList<>(Collections.nCopies(definitions.size(), null));
+        ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+            IntStream.range(0, definitions.size()).boxed().collect(Collectors.toList()),
+            indicator != null ? indicator : new EmptyProgressIndicator(), index -> {
+                ValidationContext definitionContext = validationContext.copyForTraversal();
+                OrderedValidationErrorCollector definitionErrorCollector = new OrderedValidationErrorCollector(definitionIndices, ruleOrder);
+                List<AbstractRule> definitionRules = ContainerUtil.filter(
+                    createRules(definitionContext, definitionErrorCollector), rule -> !DOCUMENT_RULES.contains(rule.getClass()));
+                RulesVisitor visitor = new RulesVisitor(definitionContext, definitionRules, definitionErrorCollector);
+                // the definition is traversed as a part of the document, so the rules see the same ancestors and document checks
+                visitor.enter(document, new ArrayList<>());
+                new LanguageTraversal(new ArrayList<>(List.of(document))).traverse(definitions.get(index), visitor);
+                visitor.leave(document, new ArrayList<>());
+                errorCollectors.set(index, definitionErrorCollector);
+                return true;
+            });
+
+        errorCollectors.add(documentErrorCollector);
+        return OrderedValidationErrorCollector.merge(ContainerUtil.filter(errorCollectors, Objects::nonNull));
+    }
+
     public List<AbstractRule> createRules(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         List<AbstractRule> rules = new ArrayList<>();
 
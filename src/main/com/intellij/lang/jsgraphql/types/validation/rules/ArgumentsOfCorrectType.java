@@ -24,13 +24,23 @@ import com.intellij.lang.jsgraphql.types.language.Argument;
 import com.intellij.lang.jsgraphql.types.schema.GraphQLArgument;
 import com.intellij.lang.jsgraphql.types.validation.*;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Internal
 public class ArgumentsOfCorrectType extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.ARGUMENT);
+
     public ArgumentsOfCorrectType(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkArgument(Argument argument) {
         GraphQLArgument fieldArgument = getValidationContext().getArgument();
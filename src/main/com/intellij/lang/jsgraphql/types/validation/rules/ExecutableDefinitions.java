@@ -24,13 +24,23 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Internal
 public class ExecutableDefinitions extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.DOCUMENT);
+
     public ExecutableDefinitions(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     /**
      * Executable definitions
      *
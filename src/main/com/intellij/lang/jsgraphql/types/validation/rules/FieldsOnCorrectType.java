@@ -27,14 +27,23 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Internal
 public class FieldsOnCorrectType extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.FIELD);
 
     public FieldsOnCorrectType(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
 
     @Override
     public void checkField(Field field) {
@@ -28,14 +28,23 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Internal
 public class FragmentsOnCompositeType extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.INLINE_FRAGMENT, Check.FRAGMENT_DEFINITION);
 
     public FragmentsOnCompositeType(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkInlineFragment(InlineFragment inlineFragment) {
         if (inlineFragment.getTypeCondition() == null) {
@@ -27,14 +27,24 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 @Internal
 public class KnownArgumentNames extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.ARGUMENT);
+
     public KnownArgumentNames(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
 
     @Override
     public void checkArgument(Argument argument) {
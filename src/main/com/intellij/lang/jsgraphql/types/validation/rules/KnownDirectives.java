@@ -30,15 +30,22 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Internal
 public class KnownDirectives extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.DIRECTIVE);
 
     public KnownDirectives(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkDirective(Directive directive, List<Node> ancestors) {
         GraphQLDirective graphQLDirective = getValidationContext().getSchema().getFirstDirective(directive.getName());
@@ -26,13 +26,23 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Internal
 public class KnownFragmentNames extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.FRAGMENT_SPREAD);
+
     public KnownFragmentNames(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkFragmentSpread(FragmentSpread fragmentSpread) {
         FragmentDefinition fragmentDefinition = getValidationContext().getFragment(fragmentSpread.getName());
@@ -25,9 +25,14 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Internal
 public class LoneAnonymousOperation extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.OPERATION_DEFINITION, Check.DOCUMENT_FINISHED);
+
     boolean hasAnonymousOp = false;
     int count = 0;
 
@@ -35,6 +40,11 @@ public class LoneAnonymousOperation extends AbstractRule {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkOperationDefinition(OperationDefinition operationDefinition) {
         super.checkOperationDefinition(operationDefinition);
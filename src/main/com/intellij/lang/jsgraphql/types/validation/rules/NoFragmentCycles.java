@@ -26,22 +26,35 @@ import com.intellij.lang.jsgraphql.types.language.Node;
 import com.intellij.lang.jsgraphql.types.validation.*;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Internal
 public class NoFragmentCycles extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.FRAGMENT_DEFINITION);
+
     private final Map<String, List<FragmentSpread>> fragmentSpreads = new LinkedHashMap<>();
 
 
+    private boolean fragmentMapPrepared;
+
     public NoFragmentCycles(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
-        prepareFragmentMap();
+    }
+
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
     }
 
     private void prepareFragmentMap() {
+        // prepared on the first fragment definition, since the rule is also created for documents without fragments
+        if (fragmentMapPrepared) return;
+        fragmentMapPrepared = true;
         List<Definition> definitions = getValidationContext().getDocument().getDefinitions();
         for (Definition definition : definitions) {
             if (definition instanceof FragmentDefinition) {
@@ -75,6 +88,7 @@ public class NoFragmentCycles extends AbstractRule {
 
     @Override
     public void checkFragmentDefinition(FragmentDefinition fragmentDefinition) {
+        prepareFragmentMap();
         List<FragmentSpread> spreadPath = new ArrayList<>();
         detectCycleRecursive(fragmentDefinition.getName(), fragmentDefinition.getName(), spreadPath);
     }
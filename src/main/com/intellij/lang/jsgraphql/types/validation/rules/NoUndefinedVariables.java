@@ -28,12 +28,19 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Internal
 public class NoUndefinedVariables extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(
+        Check.VARIABLE_DEFINITION,
+        Check.FRAGMENT_DEFINITION,
+        Check.OPERATION_DEFINITION,
+        Check.VARIABLE);
+
     private final Set<String> variableNames = new LinkedHashSet<>();
 
     public NoUndefinedVariables(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
@@ -41,6 +48,11 @@ public class NoUndefinedVariables extends AbstractRule {
         setVisitFragmentSpreads(true);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkOperationDefinition(OperationDefinition operationDefinition) {
         variableNames.clear();
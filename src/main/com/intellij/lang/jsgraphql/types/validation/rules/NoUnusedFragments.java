@@ -29,13 +29,20 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Internal
 public class NoUnusedFragments extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(
+        Check.FRAGMENT_SPREAD,
+        Check.FRAGMENT_DEFINITION,
+        Check.OPERATION_DEFINITION,
+        Check.DOCUMENT_FINISHED);
 
     private final List<FragmentDefinition> allDeclaredFragments = new ArrayList<>();
 
@@ -47,6 +54,11 @@ public class NoUnusedFragments extends AbstractRule {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkOperationDefinition(OperationDefinition operationDefinition) {
         usedFragments = new ArrayList<>();
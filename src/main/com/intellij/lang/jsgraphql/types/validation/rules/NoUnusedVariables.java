@@ -28,6 +28,7 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -35,6 +36,12 @@ import java.util.Set;
 @Internal
 public class NoUnusedVariables extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(
+        Check.VARIABLE_DEFINITION,
+        Check.OPERATION_DEFINITION,
+        Check.VARIABLE,
+        Check.LEAVE_OPERATION_DEFINITION);
+
     private final List<VariableDefinition> variableDefinitions = new ArrayList<>();
     private final Set<String> usedVariables = new LinkedHashSet<>();
 
@@ -43,6 +50,11 @@ public class NoUnusedVariables extends AbstractRule {
         setVisitFragmentSpreads(true);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void leaveOperationDefinition(OperationDefinition operationDefinition) {
         for (VariableDefinition variableDefinition : variableDefinitions) {
@@ -38,6 +38,7 @@ import static java.lang.String.format;
 @Internal
 public class OverlappingFieldsCanBeMerged extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.LEAVE_SELECTION_SET);
 
     private final List<FieldPair> alreadyChecked = new ArrayList<>();
 
@@ -45,6 +46,11 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void leaveSelectionSet(SelectionSet selectionSet) {
         Map<String, List<FieldAndType>> fieldMap = new LinkedHashMap<>();
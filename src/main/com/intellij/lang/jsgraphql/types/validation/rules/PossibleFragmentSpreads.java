@@ -31,17 +31,26 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.intellij.lang.jsgraphql.types.schema.GraphQLTypeUtil.simplePrint;
 
 @Internal
 public class PossibleFragmentSpreads extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.INLINE_FRAGMENT, Check.FRAGMENT_SPREAD);
+
     public PossibleFragmentSpreads(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
 
     @Override
     public void checkInlineFragment(InlineFragment inlineFragment) {
@@ -27,6 +27,7 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -38,10 +39,17 @@ import java.util.Set;
  */
 @Internal
 public class UniqueArgumentNamesRule extends AbstractRule {
+
+    private static final Set<Check> CHECKS = EnumSet.of(Check.FIELD, Check.DIRECTIVE);
     public UniqueArgumentNamesRule(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkField(Field field) {
         if (field.getArguments() == null || field.getArguments().size() <= 1) {
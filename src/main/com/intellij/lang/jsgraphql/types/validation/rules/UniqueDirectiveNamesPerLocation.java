@@ -26,6 +26,7 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,10 +40,23 @@ import static java.util.Collections.emptyList;
 @Internal
 public class UniqueDirectiveNamesPerLocation extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(
+        Check.DOCUMENT,
+        Check.FIELD,
+        Check.INLINE_FRAGMENT,
+        Check.FRAGMENT_SPREAD,
+        Check.FRAGMENT_DEFINITION,
+        Check.OPERATION_DEFINITION);
+
     public UniqueDirectiveNamesPerLocation(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkDocument(Document document) {
         super.checkDocument(document);
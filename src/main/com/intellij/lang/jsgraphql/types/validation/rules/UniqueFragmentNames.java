@@ -25,12 +25,14 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Internal
 public class UniqueFragmentNames extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.FRAGMENT_DEFINITION);
 
     private Set<String> fragmentNames = new LinkedHashSet<>();
 
@@ -39,6 +41,11 @@ public class UniqueFragmentNames extends AbstractRule {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkFragmentDefinition(FragmentDefinition fragmentDefinition) {
         String name = fragmentDefinition.getName();
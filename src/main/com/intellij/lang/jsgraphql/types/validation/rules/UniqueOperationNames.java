@@ -24,6 +24,7 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -34,12 +35,19 @@ import java.util.Set;
 @Internal
 public class UniqueOperationNames extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.OPERATION_DEFINITION);
+
     private Set<String> operationNames = new LinkedHashSet<>();
 
     public UniqueOperationNames(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkOperationDefinition(OperationDefinition operationDefinition) {
         super.checkOperationDefinition(operationDefinition);
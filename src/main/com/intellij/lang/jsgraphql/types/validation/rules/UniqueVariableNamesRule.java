@@ -25,6 +25,7 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -37,10 +38,17 @@ import java.util.Set;
 @Internal
 public class UniqueVariableNamesRule extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.OPERATION_DEFINITION);
+
     public UniqueVariableNamesRule(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     @Override
     public void checkOperationDefinition(OperationDefinition operationDefinition) {
         List<VariableDefinition> variableDefinitions = operationDefinition.getVariableDefinitions();
@@ -25,17 +25,26 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import static com.intellij.lang.jsgraphql.types.schema.GraphQLTypeUtil.simplePrint;
 
 
 @Internal
 public class VariableDefaultValuesOfCorrectType extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.VARIABLE_DEFINITION);
 
     public VariableDefaultValuesOfCorrectType(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
 
     @Override
     public void checkVariableDefinition(VariableDefinition variableDefinition) {
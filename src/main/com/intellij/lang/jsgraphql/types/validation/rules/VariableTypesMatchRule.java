@@ -31,12 +31,16 @@ import com.intellij.lang.jsgraphql.types.validation.ValidationContext;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorCollector;
 import com.intellij.lang.jsgraphql.types.validation.ValidationErrorType;
 
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Internal
 public class VariableTypesMatchRule extends AbstractRule {
 
+    private static final Set<Check> CHECKS = EnumSet.of(Check.VARIABLE_DEFINITION, Check.OPERATION_DEFINITION, Check.VARIABLE);
+
     final VariablesTypesMatcher variablesTypesMatcher;
 
     private Map<String, VariableDefinition> variableDefinitionMap;
@@ -45,6 +49,11 @@ public class VariableTypesMatchRule extends AbstractRule {
         this(validationContext, validationErrorCollector, new VariablesTypesMatcher());
     }
 
+    @Override
+    public Set<Check> getChecks() {
+        return CHECKS;
+    }
+
     VariableTypesMatchRule(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector, VariablesTypesMatcher variablesTypesMatcher) {
         super(validationContext, validationErrorCollector);
         setVisitFragmentSpreads(true);
@@ -11,6 +11,7 @@ import com.intellij.openapi.project.Project
 import com.intellij.openapi.ui.DialogPanel
 import com.intellij.ui.EditorNotifications
 import com.intellij.ui.dsl.builder.Cell
+import com.intellij.ui.dsl.builder.bindIntText
 import com.intellij.ui.dsl.builder.bindSelected
 import com.intellij.ui.dsl.builder.bindText
 import com.intellij.ui.dsl.builder.panel
@@ -80,6 +81,13 @@ class GraphQLSettingsConfigurable(private val project: Project) :
                         )
                 }
             }
+            group(message("graphql.settings.schema.cache")) {
+                row(message("graphql.settings.schema.cache.budget.label") + ":") {
+                    intTextField(16..65536)
+                        .bindIntText(settings::getSchemaCacheBudget, settings::setSchemaCacheBudget)
+                        .comment(message("graphql.settings.schema.cache.budget.comment"))
+                }
+            }
             group(message("graphql.settings.frameworks")) {
                 row {
                     checkBox(message("graphql.library.relay"))
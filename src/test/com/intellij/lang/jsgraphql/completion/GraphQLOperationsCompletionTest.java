@@ -8,7 +8,11 @@
 package com.intellij.lang.jsgraphql.completion;
 
 import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.ide.scratch.ScratchRootType;
 import com.intellij.lang.jsgraphql.GraphQLCompletionTestCaseBase;
+import com.intellij.lang.jsgraphql.GraphQLLanguage;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.vfs.VirtualFile;
 import org.jetbrains.annotations.NotNull;
 
 
@@ -16,6 +20,12 @@ public class GraphQLOperationsCompletionTest extends GraphQLCompletionTestCaseBa
 
     private static final String OTHER_SCHEMA = "SchemaOther.graphql";
     private static final String BRACES_INSERTION_SCHEMA = "SchemaBracesInsertion.graphql";
+    private static final String FRAGMENT_TYPE_CONDITION_SCHEMA =
+        "type Query { user: User search: [SearchResult] }\n" +
+        "interface Node { id: ID! }\n" +
+        "type User implements Node { id: ID! name: String }\n" +
+        "type Team implements Node { id: ID! }\n" +
+        "union SearchResult = User | Team\n";
 
     @Override
     protected @NotNull String getBasePath() {
@@ -240,6 +250,38 @@ public class GraphQLOperationsCompletionTest extends GraphQLCompletionTestCaseBa
         //     "Organization", "Release", "Task", "TeamMember", "Timestamped");
     }
 
+    public void testFragmentSpreadByTypeCondition() {
+        myFixture.addFileToProject("schema.graphql", FRAGMENT_TYPE_CONDITION_SCHEMA);
+        myFixture.addFileToProject("fragments.graphql",
+            "fragment UserFields on User { name }\n" +
+            "fragment NodeFields on Node { id }\n" +
+            "fragment SearchResultFields on SearchResult { __typename }\n" +
+            "fragment TeamFields on Team { id }\n");
+        myFixture.configureByText("query.graphql", "query { user { ...<caret> } }");
+        LookupElement[] lookupElements = myFixture.completeBasic();
+        checkContainsAll(lookupElements, "NodeFields", "SearchResultFields", "UserFields");
+        checkDoesNotContain(lookupElements, "TeamFields");
+    }
+
+    public void testFragmentSpreadByTypeConditionInScratchFile() throws Exception {
+        myFixture.addFileToProject("schema.graphql", FRAGMENT_TYPE_CONDITION_SCHEMA);
+        myFixture.addFileToProject("fragments.graphql", "fragment UserFields on User { name }\nfragment TeamFields on Team { id }\n");
+        String text = "fragment LocalUserFields on User { id }\nfragment LocalTeamFields on Team { id }\nquery { user { ... } }";
+        VirtualFile scratchFile = ScratchRootType.getInstance()
+            .createScratchFile(getProject(), "scratch.graphql", GraphQLLanguage.INSTANCE, text);
+        assertNotNull(scratchFile);
+        try {
+            myFixture.configureFromExistingVirtualFile(scratchFile);
+            myFixture.getEditor().getCaretModel().moveToOffset(text.indexOf("...") + 3);
+            LookupElement[] lookupElements = myFixture.completeBasic();
+            // the fragments of the scratch file aren't indexed, so they are read from its PSI
+            checkContainsAll(lookupElements, "LocalUserFields", "UserFields");
+            checkDoesNotContain(lookupElements, "LocalTeamFields", "TeamFields");
+        } finally {
+            WriteAction.run(() -> scratchFile.delete(this));
+        }
+    }
+
     public void testFragmentIncompleteNoFields() {
         LookupElement[] lookupElements = doTestWithSchema(OTHER_SCHEMA);
         assertNotNull(lookupElements);
@@ -7,10 +7,19 @@
  */
 package com.intellij.lang.jsgraphql.completion;
 
+import com.intellij.codeInsight.completion.PrefixMatcher;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.lang.jsgraphql.GraphQLCompletionTestCaseBase;
+import com.intellij.lang.jsgraphql.ide.completion.GraphQLCompletionTables;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLFieldsContainer;
+import com.intellij.openapi.util.registry.Registry;
+import com.intellij.openapi.util.text.StringUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 public class GraphQLSchemaCompletionTest extends GraphQLCompletionTestCaseBase {
 
@@ -202,4 +211,77 @@ public class GraphQLSchemaCompletionTest extends GraphQLCompletionTestCaseBase {
         checkEqualsOrdered(lookupElements, "ASC", "DESC");
     }
 
+    public void testFieldTypeMiddleMatching() {
+        Registry.get("ide.completion.middle.matching").setValue(true, getTestRootDisposable());
+        LookupElement[] lookupElements = doTest();
+        checkContainsAll(lookupElements, "CurrentUser", "User", "UserStatus");
+        checkDoesNotContain(lookupElements, "UserInput");
+    }
+
+    public void testCompletionTablesNarrowing() {
+        myFixture.configureByText("schema.graphql",
+            "type User { id: ID }\n" +
+            "type CurrentUser { id: ID }\n" +
+            "type HTMLUser { id: ID }\n" +
+            "type _UserMeta { id: ID }\n" +
+            "type Query { me: User users: [User] currentUser: CurrentUser }");
+        GraphQLCompletionTables tables = GraphQLCompletionTables.getInstance(
+            GraphQLSchemaProvider.getInstance(getProject()).getRegistryInfo(myFixture.getFile()));
+
+        assertSameElements(matchTypeNames(tables, new TestMatcher("User", false)), "User", "_UserMeta");
+        assertSameElements(matchTypeNames(tables, new TestMatcher("User", true)), "User", "CurrentUser", "HTMLUser", "_UserMeta");
+        assertSameElements(matchTypeNames(tables, new TestMatcher("cu", true)), "CurrentUser");
+
+        GraphQLFieldsContainer query = GraphQLSchemaProvider.getInstance(getProject())
+            .getSchemaInfo(myFixture.getFile()).getSchema().getQueryType();
+        assertNotNull(query);
+        List<String> fields = new ArrayList<>();
+        PrefixMatcher fieldMatcher = new TestMatcher("user", true);
+        tables.processFields(query, fieldMatcher, field -> {
+            if (fieldMatcher.prefixMatches(field.getName())) fields.add(field.getName());
+        });
+        assertSameElements(fields, "users", "currentUser");
+    }
+
+    private static @NotNull List<String> matchTypeNames(@NotNull GraphQLCompletionTables tables, @NotNull PrefixMatcher matcher) {
+        List<String> names = new ArrayList<>();
+        tables.processTypeNames(GraphQLCompletionTables.TypeKind.OBJECT, matcher, name -> {
+            if (matcher.prefixMatches(name)) names.add(name);
+        });
+        return names;
+    }
+
+    /**
+     * Matches the prefix ignoring case either at the start of the name or, in middle matching mode, at the start of any word.
+     */
+    private static final class TestMatcher extends PrefixMatcher {
+        private final boolean myMiddleMatching;
+
+        TestMatcher(@NotNull String prefix, boolean middleMatching) {
+            super(prefix);
+            myMiddleMatching = middleMatching;
+        }
+
+        @Override
+        public boolean prefixMatches(@NotNull String name) {
+            String trimmed = StringUtil.trimLeading(name, '_');
+            if (StringUtil.startsWithIgnoreCase(trimmed, myPrefix)) {
+                return true;
+            }
+            if (!myMiddleMatching) {
+                return false;
+            }
+            for (int i = 1; i < trimmed.length(); i++) {
+                if (Character.isUpperCase(trimmed.charAt(i)) && StringUtil.startsWithIgnoreCase(trimmed.substring(i), myPrefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public @NotNull PrefixMatcher cloneWithPrefix(@NotNull String prefix) {
+            return new TestMatcher(prefix, myMiddleMatching);
+        }
+    }
 }
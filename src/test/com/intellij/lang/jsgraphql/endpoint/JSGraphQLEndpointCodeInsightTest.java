@@ -9,12 +9,30 @@ package com.intellij.lang.jsgraphql.endpoint;
 
 import com.google.common.collect.Lists;
 import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.lang.jsgraphql.endpoint.ide.indexing.JSGraphQLEndpointTypeIndex;
+import com.intellij.lang.jsgraphql.endpoint.ide.project.JSGraphQLEndpointNamedTypeRegistry;
+import com.intellij.lang.jsgraphql.endpoint.ide.type.JSGraphQLLegacyNamedType;
 import com.intellij.lang.jsgraphql.ide.project.graphqlconfig.GraphQLConfigManager;
+import com.intellij.lang.jsgraphql.schema.GraphQLRegistryInfo;
+import com.intellij.lang.jsgraphql.types.language.FieldDefinition;
+import com.intellij.lang.jsgraphql.types.language.ObjectTypeDefinition;
+import com.intellij.lang.jsgraphql.types.language.TypeDefinition;
+import com.intellij.openapi.application.WriteAction;
 import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.PlatformTestUtil;
 import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.intellij.util.indexing.FileBasedIndex;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class JSGraphQLEndpointCodeInsightTest extends BasePlatformTestCase {
 
@@ -142,6 +160,59 @@ public class JSGraphQLEndpointCodeInsightTest extends BasePlatformTestCase {
 	}
 
 
+	// ---- type registry ----
+
+	public void testTypeIndex() {
+		final GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+		assertEquals(Set.of("importable.graphqle"), getFileNames(
+				FileBasedIndex.getInstance().getContainingFiles(JSGraphQLEndpointTypeIndex.NAME, "ImportableType", scope)));
+		assertEquals(Set.of("main.graphqle"), getFileNames(
+				FileBasedIndex.getInstance().getContainingFiles(JSGraphQLEndpointTypeIndex.NAME, "MainType", scope)));
+		assertEmpty(FileBasedIndex.getInstance().getContainingFiles(JSGraphQLEndpointTypeIndex.NAME, "UnknownType", scope));
+	}
+
+	public void testNamedTypeRegistry() {
+		setText("importable.graphqle", "interface Node {\n\tid: String\n}\n\ntype ImportableType {\n\tvalue: String\n}\n");
+		setText("main.graphqle", "import \"importable\"\n\ntype MainType implements Node {\n\tname: String\n}\n");
+		final PsiFile mainFile = myFixture.getPsiManager().findFile(myFixture.findFileInTempDir("main.graphqle"));
+		assertNotNull(mainFile);
+		final JSGraphQLEndpointNamedTypeRegistry typeRegistry = JSGraphQLEndpointNamedTypeRegistry.getService(getProject());
+
+		// the named type is looked up in the index and read from the file which defines it
+		final JSGraphQLLegacyNamedType importableType = typeRegistry.getNamedType("ImportableType", mainFile);
+		assertNotNull(importableType);
+		assertEquals("importable.graphqle", importableType.definitionElement.getContainingFile().getName());
+		assertNotNull(importableType.properties.get("value"));
+		assertNull(typeRegistry.getNamedType("UnknownType", mainFile));
+
+		// the interface fields declared in another file are merged into the implementing type
+		assertEquals(List.of("name", "id"), getFieldNames(typeRegistry.getTypesAsRegistry(mainFile), "MainType"));
+
+		// only the changed file is converted again
+		setText("importable.graphqle", "interface Node {\n\tid: String\n\tkey: String\n}\n\ntype ImportableType {\n\tvalue: String\n}\n");
+		assertEquals(List.of("name", "id", "key"), getFieldNames(typeRegistry.getTypesAsRegistry(mainFile), "MainType"));
+	}
+
+	private void setText(String fileName, String text) {
+		final VirtualFile file = myFixture.findFileInTempDir(fileName);
+		assertNotNull(file);
+		WriteAction.run(() -> VfsUtil.saveText(file, text));
+		PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+		// the schema change is published later on the EDT
+		PlatformTestUtil.dispatchAllInvocationEventsInIdeEventQueue();
+	}
+
+	private static Set<String> getFileNames(Collection<VirtualFile> files) {
+		return files.stream().map(VirtualFile::getName).collect(Collectors.toSet());
+	}
+
+	private static List<String> getFieldNames(GraphQLRegistryInfo registryInfo, String typeName) {
+		final TypeDefinition<?> typeDefinition = registryInfo.getTypeDefinitionRegistry().getType(typeName).orElse(null);
+		assertInstanceOf(typeDefinition, ObjectTypeDefinition.class);
+		return ((ObjectTypeDefinition) typeDefinition).getFieldDefinitions().stream().map(FieldDefinition::getName).collect(Collectors.toList());
+	}
+
+
 	// ---- highlighting -----
 
 	public void testErrorAnnotator() {
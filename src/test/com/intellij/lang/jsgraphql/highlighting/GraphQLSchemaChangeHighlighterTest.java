@@ -0,0 +1,68 @@
+package com.intellij.lang.jsgraphql.highlighting;
+
+import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
+import com.intellij.lang.jsgraphql.ide.highlighting.GraphQLSchemaChangeHighlighter;
+import com.intellij.openapi.application.impl.NonBlockingReadActionImpl;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.PlatformTestUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class GraphQLSchemaChangeHighlighterTest extends GraphQLTestCaseBase {
+
+    private static final String SCHEMA = "type Query { user: User other: Other }\ntype User { id: ID name: String }\n";
+
+    public void testRestartDependentFiles() {
+        VirtualFile schema = myFixture.addFileToProject("schema.graphql", SCHEMA + "type Other { id: ID }\n").getVirtualFile();
+        VirtualFile user = myFixture.addFileToProject("user.graphql", "query { user { name } }").getVirtualFile();
+        VirtualFile other = myFixture.addFileToProject("other.graphql", "query { other { id } }").getVirtualFile();
+        FileEditorManager.getInstance(getProject()).openFile(user, false);
+        FileEditorManager.getInstance(getProject()).openFile(other, false);
+
+        Set<String> restarted = ConcurrentHashMap.newKeySet();
+        GraphQLSchemaChangeHighlighter highlighter = GraphQLSchemaChangeHighlighter.getInstance(getProject());
+        highlighter.setRestartListener(files -> {
+            for (PsiFile file : files) {
+                restarted.add(file.getName());
+            }
+        }, getTestRootDisposable());
+
+        // the files weren't checked against a schema before
+        highlighter.restartDependentFiles();
+        waitForRestart();
+        assertSameElements(restarted, "user.graphql", "other.graphql");
+
+        // only the file depending on the changed type is restarted
+        restarted.clear();
+        setText(schema, SCHEMA + "type Other { id: ID name: String }\n");
+        waitForRestart();
+        assertSameElements(restarted, "other.graphql");
+
+        // nothing is restarted when the change doesn't affect the open files
+        restarted.clear();
+        setText(schema, SCHEMA + "type Other { id: ID name: String }\ntype Unused { id: ID }\n");
+        waitForRestart();
+        assertEmpty(restarted);
+    }
+
+    private void setText(@NotNull VirtualFile file, @NotNull String text) {
+        Document document = FileDocumentManager.getInstance().getDocument(file);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.setText(text));
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+    }
+
+    private static void waitForRestart() {
+        PlatformTestUtil.dispatchAllInvocationEventsInIdeEventQueue();
+        NonBlockingReadActionImpl.waitForAsyncTaskCompletion();
+        PlatformTestUtil.dispatchAllInvocationEventsInIdeEventQueue();
+    }
+}
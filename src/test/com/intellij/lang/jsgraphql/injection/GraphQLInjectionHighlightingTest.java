@@ -10,13 +10,16 @@ package com.intellij.lang.jsgraphql.injection;
 import com.intellij.codeInsight.daemon.impl.HighlightInfo;
 import com.intellij.lang.annotation.HighlightSeverity;
 import com.intellij.lang.jsgraphql.GraphQLFileType;
+import com.intellij.lang.injection.InjectedLanguageManager;
 import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
+import com.intellij.lang.jsgraphql.ide.indexing.javascript.GraphQLJavaScriptInjectionSearchHelper;
 import com.intellij.lang.jsgraphql.ide.search.GraphQLPsiSearchHelper;
 import com.intellij.lang.jsgraphql.psi.GraphQLFile;
 import com.intellij.lang.jsgraphql.types.language.AstPrinter;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.CommonProcessors;
+import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -109,6 +112,33 @@ public class GraphQLInjectionHighlightingTest extends GraphQLTestCaseBase {
         doTestInjectedFile("cStyleCommentMultipleVars.js");
     }
 
+    public void testStaleInjectionOffsets() {
+        myFixture.configureByText("stale.js",
+            "const A = /* GraphQL */`type A { id: ID }`;\n" +
+            "const B = /* GraphQL */`type B { id: ID }`;\n");
+        InjectedLanguageManager injectedLanguageManager = InjectedLanguageManager.getInstance(getProject());
+
+        List<PsiFile> psiFiles = new ArrayList<>();
+        GraphQLJavaScriptInjectionSearchHelper.processAllInjections(
+            myFixture.getFile(), injectedLanguageManager, new CommonProcessors.CollectProcessor<>(psiFiles));
+        assertSize(2, psiFiles);
+        List<Integer> hostOffsets = ContainerUtil.map(psiFiles,
+            psiFile -> injectedLanguageManager.getInjectionHost(psiFile).getTextRange().getStartOffset());
+
+        assertSize(2, collectInjections(hostOffsets, injectedLanguageManager));
+        // the first host is still found, but the second offset points nowhere, so all injections are processed exactly once
+        assertSize(2, collectInjections(List.of(hostOffsets.get(0), 0), injectedLanguageManager));
+        assertSize(2, collectInjections(List.of(0, hostOffsets.get(1)), injectedLanguageManager));
+    }
+
+    private @NotNull List<PsiFile> collectInjections(@NotNull List<Integer> hostOffsets,
+                                                     @NotNull InjectedLanguageManager injectedLanguageManager) {
+        List<PsiFile> psiFiles = new ArrayList<>();
+        GraphQLJavaScriptInjectionSearchHelper.processInjections(
+            myFixture.getFile(), hostOffsets, injectedLanguageManager, new CommonProcessors.CollectProcessor<>(psiFiles));
+        return psiFiles;
+    }
+
     private @NotNull PsiFile doTestInjectedFile(@NotNull String sourcePath) {
         myFixture.configureByFile(sourcePath);
 
@@ -2,7 +2,9 @@ package com.intellij.lang.jsgraphql.introspection;
 
 import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
 import com.intellij.lang.jsgraphql.ide.introspection.GraphQLIntrospectionService;
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.testFramework.PlatformTestUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Assert;
@@ -51,6 +53,16 @@ public class GraphQLIntrospectionServiceTest extends GraphQLTestCaseBase {
         );
     }
 
+    public void testGithubSchemaPrintedInBackground() {
+        String schemaJson = Objects.requireNonNull(readSchemaJson("githubSchema.json"));
+        GraphQLIntrospectionService service = new GraphQLIntrospectionService(getProject());
+        // the types are printed sequentially on the EDT and in parallel on a pooled thread
+        String printedOnEdt = service.printIntrospectionAsGraphQL(schemaJson);
+        String printedInBackground = PlatformTestUtil.waitForFuture(
+            ApplicationManager.getApplication().executeOnPooledThread(() -> service.printIntrospectionAsGraphQL(schemaJson)), 60_000);
+        assertEquals(printedOnEdt, printedInBackground);
+    }
+
     public void testPrintIntrospectionWithUndefinedDirectives() {
         doTest("schemaWithUndefinedDirectives.json", "schemaWithUndefinedDirectives.graphql");
     }
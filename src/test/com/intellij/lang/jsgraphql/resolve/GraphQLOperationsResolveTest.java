@@ -1,7 +1,34 @@
 package com.intellij.lang.jsgraphql.resolve;
 
+import com.intellij.ide.scratch.ScratchRootType;
+import com.intellij.lang.jsgraphql.GraphQLLanguage;
 import com.intellij.lang.jsgraphql.GraphQLResolveTestCaseBase;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaCoordinateIndex;
+import com.intellij.lang.jsgraphql.ide.search.GraphQLPsiSearchHelper;
 import com.intellij.lang.jsgraphql.psi.*;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaChangeTracker;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLType;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.usageView.UsageInfo;
+import com.intellij.util.indexing.FileBasedIndex;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class GraphQLOperationsResolveTest extends GraphQLResolveTestCaseBase {
 
@@ -105,4 +132,126 @@ public class GraphQLOperationsResolveTest extends GraphQLResolveTestCaseBase {
         myFixture.copyFileToProject(GITHUB_SCHEMA);
         doHighlightingTest();
     }
+
+    public void testFieldUsagesInIndexedAndScratchFiles() throws Exception {
+        myFixture.addFileToProject("operations.graphql", "query { user { id } }");
+        final VirtualFile fragmentsFile =
+            myFixture.addFileToProject("fragments.graphql", "fragment OtherFields on Other { id }").getVirtualFile();
+        final VirtualFile scratchFile = ScratchRootType.getInstance()
+            .createScratchFile(getProject(), "scratch.graphql", GraphQLLanguage.INSTANCE, "query ScratchQuery { user { id } }");
+        assertNotNull(scratchFile);
+        try {
+            myFixture.configureByText("schema.graphql",
+                "type Query { user: User other: Other }\ntype User { i<caret>d: ID }\ntype Other { id: ID }");
+            final GraphQLIdentifier fieldName =
+                PsiTreeUtil.getParentOfType(myFixture.getFile().findElementAt(myFixture.getCaretOffset()), GraphQLIdentifier.class);
+            assertNotNull(fieldName);
+
+            // the usage scope doesn't build the schema, and is only narrowed down once it's built
+            final GraphQLPsiSearchHelper searchHelper = GraphQLPsiSearchHelper.getInstance(getProject());
+            assertNull(GraphQLSchemaProvider.getInstance(getProject()).getCachedSchemaInfo(fieldName));
+            assertNull(searchHelper.getFieldUsageScope(fieldName));
+            GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(fieldName);
+            final GlobalSearchScope fieldUsageScope = searchHelper.getFieldUsageScope(fieldName);
+            assertNotNull(fieldUsageScope);
+            assertFalse(fieldUsageScope.contains(fragmentsFile));
+
+            // the fragment selects a field with the same name on another type, and the scratch file isn't indexed
+            final Set<String> usageFiles = myFixture.findUsages(fieldName).stream()
+                .map(UsageInfo::getFile)
+                .map(file -> file != null ? file.getName() : null)
+                .collect(Collectors.toSet());
+            assertEquals(Set.of("operations.graphql", "scratch.graphql"), usageFiles);
+        } finally {
+            WriteAction.run(() -> scratchFile.delete(this));
+        }
+    }
+
+    public void testSchemaCoordinateIndex() {
+        String schema = "type Query {\n  user(id: ID): User\n}\ntype User {\n  id: ID\n}\nenum Role {\n  ADMIN\n}\n" +
+            "directive @auth(role: Role) on FIELD_DEFINITION\ntype Other {\n  id: ID\n}\nextend type Other {\n  id: ID\n}\n";
+        VirtualFile schemaFile = myFixture.addFileToProject("schema.graphql", schema).getVirtualFile();
+
+        Map<String, Integer> coordinates = new HashMap<>();
+        coordinates.put("Query", schema.indexOf("Query"));
+        coordinates.put("Query.user", schema.indexOf("user("));
+        coordinates.put("Query.user(id:)", schema.indexOf("id: ID)"));
+        coordinates.put("User", schema.indexOf("User {"));
+        coordinates.put("User.id", schema.indexOf("id: ID\n}\nenum"));
+        coordinates.put("Role", schema.indexOf("Role {"));
+        coordinates.put("Role.ADMIN", schema.indexOf("ADMIN"));
+        coordinates.put("@auth", schema.indexOf("auth("));
+        coordinates.put("@auth(role:)", schema.indexOf("role:"));
+        coordinates.put("Other", schema.indexOf("Other {"));
+        // declared twice in the file
+        coordinates.put("Other.id", GraphQLSchemaCoordinateIndex.UNKNOWN_OFFSET);
+        assertEquals(coordinates, getIndexedCoordinates(schemaFile));
+
+        myFixture.configureByText("operations.graphql", "query { user { i<caret>d } }");
+        GraphQLIdentifier declaration = resolveAtCaret();
+        assertEquals("User.id", GraphQLSchemaCoordinateIndex.getCoordinate(declaration));
+        assertEquals(coordinates.get("User.id").intValue(), declaration.getTextOffset());
+
+        // the offsets are reindexed after an edit, so the field still resolves to its declaration
+        Document document = FileDocumentManager.getInstance().getDocument(schemaFile);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.insertString(0, "# comment\n"));
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+
+        int offset = coordinates.get("User.id") + "# comment\n".length();
+        assertEquals(offset, getIndexedCoordinates(schemaFile).get("User.id").intValue());
+        declaration = resolveAtCaret();
+        assertEquals("User.id", GraphQLSchemaCoordinateIndex.getCoordinate(declaration));
+        assertEquals(offset, declaration.getTextOffset());
+    }
+
+    private @NotNull Map<String, Integer> getIndexedCoordinates(@NotNull VirtualFile file) {
+        return FileBasedIndex.getInstance().getFileData(GraphQLSchemaCoordinateIndex.NAME, file, getProject());
+    }
+
+    private @NotNull GraphQLIdentifier resolveAtCaret() {
+        PsiReference reference = myFixture.getFile().findReferenceAt(myFixture.getCaretOffset());
+        assertNotNull(reference);
+        return assertInstanceOf(reference.resolve(), GraphQLIdentifier.class);
+    }
+
+    public void testCachedTypeScope() {
+        myFixture.addFileToProject("schema.graphql", "type Query { user: User }\ntype User { id: ID }");
+        VirtualFile otherFile = myFixture.addFileToProject("other.graphql", "query { user { id } }").getVirtualFile();
+        myFixture.configureByText("operations.graphql", "query { us<caret>er { id } }");
+        GraphQLField field = PsiTreeUtil.getParentOfType(myFixture.getFile().findElementAt(myFixture.getCaretOffset()), GraphQLField.class);
+        assertNotNull(field);
+
+        AtomicInteger computations = new AtomicInteger();
+        Supplier<GraphQLType> typeScope = () -> {
+            computations.incrementAndGet();
+            return null;
+        };
+
+        // reused while nothing changes
+        GraphQLPsiUtil.getCachedTypeScope(field, typeScope);
+        GraphQLPsiUtil.getCachedTypeScope(field, typeScope);
+        assertEquals(1, computations.get());
+
+        // recomputed after a PSI change in any file, even if it doesn't change the schema
+        Document document = FileDocumentManager.getInstance().getDocument(otherFile);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.insertString("query { user { ".length(), "__typename "));
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        GraphQLPsiUtil.getCachedTypeScope(field, typeScope);
+        GraphQLPsiUtil.getCachedTypeScope(field, typeScope);
+        assertEquals(2, computations.get());
+
+        // recomputed after a schema change
+        GraphQLSchemaChangeTracker.getInstance(getProject()).schemaChanged();
+        PlatformTestUtil.dispatchAllInvocationEventsInIdeEventQueue();
+        GraphQLPsiUtil.getCachedTypeScope(field, typeScope);
+        GraphQLPsiUtil.getCachedTypeScope(field, typeScope);
+        assertEquals(3, computations.get());
+
+        // recomputed after its schema is removed from the cache
+        GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(field).invalidate();
+        GraphQLPsiUtil.getCachedTypeScope(field, typeScope);
+        assertEquals(4, computations.get());
+    }
 }
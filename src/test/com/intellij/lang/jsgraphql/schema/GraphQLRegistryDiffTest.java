@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021-present, Jim Kynde Meyer
+ * All rights reserved.
+ * <p>
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.intellij.lang.jsgraphql.schema;
+
+import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
+import com.intellij.lang.jsgraphql.types.schema.idl.TypeDefinitionRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+import static com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaCoordinateIndex.directiveCoordinate;
+import static com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaCoordinateIndex.memberCoordinate;
+
+public class GraphQLRegistryDiffTest extends GraphQLTestCaseBase {
+
+    private static final String SCHEMA =
+        "type Query { user: User }\n" +
+        "\"\"\"A user\"\"\"\n" +
+        "type User implements Node { id: ID! name: String }\n" +
+        "interface Node { id: ID! }\n" +
+        "enum Role { ADMIN USER }\n" +
+        "directive @auth(role: Role) on FIELD_DEFINITION\n";
+
+    public void testSameRegistry() {
+        TypeDefinitionRegistry registry = getRegistry(SCHEMA);
+        assertEmpty(GraphQLRegistryDiff.getChangedCoordinates(registry, registry));
+    }
+
+    public void testLocationsAndDescriptionsIgnored() {
+        assertEmpty(getChangedCoordinates(SCHEMA,
+            "\n\ntype Query { user: User }\n" +
+            "\"\"\"A user of the application\"\"\"\n" +
+            "type User implements Node {\n  id: ID!\n  name: String\n}\n" +
+            "interface Node { id: ID! }\n" +
+            "enum Role { ADMIN USER }\n" +
+            "directive @auth(role: Role) on FIELD_DEFINITION\n"));
+    }
+
+    public void testChangedField() {
+        assertSameElements(getChangedCoordinates(SCHEMA, SCHEMA.replace("name: String", "name: String!")),
+            memberCoordinate("User", "name"));
+    }
+
+    public void testAddedTypeAndMembers() {
+        Set<String> changed = getChangedCoordinates(SCHEMA,
+            SCHEMA.replace("name: String", "name: String email: String").replace("ADMIN USER", "ADMIN USER GUEST") +
+            "type Post { id: ID! }\n");
+        assertSameElements(changed, memberCoordinate("User", "email"), memberCoordinate("Role", "GUEST"), "Post");
+    }
+
+    public void testTypeExtension() {
+        Set<String> changed = getChangedCoordinates(SCHEMA, SCHEMA + "extend type User { age: Int }\n");
+        assertSameElements(changed, "User", memberCoordinate("User", "age"));
+    }
+
+    public void testChangedImplements() {
+        assertSameElements(getChangedCoordinates(SCHEMA, SCHEMA.replace("type User implements Node", "type User")), "User");
+    }
+
+    public void testChangedDirective() {
+        assertSameElements(getChangedCoordinates(SCHEMA, SCHEMA.replace("on FIELD_DEFINITION", "on FIELD_DEFINITION | OBJECT")),
+            directiveCoordinate("auth"));
+    }
+
+    public void testChangedSchemaDefinition() {
+        assertNull(getChangedCoordinates(SCHEMA, SCHEMA + "schema { query: Query }\n"));
+    }
+
+    private @Nullable Set<String> getChangedCoordinates(@NotNull String oldText, @NotNull String newText) {
+        return GraphQLRegistryDiff.getChangedCoordinates(getRegistry(oldText), getRegistry(newText));
+    }
+
+    private @NotNull TypeDefinitionRegistry getRegistry(@NotNull String text) {
+        myFixture.configureByText("schema.graphql", text);
+        return GraphQLRegistryProvider.getInstance(getProject()).getRegistryInfo(myFixture.getFile()).getTypeDefinitionRegistry();
+    }
+}
@@ -1,11 +1,46 @@
 package com.intellij.lang.jsgraphql.schema;
 
 import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
+import com.intellij.lang.jsgraphql.ide.indexing.GraphQLSchemaFileIndex;
+import com.intellij.lang.jsgraphql.psi.GraphQLFile;
+import com.intellij.lang.jsgraphql.types.GraphQLException;
+import com.intellij.lang.jsgraphql.types.language.Document;
+import com.intellij.lang.jsgraphql.types.language.FieldDefinition;
+import com.intellij.lang.jsgraphql.types.language.ObjectTypeDefinition;
+import com.intellij.lang.jsgraphql.types.language.ObjectTypeExtensionDefinition;
+import com.intellij.lang.jsgraphql.types.language.Type;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLEnumType;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLImplementingType;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLInputObjectType;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLInterfaceType;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLNamedType;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLObjectType;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLScalarType;
 import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLUnionType;
 import com.intellij.lang.jsgraphql.types.schema.idl.SchemaPrinter;
+import com.intellij.lang.jsgraphql.types.schema.idl.TypeDefinitionRegistry;
+import com.intellij.lang.jsgraphql.types.schema.idl.UnExecutableSchemaGenerator;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileBasedIndex;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
 
 
@@ -52,6 +87,183 @@ public class GraphQLSchemaBuilderTest extends GraphQLTestCaseBase {
         doTest(false);
     }
 
+    public void testInternedNames() {
+        StringBuilder text = new StringBuilder();
+        int typeCount = 500;
+        for (int i = 0; i < typeCount; i++) {
+            text.append("type Type").append(i).append(" {\n")
+                .append("  id: ID!\n")
+                .append("  name: String\n")
+                .append("  tags: [String!]!\n")
+                .append("  related(first: Int, after: String): [Type").append((i + 1) % typeCount).append("!]!\n")
+                .append("}\n");
+        }
+        myFixture.configureByText("schema.graphql", text.toString());
+
+        TypeDefinitionRegistry registry = GraphQLSchemaProvider.getInstance(getProject())
+            .getRegistryInfo(myFixture.getFile()).getTypeDefinitionRegistry();
+        Set<Type<?>> types = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> names = Collections.newSetFromMap(new IdentityHashMap<>());
+        int fieldCount = 0;
+        for (ObjectTypeDefinition definition : registry.getTypes(ObjectTypeDefinition.class)) {
+            // skip the built-in types
+            if (!definition.getName().startsWith("Type")) continue;
+            for (FieldDefinition fieldDefinition : definition.getFieldDefinitions()) {
+                // the types keep their own locations, since the schema errors are reported on them
+                assertNotNull(fieldDefinition.getType().getSourceLocation());
+                types.add(fieldDefinition.getType());
+                names.add(fieldDefinition.getName());
+                fieldDefinition.getInputValueDefinitions().forEach(argument -> types.add(argument.getType()));
+                fieldCount++;
+            }
+        }
+
+        assertEquals(typeCount * 4, fieldCount);
+        // only the names are shared, the type nodes are created per use
+        assertEquals(typeCount * 6, types.size());
+        assertEquals(4, names.size());
+
+        // the names are shared by the documents of different files too
+        PsiFile otherFile = myFixture.addFileToProject("other.graphql", "extend type Type0 { name: String }");
+        Document otherDocument = GraphQLPsiToLanguage.INSTANCE.createDocument((GraphQLFile) otherFile);
+        ObjectTypeExtensionDefinition extension = (ObjectTypeExtensionDefinition) otherDocument.getDefinitions().get(0);
+        assertSame(registry.getType("Type0").orElseThrow().getName(), extension.getName());
+        assertContainsElements(names, extension.getFieldDefinitions().get(0).getName());
+    }
+
+    public void testParallelPrinting() {
+        StringBuilder text = new StringBuilder();
+        int typeCount = 1000;
+        for (int i = 0; i < typeCount; i++) {
+            text.append("\"\"\"Type ").append(i).append("\"\"\"\n")
+                .append("type Type").append(i).append(" implements Node {\n")
+                .append("  id: ID!\n")
+                .append("  related(first: Int = 10): [Type").append((i + 1) % typeCount).append("!]!\n")
+                .append("  status: Status").append(i % 10).append("\n")
+                .append("}\n");
+        }
+        text.append("interface Node {\n  id: ID!\n}\n");
+        for (int i = 0; i < 10; i++) {
+            text.append("enum Status").append(i).append(" {\n  ACTIVE\n  INACTIVE @deprecated\n}\n");
+        }
+        myFixture.configureByText("schema.graphql", text.toString());
+
+        GraphQLSchema schema = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(myFixture.getFile()).getSchema();
+        SchemaPrinter printer = new SchemaPrinter(getProject(), getOptions(null));
+        String printedSchema = printer.print(schema);
+        assertTrue(printedSchema.contains("type Type999 implements Node"));
+        // the types are only printed in parallel off the EDT
+        assertEquals(printedSchema, printer.print(schema, true));
+        assertEquals(printedSchema, PlatformTestUtil.waitForFuture(
+            ApplicationManager.getApplication().executeOnPooledThread(() -> printer.print(schema, true)), 60_000));
+
+        String printedToWriter = PlatformTestUtil.waitForFuture(ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            StringWriter writer = new StringWriter();
+            printer.print(schema, writer, true);
+            return writer.toString();
+        }), 60_000);
+        assertEquals(printedSchema, printedToWriter);
+    }
+
+    public void testTypeListsByKind() {
+        myFixture.configureByText("schema.graphql",
+            "type Query { node: Node search: SearchResult }\n" +
+            "interface Node { id: ID! }\n" +
+            "interface Named implements Node { id: ID! name: String }\n" +
+            "type User implements Named & Node { id: ID! name: String role: Role }\n" +
+            "type Team implements Node { id: ID! members(filter: MemberFilter): [User] }\n" +
+            "union SearchResult = User | Team\n" +
+            "enum Role { ADMIN MEMBER }\n" +
+            "input MemberFilter { role: Role }\n" +
+            "scalar Date\n");
+        GraphQLSchema schema = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(myFixture.getFile()).getSchema();
+
+        List<GraphQLNamedType> allTypes = schema.getAllTypesAsList();
+        assertSame(allTypes, schema.getAllTypesAsList());
+        assertOrderedEquals(ContainerUtil.sorted(ContainerUtil.map(allTypes, GraphQLNamedType::getName)),
+            ContainerUtil.map(allTypes, GraphQLNamedType::getName));
+
+        // the lists of each kind are the filtered full list in the same order
+        for (Class<? extends GraphQLNamedType> kind : List.of(GraphQLObjectType.class, GraphQLInterfaceType.class,
+            GraphQLImplementingType.class, GraphQLUnionType.class, GraphQLEnumType.class, GraphQLInputObjectType.class,
+            GraphQLScalarType.class)) {
+            assertOrderedEquals(schema.getAllTypesAsList(kind), ContainerUtil.filter(allTypes, kind::isInstance));
+            assertSame(schema.getAllTypesAsList(kind), schema.getAllTypesAsList(kind));
+        }
+
+        assertOrderedEquals(ContainerUtil.map(schema.getAllInterfaceTypes(), GraphQLNamedType::getName), "Named", "Node");
+        assertOrderedEquals(ContainerUtil.map(schema.getAllUnionTypes(), GraphQLNamedType::getName), "SearchResult");
+        assertOrderedEquals(ContainerUtil.map(schema.getAllInputObjectTypes(), GraphQLNamedType::getName), "MemberFilter");
+        assertContainsElements(ContainerUtil.map(schema.getAllObjectTypes(), GraphQLNamedType::getName), "Query", "Team", "User");
+        assertContainsElements(ContainerUtil.map(schema.getAllTypesAsList(GraphQLImplementingType.class), GraphQLNamedType::getName),
+            "Named", "Node", "Query", "Team", "User");
+        assertContainsElements(ContainerUtil.map(schema.getAllEnumTypes(), GraphQLNamedType::getName), "Role");
+        assertContainsElements(ContainerUtil.map(schema.getAllScalarTypes(), GraphQLNamedType::getName), "Date", "ID", "String");
+
+        // the implementations are grouped from the cached object types
+        assertOrderedEquals(ContainerUtil.map(schema.getImplementations((GraphQLInterfaceType) schema.getType("Node")),
+            GraphQLNamedType::getName), "Team", "User");
+    }
+
+    public void testSchemaFileIndex() {
+        myFixture.addFileToProject("schema.graphql", "type Query { id: ID }");
+        myFixture.addFileToProject("extension.graphql", "extend type Query { name: String }");
+        PsiFile operations = myFixture.addFileToProject("operations.graphql", "query { id name }");
+
+        Set<String> schemaFiles = new HashSet<>();
+        FileBasedIndex.getInstance().getFilesWithKey(GraphQLSchemaFileIndex.NAME, Collections.singleton(GraphQLSchemaFileIndex.DATA_KEY),
+            file -> schemaFiles.add(file.getName()), GlobalSearchScope.projectScope(getProject()));
+        assertEquals(Set.of("schema.graphql", "extension.graphql"), schemaFiles);
+
+        GraphQLRegistryInfo registryInfo = GraphQLSchemaProvider.getInstance(getProject()).getRegistryInfo(operations);
+        assertTrue(registryInfo.isProcessedGraphQL());
+        assertTrue(registryInfo.getTypeDefinitionRegistry().getType("Query").isPresent());
+        assertSize(1, registryInfo.getTypeDefinitionRegistry().objectTypeExtensions().get("Query"));
+    }
+
+    public void testOperationsOnlyRegistry() {
+        PsiFile operations = myFixture.addFileToProject("operations.graphql", "query { id }");
+
+        // the operations aren't loaded to build the registry, but the file still counts as processed GraphQL
+        GraphQLRegistryInfo registryInfo = GraphQLSchemaProvider.getInstance(getProject()).getRegistryInfo(operations);
+        assertTrue(registryInfo.isProcessedGraphQL());
+        assertFalse(registryInfo.getTypeDefinitionRegistry().getType("Query").isPresent());
+    }
+
+    public void testBackgroundValidation() {
+        myFixture.configureByText("schema.graphql", "type Query { id: ID }");
+        GraphQLSchemaInfo builtSchemaInfo = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(myFixture.getFile());
+
+        CompletableFuture<List<GraphQLException>> validation = new CompletableFuture<>();
+        GraphQLSchemaInfo schemaInfo = new GraphQLSchemaInfo(
+            builtSchemaInfo.getSchema(), Collections.emptyList(), builtSchemaInfo.getRegistryInfo(), validation);
+        assertNull(schemaInfo.getErrorsIfValidated(getProject()));
+
+        validation.complete(Collections.emptyList());
+        assertEmpty(schemaInfo.getErrorsIfValidated(getProject()));
+
+        CompletableFuture<List<GraphQLException>> canceledValidation = new CompletableFuture<>();
+        GraphQLSchemaInfo removedSchemaInfo = new GraphQLSchemaInfo(
+            builtSchemaInfo.getSchema(), Collections.emptyList(), builtSchemaInfo.getRegistryInfo(), canceledValidation);
+        removedSchemaInfo.cancelValidation();
+        assertTrue(canceledValidation.isCancelled());
+        assertThrows(ProcessCanceledException.class, () -> removedSchemaInfo.getErrors(getProject()));
+    }
+
+    public void testValidationCanceledOnDispose() {
+        myFixture.configureByText("schema.graphql", "type Query { id: ID }");
+        GraphQLSchemaProviderImpl schemaProvider = new GraphQLSchemaProviderImpl(getProject());
+        GraphQLSchemaInfo schemaInfo = schemaProvider.getSchemaInfo(myFixture.getFile());
+
+        // the validations of the cached schemas are canceled, unless they have completed already
+        Disposer.dispose(schemaProvider);
+        assertTrue(schemaInfo.getValidationErrors().isDone());
+
+        // a schema built after the disposal isn't validated
+        CompletableFuture<List<GraphQLException>> validation = schemaProvider.getSchemaInfo(myFixture.getFile()).getValidationErrors();
+        assertThrows(ExecutionException.class, () -> validation.get(60, TimeUnit.SECONDS));
+    }
+
     private void doTest() {
         doTest(true);
     }
@@ -64,8 +276,13 @@ public class GraphQLSchemaBuilderTest extends GraphQLTestCaseBase {
         myFixture.configureByFile(getTestName(true) + ".graphql");
         GraphQLSchemaProvider schemaProvider = GraphQLSchemaProvider.getInstance(myFixture.getProject());
         GraphQLSchema schema = schemaProvider.getSchemaInfo(myFixture.getFile()).getSchema();
+        // the provider builds types in parallel, so the sequential build must produce the same schema
+        TypeDefinitionRegistry registry = schemaProvider.getRegistryInfo(myFixture.getFile()).getTypeDefinitionRegistry();
+        GraphQLSchema sequentialSchema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
 
-        myFixture.configureByText("schema.graphql", new SchemaPrinter(getProject(), getOptions(optionsBuilder)).print(schema));
+        String printedSchema = new SchemaPrinter(getProject(), getOptions(optionsBuilder)).print(schema);
+        assertEquals(printedSchema, new SchemaPrinter(getProject(), getOptions(optionsBuilder)).print(sequentialSchema));
+        myFixture.configureByText("schema.graphql", printedSchema);
         myFixture.checkResultByFile(getTestName(true) + "_schema.graphql");
 
         if (withAst) {
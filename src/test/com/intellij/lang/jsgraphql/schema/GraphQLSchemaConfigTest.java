@@ -10,9 +10,12 @@ package com.intellij.lang.jsgraphql.schema;
 import com.google.common.collect.Lists;
 import com.intellij.codeInsight.completion.CompletionType;
 import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
+import com.intellij.lang.jsgraphql.GraphQLTestUtils;
 import com.intellij.lang.jsgraphql.ide.project.graphqlconfig.GraphQLConfigManager;
 import com.intellij.lang.jsgraphql.types.language.NamedNode;
 import com.intellij.lang.jsgraphql.types.schema.idl.TypeDefinitionRegistry;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
@@ -52,6 +55,71 @@ public class GraphQLSchemaConfigTest extends GraphQLTestCaseBase {
         test("Types3.graphql", "TheOnlyType");
     }
 
+    public void testSchemaCacheEviction() {
+        GraphQLTestUtils.withSettings(getProject(), settings -> settings.setSchemaCacheBudget(1), getTestRootDisposable());
+
+        PsiFile schemaOne = addSchema("schema-one", 300);
+        PsiFile schemaTwo = addSchema("schema-two", 300);
+        loadConfiguration();
+
+        GraphQLSchemaProvider schemaProvider = GraphQLSchemaProvider.getInstance(getProject());
+        ModificationTracker schemaTracker = GraphQLSchemaChangeTracker.getInstance(getProject()).getSchemaModificationTracker();
+
+        GraphQLSchemaInfo schemaInfoOne = schemaProvider.getSchemaInfo(schemaOne);
+        assertSame(schemaInfoOne, schemaProvider.getSchemaInfo(schemaOne));
+        GraphQLSchemaCacheStats stats = schemaProvider.getCacheStats();
+        assertEquals(1, stats.getSchemaCount());
+        assertEquals(schemaInfoOne.getRegistryInfo().getEstimatedSizeKb(), stats.getEstimatedSizeKb());
+        assertEquals(1024, stats.getBudgetKb());
+        assertEquals(0, stats.getEvictionCount());
+
+        // both schemas weigh more than a half of the budget, so the least recently used one is evicted
+        long modificationCount = schemaTracker.getModificationCount();
+        long schemaOneModificationCount = schemaInfoOne.getModificationTracker().getModificationCount();
+        GraphQLSchemaInfo schemaInfoTwo = schemaProvider.getSchemaInfo(schemaTwo);
+        long schemaTwoModificationCount = schemaInfoTwo.getModificationTracker().getModificationCount();
+        stats = schemaProvider.getCacheStats();
+        assertEquals(1, stats.getSchemaCount());
+        assertEquals(schemaInfoTwo.getRegistryInfo().getEstimatedSizeKb(), stats.getEstimatedSizeKb());
+        assertEquals(1, stats.getEvictionCount());
+        // only the values computed from the evicted schema are invalidated
+        assertTrue(schemaInfoOne.getModificationTracker().getModificationCount() > schemaOneModificationCount);
+        assertEquals(modificationCount, schemaTracker.getModificationCount());
+
+        GraphQLSchemaInfo rebuiltSchemaInfoOne = schemaProvider.getSchemaInfo(schemaOne);
+        assertNotSame(schemaInfoOne, rebuiltSchemaInfoOne);
+        assertNotNull(rebuiltSchemaInfoOne.getSchema().getType("TypeOne0"));
+        assertEquals(2, schemaProvider.getCacheStats().getEvictionCount());
+        assertTrue(schemaInfoTwo.getModificationTracker().getModificationCount() > schemaTwoModificationCount);
+        assertEquals(modificationCount, schemaTracker.getModificationCount());
+    }
+
+    public void testSchemaCacheWeight() {
+        PsiFile schemaOne = addSchema("schema-one", 10);
+        PsiFile schemaTwo = addSchema("schema-two", 20);
+        loadConfiguration();
+
+        GraphQLSchemaProvider schemaProvider = GraphQLSchemaProvider.getInstance(getProject());
+        int sizeOne = schemaProvider.getSchemaInfo(schemaOne).getRegistryInfo().getEstimatedSizeKb();
+        int sizeTwo = schemaProvider.getSchemaInfo(schemaTwo).getRegistryInfo().getEstimatedSizeKb();
+        assertTrue(sizeOne < sizeTwo);
+
+        GraphQLSchemaCacheStats stats = schemaProvider.getCacheStats();
+        assertEquals(2, stats.getSchemaCount());
+        assertEquals(sizeOne + sizeTwo, stats.getEstimatedSizeKb());
+        assertEquals(0, stats.getEvictionCount());
+    }
+
+    private @NotNull PsiFile addSchema(@NotNull String directory, int typeCount) {
+        String suffix = StringUtil.capitalize(StringUtil.trimStart(directory, "schema-"));
+        StringBuilder schema = new StringBuilder("type Query {\n  field" + suffix + ": Type" + suffix + "0\n}\n");
+        for (int i = 0; i < typeCount; i++) {
+            schema.append("type Type").append(suffix).append(i).append(" {\n  id: ID\n}\n");
+        }
+        myFixture.addFileToProject(directory + "/.graphqlconfig", "{}");
+        return myFixture.addFileToProject(directory + "/schema.graphql", schema.toString());
+    }
+
     private void test(@NotNull String initialFile, String @NotNull ... expectedTypes) {
         VirtualFile directory = myFixture.copyDirectoryToProject(getTestName(true), "/");
         loadConfiguration();
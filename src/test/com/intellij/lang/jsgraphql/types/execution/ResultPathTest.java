@@ -0,0 +1,72 @@
+package com.intellij.lang.jsgraphql.types.execution;
+
+import com.intellij.lang.jsgraphql.types.AssertException;
+import com.intellij.testFramework.UsefulTestCase;
+
+import java.util.List;
+
+public class ResultPathTest extends UsefulTestCase {
+
+    public void testEqualsAndHashCode() {
+        ResultPath path = ResultPath.rootPath().segment("a").segment("b").segment(2).segment("c");
+        ResultPath parsed = ResultPath.parse("/a/b[2]/c");
+        assertEquals(path, parsed);
+        assertEquals(path.hashCode(), parsed.hashCode());
+        assertEquals(path, ResultPath.fromList(List.of("a", "b", 2, "c")));
+        assertEquals(path, ResultPath.parse("/a/b[1]/c").getParent().replaceSegment(2).segment("c"));
+
+        assertFalse(path.equals(ResultPath.parse("/a/b[3]/c")));
+        assertFalse(path.equals(ResultPath.parse("/a/b[2]/d")));
+        assertFalse(path.equals(ResultPath.parse("/a/b/c")));
+        assertFalse(path.equals(ResultPath.parse("/a/b[2]")));
+        assertFalse(path.equals(ResultPath.rootPath()));
+    }
+
+    public void testNameAndIndexSegmentsNotEqual() {
+        // a single char name has the same hash code as the index of its code point
+        ResultPath named = ResultPath.rootPath().segment("a").segment("\u0005");
+        ResultPath indexed = ResultPath.rootPath().segment("a").segment(5);
+        assertEquals(named.hashCode(), indexed.hashCode());
+        assertFalse(named.equals(indexed));
+        assertFalse(indexed.equals(named));
+
+        assertFalse(ResultPath.parse("/a[0]").equals(ResultPath.parse("/a/b")));
+        assertFalse(ResultPath.parse("/a/b").equals(ResultPath.parse("/a[0]")));
+    }
+
+    public void testToString() {
+        assertEquals("", ResultPath.rootPath().toString());
+        assertEquals("/a/b[2]/c", ResultPath.parse("/a/b[2]/c").toString());
+        assertEquals("/a[0][1]", ResultPath.rootPath().segment("a").segment(0).segment(1).toString());
+        assertEquals("[1]", ResultPath.parse("/a[0][1]").segmentToString());
+        assertEquals("/c", ResultPath.parse("/a[0]/c").segmentToString());
+    }
+
+    public void testSegments() {
+        ResultPath path = ResultPath.parse("/a/b[2]/c[0]");
+        assertEquals(List.of("a", "b", 2, "c", 0), path.toList());
+        assertEquals(List.of("a", "b", "c"), path.getKeysOnly());
+        assertEquals(3, path.getLevel());
+        assertEquals(ResultPath.parse("/a/b[2]/c"), path.getPathWithoutListEnd());
+
+        assertTrue(path.isListSegment());
+        assertFalse(path.isNamedSegment());
+        assertEquals(0, path.getSegmentIndex());
+        assertEquals(0, path.getSegmentValue());
+        assertNull(path.getSegmentName());
+
+        ResultPath named = path.getParent();
+        assertTrue(named.isNamedSegment());
+        assertFalse(named.isListSegment());
+        assertEquals("c", named.getSegmentName());
+        assertEquals("c", named.getSegmentValue());
+        assertThrows(AssertException.class, named::getSegmentIndex);
+
+        ResultPath root = ResultPath.rootPath();
+        assertFalse(root.isListSegment());
+        assertFalse(root.isNamedSegment());
+        assertNull(root.getSegmentValue());
+        assertEmpty(root.toList());
+        assertThrows(AssertException.class, root::getSegmentIndex);
+    }
+}
@@ -0,0 +1,81 @@
+package com.intellij.lang.jsgraphql.types.language;
+
+import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
+import com.intellij.lang.jsgraphql.psi.GraphQLFieldDefinition;
+import com.intellij.lang.jsgraphql.psi.GraphQLPsiUtil;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaInfo;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.util.ref.GCUtil;
+import org.jetbrains.annotations.NotNull;
+
+public class PsiSourcePointerTest extends GraphQLTestCaseBase {
+
+    private static final String SCHEMA = "type Query {\n  user: User\n}\ntype User {\n  id: ID\n  name: String\n}\n";
+
+    public void testResolveAfterGc() {
+        PsiFile file = myFixture.configureByText("schema.graphql", SCHEMA);
+        String sourceName = GraphQLPsiUtil.getFileName(file);
+        SourceLocation location = createLocation(file, "name");
+        int offset = location.getOffset();
+        assertEquals(6, location.getLine());
+        assertEquals(3, location.getColumn());
+        file = null;
+
+        // the pointer doesn't keep the element, so it's found again by its offset
+        GCUtil.tryGcSoftlyReachableObjects();
+        PsiElement element = location.getElement();
+        assertInstanceOf(element, GraphQLFieldDefinition.class);
+        assertEquals("name: String", element.getText());
+        assertSame(element, location.getElement());
+        assertEquals(sourceName, location.getSourceName());
+        assertEquals(offset, location.getOffset());
+    }
+
+    public void testResolveAfterEdit() {
+        PsiFile file = myFixture.configureByText("schema.graphql", SCHEMA);
+        SourceLocation location = createLocation(file, "name");
+        int offset = location.getOffset();
+
+        insertComment(file);
+
+        // the element can't be found in the changed file, but the location still points to the file and the original offset
+        assertNull(location.getElement());
+        assertEquals(GraphQLPsiUtil.getFileName(file), location.getSourceName());
+        assertEquals(offset, location.getOffset());
+        assertTrue(location.getLine() > 0);
+    }
+
+    public void testSchemaErrorsAfterEdit() {
+        PsiFile file = myFixture.configureByText("schema.graphql", SCHEMA.replace("ID", "Unknown"));
+        GraphQLSchemaInfo schemaInfo = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(file);
+        PlatformTestUtil.waitForFuture(schemaInfo.getValidationErrors(), 60_000);
+
+        insertComment(file);
+
+        // the errors of the schema built before the edit are still reported in the file until it's rebuilt
+        assertNotEmpty(schemaInfo.getErrorLocations(getProject(), GraphQLPsiUtil.getFileName(file)));
+    }
+
+    private static @NotNull SourceLocation createLocation(@NotNull PsiFile file, @NotNull String fieldName) {
+        for (GraphQLFieldDefinition fieldDefinition : PsiTreeUtil.findChildrenOfType(file, GraphQLFieldDefinition.class)) {
+            if (fieldName.equals(fieldDefinition.getName())) {
+                return new SourceLocation(fieldDefinition);
+            }
+        }
+        throw new AssertionError("Field not found: " + fieldName);
+    }
+
+    private void insertComment(@NotNull PsiFile file) {
+        Document document = PsiDocumentManager.getInstance(getProject()).getDocument(file);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.insertString(0, "# comment\n"));
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+    }
+}
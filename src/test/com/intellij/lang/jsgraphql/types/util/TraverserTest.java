@@ -0,0 +1,81 @@
+package com.intellij.lang.jsgraphql.types.util;
+
+import com.intellij.testFramework.UsefulTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class TraverserTest extends UsefulTestCase {
+
+    // a graph with a node shared by two parents and a cycle back to the first root
+    private static final Map<String, List<String>> GRAPH = Map.of(
+        "a", List.of("b", "c"),
+        "b", List.of("d", "e"),
+        "c", List.of("d", "a"),
+        "d", List.of(),
+        "e", List.of(),
+        "x", List.of("e", "f"),
+        "f", List.of()
+    );
+
+    public void testLightweightTraversal() {
+        assertSameTraversal(null, null);
+    }
+
+    public void testLightweightTraversalAbort() {
+        assertSameTraversal("b", null);
+    }
+
+    public void testLightweightTraversalQuit() {
+        assertSameTraversal(null, "d");
+    }
+
+    private static void assertSameTraversal(String abortNode, String quitNode) {
+        List<String> expected = traverse(Traverser.depthFirst(GRAPH::get, null, 0), abortNode, quitNode);
+        List<String> actual = traverse(Traverser.depthFirstLightweight(GRAPH::get, null, 0), abortNode, quitNode);
+        assertOrderedEquals(actual, expected);
+    }
+
+    private static List<String> traverse(Traverser<String> traverser, String abortNode, String quitNode) {
+        List<String> events = new ArrayList<>();
+        traverser.rootVars(Map.of(Integer.class, 0));
+        Object result = traverser.traverse(List.of("a", "x"), new TraverserVisitor<String>() {
+            @Override
+            public TraversalControl enter(TraverserContext<String> context) {
+                Integer depth = context.getVarFromParents(Integer.class);
+                context.setVar(Integer.class, depth + 1);
+                context.setAccumulate((Integer) context.getCurrentAccumulate() + 1);
+                events.add("enter " + describe(context) + " depth=" + depth);
+                if (context.thisNode().equals(quitNode)) {
+                    return TraversalControl.QUIT;
+                }
+                return context.thisNode().equals(abortNode) ? TraversalControl.ABORT : TraversalControl.CONTINUE;
+            }
+
+            @Override
+            public TraversalControl leave(TraverserContext<String> context) {
+                events.add("leave " + describe(context) + " depth=" + context.getVar(Integer.class) + " acc=" + context.getCurrentAccumulate());
+                return TraversalControl.CONTINUE;
+            }
+
+            @Override
+            public TraversalControl backRef(TraverserContext<String> context) {
+                events.add("backRef " + describe(context) + " visited=" + context.isVisited());
+                return TraversalControl.CONTINUE;
+            }
+        }).getAccumulatedResult();
+        events.add("result " + result);
+        return events;
+    }
+
+    private static String describe(TraverserContext<String> context) {
+        NodeLocation location = context.getLocation();
+        String breadcrumbs = context.getBreadcrumbs().stream()
+            .map(breadcrumb -> breadcrumb.getNode() + "[" + breadcrumb.getLocation().getIndex() + "]")
+            .collect(Collectors.joining("/"));
+        return context.thisNode() + " parent=" + context.getParentNode() + " index=" + (location != null ? location.getIndex() : -1) +
+               " breadcrumbs=" + breadcrumbs + " parents=" + context.getParentNodes();
+    }
+}
@@ -1,8 +1,24 @@
 package com.intellij.lang.jsgraphql.validation;
 
 import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
+import com.intellij.lang.jsgraphql.psi.GraphQLFile;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProviderImpl;
+import com.intellij.lang.jsgraphql.types.language.*;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
+import com.intellij.lang.jsgraphql.types.validation.*;
+import com.intellij.lang.jsgraphql.types.validation.AbstractRule.Check;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public class GraphQLOperationsValidationTest extends GraphQLTestCaseBase {
     @Override
     protected @NotNull String getBasePath() {
@@ -27,4 +43,217 @@ public class GraphQLOperationsValidationTest extends GraphQLTestCaseBase {
         doHighlightingTest();
     }
 
+    public void testParallelValidation() {
+        myFixture.addFileToProject("schema.graphql", "type Query { user(id: ID!): User, users(first: Int): [User] }\n" +
+            "type User { id: ID!, name: String, friends(first: Int): [User] }");
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            // the duplicated names, the undefined variables in the shared fragment and the unknown fields
+            text.append("query Query").append(i % 15).append("($first: Int, $unused").append(i).append(": String) {\n")
+                .append("  users(first: $first) { ...UserFields ...UserFields unknown").append(i).append(" }\n")
+                .append("  user(id: 1) { name { id } }\n")
+                .append("}\n");
+        }
+        text.append("fragment UserFields on User { id friends(first: $count) { name } }\n")
+            .append("fragment UnusedFields on User { id missing }\n")
+            .append("fragment UnusedFields on User { name }\n")
+            .append("{ users { id } }\n");
+        myFixture.configureByText("operations.graphql", text.toString());
+
+        GraphQLSchema schema = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(myFixture.getFile()).getSchema();
+        Document document = ((GraphQLFile) myFixture.getFile()).getDocument();
+        assertTrue(document.getDefinitions().size() > 16);
+
+        List<ValidationError> sequentialErrors = new Validator().validateDocument(schema, document);
+        List<ValidationError> parallelErrors = new Validator().validateDocument(schema, document, true);
+        assertTrue(sequentialErrors.size() > 40);
+        assertEquals(sequentialErrors.toString(), parallelErrors.toString());
+    }
+
+    public void testRulesVisitorDispatch() {
+        myFixture.addFileToProject("schema.graphql", "type Query { user(id: ID): User }\ntype User { id: ID, name: String }");
+        myFixture.configureByText("operations.graphql",
+            "query Q($id: ID) @include(if: true) { user(id: $id) { ...UserFields ...UserFields ... on User { id } } }\n" +
+            "fragment UserFields on User { name }");
+
+        GraphQLSchema schema = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(myFixture.getFile()).getSchema();
+        Document document = ((GraphQLFile) myFixture.getFile()).getDocument();
+        ValidationContext validationContext = new ValidationContext(schema, document);
+        ValidationErrorCollector errorCollector = new ValidationErrorCollector();
+
+        AllChecksRule allChecksRule = new AllChecksRule(validationContext, errorCollector);
+        FieldRule fieldRule = new FieldRule(validationContext, errorCollector);
+        InheritedFieldRule inheritedFieldRule = new InheritedFieldRule(validationContext, errorCollector);
+        FieldRule spreadsRule = new FieldRule(validationContext, errorCollector);
+        spreadsRule.setVisitFragmentSpreads(true);
+        UndeclaredFieldRule undeclaredFieldRule = new UndeclaredFieldRule(validationContext, errorCollector);
+        new LanguageTraversal().traverse(document, new RulesVisitor(validationContext,
+            List.of(allChecksRule, fieldRule, inheritedFieldRule, spreadsRule, undeclaredFieldRule)));
+
+        // each overridden check is dispatched, including the ones inherited from another rule
+        assertEquals(Set.of("checkDocument", "checkArgument", "checkTypeName", "checkVariableDefinition", "checkField",
+                "checkInlineFragment", "checkDirective", "checkFragmentSpread", "checkFragmentDefinition", "checkOperationDefinition",
+                "checkVariable", "checkSelectionSet", "leaveOperationDefinition", "leaveSelectionSet", "documentFinished"),
+            allChecksRule.checks);
+        assertEquals(List.of("user", "id", "name"), fieldRule.fields);
+        assertEquals(List.of("user", "id", "name"), inheritedFieldRule.fields);
+        // the rules visiting fragment spreads visit the fragment at each spread and skip its definition
+        assertEquals(List.of("user", "name", "name", "id"), spreadsRule.fields);
+        // only the declared checks are dispatched
+        assertEmpty(undeclaredFieldRule.fields);
+    }
+
+    public void testRuleChecks() throws Exception {
+        Map<Check, String> callbacks = new EnumMap<>(Check.class);
+        callbacks.put(Check.DOCUMENT, "checkDocument");
+        callbacks.put(Check.ARGUMENT, "checkArgument");
+        callbacks.put(Check.TYPE_NAME, "checkTypeName");
+        callbacks.put(Check.VARIABLE_DEFINITION, "checkVariableDefinition");
+        callbacks.put(Check.FIELD, "checkField");
+        callbacks.put(Check.INLINE_FRAGMENT, "checkInlineFragment");
+        callbacks.put(Check.DIRECTIVE, "checkDirective");
+        callbacks.put(Check.FRAGMENT_SPREAD, "checkFragmentSpread");
+        callbacks.put(Check.FRAGMENT_DEFINITION, "checkFragmentDefinition");
+        callbacks.put(Check.OPERATION_DEFINITION, "checkOperationDefinition");
+        callbacks.put(Check.VARIABLE, "checkVariable");
+        callbacks.put(Check.SELECTION_SET, "checkSelectionSet");
+        callbacks.put(Check.LEAVE_OPERATION_DEFINITION, "leaveOperationDefinition");
+        callbacks.put(Check.LEAVE_SELECTION_SET, "leaveSelectionSet");
+        callbacks.put(Check.DOCUMENT_FINISHED, "documentFinished");
+        assertEquals(EnumSet.allOf(Check.class), callbacks.keySet());
+
+        // each bundled rule declares exactly the callbacks it overrides
+        Document document = new Document(List.of());
+        ValidationContext validationContext = new ValidationContext(GraphQLSchemaProviderImpl.EMPTY_SCHEMA, document);
+        for (AbstractRule rule : new Validator().createRules(validationContext, new ValidationErrorCollector())) {
+            Set<Check> overridden = EnumSet.noneOf(Check.class);
+            for (Method method : rule.getClass().getMethods()) {
+                for (Map.Entry<Check, String> callback : callbacks.entrySet()) {
+                    if (method.getName().equals(callback.getValue()) && method.getDeclaringClass() != AbstractRule.class) {
+                        overridden.add(callback.getKey());
+                    }
+                }
+            }
+            assertEquals(rule.getClass().getSimpleName(), overridden, rule.getChecks());
+        }
+    }
+
+    private static class AllChecksRule extends AbstractRule {
+        private final Set<String> checks = new LinkedHashSet<>();
+
+        AllChecksRule(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
+            super(validationContext, validationErrorCollector);
+        }
+
+        @Override
+        public void checkDocument(Document document) {
+            checks.add("checkDocument");
+        }
+
+        @Override
+        public void checkArgument(Argument argument) {
+            checks.add("checkArgument");
+        }
+
+        @Override
+        public void checkTypeName(TypeName typeName) {
+            checks.add("checkTypeName");
+        }
+
+        @Override
+        public void checkVariableDefinition(VariableDefinition variableDefinition) {
+            checks.add("checkVariableDefinition");
+        }
+
+        @Override
+        public void checkField(Field field) {
+            checks.add("checkField");
+        }
+
+        @Override
+        public void checkInlineFragment(InlineFragment inlineFragment) {
+            checks.add("checkInlineFragment");
+        }
+
+        @Override
+        public void checkDirective(Directive directive, List<Node> ancestors) {
+            checks.add("checkDirective");
+        }
+
+        @Override
+        public void checkFragmentSpread(FragmentSpread fragmentSpread) {
+            checks.add("checkFragmentSpread");
+        }
+
+        @Override
+        public void checkFragmentDefinition(FragmentDefinition fragmentDefinition) {
+            checks.add("checkFragmentDefinition");
+        }
+
+        @Override
+        public void checkOperationDefinition(OperationDefinition operationDefinition) {
+            checks.add("checkOperationDefinition");
+        }
+
+        @Override
+        public void leaveOperationDefinition(OperationDefinition operationDefinition) {
+            checks.add("leaveOperationDefinition");
+        }
+
+        @Override
+        public void checkSelectionSet(SelectionSet selectionSet) {
+            checks.add("checkSelectionSet");
+        }
+
+        @Override
+        public void leaveSelectionSet(SelectionSet selectionSet) {
+            checks.add("leaveSelectionSet");
+        }
+
+        @Override
+        public void checkVariable(VariableReference variableReference) {
+            checks.add("checkVariable");
+        }
+
+        @Override
+        public void documentFinished(Document document) {
+            checks.add("documentFinished");
+        }
+    }
+
+    private static class FieldRule extends AbstractRule {
+        protected final List<String> fields = new ArrayList<>();
+
+        FieldRule(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
+            super(validationContext, validationErrorCollector);
+        }
+
+        @Override
+        public Set<Check> getChecks() {
+            return EnumSet.of(Check.FIELD);
+        }
+
+        @Override
+        public void checkField(Field field) {
+            fields.add(field.getName());
+        }
+    }
+
+    private static class UndeclaredFieldRule extends FieldRule {
+        UndeclaredFieldRule(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
+            super(validationContext, validationErrorCollector);
+        }
+
+        @Override
+        public Set<Check> getChecks() {
+            return EnumSet.of(Check.DOCUMENT);
+        }
+    }
+
+    private static class InheritedFieldRule extends FieldRule {
+        InheritedFieldRule(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
+            super(validationContext, validationErrorCollector);
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package com.intellij.lang.jsgraphql.validation;
+
+import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
+import com.intellij.lang.jsgraphql.ide.validation.GraphQLProjectValidator;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.testFramework.PlatformTestUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GraphQLProjectValidatorTest extends GraphQLTestCaseBase {
+
+    private static final String SCHEMA = "type Query { user: User }\ntype User { id: ID name: String }\n";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        enableAllInspections();
+    }
+
+    public void testCachedProblems() {
+        VirtualFile schema = myFixture.addFileToProject("schema.graphql", SCHEMA).getVirtualFile();
+        VirtualFile operations = myFixture.addFileToProject("operations.graphql", "query {\n  user(id: 1) { id }\n}\n").getVirtualFile();
+        List<VirtualFile> files = List.of(operations);
+
+        AtomicInteger unchangedCount = new AtomicInteger();
+        List<String> messages = validateFiles(files, unchangedCount);
+        assertEquals(List.of("operations.graphql:2:8: Unknown field argument id"), messages);
+        assertEquals(0, unchangedCount.get());
+
+        assertEquals(messages, validateFiles(files, unchangedCount));
+        assertEquals(1, unchangedCount.get());
+
+        // the changed document is validated again
+        setText(operations, "query {\n  user { id name(first: 1) }\n}\n");
+        assertEquals(List.of("operations.graphql:2:18: Unknown field argument first"), validateFiles(files, unchangedCount));
+        assertEquals(1, unchangedCount.get());
+
+        // the document doesn't depend on the added type
+        setText(schema, SCHEMA + "type Other { id: ID }\n");
+        assertEquals(List.of("operations.graphql:2:18: Unknown field argument first"), validateFiles(files, unchangedCount));
+        assertEquals(2, unchangedCount.get());
+
+        // the document depends on the changed field
+        setText(schema, SCHEMA.replace("name: String", "name(first: Int): String") + "type Other { id: ID }\n");
+        assertEmpty(validateFiles(files, unchangedCount));
+        assertEquals(2, unchangedCount.get());
+    }
+
+    public void testSchemaProblems() {
+        VirtualFile schema = myFixture.addFileToProject("schema.graphql", SCHEMA + "type User { email: String }\n").getVirtualFile();
+        VirtualFile operations = myFixture.addFileToProject("operations.graphql", "query {\n  user(id: 1) { id }\n}\n").getVirtualFile();
+
+        // the documents aren't validated against an invalid schema
+        List<String> messages = validateFiles(List.of(schema, operations), new AtomicInteger());
+        assertNotEmpty(messages);
+        for (String message : messages) {
+            assertTrue(message, message.startsWith("schema.graphql:"));
+        }
+    }
+
+    private @NotNull List<String> validateFiles(@NotNull List<VirtualFile> files, @NotNull AtomicInteger unchangedCount) {
+        GraphQLProjectValidator validator = GraphQLProjectValidator.getInstance(getProject());
+        return PlatformTestUtil.waitForFuture(
+            ApplicationManager.getApplication().executeOnPooledThread(() -> validator.validateFiles(files, unchangedCount)), 60_000);
+    }
+
+    private void setText(@NotNull VirtualFile file, @NotNull String text) {
+        Document document = FileDocumentManager.getInstance().getDocument(file);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.setText(text));
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+    }
+}
@@ -1,8 +1,15 @@
 package com.intellij.lang.jsgraphql.validation;
 
 import com.intellij.lang.jsgraphql.GraphQLTestCaseBase;
+import com.intellij.lang.jsgraphql.schema.GraphQLSchemaProvider;
+import com.intellij.lang.jsgraphql.types.schema.GraphQLSchema;
+import com.intellij.lang.jsgraphql.types.schema.validation.SchemaValidationError;
+import com.intellij.lang.jsgraphql.types.schema.validation.SchemaValidator;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class GraphQLSchemaValidationTest extends GraphQLTestCaseBase {
     @Override
     protected @NotNull String getBasePath() {
@@ -99,4 +106,24 @@ public class GraphQLSchemaValidationTest extends GraphQLTestCaseBase {
         doHighlightingTest();
     }
 
+    public void testParallelSchemaValidation() {
+        StringBuilder text = new StringBuilder("type Query {\n");
+        int typeCount = 600;
+        for (int i = 0; i < typeCount; i++) {
+            text.append("  type").append(i).append(": Type").append(i).append("\n");
+        }
+        text.append("}\n");
+        for (int i = 0; i < typeCount; i++) {
+            // the input cycles are reported for the types, and the illegal names for the types and the field definitions
+            text.append("type Type").append(i).append(" { __field").append(i).append("(input: Input").append(i).append("): String }\n")
+                .append("input Input").append(i).append(" { self: Input").append(i).append("! }\n");
+        }
+        myFixture.configureByText("schema.graphql", text.toString());
+
+        GraphQLSchema schema = GraphQLSchemaProvider.getInstance(getProject()).getSchemaInfo(myFixture.getFile()).getSchema();
+        List<SchemaValidationError> sequentialErrors = new ArrayList<>(new SchemaValidator().validateSchema(schema));
+        List<SchemaValidationError> parallelErrors = new ArrayList<>(new SchemaValidator(true).validateSchema(schema));
+        assertTrue(sequentialErrors.size() >= typeCount);
+        assertEquals(sequentialErrors, parallelErrors);
+    }
 }